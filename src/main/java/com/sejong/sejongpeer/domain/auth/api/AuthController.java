@@ -5,17 +5,23 @@ import com.sejong.sejongpeer.domain.auth.dto.request.SignInRequest;
 import com.sejong.sejongpeer.domain.auth.dto.response.SejongAuthClientResponse;
 import com.sejong.sejongpeer.domain.auth.dto.response.SejongAuthResponse;
 import com.sejong.sejongpeer.domain.auth.dto.response.SignInResponse;
+import com.sejong.sejongpeer.domain.auth.dto.response.TokenReissueResponse;
 import com.sejong.sejongpeer.domain.auth.service.AuthService;
+import com.sejong.sejongpeer.domain.auth.service.RefreshTokenService;
+import com.sejong.sejongpeer.domain.auth.service.SejongAuthClient;
+import com.sejong.sejongpeer.security.constant.HeaderConstant;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 import org.apache.coyote.Response;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 	private final AuthService authService;
+	private final RefreshTokenService refreshTokenService;
+	private final SejongAuthClient sejongAuthClient;
 
 	@Operation(summary = "로그인", description = "토큰 발급을 위해 로그인을 진행합니다.")
 	@PostMapping("/sign-in")
@@ -32,9 +40,17 @@ public class AuthController {
 		return authService.signIn(request);
 	}
 
+	@Operation(summary = "토큰 재발급", description = "refresh token 을 새 access token 과 refresh token 으로 교체합니다. "
+		+ "이미 교체된 refresh token 을 다시 보내면 다시 로그인해야 합니다.")
+	@PostMapping("/reissue")
+	public TokenReissueResponse reissue(@RequestHeader(HeaderConstant.REFRESH_TOKEN_HEADER) String refreshToken) {
+		return refreshTokenService.reissue(refreshToken);
+	}
+
 	@Operation(summary = "세종대학교 학생 인증", description = "세종대학교 학생 인증을 시도합니다.")
 	@PostMapping("/sejong-auth")
-	public SejongAuthClientResponse sejongAuthValidate(@Valid @RequestBody SejongAuthRequest request) {
-		return authService.sejongAuthLogin(request);
+	public Mono<SejongAuthClientResponse> sejongAuthValidate(@Valid @RequestBody SejongAuthRequest request) {
+		// 포털 응답을 기다리는 동안 요청 스레드를 반환하고, 응답이 오면 비동기로 마무리한다
+		return sejongAuthClient.authenticate(request);
 	}
 }
@@ -0,0 +1,4 @@
+package com.sejong.sejongpeer.domain.auth.dto.response;
+
+public record TokenReissueResponse(String accessToken, String refreshToken) {
+}
@@ -1,34 +1,49 @@
 package com.sejong.sejongpeer.domain.auth.entity;
 
+import java.time.LocalDateTime;
+
 import com.sejong.sejongpeer.domain.member.entity.Member;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
-import jakarta.persistence.MapsId;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 
 @Entity
+// PK 가 member_id 에서 family_id 로 바뀌어 새 테이블을 쓴다. 운영 스키마는 resources/db/refresh-token-family.sql
+@Table(name = "refresh_token_family", indexes = {
+	@Index(name = "idx_refresh_token_family_member_id", columnList = "member_id"),
+	@Index(name = "idx_refresh_token_family_expires_at", columnList = "expires_at")
+})
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class RefreshToken {
+	// 로그인 한 번에서 이어지는 토큰들이 공유하는 id. refresh token 의 fam claim 에 들어간다
 	@Id
 	@Column(columnDefinition = "char(36)")
-	private String memberId;
+	private String familyId;
 
-	@MapsId
-	@OneToOne(fetch = FetchType.LAZY)
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "member_id", nullable = false)
 	private Member member;
 
 	@Column(nullable = false)
 	private String token;
 
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
 	@Builder
-	private RefreshToken(Member member, String token) {
+	private RefreshToken(String familyId, Member member, String token, LocalDateTime expiresAt) {
+		this.familyId = familyId;
 		this.member = member;
 		this.token = token;
+		this.expiresAt = expiresAt;
 	}
 
 	public void renewToken(String token) {
@@ -0,0 +1,94 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 메모리에 회원 id 별로 family 들을 보관한다. 읽을 때 만료를 확인하고,
+ * 로그인하지 않는 회원의 만료된 토큰은 주기적으로 지운다.
+ *
+ * <p>한 회원의 family 들은 그 회원 키의 {@link Map#compute} 안에서만 바꾸므로, 회원마다 순서대로 반영된다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+	private final Map<String, Map<String, StoredToken>> tokens = new ConcurrentHashMap<>();
+
+	@Override
+	public void save(String memberId, String familyId, String token, Duration ttl) {
+		StoredToken stored = new StoredToken(token, System.currentTimeMillis() + ttl.toMillis());
+		tokens.compute(memberId, (id, families) -> {
+			Map<String, StoredToken> updated = families == null ? new ConcurrentHashMap<>() : families;
+			updated.put(familyId, stored);
+			return updated;
+		});
+	}
+
+	@Override
+	public RotationResult rotate(
+		String memberId, String familyId, String presentedToken, String newToken, Duration ttl) {
+		long now = System.currentTimeMillis();
+		RotationResult[] result = {RotationResult.NOT_FOUND};
+		tokens.computeIfPresent(memberId, (id, families) -> {
+			StoredToken current = families.remove(familyId);
+			if (current == null || current.isExpired(now)) {
+				return families.isEmpty() ? null : families;
+			}
+			if (!current.matches(presentedToken)) {
+				result[0] = RotationResult.REUSED;
+				return families.isEmpty() ? null : families;
+			}
+			result[0] = RotationResult.ROTATED;
+			families.put(familyId, new StoredToken(newToken, now + ttl.toMillis()));
+			return families;
+		});
+		return result[0];
+	}
+
+	@Override
+	public boolean delete(String memberId) {
+		Map<String, StoredToken> removed = tokens.remove(memberId);
+		long now = System.currentTimeMillis();
+		return removed != null && removed.values().stream().anyMatch(token -> !token.isExpired(now));
+	}
+
+	@Scheduled(
+		initialDelayString = "${auth.refresh-token.sweep-delay-millis:600000}",
+		fixedDelayString = "${auth.refresh-token.sweep-delay-millis:600000}")
+	public void deleteExpired() {
+		long now = System.currentTimeMillis();
+		int before = size();
+		for (String memberId : tokens.keySet()) {
+			tokens.computeIfPresent(memberId, (id, families) -> {
+				families.values().removeIf(token -> token.isExpired(now));
+				return families.isEmpty() ? null : families;
+			});
+		}
+		log.debug("만료된 refresh token 정리: {} -> {}", before, size());
+	}
+
+	int size() {
+		return tokens.values().stream().mapToInt(Map::size).sum();
+	}
+
+	private record StoredToken(String token, long expiresAtMillis) {
+		boolean isExpired(long now) {
+			return expiresAtMillis <= now;
+		}
+
+		boolean matches(String presentedToken) {
+			return MessageDigest.isEqual(
+				token.getBytes(StandardCharsets.UTF_8), presentedToken.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * refresh_token_family 테이블에 family 마다 한 행으로 보관한다. 로그인은 insert 한 번, 교체는 조건부 update 한 번으로 끝난다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+	private static final String SWEEP_JOB = "refresh-token-sweep";
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final SchedulerLockManager schedulerLockManager;
+
+	@Override
+	@Transactional
+	public void save(String memberId, String familyId, String token, Duration ttl) {
+		refreshTokenRepository.insert(familyId, memberId, token, LocalDateTime.now().plus(ttl));
+	}
+
+	@Override
+	@Transactional
+	public RotationResult rotate(
+		String memberId, String familyId, String presentedToken, String newToken, Duration ttl) {
+		LocalDateTime now = LocalDateTime.now();
+		if (refreshTokenRepository.rotate(familyId, memberId, presentedToken, newToken, now.plus(ttl), now) == 1) {
+			return RotationResult.ROTATED;
+		}
+		return refreshTokenRepository.deleteActiveFamily(familyId, memberId, now) > 0
+			? RotationResult.REUSED
+			: RotationResult.NOT_FOUND;
+	}
+
+	@Override
+	@Transactional
+	public boolean delete(String memberId) {
+		if (refreshTokenRepository.deleteActiveByMemberId(memberId, LocalDateTime.now()) > 0) {
+			return true;
+		}
+		// 만료된 토큰이 남아 있으면 회원을 지울 수 없으므로 함께 지운다
+		refreshTokenRepository.deleteByMemberId(memberId);
+		return false;
+	}
+
+	@Scheduled(
+		initialDelayString = "${auth.refresh-token.sweep-delay-millis:600000}",
+		fixedDelayString = "${auth.refresh-token.sweep-delay-millis:600000}")
+	public void deleteExpired() {
+		schedulerLockManager.runExclusively(SWEEP_JOB, lease -> {
+			int deleted = lease.fenced(() -> refreshTokenRepository.deleteAllExpired(LocalDateTime.now()));
+			if (deleted > 0) {
+				log.info("만료된 refresh token {}개 삭제", deleted);
+			}
+		});
+	}
+}
@@ -0,0 +1,73 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.sejong.sejongpeer.infra.redis.RedisClient;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * family 마다 "refresh-token:{memberId}:{familyId}" 키에 보관하고, 만료는 Redis 의 키 만료(PX)에 맡긴다.
+ * 회원을 탈퇴시킬 때 모든 family 를 찾을 수 있도록 "refresh-token-families:{memberId}" 집합에 family id 를 모은다.
+ *
+ * <p>교체는 GETDEL 로 보관 중인 토큰을 꺼내면서 지우므로, 같은 토큰으로 동시에 교체해도 한 요청만 성공한다.
+ * family 집합의 만료 시간은 저장하거나 교체할 때마다 늘려서, 집합이 그 안의 토큰보다 먼저 사라지지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+	private static final String KEY_PREFIX = "refresh-token:";
+	private static final String FAMILIES_KEY_PREFIX = "refresh-token-families:";
+
+	private final RedisClient redisClient;
+
+	@Override
+	public void save(String memberId, String familyId, String token, Duration ttl) {
+		redisClient.set(key(memberId, familyId), token, ttl);
+		redisClient.sadd(familiesKey(memberId), familyId);
+		redisClient.pexpire(familiesKey(memberId), ttl);
+	}
+
+	@Override
+	public RotationResult rotate(
+		String memberId, String familyId, String presentedToken, String newToken, Duration ttl) {
+		String current = redisClient.getDel(key(memberId, familyId));
+		if (current == null) {
+			redisClient.srem(familiesKey(memberId), familyId);
+			return RotationResult.NOT_FOUND;
+		}
+		if (!MessageDigest.isEqual(
+			current.getBytes(StandardCharsets.UTF_8), presentedToken.getBytes(StandardCharsets.UTF_8))) {
+			redisClient.srem(familiesKey(memberId), familyId);
+			return RotationResult.REUSED;
+		}
+		redisClient.set(key(memberId, familyId), newToken, ttl);
+		redisClient.pexpire(familiesKey(memberId), ttl);
+		return RotationResult.ROTATED;
+	}
+
+	@Override
+	public boolean delete(String memberId) {
+		List<String> familyIds = redisClient.smembers(familiesKey(memberId));
+		long deleted = familyIds.isEmpty()
+			? 0
+			: redisClient.del(familyIds.stream().map(familyId -> key(memberId, familyId)).toArray(String[]::new));
+		redisClient.del(familiesKey(memberId));
+		return deleted > 0;
+	}
+
+	private String key(String memberId, String familyId) {
+		return KEY_PREFIX + memberId + ":" + familyId;
+	}
+
+	private String familiesKey(String memberId) {
+		return FAMILIES_KEY_PREFIX + memberId;
+	}
+}
@@ -1,10 +1,54 @@
 package com.sejong.sejongpeer.domain.auth.repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
-import com.sejong.sejongpeer.domain.auth.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sejong.sejongpeer.domain.auth.entity.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-	Optional<RefreshToken> findByMemberId(String memberId);
+	@Modifying
+	@Query(value = "insert into refresh_token_family (family_id, member_id, token, expires_at) "
+		+ "values (:familyId, :memberId, :token, :expiresAt)", nativeQuery = true)
+	void insert(
+		@Param("familyId") String familyId,
+		@Param("memberId") String memberId,
+		@Param("token") String token,
+		@Param("expiresAt") LocalDateTime expiresAt);
+
+	@Modifying
+	@Query("update RefreshToken r set r.token = :newToken, r.expiresAt = :expiresAt "
+		+ "where r.familyId = :familyId and r.member.id = :memberId and r.token = :token and r.expiresAt > :now")
+	int rotate(
+		@Param("familyId") String familyId,
+		@Param("memberId") String memberId,
+		@Param("token") String token,
+		@Param("newToken") String newToken,
+		@Param("expiresAt") LocalDateTime expiresAt,
+		@Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("delete from RefreshToken r "
+		+ "where r.familyId = :familyId and r.member.id = :memberId and r.expiresAt > :now")
+	int deleteActiveFamily(
+		@Param("familyId") String familyId,
+		@Param("memberId") String memberId,
+		@Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("delete from RefreshToken r where r.member.id = :memberId and r.expiresAt > :now")
+	int deleteActiveByMemberId(@Param("memberId") String memberId, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("delete from RefreshToken r where r.member.id = :memberId")
+	int deleteByMemberId(@Param("memberId") String memberId);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RefreshToken r where r.expiresAt <= :now")
+	int deleteAllExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,43 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import java.time.Duration;
+
+/**
+ * 로그인 한 번에서 이어지는 refresh token 들을 family 로 묶고, family 마다 마지막으로 발급한 토큰 하나를
+ * 만료 시간과 함께 보관한다. 회원은 기기마다 로그인하므로 여러 family 를 가질 수 있다.
+ * 교체는 family id 하나로 찾으므로 저장된 토큰 수와 관계없이 일정한 시간에 끝난다.
+ *
+ * <p>구현은 {@code auth.refresh-token.store} 값으로 고른다.
+ * <ul>
+ *     <li>{@code jpa}(기본값): MySQL 의 refresh_token_family 테이블. 만료된 토큰은 주기적으로 지운다</li>
+ *     <li>{@code memory}: 서버 메모리. 서버가 한 대일 때만 쓰고, 재시작하면 모두 다시 로그인해야 한다</li>
+ *     <li>{@code redis}: Redis 의 키 만료를 사용한다. redis 프로필의 접속 정보를 쓴다</li>
+ * </ul>
+ */
+public interface RefreshTokenStore {
+
+	/**
+	 * 로그인할 때 새 family 를 만들어 발급한 토큰을 보관한다. 같은 회원의 다른 family 는 그대로 둔다.
+	 */
+	void save(String memberId, String familyId, String token, Duration ttl);
+
+	/**
+	 * family 에 보관 중인 토큰이 {@code presentedToken} 이면 {@code newToken} 으로 바꾼다.
+	 * 다른 토큰이 보관되어 있으면 이미 교체된 토큰을 다시 쓴 것이므로, 탈취를 가정하고 그 family 를 지운다.
+	 * 같은 회원의 다른 기기에서 로그인한 family 는 영향을 받지 않는다.
+	 */
+	RotationResult rotate(String memberId, String familyId, String presentedToken, String newToken, Duration ttl);
+
+	/**
+	 * 회원의 모든 family 를 지운다.
+	 *
+	 * @return 만료되지 않은 토큰이 있었으면 true
+	 */
+	boolean delete(String memberId);
+
+	enum RotationResult {
+		ROTATED,
+		REUSED,
+		NOT_FOUND
+	}
+}
@@ -3,6 +3,7 @@ package com.sejong.sejongpeer.domain.auth.service;
 import com.sejong.sejongpeer.security.constant.HeaderConstant;
 import com.sejong.sejongpeer.security.util.JwtProvider;
 import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,7 +16,7 @@ public class JwtService {
 
     public Map<String, String> generateTokens(String memberId) {
         String accessToken = jwtProvider.generateAccessToken(memberId);
-        String refreshToken = jwtProvider.generateRefreshToken(memberId);
+        String refreshToken = jwtProvider.generateRefreshToken(memberId, UUID.randomUUID().toString());
 
         return Map.of(
                 HeaderConstant.ACCESS_TOKEN_HEADER, accessToken,
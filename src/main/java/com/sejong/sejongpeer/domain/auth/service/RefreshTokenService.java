@@ -0,0 +1,79 @@
+package com.sejong.sejongpeer.domain.auth.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.sejong.sejongpeer.domain.auth.dto.response.TokenReissueResponse;
+import com.sejong.sejongpeer.domain.auth.repository.RefreshTokenStore;
+import com.sejong.sejongpeer.domain.auth.repository.RefreshTokenStore.RotationResult;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.security.constant.HeaderConstant;
+import com.sejong.sejongpeer.security.util.JwtProvider;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * refresh token 을 발급해 {@link RefreshTokenStore} 에 보관하고, 재발급할 때마다 새 토큰으로 교체한다.
+ * 로그인할 때마다 새 family 를 만들고, 재발급한 토큰은 같은 family 를 이어받는다.
+ * 이미 교체된 토큰으로 재발급을 시도하면 토큰이 탈취된 것으로 보고 그 family 의 토큰을 무효화한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+	private final RefreshTokenStore refreshTokenStore;
+	private final JwtProvider jwtProvider;
+	private final Duration ttl;
+
+	public RefreshTokenService(
+		RefreshTokenStore refreshTokenStore,
+		JwtProvider jwtProvider,
+		@Value("${jwt.refresh-token-expiration}") long refreshTokenValidMillis) {
+		this.refreshTokenStore = refreshTokenStore;
+		this.jwtProvider = jwtProvider;
+		this.ttl = Duration.ofMillis(refreshTokenValidMillis);
+	}
+
+	public String issue(String memberId) {
+		String familyId = UUID.randomUUID().toString();
+		String refreshToken = jwtProvider.generateRefreshToken(memberId, familyId);
+		refreshTokenStore.save(memberId, familyId, refreshToken, ttl);
+		return refreshToken;
+	}
+
+	public TokenReissueResponse reissue(String refreshToken) {
+		String token = refreshToken.replace(HeaderConstant.TOKEN_PREFIX, "");
+		if (!jwtProvider.isTokenValid(token, false)) {
+			throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+		}
+
+		String memberId = jwtProvider.extractMemberId(token, false);
+		String familyId = jwtProvider.extractFamilyId(token);
+		if (familyId == null) {
+			// family 를 넣기 전에 발급된 토큰은 보관된 곳이 없으므로 다시 로그인하게 한다
+			throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+		}
+
+		String newRefreshToken = jwtProvider.generateRefreshToken(memberId, familyId);
+		RotationResult result = refreshTokenStore.rotate(memberId, familyId, token, newRefreshToken, ttl);
+		if (result == RotationResult.REUSED) {
+			log.warn("이미 교체된 refresh token 이 다시 사용되어 회원 {} 의 family {} 를 무효화합니다.", memberId, familyId);
+			throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+		}
+		if (result == RotationResult.NOT_FOUND) {
+			throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+		}
+
+		return new TokenReissueResponse(jwtProvider.generateAccessToken(memberId), newRefreshToken);
+	}
+
+	/**
+	 * @return 만료되지 않은 refresh token 이 있었으면 true
+	 */
+	public boolean revoke(String memberId) {
+		return refreshTokenStore.delete(memberId);
+	}
+}
@@ -0,0 +1,155 @@
+package com.sejong.sejongpeer.domain.auth.service;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sejong.sejongpeer.domain.auth.dto.request.SejongAuthRequest;
+import com.sejong.sejongpeer.domain.auth.dto.response.SejongAuthClientResponse;
+import com.sejong.sejongpeer.domain.auth.dto.response.SejongAuthResponse;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.SejongAuthProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 세종대학교 포털(auth.imsejong.com)로 학생 인증을 요청한다. 응답을 기다리는 동안 요청 스레드를 붙잡지 않는다.
+ *
+ * <ul>
+ *     <li>연결과 응답에 각각 제한 시간을 두고, 응답이 늦으면 {@link ErrorCode#SEJONG_AUTH_TIMEOUT} 으로 끝낸다</li>
+ *     <li>포털로 동시에 보내는 요청 수를 제한하고, 넘친 요청은 {@link ErrorCode#SEJONG_AUTH_BUSY} 로 바로 거절한다</li>
+ *     <li>같은 계정으로 진행 중인 요청이 있으면 새로 보내지 않고 그 결과를 함께 받는다</li>
+ *     <li>인증에 성공한 결과는 {@code sejongAuthResults} 캐시에 잠시 두고, 같은 계정으로 다시 인증하면 그대로 돌려준다</li>
+ * </ul>
+ *
+ * <p>진행 중인 요청과 캐시는 아이디와 비밀번호의 HMAC-SHA256 으로 찾으므로 비밀번호를 메모리에 남기지 않는다.
+ * HMAC 키는 서버가 뜰 때마다 무작위로 만들어 메모리에만 두므로, 캐시 키가 로그나 캐시 통계로 새어 나가더라도
+ * 흔한 비밀번호를 대입해 원래 비밀번호를 맞춰 볼 수 없다.
+ */
+@Slf4j
+@Component
+public class SejongAuthClient {
+	private static final String AUTH_URI = "/auth?method=ClassicSession";
+	private static final String RESULT_CACHE = "sejongAuthResults";
+	private static final String KEY_ALGORITHM = "HmacSHA256";
+
+	private final WebClient webClient;
+	private final SejongAuthProperties properties;
+	private final Semaphore permits;
+	private final Cache resultCache;
+	private final SecretKeySpec hmacKey;
+	private final Map<String, Mono<SejongAuthClientResponse>> inFlight = new ConcurrentHashMap<>();
+
+	public SejongAuthClient(
+		WebClient.Builder webClientBuilder,
+		SejongAuthProperties properties,
+		CacheManager cacheManager) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(properties.connectTimeout())
+			.build();
+		this.webClient = webClientBuilder.clone()
+			.baseUrl(properties.baseUrl())
+			.clientConnector(new JdkClientHttpConnector(httpClient))
+			.build();
+		this.properties = properties;
+		this.permits = new Semaphore(properties.maxConcurrentRequests());
+		this.resultCache = cacheManager.getCache(RESULT_CACHE);
+		// 캐시는 서버마다 따로 두므로 키를 서버끼리 맞출 필요가 없다
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+		this.hmacKey = new SecretKeySpec(secret, KEY_ALGORITHM);
+	}
+
+	public Mono<SejongAuthClientResponse> authenticate(SejongAuthRequest request) {
+		String key = key(request);
+		SejongAuthClientResponse cached = resultCache.get(key, SejongAuthClientResponse.class);
+		if (cached != null) {
+			return Mono.just(cached);
+		}
+		// 끝난 요청은 목록에서 지우므로, 그 뒤의 같은 계정 요청은 캐시에서 찾거나 새로 보낸다
+		return inFlight.computeIfAbsent(key, k -> request(request)
+			.doOnNext(response -> {
+				if (Boolean.TRUE.equals(response.isAuth()) && Boolean.TRUE.equals(response.success())) {
+					resultCache.put(k, response);
+				}
+			})
+			// doFinally 는 구독자가 결과를 받은 뒤에 실행되므로, 바로 이어진 재시도가 끝난 요청을 다시 받을 수 있다.
+			// 결과를 전달하기 전에 목록에서 지운다
+			.doOnTerminate(() -> inFlight.remove(k))
+			.doOnCancel(() -> inFlight.remove(k))
+			.cache());
+	}
+
+	private Mono<SejongAuthClientResponse> request(SejongAuthRequest request) {
+		return Mono.defer(() -> {
+			if (!permits.tryAcquire()) {
+				log.warn("세종대학교 포털 동시 요청 수({})를 넘어 요청을 거절합니다.", properties.maxConcurrentRequests());
+				return Mono.error(new CustomException(ErrorCode.SEJONG_AUTH_BUSY));
+			}
+			return webClient.post()
+				.uri(AUTH_URI)
+				.bodyValue(request)
+				.retrieve()
+				.bodyToMono(SejongAuthResponse.class)
+				.timeout(properties.timeout())
+				.map(this::toClientResponse)
+				.onErrorMap(error -> !(error instanceof CustomException), this::toCustomException)
+				.doFinally(signal -> permits.release());
+		});
+	}
+
+	private SejongAuthClientResponse toClientResponse(SejongAuthResponse response) {
+		SejongAuthResponse.Result result = response.result();
+		SejongAuthResponse.Result.Body body = result.body();
+		return SejongAuthClientResponse.of(
+			response.msg(),
+			body != null ? body.grade() : null,
+			body != null ? body.major() : null,
+			body != null ? body.name() : null,
+			body != null ? body.status() : null,
+			result.is_auth(),
+			result.status_code(),
+			result.success()
+		);
+	}
+
+	private CustomException toCustomException(Throwable error) {
+		if (error instanceof TimeoutException) {
+			log.warn("세종대학교 포털이 {} 안에 응답하지 않았습니다.", properties.timeout());
+			return new CustomException(ErrorCode.SEJONG_AUTH_TIMEOUT);
+		}
+		log.warn("세종대학교 포털 요청 실패: {}", error.getMessage());
+		return new CustomException(ErrorCode.SEJONG_AUTH_UNAVAILABLE);
+	}
+
+	private String key(SejongAuthRequest request) {
+		try {
+			// Mac 은 스레드 안전하지 않으므로 요청마다 만든다
+			Mac mac = Mac.getInstance(KEY_ALGORITHM);
+			mac.init(hmacKey);
+			mac.update(request.id().getBytes(StandardCharsets.UTF_8));
+			mac.update((byte)0);
+			mac.update(request.pw().getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(mac.doFinal());
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,16 +1,44 @@
 package com.sejong.sejongpeer.domain.buddy.repository;
 
 import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
+import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.type.BuddyMatchedStatus;
+import com.sejong.sejongpeer.domain.buddy.vo.UnansweredBuddyMatching;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BuddyMatchedRepository extends JpaRepository<BuddyMatched, Long> {
 	@Query("SELECT bm FROM BuddyMatched bm WHERE bm.owner = :owner OR bm.partner = :owner ORDER BY bm.id DESC LIMIT 1")
 	Optional<BuddyMatched> findLatestByOwnerOrPartner(@Param("owner") Buddy owner);
 
+	/**
+	 * matchedStatus 인 매칭 중 한 쪽이라도 deadline 이전부터 buddyStatus 로 남아 있는 매칭을 양쪽 Buddy 정보와 함께 조회한다.
+	 */
+	@Query("SELECT new com.sejong.sejongpeer.domain.buddy.vo.UnansweredBuddyMatching("
+		+ "bm.id, o.id, o.status, o.updatedAt, om.phoneNumber, p.id, p.status, p.updatedAt, pm.phoneNumber) "
+		+ "FROM BuddyMatched bm JOIN bm.owner o JOIN o.member om JOIN bm.partner p JOIN p.member pm "
+		+ "WHERE bm.status = :matchedStatus "
+		+ "AND ((o.status = :buddyStatus AND o.updatedAt < :deadline) "
+		+ "OR (p.status = :buddyStatus AND p.updatedAt < :deadline))")
+	List<UnansweredBuddyMatching> findUnansweredMatchings(
+		@Param("matchedStatus") BuddyMatchedStatus matchedStatus,
+		@Param("buddyStatus") BuddyStatus buddyStatus,
+		@Param("deadline") LocalDateTime deadline);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE BuddyMatched bm SET bm.status = :newStatus, bm.updatedAt = LOCAL DATETIME "
+		+ "WHERE bm.id IN :ids AND bm.status = :expectedStatus")
+	int updateStatusByIdsIfMatches(
+		@Param("ids") Collection<Long> ids,
+		@Param("expectedStatus") BuddyMatchedStatus expectedStatus,
+		@Param("newStatus") BuddyMatchedStatus newStatus);
 }
@@ -1,18 +1,71 @@
 package com.sejong.sejongpeer.domain.buddy.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
 import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
 
 public interface BuddyRepository extends JpaRepository<Buddy, Long> {
 	List<Buddy> findAllByStatus(BuddyStatus buddyStatus);
 
+	// mappedBy 쪽 OneToOne 은 지연 로딩되지 않아 Buddy 마다 쿼리가 나가므로 함께 조회한다
+	@Query("SELECT b FROM Buddy b JOIN FETCH b.member m LEFT JOIN FETCH m.collegeMajor LEFT JOIN FETCH m.collegeMinor "
+		+ "LEFT JOIN FETCH b.matchedAsOwner LEFT JOIN FETCH b.matchedAsPartner WHERE b.status = :status ORDER BY b.id")
+	List<Buddy> findAllWithMemberByStatus(@Param("status") BuddyStatus status);
+
+	/**
+	 * 신청할 때 매칭할 후보만 조회한다. 성별과 단과대/학과 조건으로 나와 짝이 될 수 없는 Buddy 를 미리 거르고,
+	 * 나머지 조건은 BuddyMatchingPool 이 확인한다. 단과대/학과는 부전공 신청이면 부전공 기준으로 비교한다.
+	 *
+	 * @param anyGender 내 성별 조건이 상관없음인지
+	 * @param anyCollegeMajor 내 단과대/학과 조건이 상관없음인지
+	 * @param sameMajor 내 단과대/학과 조건이 같은 학과인지
+	 */
+	@Query("SELECT b FROM Buddy b JOIN FETCH b.member m LEFT JOIN FETCH m.collegeMajor cm "
+		+ "LEFT JOIN FETCH m.collegeMinor cmi LEFT JOIN FETCH b.matchedAsOwner LEFT JOIN FETCH b.matchedAsPartner "
+		+ "WHERE b.status = :status "
+		+ "AND (m.gender = :gender OR (:anyGender = true AND b.genderOption = 'NO_MATTER')) "
+		+ "AND ((:anyCollegeMajor = true AND b.collegeMajorOption = 'NO_MATTER') "
+		+ "OR (:sameMajor = false AND CASE WHEN b.isSubMajor = true THEN cmi.college ELSE cm.college END = :college) "
+		+ "OR (:sameMajor = true AND CASE WHEN b.isSubMajor = true THEN cmi.major ELSE cm.major END = :major)) "
+		+ "ORDER BY b.id")
+	List<Buddy> findCandidatesWithMember(
+		@Param("status") BuddyStatus status,
+		@Param("gender") Gender gender,
+		@Param("anyGender") boolean anyGender,
+		@Param("anyCollegeMajor") boolean anyCollegeMajor,
+		@Param("sameMajor") boolean sameMajor,
+		@Param("college") String college,
+		@Param("major") String major);
+
+	/**
+	 * status 가 expectedStatus 일 때만 newStatus 로 바꾼다. 갱신한 행은 트랜잭션이 끝날 때까지 잠기므로
+	 * 1을 돌려받은 트랜잭션만 해당 Buddy 를 선점한다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Buddy b SET b.status = :newStatus, b.updatedAt = LOCAL DATETIME "
+		+ "WHERE b.id = :id AND b.status = :expectedStatus")
+	int updateStatusIfMatches(
+		@Param("id") Long id,
+		@Param("expectedStatus") BuddyStatus expectedStatus,
+		@Param("newStatus") BuddyStatus newStatus);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Buddy b SET b.status = :newStatus, b.updatedAt = LOCAL DATETIME "
+		+ "WHERE b.id IN :ids AND b.status IN :expectedStatuses")
+	int updateStatusByIdsIfMatches(
+		@Param("ids") Collection<Long> ids,
+		@Param("expectedStatuses") Collection<BuddyStatus> expectedStatuses,
+		@Param("newStatus") BuddyStatus newStatus);
+
 	Optional<Buddy> findTopByMemberIdAndStatusOrderByCreatedAtDesc(String memberId, BuddyStatus status);
 
 	@Query("SELECT b FROM Buddy b WHERE b.member.id = :memberId ORDER BY b.id DESC LIMIT 1")
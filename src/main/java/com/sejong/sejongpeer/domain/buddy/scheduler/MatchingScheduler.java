@@ -1,69 +1,53 @@
 package com.sejong.sejongpeer.domain.buddy.scheduler;
 
-import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
-import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
-import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
-import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.type.BuddyMatchedStatus;
-import com.sejong.sejongpeer.domain.buddy.repository.BuddyMatchedRepository;
-import com.sejong.sejongpeer.domain.buddy.repository.BuddyRepository;
-import com.sejong.sejongpeer.domain.buddy.service.BuddyMatchingService;
-import com.sejong.sejongpeer.domain.buddy.service.MatchingService;
-import com.sejong.sejongpeer.infra.sms.service.SmsText;
-
-import lombok.RequiredArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
+import com.sejong.sejongpeer.domain.buddy.service.BuddyMatchingService;
+import com.sejong.sejongpeer.domain.buddy.service.MatchingService;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MatchingScheduler {
 	private static final int NO_RESPONSE_HOUR_LIMIT = 24;
+	private static final String MATCHING_JOB = "buddy-matching";
+	private static final String EXPIRY_JOB = "buddy-matching-expiry";
 
-	private final BuddyRepository buddyRepository;
-	private final BuddyMatchedRepository buddyMatchedRepository;
 	private final MatchingService matchingService;
 	private final BuddyMatchingService buddyMatchingService;
+	private final MeterRegistry meterRegistry;
+	private final SchedulerLockManager schedulerLockManager;
 
 	// 매 1시간마다 실행
 	@Scheduled(cron = "0 0 0/1 * * *")
 	public void executeMatchingPeriodically() {
-		matchingService.executeMatching();
+		schedulerLockManager.runExclusively(MATCHING_JOB, matchingService::executeMatching);
 	}
 
-	@Scheduled(cron = "0 0 0 */1 * *")
+	// 매 1시간마다 실행, 매칭과 겹치지 않도록 30분에 실행
+	@Scheduled(cron = "0 30 0/1 * * *")
 	public void updateBuddyStatusAutomatically() {
-		List<Buddy> foundBuddies = buddyRepository.findAllByStatus(BuddyStatus.FOUND_BUDDY);
-		LocalDateTime currentTime = LocalDateTime.now();
-
-		for (Buddy noResposeBuddy : foundBuddies) {
-			LocalDateTime updatedTime = noResposeBuddy.getUpdatedAt();
-			long hoursElapsed = ChronoUnit.HOURS.between(updatedTime, currentTime);
-
-			if (hoursElapsed >= NO_RESPONSE_HOUR_LIMIT) {
-				noResposeBuddy.changeStatus(BuddyStatus.REJECT);
-				buddyMatchingService.sendMatchingFailurePenaltyMessage(noResposeBuddy.getMember().getPhoneNumber(),
-					SmsText.MATCHING_AUTO_FAILED_REJECT);
-
-				BuddyMatched progressMatch = buddyMatchingService.getBuddyMatchedByBuddy(noResposeBuddy);
-
-				Buddy partnerBuddy = buddyMatchingService.getOtherBuddyInBuddyMatched(progressMatch, noResposeBuddy);
-				partnerBuddy.changeStatus(BuddyStatus.DENIED);
-				buddyMatchingService.sendMatchingFailurePenaltyMessage(partnerBuddy.getMember().getPhoneNumber(),
-					SmsText.MATCHING_AUTO_FAILED_DENIED);
-
-				progressMatch.changeStatus(BuddyMatchedStatus.MATCHING_FAIL);
-
-				buddyMatchedRepository.save(progressMatch);
+		schedulerLockManager.runExclusively(EXPIRY_JOB, this::expireUnansweredMatchings);
+	}
 
-			}
-		}
+	private void expireUnansweredMatchings(SchedulerLease lease) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int expiredCount = lease.fenced(() -> buddyMatchingService.expireUnansweredMatchings(
+			LocalDateTime.now().minusHours(NO_RESPONSE_HOUR_LIMIT)));
+		long elapsedNanos = sample.stop(meterRegistry.timer("buddy.matching.expiry"));
 
-		buddyRepository.saveAll(foundBuddies);
+		meterRegistry.counter("buddy.matching.expired").increment(expiredCount);
+		log.info("응답 없는 버디 매칭 자동 거절 - {}건, {}ms", expiredCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
 	}
-
 }
@@ -7,6 +7,8 @@ import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
 import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.type.BuddyMatchedStatus;
 import com.sejong.sejongpeer.domain.buddy.repository.BuddyMatchedRepository;
 import com.sejong.sejongpeer.domain.buddy.repository.BuddyRepository;
+import com.sejong.sejongpeer.domain.buddy.vo.UnansweredBuddyMatching;
+import com.sejong.sejongpeer.domain.buddy.vo.UnansweredBuddyMatching.Side;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 import com.sejong.sejongpeer.global.util.SecurityUtil;
@@ -18,6 +20,11 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -89,6 +96,44 @@ public class BuddyMatchingService {
 		sendMatchingSuccessMessage(targetBuddy.getMember().getPhoneNumber());
 	}
 
+	/**
+	 * deadline 까지 수락/거절하지 않은 Buddy 는 거절(REJECT), 그 상대는 거절당함(DENIED)으로 바꾸고 매칭을 실패 처리한다.
+	 * 양쪽 모두 응답하지 않았다면 둘 다 거절로 처리한다. 대상 조회 한 번과 상태별 일괄 UPDATE 로 처리하며 SMS 도 한 번에 저장한다.
+	 *
+	 * @return 실패 처리한 매칭 수
+	 */
+	public int expireUnansweredMatchings(LocalDateTime deadline) {
+		List<UnansweredBuddyMatching> matchings = buddyMatchedRepository.findUnansweredMatchings(
+			BuddyMatchedStatus.IN_PROGRESS, BuddyStatus.FOUND_BUDDY, deadline);
+		if (matchings.isEmpty()) {
+			return 0;
+		}
+
+		List<Long> buddyMatchedIds = new ArrayList<>();
+		Map<Long, String> rejectedPhoneNumbers = new LinkedHashMap<>();
+		Map<Long, String> deniedPhoneNumbers = new LinkedHashMap<>();
+		for (UnansweredBuddyMatching matching : matchings) {
+			buddyMatchedIds.add(matching.buddyMatchedId());
+			for (Side side : List.of(matching.owner(), matching.partner())) {
+				Map<Long, String> target = side.isUnanswered(deadline) ? rejectedPhoneNumbers : deniedPhoneNumbers;
+				target.put(side.buddyId(), side.phoneNumber());
+			}
+		}
+
+		buddyMatchedRepository.updateStatusByIdsIfMatches(buddyMatchedIds, BuddyMatchedStatus.IN_PROGRESS,
+			BuddyMatchedStatus.MATCHING_FAIL);
+		buddyRepository.updateStatusByIdsIfMatches(rejectedPhoneNumbers.keySet(), List.of(BuddyStatus.FOUND_BUDDY),
+			BuddyStatus.REJECT);
+		if (!deniedPhoneNumbers.isEmpty()) {
+			buddyRepository.updateStatusByIdsIfMatches(deniedPhoneNumbers.keySet(),
+				List.of(BuddyStatus.FOUND_BUDDY, BuddyStatus.ACCEPT), BuddyStatus.DENIED);
+		}
+
+		smsService.sendSms(List.copyOf(rejectedPhoneNumbers.values()), SmsText.MATCHING_AUTO_FAILED_REJECT);
+		smsService.sendSms(List.copyOf(deniedPhoneNumbers.values()), SmsText.MATCHING_AUTO_FAILED_DENIED);
+		return matchings.size();
+	}
+
 	public BuddyMatched getLatestBuddyMatched(Buddy buddy) {
 		Optional<BuddyMatched> optionalBuddyMatched = buddyMatchedRepository.findLatestByOwnerOrPartner(buddy);
 		return (optionalBuddyMatched.orElseThrow(() -> new CustomException(ErrorCode.TARGET_BUDDY_NOT_FOUND)));
@@ -38,7 +38,7 @@ public class BuddyService {
 	private final SecurityUtil securityUtil;
 
 	public Buddy registerBuddy(BuddyRegistrationRequest request) {
-		final Member member = memberUtil.getCurrentMember();
+		final Member member = memberUtil.getCurrentMemberReference();
 
 		validatePossibleRegistration(member.getId());
 
@@ -53,8 +53,12 @@ public class BuddyService {
 
 		ensureBuddyStatusMatches(latestBuddy, BuddyStatus.IN_PROGRESS, ErrorCode.NOT_IN_PROGRESS);
 
-		latestBuddy.changeStatus(BuddyStatus.CANCEL);
-		buddyRepository.save(latestBuddy);
+		// 조회한 뒤 매칭된 경우 매칭 결과를 덮어쓰지 않도록 대기중일 때만 취소한다
+		int canceledCount = buddyRepository.updateStatusIfMatches(latestBuddy.getId(), BuddyStatus.IN_PROGRESS,
+			BuddyStatus.CANCEL);
+		if (canceledCount == 0) {
+			throw new CustomException(ErrorCode.NOT_IN_PROGRESS);
+		}
 	}
 
 	private void validatePossibleRegistration(String memberId) {
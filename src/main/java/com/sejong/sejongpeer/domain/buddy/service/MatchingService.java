@@ -2,18 +2,25 @@ package com.sejong.sejongpeer.domain.buddy.service;
 
 import static com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus.*;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
-import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
 import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
 import com.sejong.sejongpeer.domain.buddy.repository.BuddyMatchedRepository;
 import com.sejong.sejongpeer.domain.buddy.repository.BuddyRepository;
-import com.sejong.sejongpeer.domain.buddy.util.BuddyFilter;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingPool;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingResult;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingStrategy;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyProfile;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
 import com.sejong.sejongpeer.infra.sms.service.SmsService;
 import com.sejong.sejongpeer.infra.sms.service.SmsText;
 
@@ -26,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class MatchingService {
 	private final SmsService smsService;
+	private final BuddyMatchingStrategy buddyMatchingStrategy;
 
 	private final BuddyRepository buddyRepository;
 	private final BuddyMatchedRepository buddyMatchedRepository;
@@ -39,48 +47,76 @@ public class MatchingService {
 	 * - 희망 학년 (1학년, 2학년,3학년, 4학년(혹은 그 이상), 상관없음)
 	 * 3-1. 조건에 맞는 Buddy를 찾았을 경우 각각의 Buddy를 상태를 변경한다. (IN_PROGRESS -> FOUND_BUDDY)
 	 * 3-2. 각 Buddy를 BuddyMatched에 저장한다.
+	 * 쌍을 고르는 방식은 buddy.matching.strategy 설정에 따라 순차 매칭(GREEDY) 혹은 최대 매칭(MAXIMUM)을 사용한다.
+	 * 쌍마다 선점과 저장을 짧은 트랜잭션 하나로 커밋하므로, 신청할 때의 매칭은 많아야 한 쌍의 잠금만 기다린다.
+	 * 도중에 스케줄러 잠금을 잃으면 남은 쌍은 선점하지 않는다.
 	 */
-	public void executeMatching() {
-		List<Buddy> candidates = buddyRepository.findAllByStatus(IN_PROGRESS);
-		List<BuddyMatched> buddyMatcheds = new ArrayList<>();
-
-		for (Buddy me : candidates) {
-			BuddyMatched buddyMatched = matchBuddy(candidates, me);
-			if (buddyMatched != null) {
-				buddyMatcheds.add(buddyMatched);
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void executeMatching(SchedulerLease lease) {
+		List<Buddy> candidates = buddyRepository.findAllWithMemberByStatus(IN_PROGRESS);
+		BuddyMatchingResult result = buddyMatchingStrategy.match(candidates);
+
+		// 조회 이후 다른 트랜잭션이 가져간 Buddy 가 있는 쌍은 건너뛰고 다음 실행에서 다시 매칭한다
+		List<BuddyMatched> buddyMatcheds = result.pairs().stream()
+			.map(pair -> lease.fenced(() -> claimPair(pair.owner(), pair.partner())
+				? buddyMatchedRepository.save(registerMatchingPair(pair.owner(), pair.partner()))
+				: null))
+			.filter(Objects::nonNull)
+			.toList();
+
+		log.info("버디 매칭 완료 - 전략: {}, 대기: {}, 매칭: {}쌍 (순차 매칭 대비 {}쌍 추가, 선점 실패 {}쌍, 시간 내 완료: {})",
+			buddyMatchingStrategy.getType(), candidates.size(), buddyMatcheds.size(),
+			result.additionalPairCount(), result.pairs().size() - buddyMatcheds.size(), result.completed());
+	}
+
+	/**
+	 * 성별과 단과대/학과 조건이 맞을 수 있는 대기중인 Buddy 만 조회해서, 그 중 가장 먼저 등록된 상대와 매칭한다.
+	 * 걸러진 Buddy 는 어차피 짝이 될 수 없으므로 전체를 조회할 때와 같은 상대를 고른다.
+	 */
+	public BuddyMatched matchBuddyWhenRegister(Buddy me) {
+		BuddyProfile myProfile = BuddyProfile.from(me);
+		List<Buddy> candidates = buddyRepository.findCandidatesWithMember(IN_PROGRESS, myProfile.gender(),
+			myProfile.genderOption() == GenderOption.NO_MATTER,
+			myProfile.collegeMajorOption() == CollegeMajorOption.NO_MATTER,
+			myProfile.collegeMajorOption() == CollegeMajorOption.SAME_DEPARTMENT,
+			myProfile.college(), myProfile.major());
+		BuddyMatchingPool pool = BuddyMatchingPool.from(candidates);
+
+		// 나는 아직 커밋되지 않아 다른 트랜잭션에 보이지 않으므로 상대만 선점하면 된다
+		Optional<Buddy> partner;
+		while ((partner = pool.findPartner(me)).isPresent()) {
+			if (claim(partner.get())) {
+				return buddyMatchedRepository.save(registerMatchingPair(me, partner.get()));
 			}
+			pool.remove(partner.get());
 		}
-
-		buddyRepository.saveAll(candidates);
-		buddyMatchedRepository.saveAll(buddyMatcheds);
+		return null;
 	}
 
-	public BuddyMatched matchBuddy(List<Buddy> candidates, Buddy me) {
-		Buddy partner = findSuitableBuddy(candidates, me);
+	/**
+	 * 두 Buddy 를 id 순서로 선점한다. 한 트랜잭션이 한 쌍만 선점하므로 잠금을 기다리는 일은 있어도 서로 엇갈려 교착되지는 않는다.
+	 * 한 쪽만 선점했다면 되돌린다.
+	 */
+	private boolean claimPair(Buddy owner, Buddy partner) {
+		Buddy first = owner.getId() < partner.getId() ? owner : partner;
+		Buddy second = first == owner ? partner : owner;
 
-		if (partner == null) {
-			return null;
+		if (!claim(first)) {
+			return false;
 		}
-
-		BuddyMatched buddyMatched = BuddyMatched.registerMatchingPair(me, partner);
-
-		partner.changeStatus(FOUND_BUDDY);
-		me.changeStatus(FOUND_BUDDY);
-
-		sendMatchingMessage(me);
-		sendMatchingMessage(partner);
-
-		return buddyMatched;
+		if (claim(second)) {
+			return true;
+		}
+		buddyRepository.updateStatusIfMatches(first.getId(), FOUND_BUDDY, IN_PROGRESS);
+		return false;
 	}
 
-	public BuddyMatched matchBuddyWhenRegister(Buddy me) {
-		List<Buddy> candidates = buddyRepository.findAllByStatus(BuddyStatus.IN_PROGRESS);
-		Buddy partner = findSuitableBuddy(candidates, me);
-
-		if (partner == null) {
-			return null;
-		}
+	// 다른 트랜잭션이 먼저 매칭하거나 취소한 Buddy 는 IN_PROGRESS 가 아니므로 갱신되지 않는다
+	private boolean claim(Buddy buddy) {
+		return buddyRepository.updateStatusIfMatches(buddy.getId(), IN_PROGRESS, FOUND_BUDDY) == 1;
+	}
 
+	private BuddyMatched registerMatchingPair(Buddy me, Buddy partner) {
 		BuddyMatched buddyMatched = BuddyMatched.registerMatchingPair(me, partner);
 
 		partner.changeStatus(FOUND_BUDDY);
@@ -89,7 +125,7 @@ public class MatchingService {
 		sendMatchingMessage(me);
 		sendMatchingMessage(partner);
 
-		return buddyMatchedRepository.save(buddyMatched);
+		return buddyMatched;
 	}
 
 	private void sendMatchingMessage(Buddy me) {
@@ -97,19 +133,4 @@ public class MatchingService {
 
 		smsService.sendSms(phoneNumber, SmsText.MATCHING_FOUND_BUDDY);
 	}
-
-	private Buddy findSuitableBuddy(List<Buddy> candidates, Buddy me) {
-		return candidates.stream()
-			.filter(candidate -> candidate.getId() != me.getId()) // 본인은 제외 시킴
-			.filter(
-				candidate ->
-					candidate.getStatus()
-						== BuddyStatus.IN_PROGRESS) // 이전 과정에서 매칭된 Buddy가 존재할 수 있으므로 한 번 더 필터링
-			.filter(candidate -> BuddyFilter.filterSuitableGender(candidate, me))
-			.filter(candidate -> BuddyFilter.filterSuitableCollegeMajor(candidate, me))
-			.filter(candidate -> BuddyFilter.filterSuitableType(candidate, me))
-			.filter(candidate -> BuddyFilter.filterSuitableGrade(candidate, me))
-			.findFirst()
-			.orElse(null);
-	}
 }
@@ -0,0 +1,328 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+/**
+ * 매칭 대기중인 Buddy를 조건별 버킷으로 색인해 두고, 조건에 맞는 상대를 후보 수와 무관한 시간에 찾는다.
+ *
+ * <p>단과대/학과 조건은 나의 조건에 따라 조회할 키를 바로 계산해 최대 세 개의 버킷만 조회한다.
+ * 그 안에서는 성별, 학번(선배/동기/후배), 학년 조건 조합(이하 개인 키)별로 다시 나누며, 조합의 종류가 적기 때문에
+ * 각 Option 의 isMatch 로 궁합이 맞는 조합을 미리 골라 두고 해당 버킷의 맨 앞만 확인한다.
+ * 조건에 맞는 후보가 여러 명이면 가장 먼저 등록된 후보를 돌려주므로 기존 순차 탐색(first-fit)과 결과가 같다.
+ */
+public final class BuddyMatchingPool {
+
+	private final Map<CollegeMajorKey, PersonalBuckets> buckets = new HashMap<>();
+	private final Map<Buddy, Entry> entries = new IdentityHashMap<>();
+
+	// 개인 키는 종류가 적으므로 번호를 붙여 배열로 다룬다.
+	// 개인 키 사이의 궁합은 값만으로 정해지므로 조회하는 키별로 한 번만 계산해 둔다. 새 개인 키가 생기면 다시 계산한다.
+	private final Map<PersonalKey, Integer> personalKeyIds = new HashMap<>();
+	private final List<PersonalKey> personalKeys = new ArrayList<>();
+	private final List<int[]> acceptedKeyIds = new ArrayList<>();
+	private int sequence;
+
+	public static BuddyMatchingPool from(List<Buddy> candidates) {
+		BuddyMatchingPool pool = new BuddyMatchingPool();
+		candidates.forEach(pool::add);
+		return pool;
+	}
+
+	public void add(Buddy buddy) {
+		add(BuddyProfile.from(buddy));
+	}
+
+	public void add(BuddyProfile profile) {
+		if (entries.containsKey(profile.buddy())) {
+			return;
+		}
+
+		Entry entry = new Entry(sequence++, profile, personalKeyIdOf(profile), CollegeMajorKey.indexKeysOf(profile));
+		for (CollegeMajorKey collegeKey : entry.collegeKeys()) {
+			buckets.computeIfAbsent(collegeKey, key -> new PersonalBuckets()).add(entry);
+		}
+		entries.put(profile.buddy(), entry);
+	}
+
+	public boolean contains(Buddy buddy) {
+		return entries.containsKey(buddy);
+	}
+
+	public boolean remove(Buddy buddy) {
+		Entry entry = entries.remove(buddy);
+		if (entry == null) {
+			return false;
+		}
+
+		for (CollegeMajorKey collegeKey : entry.collegeKeys()) {
+			PersonalBuckets personalBuckets = buckets.get(collegeKey);
+			personalBuckets.remove(entry);
+			if (personalBuckets.isEmpty()) {
+				buckets.remove(collegeKey);
+			}
+		}
+		return true;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @param me 매칭 상대를 찾는 Buddy (풀에 없어도 된다)
+	 * @return 나와 서로 조건이 맞는 후보 중 가장 먼저 등록된 Buddy
+	 */
+	public Optional<Buddy> findPartner(Buddy me) {
+		Entry registered = entries.get(me);
+		BuddyProfile myProfile = registered != null ? registered.profile() : BuddyProfile.from(me);
+		return findPartner(myProfile).map(BuddyProfile::buddy);
+	}
+
+	public Optional<BuddyProfile> findPartner(BuddyProfile me) {
+		int[] accepted = acceptedKeyIdsOf(personalKeyIdOf(me));
+		Entry best = null;
+
+		for (CollegeMajorKey lookupKey : CollegeMajorKey.lookupKeysOf(me)) {
+			PersonalBuckets personalBuckets = buckets.get(lookupKey);
+			if (personalBuckets == null) {
+				continue;
+			}
+
+			for (int candidateKeyId : accepted) {
+				Entry head = personalBuckets.firstExcept(candidateKeyId, me);
+				if (head != null && (best == null || head.sequence() < best.sequence())) {
+					best = head;
+				}
+			}
+		}
+		return Optional.ofNullable(best).map(Entry::profile);
+	}
+
+	/**
+	 * 나와 서로 조건이 맞는 모든 후보의 등록 순번(0부터 시작)을 차례로 넘긴다.
+	 * 조회 키는 내 조건 기준이라 상대 조건은 {@link BuddyProfile#accepts} 로 다시 확인하므로,
+	 * a 를 넘길 때 b 가 나오면 b 를 넘길 때도 a 가 나온다.
+	 *
+	 * @param action false 를 반환하면 순회를 멈춘다
+	 * @return 끝까지 순회했으면 true
+	 */
+	public boolean forEachCompatible(BuddyProfile me, IntPredicate action) {
+		int[] accepted = acceptedKeyIdsOf(personalKeyIdOf(me));
+
+		for (CollegeMajorKey lookupKey : CollegeMajorKey.lookupKeysOf(me)) {
+			PersonalBuckets personalBuckets = buckets.get(lookupKey);
+			if (personalBuckets == null) {
+				continue;
+			}
+
+			for (int candidateKeyId : accepted) {
+				for (Entry entry : personalBuckets.bucketOf(candidateKeyId)) {
+					if (entry.profile().buddy() == me.buddy() || !entry.profile().accepts(me)) {
+						continue;
+					}
+					if (!action.test(entry.sequence())) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private int personalKeyIdOf(BuddyProfile profile) {
+		PersonalKey key = PersonalKey.of(profile);
+		Integer id = personalKeyIds.get(key);
+		if (id != null) {
+			return id;
+		}
+
+		personalKeyIds.put(key, personalKeys.size());
+		personalKeys.add(key);
+		Collections.fill(acceptedKeyIds, null);
+		acceptedKeyIds.add(null);
+		return personalKeys.size() - 1;
+	}
+
+	private int[] acceptedKeyIdsOf(int myKeyId) {
+		int[] accepted = acceptedKeyIds.get(myKeyId);
+		if (accepted == null) {
+			PersonalKey myKey = personalKeys.get(myKeyId);
+			accepted = IntStream.range(0, personalKeys.size())
+				.filter(candidateKeyId -> myKey.accepts(personalKeys.get(candidateKeyId)))
+				.toArray();
+			acceptedKeyIds.set(myKeyId, accepted);
+		}
+		return accepted;
+	}
+
+	// 버킷(LinkedHashSet)에서 동일성 기준으로 찾도록 record 대신 class 로 둔다
+	private static final class Entry {
+		private final int sequence;
+		private final BuddyProfile profile;
+		private final int personalKeyId;
+		private final List<CollegeMajorKey> collegeKeys;
+
+		private Entry(int sequence, BuddyProfile profile, int personalKeyId, List<CollegeMajorKey> collegeKeys) {
+			this.sequence = sequence;
+			this.profile = profile;
+			this.personalKeyId = personalKeyId;
+			this.collegeKeys = collegeKeys;
+		}
+
+		int sequence() {
+			return sequence;
+		}
+
+		BuddyProfile profile() {
+			return profile;
+		}
+
+		int personalKeyId() {
+			return personalKeyId;
+		}
+
+		List<CollegeMajorKey> collegeKeys() {
+			return collegeKeys;
+		}
+	}
+
+	/**
+	 * 하나의 단과대/학과 키 아래에서 개인 키 번호별로 등록 순서를 유지하는 버킷.
+	 */
+	private static final class PersonalBuckets {
+		private final List<LinkedHashSet<Entry>> byKeyId = new ArrayList<>();
+		private int size;
+
+		void add(Entry entry) {
+			while (byKeyId.size() <= entry.personalKeyId()) {
+				byKeyId.add(null);
+			}
+			LinkedHashSet<Entry> bucket = byKeyId.get(entry.personalKeyId());
+			if (bucket == null) {
+				bucket = new LinkedHashSet<>();
+				byKeyId.set(entry.personalKeyId(), bucket);
+			}
+			bucket.add(entry);
+			size++;
+		}
+
+		void remove(Entry entry) {
+			LinkedHashSet<Entry> bucket = byKeyId.get(entry.personalKeyId());
+			bucket.remove(entry);
+			if (bucket.isEmpty()) {
+				byKeyId.set(entry.personalKeyId(), null);
+			}
+			size--;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		Set<Entry> bucketOf(int personalKeyId) {
+			if (personalKeyId >= byKeyId.size() || byKeyId.get(personalKeyId) == null) {
+				return Collections.emptySet();
+			}
+			return byKeyId.get(personalKeyId);
+		}
+
+		// 본인은 제외시킴. 본인은 버킷에 한 번만 들어있으므로 최대 두 개만 확인한다.
+		Entry firstExcept(int personalKeyId, BuddyProfile me) {
+			for (Entry entry : bucketOf(personalKeyId)) {
+				if (entry.profile().buddy() != me.buddy()) {
+					return entry;
+				}
+			}
+			return null;
+		}
+	}
+
+	private record PersonalKey(
+		GenderOption genderOption,
+		Gender gender,
+		ClassTypeOption classTypeOption,
+		String studentYear,
+		GradeOption gradeOption,
+		int grade
+	) {
+		static PersonalKey of(BuddyProfile profile) {
+			return new PersonalKey(
+				profile.genderOption(),
+				profile.gender(),
+				profile.classTypeOption(),
+				profile.studentYear(),
+				profile.gradeOption(),
+				profile.grade());
+		}
+
+		boolean accepts(PersonalKey candidate) {
+			return genderOption.isMatch(gender, candidate.genderOption(), candidate.gender())
+				&& classTypeOption.isMatch(studentYear, candidate.classTypeOption(), candidate.studentYear())
+				&& gradeOption.isMatch(grade, candidate.gradeOption(), candidate.grade());
+		}
+	}
+
+	private enum Scope {
+		ANY, COLLEGE, MAJOR, COLLEGE_MAJOR
+	}
+
+	/**
+	 * CollegeMajorOption.isMatch 를 키 조회로 옮긴 것.
+	 * - 나: 같은 단과대 -> 상대: (같은 단과대 | 상관없음) & 단과대 일치
+	 * - 나: 같은 학과 -> 상대: (같은 학과 | 상관없음) & 학과명 일치
+	 * - 나: 상관없음 -> 상대: 상관없음 | (같은 단과대 & 단과대 일치) | (같은 학과 & 동일 CollegeMajor)
+	 */
+	private record CollegeMajorKey(CollegeMajorOption option, Scope scope, Object value) {
+
+		static List<CollegeMajorKey> indexKeysOf(BuddyProfile candidate) {
+			CollegeMajorOption option = candidate.collegeMajorOption();
+			List<CollegeMajorKey> keys = new ArrayList<>(3);
+
+			switch (option) {
+				case NO_MATTER -> {
+					keys.add(new CollegeMajorKey(option, Scope.ANY, null));
+					keys.add(new CollegeMajorKey(option, Scope.COLLEGE, candidate.college()));
+					keys.add(new CollegeMajorKey(option, Scope.MAJOR, candidate.major()));
+				}
+				case SAME_COLLEGE -> keys.add(new CollegeMajorKey(option, Scope.COLLEGE, candidate.college()));
+				case SAME_DEPARTMENT -> {
+					keys.add(new CollegeMajorKey(option, Scope.MAJOR, candidate.major()));
+					keys.add(new CollegeMajorKey(option, Scope.COLLEGE_MAJOR, candidate.collegeMajorId()));
+				}
+			}
+			return keys;
+		}
+
+		static List<CollegeMajorKey> lookupKeysOf(BuddyProfile me) {
+			return switch (me.collegeMajorOption()) {
+				case SAME_COLLEGE -> List.of(
+					new CollegeMajorKey(CollegeMajorOption.SAME_COLLEGE, Scope.COLLEGE, me.college()),
+					new CollegeMajorKey(CollegeMajorOption.NO_MATTER, Scope.COLLEGE, me.college()));
+				case SAME_DEPARTMENT -> List.of(
+					new CollegeMajorKey(CollegeMajorOption.SAME_DEPARTMENT, Scope.MAJOR, me.major()),
+					new CollegeMajorKey(CollegeMajorOption.NO_MATTER, Scope.MAJOR, me.major()));
+				case NO_MATTER -> List.of(
+					new CollegeMajorKey(CollegeMajorOption.NO_MATTER, Scope.ANY, null),
+					new CollegeMajorKey(CollegeMajorOption.SAME_COLLEGE, Scope.COLLEGE, me.college()),
+					new CollegeMajorKey(CollegeMajorOption.SAME_DEPARTMENT, Scope.COLLEGE_MAJOR, me.collegeMajorId()));
+			};
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.util.List;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+
+/**
+ * @param pairs 매칭된 쌍 목록
+ * @param greedyPairCount 같은 후보를 먼저 등록한 순서대로 매칭했을 때의 쌍 수.
+ *                        최대 매칭은 서로 조건이 맞는 쌍만 인정하므로, 한쪽 조건만 맞는 쌍이 섞이면 이보다 적을 수 있다
+ * @param completed 시간 제한 안에 탐색을 끝냈는지 여부 (false 면 그때까지 찾은 결과)
+ */
+public record BuddyMatchingResult(
+	List<BuddyPair> pairs,
+	int greedyPairCount,
+	boolean completed
+) {
+	public int additionalPairCount() {
+		return pairs.size() - greedyPairCount;
+	}
+
+	public record BuddyPair(Buddy owner, Buddy partner) {
+	}
+}
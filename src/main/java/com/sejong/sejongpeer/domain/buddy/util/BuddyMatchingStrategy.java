@@ -0,0 +1,15 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.util.List;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+
+/**
+ * 매칭 대기중인 Buddy 목록에서 서로 조건이 맞는 쌍을 고른다. 고른 쌍의 상태 변경과 저장은 호출하는 쪽에서 한다.
+ */
+public interface BuddyMatchingStrategy {
+
+	BuddyMatchingStrategyType getType();
+
+	BuddyMatchingResult match(List<Buddy> candidates);
+}
@@ -0,0 +1,13 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BuddyMatchingStrategyType {
+	GREEDY("먼저 등록한 순서대로 매칭"),
+	MAXIMUM("전체 매칭 쌍 수가 최대가 되도록 매칭");
+
+	private final String value;
+}
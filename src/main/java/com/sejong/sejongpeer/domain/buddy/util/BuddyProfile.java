@@ -0,0 +1,83 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+/**
+ * 매칭 판단에 필요한 Buddy와 Member 정보를 한 번만 읽어 보관하는 스냅샷.
+ * 매칭 중 필터마다 Member, CollegeMajor를 지연 로딩하지 않도록 한다.
+ */
+public record BuddyProfile(
+	Buddy buddy,
+	GenderOption genderOption,
+	Gender gender,
+	ClassTypeOption classTypeOption,
+	String studentYear,
+	GradeOption gradeOption,
+	int grade,
+	CollegeMajorOption collegeMajorOption,
+	Long collegeMajorId,
+	String college,
+	String major
+) {
+	public static BuddyProfile from(Buddy buddy) {
+		Member member = buddy.getMember();
+
+		// 복전 및 부전공을 선택한 경우 부전공 기준으로 매칭 (BuddyFilter.filterSuitableCollegeMajor 와 동일)
+		CollegeMajor collegeMajor = buddy.isSubMajor() ? member.getCollegeMinor() : member.getCollegeMajor();
+
+		return new BuddyProfile(
+			buddy,
+			buddy.getGenderOption(),
+			member.getGender(),
+			buddy.getClassTypeOption(),
+			member.getStudentId().substring(0, 2),
+			buddy.getGradeOption(),
+			member.getGrade(),
+			buddy.getCollegeMajorOption(),
+			collegeMajor.getId(),
+			collegeMajor.getCollege(),
+			collegeMajor.getMajor());
+	}
+
+	/**
+	 * 내 조건으로 candidate 를 받아들일 수 있는지 판단한다. 각 Option 의 isMatch 와 같으며 한쪽 방향만 본다.
+	 * 단과대가 달라도 학과명이 같을 수 있어서, 같은 학과와 상관없음 사이에서는 방향에 따라 결과가 다를 수 있다.
+	 */
+	public boolean accepts(BuddyProfile candidate) {
+		return genderOption.isMatch(gender, candidate.genderOption(), candidate.gender())
+			&& classTypeOption.isMatch(studentYear, candidate.classTypeOption(), candidate.studentYear())
+			&& gradeOption.isMatch(grade, candidate.gradeOption(), candidate.grade())
+			&& acceptsCollegeMajor(candidate);
+	}
+
+	/**
+	 * 서로의 조건을 모두 만족하는지 판단한다.
+	 */
+	public boolean isMutuallyCompatible(BuddyProfile candidate) {
+		return accepts(candidate) && candidate.accepts(this);
+	}
+
+	// CollegeMajorOption.isMatch 를 스냅샷 값으로 옮긴 것. CollegeMajor 동일 여부는 id 로 비교한다
+	private boolean acceptsCollegeMajor(BuddyProfile candidate) {
+		CollegeMajorOption candidateOption = candidate.collegeMajorOption();
+		return switch (collegeMajorOption) {
+			case SAME_COLLEGE -> college.equals(candidate.college())
+				&& (candidateOption == CollegeMajorOption.SAME_COLLEGE
+				|| candidateOption == CollegeMajorOption.NO_MATTER);
+			case SAME_DEPARTMENT -> major.equals(candidate.major())
+				&& (candidateOption == CollegeMajorOption.SAME_DEPARTMENT
+				|| candidateOption == CollegeMajorOption.NO_MATTER);
+			case NO_MATTER -> candidateOption == CollegeMajorOption.NO_MATTER
+				|| (candidateOption == CollegeMajorOption.SAME_COLLEGE && college.equals(candidate.college()))
+				|| (candidateOption == CollegeMajorOption.SAME_DEPARTMENT
+				&& collegeMajorId.equals(candidate.collegeMajorId()));
+		};
+	}
+}
@@ -0,0 +1,43 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingResult.BuddyPair;
+
+/**
+ * 먼저 등록한 Buddy부터 차례로, 조건이 맞는 후보 중 가장 먼저 등록된 상대와 매칭한다.
+ */
+public class GreedyMatchingStrategy implements BuddyMatchingStrategy {
+
+	@Override
+	public BuddyMatchingStrategyType getType() {
+		return BuddyMatchingStrategyType.GREEDY;
+	}
+
+	@Override
+	public BuddyMatchingResult match(List<Buddy> candidates) {
+		List<BuddyPair> pairs = matchInOrder(candidates);
+		return new BuddyMatchingResult(pairs, pairs.size(), true);
+	}
+
+	static List<BuddyPair> matchInOrder(List<Buddy> candidates) {
+		BuddyMatchingPool pool = BuddyMatchingPool.from(candidates);
+		List<BuddyPair> pairs = new ArrayList<>();
+
+		for (Buddy me : candidates) {
+			// 이전 과정에서 상대로 매칭된 Buddy는 풀에서 빠져 있으므로 다시 매칭하지 않음
+			if (!pool.contains(me)) {
+				continue;
+			}
+
+			pool.findPartner(me).ifPresent(partner -> {
+				pool.remove(me);
+				pool.remove(partner);
+				pairs.add(new BuddyPair(me, partner));
+			});
+		}
+		return pairs;
+	}
+}
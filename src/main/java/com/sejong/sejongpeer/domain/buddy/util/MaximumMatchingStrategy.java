@@ -0,0 +1,297 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingResult.BuddyPair;
+
+/**
+ * 조건이 맞는 Buddy끼리 간선으로 잇는 일반 그래프에서 최대 매칭을 구한다 (Edmonds blossom 알고리즘).
+ * 알고리즘이 무방향 그래프를 가정하므로 서로의 조건을 모두 만족할 때만 간선으로 본다.
+ *
+ * <p>먼저 등록한 순서대로 매칭한 결과에서 출발해, 매칭되지 않은 Buddy마다 증가 경로를 한 번씩 찾는다.
+ * 증가 경로가 없던 정점은 이후 매칭이 바뀌어도 증가 경로가 생기지 않으므로 다시 보지 않는다.
+ * 간선은 따로 저장하지 않고 {@link BuddyMatchingPool}에서 그때그때 조회하며,
+ * 시간 제한을 넘기면 그때까지 찾은 매칭을 돌려준다.
+ */
+public class MaximumMatchingStrategy implements BuddyMatchingStrategy {
+	private static final int DEADLINE_CHECK_INTERVAL = 1 << 12;
+
+	private final Duration timeBudget;
+
+	public MaximumMatchingStrategy(Duration timeBudget) {
+		this.timeBudget = timeBudget;
+	}
+
+	@Override
+	public BuddyMatchingStrategyType getType() {
+		return BuddyMatchingStrategyType.MAXIMUM;
+	}
+
+	@Override
+	public BuddyMatchingResult match(List<Buddy> candidates) {
+		long deadline = System.nanoTime() + timeBudget.toNanos();
+		List<Buddy> buddies = candidates.stream().distinct().toList();
+		List<BuddyPair> greedyPairs = GreedyMatchingStrategy.matchInOrder(buddies);
+
+		Blossom blossom = new Blossom(buddies, deadline);
+		blossom.seed(greedyPairs);
+		boolean completed = blossom.augmentAll();
+
+		return new BuddyMatchingResult(blossom.pairs(), greedyPairs.size(), completed);
+	}
+
+	private static final class Blossom {
+		private final List<Buddy> buddies;
+		private final BuddyProfile[] profiles;
+		private final BuddyMatchingPool pool = new BuddyMatchingPool();
+		private final long deadline;
+
+		private final int[] match;
+		private final int[] parent;
+		private final int[] base;
+		private final boolean[] used;
+		private final int[] queue;
+		private int head;
+		private int tail;
+
+		// 탐색 트리에 들어온 정점만 기록해 두었다가 초기화해서, 증가 경로 탐색마다 전체 배열을 비우지 않는다
+		private final boolean[] inTree;
+		private final int[] treeVertices;
+		private int treeSize;
+
+		private final boolean[] inBlossom;
+		private final boolean[] onPath;
+		private final int[] marked;
+		private int markedSize;
+
+		private int found;
+		private int workCount;
+		private boolean timedOut;
+
+		Blossom(List<Buddy> buddies, long deadline) {
+			int n = buddies.size();
+			this.buddies = buddies;
+			this.deadline = deadline;
+			this.profiles = new BuddyProfile[n];
+			for (int i = 0; i < n; i++) {
+				profiles[i] = BuddyProfile.from(buddies.get(i));
+				pool.add(profiles[i]);
+			}
+
+			match = new int[n];
+			parent = new int[n];
+			base = new int[n];
+			used = new boolean[n];
+			queue = new int[n];
+			inTree = new boolean[n];
+			treeVertices = new int[n];
+			inBlossom = new boolean[n];
+			onPath = new boolean[n];
+			marked = new int[2 * n];
+
+			Arrays.fill(match, -1);
+			Arrays.fill(parent, -1);
+			for (int i = 0; i < n; i++) {
+				base[i] = i;
+			}
+		}
+
+		void seed(List<BuddyPair> pairs) {
+			Map<Buddy, Integer> indexes = new IdentityHashMap<>();
+			for (int i = 0; i < buddies.size(); i++) {
+				indexes.put(buddies.get(i), i);
+			}
+			for (BuddyPair pair : pairs) {
+				int owner = indexes.get(pair.owner());
+				int partner = indexes.get(pair.partner());
+				// 한쪽 조건만 맞는 쌍은 그래프의 간선이 아니므로 시작 매칭에서 뺀다
+				if (!profiles[owner].isMutuallyCompatible(profiles[partner])) {
+					continue;
+				}
+				match[owner] = partner;
+				match[partner] = owner;
+			}
+		}
+
+		boolean augmentAll() {
+			for (int root = 0; root < buddies.size(); root++) {
+				if (match[root] != -1) {
+					continue;
+				}
+
+				int end = findAugmentingPath(root);
+				if (timedOut) {
+					return false;
+				}
+				if (end != -1) {
+					augment(end);
+				}
+			}
+			return true;
+		}
+
+		List<BuddyPair> pairs() {
+			List<BuddyPair> pairs = new ArrayList<>();
+			for (int i = 0; i < match.length; i++) {
+				if (match[i] > i) {
+					pairs.add(new BuddyPair(buddies.get(i), buddies.get(match[i])));
+				}
+			}
+			return pairs;
+		}
+
+		private int findAugmentingPath(int root) {
+			clearTree();
+			found = -1;
+			enqueue(root);
+
+			while (head < tail) {
+				int v = queue[head++];
+				boolean scanned = pool.forEachCompatible(profiles[v], to -> visit(root, v, to));
+				if (!scanned) {
+					return found;
+				}
+			}
+			return -1;
+		}
+
+		private boolean visit(int root, int v, int to) {
+			if (isOverBudget()) {
+				return false;
+			}
+			if (base[v] == base[to] || match[v] == to) {
+				return true;
+			}
+
+			if (to == root || (match[to] != -1 && parent[match[to]] != -1)) {
+				contract(v, to);
+			} else if (parent[to] == -1) {
+				parent[to] = v;
+				addToTree(to);
+				if (match[to] == -1) {
+					found = to;
+					return false;
+				}
+				enqueue(match[to]);
+			}
+			return true;
+		}
+
+		private void contract(int v, int to) {
+			int currentBase = lowestCommonAncestor(v, to);
+			markedSize = 0;
+			markPath(v, currentBase, to);
+			markPath(to, currentBase, v);
+
+			int size = treeSize;
+			for (int k = 0; k < size; k++) {
+				int i = treeVertices[k];
+				if (inBlossom[base[i]]) {
+					base[i] = currentBase;
+					enqueue(i);
+				}
+			}
+			workCount += size;
+
+			for (int k = 0; k < markedSize; k++) {
+				inBlossom[marked[k]] = false;
+			}
+		}
+
+		private int lowestCommonAncestor(int a, int b) {
+			int pathSize = 0;
+			while (true) {
+				a = base[a];
+				onPath[a] = true;
+				marked[pathSize++] = a;
+				if (match[a] == -1) {
+					break;
+				}
+				a = parent[match[a]];
+			}
+
+			while (true) {
+				b = base[b];
+				if (onPath[b]) {
+					break;
+				}
+				b = parent[match[b]];
+			}
+
+			for (int k = 0; k < pathSize; k++) {
+				onPath[marked[k]] = false;
+			}
+			return b;
+		}
+
+		private void markPath(int v, int currentBase, int child) {
+			while (base[v] != currentBase) {
+				markBlossom(base[v]);
+				markBlossom(base[match[v]]);
+				parent[v] = child;
+				child = match[v];
+				v = parent[match[v]];
+			}
+		}
+
+		private void markBlossom(int vertex) {
+			if (!inBlossom[vertex]) {
+				inBlossom[vertex] = true;
+				marked[markedSize++] = vertex;
+			}
+		}
+
+		private void augment(int end) {
+			int v = end;
+			while (v != -1) {
+				int pv = parent[v];
+				int ppv = match[pv];
+				match[v] = pv;
+				match[pv] = v;
+				v = ppv;
+			}
+		}
+
+		private void enqueue(int vertex) {
+			if (!used[vertex]) {
+				used[vertex] = true;
+				addToTree(vertex);
+				queue[tail++] = vertex;
+			}
+		}
+
+		private void addToTree(int vertex) {
+			if (!inTree[vertex]) {
+				inTree[vertex] = true;
+				treeVertices[treeSize++] = vertex;
+			}
+		}
+
+		private void clearTree() {
+			for (int k = 0; k < treeSize; k++) {
+				int i = treeVertices[k];
+				inTree[i] = false;
+				used[i] = false;
+				parent[i] = -1;
+				base[i] = i;
+			}
+			treeSize = 0;
+			head = 0;
+			tail = 0;
+		}
+
+		private boolean isOverBudget() {
+			if (++workCount >= DEADLINE_CHECK_INTERVAL) {
+				workCount = 0;
+				timedOut = System.nanoTime() > deadline;
+			}
+			return timedOut;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.sejong.sejongpeer.domain.buddy.vo;
+
+import java.time.LocalDateTime;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+
+/**
+ * 수락 대기중인 매칭 중 한 쪽 이상이 제한 시간 안에 응답하지 않은 매칭. 자동 거절 처리에 필요한 값만 담는다.
+ */
+public record UnansweredBuddyMatching(
+	Long buddyMatchedId,
+	Side owner,
+	Side partner
+) {
+	public UnansweredBuddyMatching(
+		Long buddyMatchedId,
+		Long ownerId, BuddyStatus ownerStatus, LocalDateTime ownerUpdatedAt, String ownerPhoneNumber,
+		Long partnerId, BuddyStatus partnerStatus, LocalDateTime partnerUpdatedAt, String partnerPhoneNumber) {
+		this(buddyMatchedId,
+			new Side(ownerId, ownerStatus, ownerUpdatedAt, ownerPhoneNumber),
+			new Side(partnerId, partnerStatus, partnerUpdatedAt, partnerPhoneNumber));
+	}
+
+	public record Side(Long buddyId, BuddyStatus status, LocalDateTime updatedAt, String phoneNumber) {
+		/** 매칭된 뒤 deadline 까지 수락/거절하지 않았는지 */
+		public boolean isUnanswered(LocalDateTime deadline) {
+			return status == BuddyStatus.FOUND_BUDDY && updatedAt.isBefore(deadline);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.sejong.sejongpeer.domain.college.repository;
 import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -13,5 +14,8 @@ public interface CollegeMajorRepository extends JpaRepository<CollegeMajor, Long
 
     List<CollegeMajor> findAllByCollege(String college);
 
-    Optional<CollegeMajor> findByCollegeAndMajor(String college, String major);
+    // 회원가입마다 조회하는 값이라 id 만 캐시하고, 엔티티는 getReferenceById 로 select 없이 연결한다
+    @Cacheable(cacheNames = "collegeMajorIds", key = "#college + ':' + #major", unless = "#result == null")
+    @Query("SELECT cm.id FROM CollegeMajor cm WHERE cm.college = :college AND cm.major = :major")
+    Optional<Long> findIdByCollegeAndMajor(String college, String major);
 }
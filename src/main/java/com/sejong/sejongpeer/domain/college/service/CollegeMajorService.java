@@ -24,6 +24,7 @@ public class CollegeMajorService {
 		return collegeMajorRepository.findAllColleges();
 	}
 
+	@Cacheable(cacheNames = "getAllMajorsByCollege", key = "#college")
 	@Transactional(readOnly = true)
 	public List<CollegeMajorResponse> getAllMajorsByCollege(String college) {
 		return collegeMajorRepository.findAllByCollege(college).stream()
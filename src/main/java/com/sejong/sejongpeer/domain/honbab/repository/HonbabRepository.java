@@ -1,9 +1,11 @@
 package com.sejong.sejongpeer.domain.honbab.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +15,33 @@ import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.HonbabStatus;
 public interface HonbabRepository extends JpaRepository<Honbab, Long> {
 	List<Honbab> findAllByStatus(HonbabStatus status);
 
+	@Query("SELECT h FROM Honbab h JOIN FETCH h.member WHERE h.status = :status ORDER BY h.id")
+	List<Honbab> findAllWithMemberByStatus(@Param("status") HonbabStatus status);
+
+	@Query("SELECT h FROM Honbab h JOIN FETCH h.member WHERE h.id > :id ORDER BY h.id")
+	List<Honbab> findAllWithMemberByIdGreaterThan(@Param("id") Long id);
+
+	@Query("SELECT MAX(h.id) FROM Honbab h WHERE h.createdAt < :createdAt")
+	Long findMaxIdByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Honbab h SET h.status = :newStatus WHERE h.status = :status AND h.createdAt < :createdAt")
+	int updateStatusByStatusAndCreatedAtBefore(
+		@Param("status") HonbabStatus status,
+		@Param("newStatus") HonbabStatus newStatus,
+		@Param("createdAt") LocalDateTime createdAt);
+
+	/**
+	 * status 가 expectedStatus 일 때만 newStatus 로 바꾼다. 1을 돌려받은 트랜잭션만 해당 신청을 선점한다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Honbab h SET h.status = :newStatus, h.updatedAt = LOCAL DATETIME "
+		+ "WHERE h.id = :id AND h.status = :expectedStatus")
+	int updateStatusIfMatches(
+		@Param("id") Long id,
+		@Param("expectedStatus") HonbabStatus expectedStatus,
+		@Param("newStatus") HonbabStatus newStatus);
+
 	@Query("SELECT b FROM Honbab b WHERE b.member.id = :memberId ORDER BY b.id DESC LIMIT 1")
 	Optional<Honbab> findLastHonbabByMemberId(@Param("memberId") String memberId);
 
@@ -4,17 +4,26 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.sejong.sejongpeer.domain.honbab.service.HonbabMatchingService;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class HonbabMatchingScheduler {
+	private static final String EXPIRY_JOB = "honbab-matching-expiry";
+
 	private final HonbabMatchingService honbabMatchingService;
+	private final SchedulerLockManager schedulerLockManager;
 
-	// 매 1분마다 실행
+	// 매칭은 신청할 때 바로 하므로 매 1분마다 시간 초과만 처리한다
 	@Scheduled(cron = "0 0/1 * * * *")
-	public void executeMatchingPeriodically() {
-		honbabMatchingService.executeMatching();
+	public void expireTimedOutHonbabsPeriodically() {
+		boolean executed = schedulerLockManager.runExclusively(EXPIRY_JOB,
+			lease -> lease.fenced(honbabMatchingService::expireTimedOutHonbabs));
+		if (!executed) {
+			// DB 는 다른 인스턴스가 정리했으므로 이 인스턴스의 대기열만 정리한다
+			honbabMatchingService.removeTimedOutWaitings();
+		}
 	}
 }
@@ -0,0 +1,7 @@
+package com.sejong.sejongpeer.domain.honbab.service;
+
+/**
+ * 혼밥 신청이 등록되거나 취소된 경우. 커밋 후 매칭 대기열에 반영한다.
+ */
+public record HonbabChangedEvent(Long honbabId) {
+}
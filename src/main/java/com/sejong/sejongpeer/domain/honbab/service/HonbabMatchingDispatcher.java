@@ -0,0 +1,47 @@
+package com.sejong.sejongpeer.domain.honbab.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 혼밥 신청 변경을 {@link HonbabMatchingService}의 매칭 대기열에 반영한다.
+ * 요청 트랜잭션이 커밋된 뒤 별도 스레드에서 반영하므로, 요청 스레드는 커넥션을 하나만 쓰고 매칭을 기다리지 않는다.
+ * 다른 인스턴스에서 들어왔거나 작업 대기열이 차서 놓친 신청은 모든 인스턴스에서 주기적으로 새 신청만 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class HonbabMatchingDispatcher {
+
+	private final HonbabMatchingService honbabMatchingService;
+	private final ThreadPoolTaskExecutor honbabMatchingExecutor;
+
+	public HonbabMatchingDispatcher(
+		HonbabMatchingService honbabMatchingService,
+		@Qualifier("honbabMatchingExecutor") ThreadPoolTaskExecutor honbabMatchingExecutor) {
+		this.honbabMatchingService = honbabMatchingService;
+		this.honbabMatchingExecutor = honbabMatchingExecutor;
+	}
+
+	// 트랜잭션 밖에서 발행된 경우에도 바로 반영하도록 fallbackExecution 사용
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHonbabChanged(HonbabChangedEvent event) {
+		honbabMatchingExecutor.execute(() -> {
+			try {
+				honbabMatchingService.onHonbabChanged(event.honbabId());
+			} catch (RuntimeException e) {
+				log.error("혼밥 신청 {} 대기열 반영 실패, 다음 동기화에서 다시 반영합니다: {}",
+					event.honbabId(), e.getMessage(), e);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${honbab.matching.sync-delay-millis:3000}")
+	public void syncNewHonbabs() {
+		honbabMatchingService.syncNewHonbabs();
+	}
+}
@@ -1,74 +1,190 @@
 package com.sejong.sejongpeer.domain.honbab.service;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.sejong.sejongpeer.domain.honbab.entity.honbab.Honbab;
 import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.HonbabStatus;
 import com.sejong.sejongpeer.domain.honbab.entity.honbabmatched.HonbabMatched;
 import com.sejong.sejongpeer.domain.honbab.repository.HonbabMatchedRepository;
 import com.sejong.sejongpeer.domain.honbab.repository.HonbabRepository;
-import com.sejong.sejongpeer.domain.honbab.util.HonbabFilter;
+import com.sejong.sejongpeer.domain.honbab.util.HonbabWaitingPool;
+import com.sejong.sejongpeer.domain.honbab.util.HonbabWaitingPool.Waiting;
 import com.sejong.sejongpeer.infra.sms.service.SmsService;
 import com.sejong.sejongpeer.infra.sms.service.SmsText;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 매칭 대기중인 혼밥 신청을 메모리의 {@link HonbabWaitingPool}로 관리한다.
+ * 서버가 뜨면 DB 에서 대기열을 만들고, 이후에는 신청/취소될 때마다 해당 신청만 반영한다.
+ * 대기열은 인스턴스마다 따로 있으므로 블루/그린 배포처럼 여러 인스턴스가 함께 떠 있으면 다른 인스턴스의 신청은 이벤트로 들어오지 않는다.
+ * 그래서 모든 인스턴스가 주기적으로 마지막으로 반영한 id 뒤의 신청만 읽어 대기열에 반영한다.
+ * 다른 인스턴스에서 취소된 신청은 선점할 때 걸러진다.
+ * 대기열 접근만 waitingPool 로 잠그고, DB 작업은 잠금 밖에서 한다.
+ */
 @Service
 @Transactional
 @Slf4j
 @RequiredArgsConstructor
 public class HonbabMatchingService {
 	private static final long FIXED_WAIT_TIME_SECONDS = 3600; // 60분
+	// 커밋은 id 순서와 다르게 끝날 수 있으므로 이보다 최근 신청은 다음 동기화에서 한 번 더 읽는다
+	private static final long COMMIT_LAG_SECONDS = 10;
 
 	private final SmsService smsService;
 
 	private final HonbabRepository honbabRepository;
 	private final HonbabMatchedRepository honbabMatchedRepository;
 
-	public void executeMatching() {
-		List<Honbab> candidates = honbabRepository.findAllByStatus(HonbabStatus.IN_PROGRESS);
-		List<HonbabMatched> honbabMatcheds = new ArrayList<>();
-
-		for (Honbab me : candidates) {
-			if (isWaitTimeExceeded(me)) {
-				handleTimeOut(me);
-			} else {
-				HonbabMatched honbabMatched = matchHonbab(candidates, me);
-				if (honbabMatched != null) {
-					honbabMatcheds.add(honbabMatched);
-				}
+	private final HonbabWaitingPool waitingPool = new HonbabWaitingPool();
+	// 이 id 까지의 신청은 대기열에 반영했다. 대기열을 만들기 전에는 null 이다
+	private Long syncedId;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildWaitingPool() {
+		LocalDateTime now = LocalDateTime.now();
+		Long settledId = honbabRepository.findMaxIdByCreatedAtBefore(now.minusSeconds(COMMIT_LAG_SECONDS));
+		List<Honbab> candidates = honbabRepository.findAllWithMemberByStatus(HonbabStatus.IN_PROGRESS).stream()
+			.filter(honbab -> !honbab.getCreatedAt().isBefore(now.minusSeconds(FIXED_WAIT_TIME_SECONDS)))
+			.toList();
+
+		synchronized (waitingPool) {
+			waitingPool.clear();
+			syncedId = settledId == null ? 0L : settledId;
+		}
+		candidates.forEach(this::matchOrWait);
+		log.info("혼밥 매칭 대기열 구성 완료: 대기 {}건", waitingPoolSize());
+	}
+
+	/** 마지막으로 반영한 id 뒤에 등록된 신청 중 대기열에 없는 신청을 등록 순서대로 매칭하거나 대기열에 넣는다. */
+	public void syncNewHonbabs() {
+		Long afterId;
+		synchronized (waitingPool) {
+			afterId = syncedId;
+		}
+		if (afterId == null) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime deadline = now.minusSeconds(FIXED_WAIT_TIME_SECONDS);
+		LocalDateTime settledBefore = now.minusSeconds(COMMIT_LAG_SECONDS);
+		long settledId = afterId;
+		boolean settled = true;
+		for (Honbab honbab : honbabRepository.findAllWithMemberByIdGreaterThan(afterId)) {
+			settled = settled && honbab.getCreatedAt().isBefore(settledBefore);
+			if (settled) {
+				settledId = honbab.getId();
+			}
+			if (honbab.getStatus() == HonbabStatus.IN_PROGRESS && !honbab.getCreatedAt().isBefore(deadline)
+				&& !isWaiting(honbab.getId())) {
+				matchOrWait(honbab);
+			}
+		}
+
+		synchronized (waitingPool) {
+			syncedId = Math.max(syncedId, settledId);
+		}
+	}
+
+	public void onHonbabChanged(Long honbabId) {
+		Honbab honbab = honbabRepository.findById(honbabId).orElse(null);
+		if (honbab == null || honbab.getStatus() != HonbabStatus.IN_PROGRESS) {
+			synchronized (waitingPool) {
+				waitingPool.remove(honbabId);
 			}
+			return;
 		}
+		matchOrWait(honbab);
+	}
+
+	public void expireTimedOutHonbabs() {
+		LocalDateTime deadline = LocalDateTime.now().minusSeconds(FIXED_WAIT_TIME_SECONDS);
+		int expiredCount = honbabRepository.updateStatusByStatusAndCreatedAtBefore(
+			HonbabStatus.IN_PROGRESS, HonbabStatus.TIME_OUT, deadline);
+		removeWaitingsCreatedBefore(deadline);
 
-		honbabRepository.saveAll(candidates);    // matchHonbab에서 변경된 상태 벌크로 업데이트
-		honbabMatchedRepository.saveAll(honbabMatcheds);
+		if (expiredCount > 0) {
+			log.info("혼밥 매칭 시간 초과 {}건", expiredCount);
+		}
 	}
 
-	public HonbabMatched matchHonbabWhenRegister(Honbab me) {
-		List<Honbab> candidates = honbabRepository.findAllByStatus(HonbabStatus.IN_PROGRESS);
-		return matchHonbabByCandidates(candidates, me);
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void removeTimedOutWaitings() {
+		removeWaitingsCreatedBefore(LocalDateTime.now().minusSeconds(FIXED_WAIT_TIME_SECONDS));
 	}
 
-	public HonbabMatched matchHonbab(List<Honbab> candidates, Honbab me) {
-		return matchHonbabByCandidates(candidates, me);
+	private void removeWaitingsCreatedBefore(LocalDateTime deadline) {
+		synchronized (waitingPool) {
+			waitingPool.removeCreatedBefore(deadline);
+		}
 	}
 
-	private HonbabMatched matchHonbabByCandidates(List<Honbab> candidates, Honbab me) {
-		Honbab partner = findSuitableHonbab(candidates, me);
-		if (partner == null) {
-			return null;
+	private boolean isWaiting(Long honbabId) {
+		synchronized (waitingPool) {
+			return waitingPool.contains(honbabId);
 		}
+	}
 
-		HonbabMatched honbabMatched = HonbabMatched.registerMatchingPair(me, partner);
-		completeMatching(partner, me);
-		return honbabMatchedRepository.save(honbabMatched);
+	private int waitingPoolSize() {
+		synchronized (waitingPool) {
+			return waitingPool.size();
+		}
+	}
+
+	private Optional<Waiting> pollPartnerOrAdd(Waiting me) {
+		synchronized (waitingPool) {
+			return waitingPool.pollPartnerOrAdd(me);
+		}
+	}
+
+	private void addWaiting(Waiting waiting) {
+		synchronized (waitingPool) {
+			waitingPool.add(waiting);
+		}
+	}
+
+	private void matchOrWait(Honbab me) {
+		Waiting myWaiting = Waiting.from(me);
+
+		Optional<Waiting> partnerWaiting;
+		while ((partnerWaiting = pollPartnerOrAdd(myWaiting)).isPresent()) {
+			Honbab partner = honbabRepository.findById(partnerWaiting.get().honbabId()).orElse(null);
+
+			// 취소 이벤트가 아직 반영되지 않은 신청은 선점되지 않으므로 버리고 다음 상대를 찾는다
+			if (partner == null || !claim(partner)) {
+				continue;
+			}
+			if (!claim(me)) {
+				// 그 사이 내 신청이 취소되었다면 상대를 되돌려 놓는다
+				honbabRepository.updateStatusIfMatches(partner.getId(), HonbabStatus.MATCHING_COMPLETED,
+					HonbabStatus.IN_PROGRESS);
+				addWaiting(partnerWaiting.get());
+				return;
+			}
+
+			restoreOnRollback(myWaiting, partnerWaiting.get());
+			completeMatching(partner, me);
+			honbabMatchedRepository.save(HonbabMatched.registerMatchingPair(me, partner));
+			return;
+		}
+	}
+
+	// 다른 트랜잭션이 먼저 취소하거나 시간 초과 처리한 신청은 IN_PROGRESS 가 아니므로 갱신되지 않는다
+	private boolean claim(Honbab honbab) {
+		return honbabRepository.updateStatusIfMatches(honbab.getId(), HonbabStatus.IN_PROGRESS,
+			HonbabStatus.MATCHING_COMPLETED) == 1;
 	}
 
 	private void completeMatching(Honbab partner, Honbab me) {
@@ -78,14 +194,20 @@ public class HonbabMatchingService {
 		sendMatchingMessage(partner);
 	}
 
-	private Honbab findSuitableHonbab(List<Honbab> candidates, Honbab me) {
-		return candidates.stream()
-			.filter(candidate -> !candidate.getId().equals(me.getId()))
-			.filter(candidate -> candidate.getStatus() == HonbabStatus.IN_PROGRESS)
-			.filter(candidate -> HonbabFilter.filterSutiableGender(candidate, me))
-			.filter(candidate -> HonbabFilter.filterSuitableMenuCategory(candidate, me))
-			.findFirst()
-			.orElse(null);
+	// 매칭 결과 저장이 롤백되면 두 신청을 다시 대기열에 넣는다
+	private void restoreOnRollback(Waiting me, Waiting partner) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					addWaiting(me);
+					addWaiting(partner);
+				}
+			}
+		});
 	}
 
 	private void sendMatchingMessage(Honbab me) {
@@ -93,12 +215,4 @@ public class HonbabMatchingService {
 
 		smsService.sendSms(phoneNumber, SmsText.MATCHING_FOUND_HONBAB);
 	}
-
-	private boolean isWaitTimeExceeded(Honbab honbab) {
-		return Duration.between(honbab.getCreatedAt(), LocalDateTime.now()).getSeconds() > FIXED_WAIT_TIME_SECONDS;
-	}
-
-	private void handleTimeOut(Honbab honbab) {
-		honbab.changeStatus(HonbabStatus.TIME_OUT);
-	}
 }
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +33,8 @@ public class HonbabService {
 	private final HonbabRepository honbabRepository;
 	private final MemberRepository memberRepository;
 	private final HonbabMatchedRepository honbabMatchedRepository;
-	private final HonbabMatchingService honbabMatchingService;
 	private final SecurityUtil securityUtil;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public void registerHonbab(RegisterHonbabRequest request) {
 		final String memberId = securityUtil.getCurrentMemberId();
@@ -47,7 +48,7 @@ public class HonbabService {
 		Honbab honbab = Honbab.createHonbab(member, request);
 		honbabRepository.save(honbab);
 
-		honbabMatchingService.matchHonbabWhenRegister(honbab);
+		eventPublisher.publishEvent(new HonbabChangedEvent(honbab.getId()));
 	}
 
 	@Transactional(readOnly = true)
@@ -94,8 +95,13 @@ public class HonbabService {
 			.orElseThrow(() -> new CustomException(ErrorCode.HONBAB_NOT_FOUND));
 
 		ensureInProgressStatus(latestHonbab);
-		latestHonbab.changeStatus(HonbabStatus.CANCEL);
-		honbabRepository.save(latestHonbab);
+		// 조회한 뒤 매칭된 경우 매칭 결과를 덮어쓰지 않도록 대기중일 때만 취소한다
+		int canceledCount = honbabRepository.updateStatusIfMatches(latestHonbab.getId(), HonbabStatus.IN_PROGRESS,
+			HonbabStatus.CANCEL);
+		if (canceledCount == 0) {
+			throw new CustomException(ErrorCode.NOT_IN_PROGRESS);
+		}
+		eventPublisher.publishEvent(new HonbabChangedEvent(latestHonbab.getId()));
 	}
 
 	private void validateInProgressStatus(Honbab honbab) {
@@ -0,0 +1,157 @@
+package com.sejong.sejongpeer.domain.honbab.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.Honbab;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.GenderOption;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.MenuCategoryOption;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+/**
+ * 매칭 대기중인 혼밥 신청을 (메뉴 카테고리, 선호 성별, 성별) 조합별 버킷으로 나누어 보관한다.
+ *
+ * <p>조합은 최대 24가지라서 조합끼리의 궁합을 {@link HonbabFilter}와 같은 기준으로 미리 계산해 두고,
+ * 상대를 찾을 때는 궁합이 맞는 버킷의 맨 앞만 확인한다. 버킷은 신청 id 순으로 정렬되어 있어
+ * 조건에 맞는 신청 중 가장 먼저 등록된 신청을 고르므로 기존 순차 탐색과 같은 상대를 매칭한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 접근을 직렬화해야 한다.
+ */
+public final class HonbabWaitingPool {
+	private static final Map<Key, List<Key>> ACCEPTED_KEYS = acceptedKeys();
+
+	private final Map<Key, TreeMap<Long, Waiting>> buckets = new HashMap<>();
+	private final Map<Long, Waiting> entries = new HashMap<>();
+
+	public void add(Waiting waiting) {
+		if (entries.putIfAbsent(waiting.honbabId(), waiting) == null) {
+			buckets.computeIfAbsent(waiting.key(), key -> new TreeMap<>()).put(waiting.honbabId(), waiting);
+		}
+	}
+
+	public boolean remove(Long honbabId) {
+		Waiting waiting = entries.remove(honbabId);
+		if (waiting == null) {
+			return false;
+		}
+		buckets.get(waiting.key()).remove(honbabId);
+		return true;
+	}
+
+	public boolean contains(Long honbabId) {
+		return entries.containsKey(honbabId);
+	}
+
+	/** honbabIds 에 없는 신청을 대기열에서 뺀다. */
+	public void retainAll(Set<Long> honbabIds) {
+		List.copyOf(entries.keySet()).stream()
+			.filter(honbabId -> !honbabIds.contains(honbabId))
+			.forEach(this::remove);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void clear() {
+		buckets.clear();
+		entries.clear();
+	}
+
+	/**
+	 * 나와 조건이 맞는 상대 중 가장 먼저 등록된 신청을 대기열에서 꺼낸다. 상대가 없으면 나를 대기열에 넣는다.
+	 */
+	public Optional<Waiting> pollPartnerOrAdd(Waiting me) {
+		remove(me.honbabId());
+
+		Waiting partner = null;
+		for (Key key : ACCEPTED_KEYS.get(me.key())) {
+			TreeMap<Long, Waiting> bucket = buckets.get(key);
+			if (bucket != null && !bucket.isEmpty()) {
+				Waiting head = bucket.firstEntry().getValue();
+				if (partner == null || head.honbabId() < partner.honbabId()) {
+					partner = head;
+				}
+			}
+		}
+
+		if (partner == null) {
+			add(me);
+			return Optional.empty();
+		}
+		remove(partner.honbabId());
+		return Optional.of(partner);
+	}
+
+	/** deadline 이전에 등록된 신청을 대기열에서 빼고 id 를 돌려준다. */
+	public List<Long> removeCreatedBefore(LocalDateTime deadline) {
+		List<Long> removed = new ArrayList<>();
+		for (TreeMap<Long, Waiting> bucket : buckets.values()) {
+			Iterator<Waiting> iterator = bucket.values().iterator();
+			while (iterator.hasNext()) {
+				Waiting waiting = iterator.next();
+				// 같은 버킷 안에서는 id 순이 곧 등록 순이다
+				if (!waiting.createdAt().isBefore(deadline)) {
+					break;
+				}
+				iterator.remove();
+				entries.remove(waiting.honbabId());
+				removed.add(waiting.honbabId());
+			}
+		}
+		return removed;
+	}
+
+	private static Map<Key, List<Key>> acceptedKeys() {
+		List<Key> keys = new ArrayList<>();
+		for (MenuCategoryOption menuCategoryOption : MenuCategoryOption.values()) {
+			for (GenderOption genderOption : GenderOption.values()) {
+				for (Gender gender : Gender.values()) {
+					keys.add(new Key(menuCategoryOption, genderOption, gender));
+				}
+			}
+		}
+
+		Map<Key, List<Key>> acceptedKeys = new HashMap<>();
+		for (Key me : keys) {
+			acceptedKeys.put(me, keys.stream().filter(me::accepts).toList());
+		}
+		return acceptedKeys;
+	}
+
+	/** 매칭에 필요한 혼밥 신청 정보. 대기 중에 Member 를 다시 읽지 않도록 성별도 함께 보관한다. */
+	public record Waiting(
+		Long honbabId,
+		MenuCategoryOption menuCategoryOption,
+		GenderOption genderOption,
+		Gender gender,
+		LocalDateTime createdAt
+	) {
+		public static Waiting from(Honbab honbab) {
+			return new Waiting(
+				honbab.getId(),
+				honbab.getMenuCategoryOption(),
+				honbab.getGenderOption(),
+				honbab.getMember().getGender(),
+				honbab.getCreatedAt());
+		}
+
+		private Key key() {
+			return new Key(menuCategoryOption, genderOption, gender);
+		}
+	}
+
+	private record Key(MenuCategoryOption menuCategoryOption, GenderOption genderOption, Gender gender) {
+		// HonbabFilter.filterSutiableGender, filterSuitableMenuCategory 와 같은 기준
+		boolean accepts(Key candidate) {
+			return menuCategoryOption.isMatch(candidate.menuCategoryOption)
+				&& genderOption.isMatch(gender, candidate.genderOption, candidate.gender);
+		}
+	}
+}
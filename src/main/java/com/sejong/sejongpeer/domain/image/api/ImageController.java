@@ -4,7 +4,9 @@ import com.sejong.sejongpeer.domain.image.dto.request.StudyImageUploadRequest;
 import com.sejong.sejongpeer.domain.image.dto.response.StudyImageUrlResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.sejong.sejongpeer.domain.image.dto.request.StudyImageCreateRequest;
 import com.sejong.sejongpeer.domain.image.dto.request.StudyImageUploadCompleteRequest;
@@ -17,6 +19,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "6. [이미지]", description = "이미지 API")
@@ -53,4 +56,26 @@ public class ImageController {
 	public List<StudyImageUrlResponse> uploadStudyImage(@Valid @RequestBody StudyImageUploadRequest request) throws IOException {
 		return imageService.uploadFiles(request.studyId(), request);
 	}
+
+	@Operation(
+		summary = "스터디 게시글 별 이미지 파일 등록 및 수정",
+		description = "multipart 로 받은 이미지로 스터디 이미지를 교체합니다. 이미지 파일 대신 Base64 data URL 텍스트를 보내도 됩니다.")
+	@PostMapping(value = "/study/{studyId}/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public List<StudyImageUrlResponse> uploadStudyImageFiles(
+		@PathVariable Long studyId,
+		@RequestPart("images") List<MultipartFile> images) throws IOException {
+		return imageService.uploadStudyImageFiles(studyId, images);
+	}
+
+	@Operation(
+		summary = "스터디 이미지 스트리밍 추가",
+		description = "요청 본문의 Base64 data URL 을 읽는 대로 디코딩해 업로드하고, 스터디 이미지에 하나를 추가합니다.")
+	@PostMapping(
+		value = "/study/{studyId}/upload/stream",
+		consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+	public StudyImageUrlResponse uploadStudyImageStream(
+		@PathVariable Long studyId,
+		InputStream body) throws IOException {
+		return imageService.uploadStudyImageStream(studyId, body);
+	}
 }
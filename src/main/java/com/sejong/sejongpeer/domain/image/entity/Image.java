@@ -1,6 +1,7 @@
 package com.sejong.sejongpeer.domain.image.entity;
 
 import com.sejong.sejongpeer.domain.common.BaseAuditEntity;
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeStatus;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageFileExtension;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageType;
 
@@ -22,6 +23,19 @@ public class Image extends BaseAuditEntity {
 
 	private String imgUrl;
 
+	// 피드 카드 등에서 원본 대신 내려주는 축소본. 변환이 끝나기 전에는 비어 있다
+	private String thumbnailUrl;
+
+	private String feedUrl;
+
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private ImageDerivativeStatus derivativeStatus;
+
+	// 변환을 시작한 횟수. 계속 실패하는 이미지는 재시도 작업이 정해진 횟수 뒤에 FAILED 로 바꾼다
+	@Column(nullable = false)
+	private int derivativeAttempts;
+
 	@Enumerated(EnumType.STRING)
 	private ImageType imageType;
 
@@ -45,7 +59,8 @@ public class Image extends BaseAuditEntity {
 		ImageType imageType,
 		Long targetId,
 		String imageKey,
-		ImageFileExtension imageFileExtension) {
+		ImageFileExtension imageFileExtension,
+		ImageDerivativeStatus derivativeStatus) {
 		this.id = id;
 		this.study = study;
 		this.imgUrl = imgUrl;
@@ -53,6 +68,7 @@ public class Image extends BaseAuditEntity {
 		this.targetId = targetId;
 		this.imageKey = imageKey;
 		this.imageFileExtension = imageFileExtension;
+		this.derivativeStatus = derivativeStatus;
 	}
 
 	public static Image createImage(
@@ -76,6 +92,12 @@ public class Image extends BaseAuditEntity {
 		return Image.builder()
 			.study(study)
 			.imgUrl(imgUrl)
+			.derivativeStatus(ImageDerivativeStatus.PENDING)
 			.build();
 	}
+
+	// 축소본이 있으면 가장 작은 썸네일을, 아직 없으면 원본 URL 을 돌려준다
+	public String getSmallestUrl() {
+		return thumbnailUrl != null ? thumbnailUrl : imgUrl;
+	}
 }
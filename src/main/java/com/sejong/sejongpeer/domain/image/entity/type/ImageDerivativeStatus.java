@@ -0,0 +1,14 @@
+package com.sejong.sejongpeer.domain.image.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ImageDerivativeStatus {
+	PENDING("변환 대기"),
+	COMPLETE("변환 완료"),
+	FAILED("변환 실패");
+
+	private final String value;
+}
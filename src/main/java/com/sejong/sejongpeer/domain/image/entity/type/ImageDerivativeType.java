@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.domain.image.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 원본 이미지에서 만드는 축소본. 가로를 maxWidth 이하로 줄이고 비율은 유지하며, 원본보다 키우지는 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageDerivativeType {
+	THUMBNAIL("thumbnail", 320),
+	FEED("feed", 960);
+
+	private final String value;
+	private final int maxWidth;
+}
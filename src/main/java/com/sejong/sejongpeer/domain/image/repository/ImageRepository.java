@@ -1,12 +1,18 @@
 package com.sejong.sejongpeer.domain.image.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sejong.sejongpeer.domain.image.entity.Image;
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeStatus;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageFileExtension;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageType;
 
@@ -17,4 +23,44 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 		ImageType imageType, Long targetId, ImageFileExtension imageFileExtension);
 
 	List<Image> findAllByStudyId(Long studyId);
+
+	@Query("select i.imgUrl from Image i where i.id = :imageId")
+	Optional<String> findImgUrlById(@Param("imageId") Long imageId);
+
+	@Query("select i.id from Image i where i.derivativeStatus = :status and i.createdAt < :createdBefore order by i.id")
+	List<Long> findIdsByDerivativeStatus(
+		@Param("status") ImageDerivativeStatus status,
+		@Param("createdBefore") LocalDateTime createdBefore,
+		Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query("update Image i set i.derivativeAttempts = i.derivativeAttempts + 1 where i.id = :imageId")
+	void incrementDerivativeAttempts(@Param("imageId") Long imageId);
+
+	@Transactional
+	@Modifying
+	@Query("update Image i set i.derivativeStatus = :failed "
+		+ "where i.derivativeStatus = :pending and i.derivativeAttempts >= :maxAttempts")
+	int failExhaustedDerivatives(
+		@Param("pending") ImageDerivativeStatus pending,
+		@Param("failed") ImageDerivativeStatus failed,
+		@Param("maxAttempts") int maxAttempts);
+
+	// 변환 상태를 기록하기 전에 올린 이미지도 재시도 작업이 변환하도록 대기 상태로 바꾼다
+	@Transactional
+	@Modifying
+	@Query("update Image i set i.derivativeStatus = :status where i.derivativeStatus is null and i.imgUrl is not null")
+	int markUnprocessedDerivatives(@Param("status") ImageDerivativeStatus status);
+
+	// 변환하는 동안 이미지가 교체되어 지워졌다면 0을 돌려준다
+	@Transactional
+	@Modifying
+	@Query("update Image i set i.thumbnailUrl = :thumbnailUrl, i.feedUrl = :feedUrl, i.derivativeStatus = :status "
+		+ "where i.id = :imageId")
+	int updateDerivatives(
+		@Param("imageId") Long imageId,
+		@Param("thumbnailUrl") String thumbnailUrl,
+		@Param("feedUrl") String feedUrl,
+		@Param("status") ImageDerivativeStatus status);
 }
@@ -0,0 +1,139 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeType;
+
+/**
+ * 원본 이미지에서 {@link ImageDerivativeType} 별 축소본을 만든다. 외부 라이브러리 없이 JDK 의 ImageIO 와 Java2D 만 사용한다.
+ *
+ * <p>WebP writer 플러그인이 classpath 에 있으면 WebP 로, 없으면 JPEG 로 저장한다. JDK 에는 WebP writer 가 없다.
+ * 원본이 가장 큰 축소본의 두 배보다 크면 읽을 때부터 픽셀을 건너뛰어, 큰 사진도 필요한 만큼만 메모리에 올린다.
+ */
+@Component
+public class ImageDerivativeGenerator {
+	private static final String WEBP = "webp";
+	private static final String JPEG = "jpeg";
+	private static final float QUALITY = 0.8f;
+	// 압축 해제 폭탄 방지. 원본 해상도가 이보다 크면 읽지 않는다
+	private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+	private final String format = ImageIO.getImageWritersByFormatName(WEBP).hasNext() ? WEBP : JPEG;
+
+	public Map<ImageDerivativeType, Derivative> generate(InputStream original) throws IOException {
+		int largestWidth = Arrays.stream(ImageDerivativeType.values())
+			.mapToInt(ImageDerivativeType::getMaxWidth)
+			.max()
+			.orElseThrow();
+		BufferedImage source = read(original, largestWidth);
+
+		Map<ImageDerivativeType, Derivative> derivatives = new EnumMap<>(ImageDerivativeType.class);
+		for (ImageDerivativeType type : ImageDerivativeType.values()) {
+			derivatives.put(type, encode(resize(source, type.getMaxWidth())));
+		}
+		return derivatives;
+	}
+
+	private BufferedImage read(InputStream original, int targetWidth) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) {
+				throw new IIOException("읽을 수 없는 이미지 형식입니다.");
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long) width * height > MAX_SOURCE_PIXELS) {
+					throw new IIOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+				}
+
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, width / (targetWidth * 2));
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 한 번에 크게 줄이면 bilinear 보간이 픽셀을 건너뛰어 거칠어지므로 절반씩 줄인다
+	private BufferedImage resize(BufferedImage source, int maxWidth) {
+		int targetWidth = Math.min(source.getWidth(), maxWidth);
+		int targetHeight = Math.max(1, (int)Math.round((double)source.getHeight() * targetWidth / source.getWidth()));
+
+		BufferedImage current = source;
+		int width = source.getWidth();
+		int height = source.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			current = draw(current, width, height);
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	// JPEG 는 투명도를 지원하지 않으므로 투명한 부분은 흰색으로 채운다
+	private BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private Derivative encode(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+					param.setCompressionType(param.getCompressionTypes()[0]);
+				}
+				param.setCompressionQuality(QUALITY);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return new Derivative(format, out.toByteArray());
+	}
+
+	public record Derivative(String extension, byte[] content) {
+	}
+}
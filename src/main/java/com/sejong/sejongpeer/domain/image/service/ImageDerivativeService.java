@@ -0,0 +1,173 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeStatus;
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeType;
+import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
+import com.sejong.sejongpeer.domain.image.service.ImageDerivativeGenerator.Derivative;
+import com.sejong.sejongpeer.domain.image.vo.ImageContent;
+import com.sejong.sejongpeer.infra.config.properties.ImageDerivativeProperties;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 스터디 이미지의 썸네일과 피드용 축소본을 만들어 S3 에 올리고 {@code Image} 에 기록한다.
+ *
+ * <p>업로드 요청은 원본 저장이 커밋되면 바로 응답하고, 변환은 전용 스레드 풀({@code imageDerivativeExecutor})에서 한다.
+ * 대기열이 넘쳤거나 서버가 재시작되어 처리하지 못한 이미지는 주기적인 재시도 작업이 다시 변환한다.
+ * 재시도 작업은 변환이 모두 끝날 때까지 잠금을 유지하며, 잠금을 잃은 뒤에는 결과를 기록하지 않는다.
+ * 읽을 수 없거나 S3 에 원본이 없는 이미지, 그리고 {@code maxAttempts} 번 시도해도 끝나지 않은 이미지는
+ * FAILED 로 남기고, 응답에는 원본 URL 을 그대로 내려준다.
+ * 변환 상태를 기록하기 전에 올린 이미지는 서버가 시작할 때 대기 상태로 바꿔 재시도 작업이 변환하게 한다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+	private static final String RETRY_JOB = "image-derivative-retry";
+
+	private final ImageRepository imageRepository;
+	private final ImageUploader imageUploader;
+	private final ImageDerivativeGenerator imageDerivativeGenerator;
+	private final TaskExecutor derivativeExecutor;
+	private final SchedulerLockManager schedulerLockManager;
+	private final ImageDerivativeProperties properties;
+
+	public ImageDerivativeService(
+		ImageRepository imageRepository,
+		ImageUploader imageUploader,
+		ImageDerivativeGenerator imageDerivativeGenerator,
+		@Qualifier("imageDerivativeExecutor") TaskExecutor derivativeExecutor,
+		SchedulerLockManager schedulerLockManager,
+		ImageDerivativeProperties properties) {
+		this.imageRepository = imageRepository;
+		this.imageUploader = imageUploader;
+		this.imageDerivativeGenerator = imageDerivativeGenerator;
+		this.derivativeExecutor = derivativeExecutor;
+		this.schedulerLockManager = schedulerLockManager;
+		this.properties = properties;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStudyImagesUploaded(StudyImagesUploadedEvent event) {
+		event.imageIds().forEach(imageId -> submit(imageId, null));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void markUnprocessedOnStartup() {
+		try {
+			int marked = imageRepository.markUnprocessedDerivatives(ImageDerivativeStatus.PENDING);
+			if (marked > 0) {
+				log.info("축소본이 없는 이미지 {}개를 변환 대기 상태로 바꿨습니다.", marked);
+			}
+		} catch (RuntimeException e) {
+			log.error("서버 시작 시 변환 대기 이미지 표시 실패, 다음 시작 때 다시 시도합니다: {}", e.getMessage(), e);
+		}
+	}
+
+	@Scheduled(
+		initialDelayString = "${image.derivative.retry-delay-millis:600000}",
+		fixedDelayString = "${image.derivative.retry-delay-millis:600000}")
+	public void retryPendingDerivatives() {
+		schedulerLockManager.runExclusively(RETRY_JOB, lease -> {
+			// 계속 실패하는 이미지가 재시도 대상 앞자리를 차지하지 않도록 먼저 FAILED 로 바꾼다
+			int exhausted = lease.fenced(() -> imageRepository.failExhaustedDerivatives(
+				ImageDerivativeStatus.PENDING, ImageDerivativeStatus.FAILED, properties.maxAttempts()));
+			if (exhausted > 0) {
+				log.warn("{}번 시도해도 축소본을 만들지 못한 이미지 {}개는 원본을 사용합니다.", properties.maxAttempts(), exhausted);
+			}
+
+			CompletableFuture.allOf(imageRepository
+				.findIdsByDerivativeStatus(
+					ImageDerivativeStatus.PENDING,
+					LocalDateTime.now().minus(properties.retryAfter()),
+					PageRequest.of(0, properties.retryBatchSize()))
+				.stream()
+				.map(imageId -> submit(imageId, lease))
+				.toArray(CompletableFuture[]::new))
+				.join();
+		});
+	}
+
+	/**
+	 * 원본을 내려받아 축소본을 만들고 올린다. 이미 변환했거나 지워진 이미지여도 결과만 덮어쓰므로 여러 번 실행해도 된다.
+	 */
+	public void createDerivatives(Long imageId) {
+		createDerivatives(imageId, null);
+	}
+
+	private void createDerivatives(Long imageId, SchedulerLease lease) {
+		imageRepository.incrementDerivativeAttempts(imageId);
+		Optional<String> imgUrl = imageRepository.findImgUrlById(imageId);
+		if (imgUrl.isEmpty()) {
+			// 지워진 이미지면 아무 행도 바뀌지 않는다
+			record(lease, () -> imageRepository.updateDerivatives(imageId, null, null, ImageDerivativeStatus.FAILED));
+			return;
+		}
+
+		Map<ImageDerivativeType, Derivative> derivatives;
+		try (InputStream original = imageUploader.download(imgUrl.get())) {
+			derivatives = imageDerivativeGenerator.generate(original);
+		} catch (IOException e) {
+			log.warn("이미지 {} 의 축소본을 만들 수 없어 원본을 사용합니다: {}", imageId, e.getMessage());
+			record(lease, () -> imageRepository.updateDerivatives(imageId, null, null, ImageDerivativeStatus.FAILED));
+			return;
+		}
+
+		try {
+			String thumbnailUrl = upload(derivatives.get(ImageDerivativeType.THUMBNAIL));
+			String feedUrl = upload(derivatives.get(ImageDerivativeType.FEED));
+			record(lease, () -> imageRepository.updateDerivatives(
+				imageId, thumbnailUrl, feedUrl, ImageDerivativeStatus.COMPLETE));
+		} catch (IOException e) {
+			log.warn("이미지 {} 의 축소본 업로드 실패, 다음 재시도에서 다시 만듭니다: {}", imageId, e.getMessage());
+		}
+	}
+
+	// 재시도 작업에서 넘어온 변환은 잠금을 가진 동안에만 기록한다
+	private void record(SchedulerLease lease, Runnable update) {
+		if (lease == null) {
+			update.run();
+		} else {
+			lease.fenced(update);
+		}
+	}
+
+	private CompletableFuture<Void> submit(Long imageId, SchedulerLease lease) {
+		try {
+			return CompletableFuture.runAsync(() -> {
+				try {
+					createDerivatives(imageId, lease);
+				} catch (RuntimeException e) {
+					log.warn("이미지 {} 의 축소본 생성 실패, 다음 재시도에서 다시 만듭니다: {}", imageId, e.getMessage(), e);
+				}
+			}, derivativeExecutor);
+		} catch (TaskRejectedException e) {
+			log.info("축소본 생성 대기열이 가득 차 이미지 {} 는 다음 재시도에서 만듭니다.", imageId);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private String upload(Derivative derivative) throws IOException {
+		return imageUploader.upload(
+			new ImageContent(derivative.extension(), new ByteArrayInputStream(derivative.content())));
+	}
+}
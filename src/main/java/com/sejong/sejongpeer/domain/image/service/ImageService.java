@@ -2,16 +2,19 @@ package com.sejong.sejongpeer.domain.image.service;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.sejong.sejongpeer.domain.image.dto.request.StudyImageUploadRequest;
 import com.sejong.sejongpeer.domain.image.dto.response.StudyImageUrlResponse;
+import com.sejong.sejongpeer.domain.image.vo.ImageContent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
@@ -25,7 +28,7 @@ import com.sejong.sejongpeer.domain.image.entity.Image;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageFileExtension;
 import com.sejong.sejongpeer.domain.image.entity.type.ImageType;
 import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
-import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
 import com.sejong.sejongpeer.domain.study.entity.Study;
 import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
 import com.sejong.sejongpeer.global.common.constants.UrlConstants;
@@ -45,13 +48,16 @@ public class ImageService {
 	private final SpringEnvironmentUtil springEnvironmentUtil;
 	private final S3Properties s3Properties;
 	private final AmazonS3 amazonS3;
+	private final ImageUploader imageUploader;
 	private final ImageRepository imageRepository;
 	private final StudyRepository studyRepository;
 	private final MemberUtil memberUtil;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionOperations transactionOperations;
 
 	// 스터디 이미지 Presigned Url 생성
 	public PresignedUrlResponse createStudyPresignedUrl(final StudyImageCreateRequest request) {
-		final Member member = memberUtil.getCurrentMember();
+		final MemberSnapshot member = memberUtil.getCurrentMemberSnapshot();
 		Study study = findStudyById(request.studyId());
 
 		validateStudyUserMismatch(study, member);
@@ -89,7 +95,7 @@ public class ImageService {
 
 	// 스터디 이미지 업로드
 	public void uploadCompleteStudyImage(final StudyImageUploadCompleteRequest request) {
-		final Member member = memberUtil.getCurrentMember();
+		final MemberSnapshot member = memberUtil.getCurrentMemberSnapshot();
 		Study study = findStudyById(request.studyId());
 
 		validateStudyUserMismatch(study, member);
@@ -115,8 +121,8 @@ public class ImageService {
 			.orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
 	}
 
-	private void validateStudyUserMismatch(final Study study, final Member member) {
-		if (!study.getMember().getId().equals(member.getId())) {
+	private void validateStudyUserMismatch(final Study study, final MemberSnapshot member) {
+		if (!study.getMember().getId().equals(member.id())) {
 			throw new CustomException(ErrorCode.STUDY_USER_MISMATCH);
 		}
 	}
@@ -188,49 +194,75 @@ public class ImageService {
 		return expiration;
 	}
 
+	// S3 업로드는 오래 걸릴 수 있으므로 업로드하는 메서드는 트랜잭션 밖에서 올리고, 저장할 때만 트랜잭션을 연다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public List<StudyImageUrlResponse> uploadFiles(Long studyId, StudyImageUploadRequest request) throws IOException {
-		List<Image> originalImages = imageRepository.findAllByStudyId(studyId);
-		imageRepository.deleteAll(originalImages);
-
-		List<String> base64ImagesList = request.base64ImagesList();
-
-		return base64ImagesList.parallelStream()
-			.map(base64Image -> {
-				try {
-					return uploadFile(studyId, base64Image);
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
-			})
-			.collect(Collectors.toUnmodifiableList());
-	}
-
-	public StudyImageUrlResponse uploadFile(Long studyId, String base64Image) throws IOException {
-		String extension = "";
-		Pattern pattern = Pattern.compile("^data:image/([a-zA-Z]+);base64,");
-		Matcher matcher = pattern.matcher(base64Image);
-		if (matcher.find()) {
-			extension = matcher.group(1);
-		}
+		findStudyById(studyId);
+		List<String> imageUrls = uploadBase64Images(request.base64ImagesList());
+		return replaceStudyImages(studyId, imageUrls);
+	}
 
-		String base64ImageData = base64Image.replaceFirst("^data:image/[^;]+;base64,", "");
-		byte[] imageBytes = Base64.getDecoder().decode(base64ImageData);
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(imageBytes);
+	// Base64 data URL 목록을 디코딩해 올리고 URL 을 요청 순서대로 돌려준다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<String> uploadBase64Images(List<String> base64Images) throws IOException {
+		List<ImageContent> images = new ArrayList<>(base64Images.size());
+		for (String base64Image : base64Images) {
+			InputStream dataUrl = new ByteArrayInputStream(base64Image.getBytes(StandardCharsets.US_ASCII));
+			images.add(ImageContent.fromDataUrl(dataUrl));
+		}
+		return imageUploader.uploadAll(images);
+	}
 
-		ObjectMetadata metadata = new ObjectMetadata();
-		metadata.setContentLength(imageBytes.length);
-		metadata.setContentType("image/" + extension);
+	/**
+	 * 올려 둔 이미지로 기존 스터디 이미지를 교체한다. 호출한 쪽의 트랜잭션에서 저장하며,
+	 * 축소본은 커밋 후 {@link ImageDerivativeService}가 만든다.
+	 */
+	public List<StudyImageUrlResponse> saveStudyImages(Study study, List<String> imageUrls) {
+		imageRepository.deleteAll(imageRepository.findAllByStudyId(study.getId()));
+		List<Image> savedImages = imageRepository.saveAll(imageUrls.stream()
+			.map(imageUrl -> Image.createBase64ToImage(study, imageUrl))
+			.toList());
+		eventPublisher.publishEvent(new StudyImagesUploadedEvent(savedImages.stream().map(Image::getId).toList()));
+
+		return savedImages.stream()
+			.map(StudyImageUrlResponse::fromImage)
+			.toList();
+	}
 
-		String randomFileName = generateUUID();
-		String fullFileName = randomFileName + "." + extension;
+	// multipart 로 받은 이미지로 기존 스터디 이미지를 교체한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<StudyImageUrlResponse> uploadStudyImageFiles(Long studyId, List<MultipartFile> files)
+		throws IOException {
+		validateOwnStudy(studyId);
+		List<ImageContent> images = new ArrayList<>(files.size());
+		for (MultipartFile file : files) {
+			images.add(ImageContent.from(file));
+		}
+		return replaceStudyImages(studyId, imageUploader.uploadAll(images));
+	}
 
-		amazonS3.putObject(s3Properties.bucket(), fullFileName, inputStream, metadata);
-		String base64ToS3url = amazonS3.getUrl(s3Properties.bucket(), fullFileName).toExternalForm();
+	// 요청 본문의 Base64 data URL 을 읽는 대로 디코딩해 올리고, 스터디 이미지에 하나를 추가한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public StudyImageUrlResponse uploadStudyImageStream(Long studyId, InputStream dataUrl) throws IOException {
+		validateOwnStudy(studyId);
+		String imageUrl = imageUploader.upload(ImageContent.fromDataUrl(dataUrl));
+		Image image = transactionOperations.execute(status -> {
+			Image saved = imageRepository.save(
+				Image.createBase64ToImage(studyRepository.getReferenceById(studyId), imageUrl));
+			eventPublisher.publishEvent(new StudyImagesUploadedEvent(List.of(saved.getId())));
+			return saved;
+		});
+		return StudyImageUrlResponse.fromImage(image);
+	}
 
-		Study study = findStudyById(studyId);
-		Image savedImage = imageRepository.save(Image.createBase64ToImage(study, base64ToS3url));
+	private void validateOwnStudy(Long studyId) {
+		validateStudyUserMismatch(findStudyById(studyId), memberUtil.getCurrentMemberSnapshot());
+	}
 
-		return new StudyImageUrlResponse(savedImage.getId(), base64ToS3url);
+	// 업로드를 기다리는 동안 DB 커넥션을 잡고 있지 않도록, 모두 올라간 뒤에 저장만 한 트랜잭션에서 한다
+	private List<StudyImageUrlResponse> replaceStudyImages(Long studyId, List<String> imageUrls) {
+		return transactionOperations.execute(status ->
+			saveStudyImages(studyRepository.getReferenceById(studyId), imageUrls));
 	}
 
 }
@@ -0,0 +1,214 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.sejong.sejongpeer.domain.image.vo.ImageContent;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.ImageUploadProperties;
+import com.sejong.sejongpeer.infra.config.properties.S3Properties;
+
+/**
+ * 이미지 스트림을 partSize 크기의 버퍼 하나로 나누어 S3 에 올린다.
+ *
+ * <p>한 파트 안에 끝나는 이미지는 한 번에 올리고, 그보다 크면 멀티파트 업로드로 버퍼를 재사용하며 올린다.
+ * 따라서 업로드 하나가 차지하는 메모리는 이미지 크기와 상관없이 partSize 로 고정된다.
+ *
+ * <p>여러 이미지는 업로드 전용 스레드 풀({@code imageUploadExecutor})에서 나누어 올린다.
+ * 풀이 가득 차도 요청 스레드에서 올리지 않으므로 모든 업로드가 같은 제한 시간 안에서 취소될 수 있다.
+ */
+@Component
+public class ImageUploader {
+	private static final long SUBMIT_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final AmazonS3 amazonS3;
+	private final AsyncTaskExecutor uploadExecutor;
+	private final String bucket;
+	private final int partSize;
+	private final long maxSize;
+	private final long timeoutNanos;
+
+	public ImageUploader(
+		AmazonS3 amazonS3,
+		@Qualifier("imageUploadExecutor") AsyncTaskExecutor uploadExecutor,
+		S3Properties s3Properties,
+		ImageUploadProperties properties) {
+		this.amazonS3 = amazonS3;
+		this.uploadExecutor = uploadExecutor;
+		this.bucket = s3Properties.bucket();
+		this.partSize = Math.toIntExact(properties.partSize().toBytes());
+		this.maxSize = properties.maxSize().toBytes();
+		this.timeoutNanos = properties.timeout().toNanos();
+	}
+
+	/**
+	 * 이미지를 동시에 올리고 URL 을 요청 순서대로 돌려준다. 제한 시간은 이미지마다가 아니라 요청 전체에 한 번 적용한다.
+	 * 하나라도 실패하거나 시간을 넘기면 남은 업로드를 취소한다.
+	 * 업로드 풀이 가득 차면 요청 스레드가 직접 올리지 않고, 같은 제한 시간 안에서 자리가 날 때까지 기다린다.
+	 */
+	public List<String> uploadAll(List<ImageContent> images) throws IOException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		CompletionService<String> completionService = new ExecutorCompletionService<>(uploadExecutor);
+		Map<Future<String>, Integer> indexes = new HashMap<>();
+		String[] urls = new String[images.size()];
+		try {
+			int completed = 0;
+			while (completed < images.size()) {
+				submitWhileAccepted(completionService, images, indexes);
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw new CustomException(ErrorCode.IMAGE_UPLOAD_TIMEOUT);
+				}
+				// 기다릴 업로드가 없으면 다른 요청의 업로드가 끝나 풀에 자리가 나기를 잠깐 기다린다
+				long wait = indexes.size() > completed ? remaining : Math.min(remaining, SUBMIT_RETRY_NANOS);
+				Future<String> upload = completionService.poll(wait, TimeUnit.NANOSECONDS);
+				if (upload != null) {
+					urls[indexes.get(upload)] = result(upload);
+					completed++;
+				}
+			}
+			return List.of(urls);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("이미지 업로드를 기다리는 중 중단되었습니다.");
+		} finally {
+			indexes.keySet().forEach(upload -> upload.cancel(true));
+		}
+	}
+
+	public String upload(ImageContent image) throws IOException {
+		String key = UUID.randomUUID() + "." + image.extension();
+		byte[] buffer = new byte[partSize];
+
+		try (InputStream in = image.stream()) {
+			int length = readPart(in, buffer, 0);
+			if (length < partSize) {
+				putObject(key, image.contentType(), buffer, length);
+			} else {
+				uploadMultipart(key, image.contentType(), in, buffer, length);
+			}
+		}
+		return amazonS3.getUrl(bucket, key).toExternalForm();
+	}
+
+	/**
+	 * {@link #upload(ImageContent)} 로 올린 이미지를 읽는다. 이미지는 버킷 최상위에 "UUID.확장자" 로 저장되므로
+	 * URL 의 마지막 경로가 키이다. 스트림은 호출한 쪽에서 닫아야 한다.
+	 */
+	/**
+	 * @throws FileNotFoundException 버킷에 원본이 없을 때. 다른 S3 오류는 일시적일 수 있으므로 그대로 던진다
+	 */
+	public InputStream download(String url) throws IOException {
+		String key = url.substring(url.lastIndexOf('/') + 1);
+		try {
+			return amazonS3.getObject(bucket, key).getObjectContent();
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+				throw new FileNotFoundException("S3 에 원본 이미지가 없습니다: " + key);
+			}
+			throw e;
+		}
+	}
+
+	// 아직 넣지 않은 업로드를 풀이 받아 주는 만큼 이어서 넣는다
+	private void submitWhileAccepted(CompletionService<String> completionService, List<ImageContent> images,
+		Map<Future<String>, Integer> indexes) {
+		while (indexes.size() < images.size()) {
+			int index = indexes.size();
+			ImageContent image = images.get(index);
+			try {
+				indexes.put(completionService.submit(() -> upload(image)), index);
+			} catch (RejectedExecutionException e) {
+				return;
+			}
+		}
+	}
+
+	private String result(Future<String> upload) throws IOException, InterruptedException {
+		try {
+			return upload.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private void putObject(String key, String contentType, byte[] buffer, int length) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(length);
+		metadata.setContentType(contentType);
+		amazonS3.putObject(bucket, key, new ByteArrayInputStream(buffer, 0, length), metadata);
+	}
+
+	private void uploadMultipart(String key, String contentType, InputStream in, byte[] buffer, int firstLength)
+		throws IOException {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(contentType);
+		String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+			.getUploadId();
+
+		try {
+			List<PartETag> partETags = new ArrayList<>();
+			long uploaded = 0;
+			int length = firstLength;
+			while (length > 0) {
+				UploadPartRequest request = new UploadPartRequest()
+					.withBucketName(bucket)
+					.withKey(key)
+					.withUploadId(uploadId)
+					.withPartNumber(partETags.size() + 1)
+					.withInputStream(new ByteArrayInputStream(buffer, 0, length))
+					.withPartSize(length);
+				partETags.add(amazonS3.uploadPart(request).getPartETag());
+				uploaded += length;
+				length = readPart(in, buffer, uploaded);
+			}
+			amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+		} catch (IOException | RuntimeException e) {
+			// 완료하지 않은 멀티파트 업로드는 취소하지 않으면 올라간 파트만큼 저장 비용이 계속 나간다
+			amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+			throw e;
+		}
+	}
+
+	private int readPart(InputStream in, byte[] buffer, long uploaded) throws IOException {
+		int length = in.readNBytes(buffer, 0, buffer.length);
+		if (uploaded + length > maxSize) {
+			throw new CustomException(ErrorCode.STUDY_IMAGE_SIZE_TOO_BIG);
+		}
+		return length;
+	}
+}
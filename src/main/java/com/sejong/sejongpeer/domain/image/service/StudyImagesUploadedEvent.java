@@ -0,0 +1,9 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import java.util.List;
+
+/**
+ * 스터디 이미지 원본이 저장된 경우. 커밋 후 썸네일과 피드용 축소본을 만든다.
+ */
+public record StudyImagesUploadedEvent(List<Long> imageIds) {
+}
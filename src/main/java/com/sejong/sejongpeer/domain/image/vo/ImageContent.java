@@ -0,0 +1,56 @@
+package com.sejong.sejongpeer.domain.image.vo;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드할 이미지의 확장자와 디코딩된 바이트를 읽을 수 있는 스트림.
+ *
+ * <p>Base64 data URL 은 앞부분의 "data:image/png;base64," 만 먼저 읽어 확장자를 정하고,
+ * 나머지는 S3 로 보내면서 읽는 만큼만 디코딩한다. 전체 문자열이나 디코딩한 byte[] 를 메모리에 만들지 않는다.
+ */
+public record ImageContent(String extension, InputStream stream) {
+	private static final Pattern DATA_URL_PREFIX = Pattern.compile("^data:image/([a-zA-Z]+);base64,");
+	private static final int MAX_PREFIX_LENGTH = 64;
+	private static final String IMAGE_CONTENT_TYPE_PREFIX = "image/";
+
+	public static ImageContent fromDataUrl(InputStream dataUrl) throws IOException {
+		InputStream in = new BufferedInputStream(dataUrl);
+		in.mark(MAX_PREFIX_LENGTH);
+		byte[] head = in.readNBytes(MAX_PREFIX_LENGTH);
+
+		// 접두사가 없으면 기존처럼 확장자 없이 전체를 Base64 로 읽는다
+		String extension = "";
+		int prefixLength = 0;
+		Matcher matcher = DATA_URL_PREFIX.matcher(new String(head, StandardCharsets.US_ASCII));
+		if (matcher.find()) {
+			extension = matcher.group(1);
+			prefixLength = matcher.end();
+		}
+		in.reset();
+		in.skipNBytes(prefixLength);
+
+		// 줄바꿈이 섞인 본문(curl, base64 명령 출력 등)도 받을 수 있도록 MIME 디코더를 사용한다
+		return new ImageContent(extension, Base64.getMimeDecoder().wrap(in));
+	}
+
+	// 이미지 파일은 그대로 올리고, 그 외(text/plain 등)는 Base64 data URL 로 보고 디코딩한다
+	public static ImageContent from(MultipartFile file) throws IOException {
+		String contentType = file.getContentType();
+		if (contentType != null && contentType.startsWith(IMAGE_CONTENT_TYPE_PREFIX)) {
+			return new ImageContent(contentType.substring(IMAGE_CONTENT_TYPE_PREFIX.length()), file.getInputStream());
+		}
+		return fromDataUrl(file.getInputStream());
+	}
+
+	public String contentType() {
+		return IMAGE_CONTENT_TYPE_PREFIX + extension;
+	}
+}
@@ -3,10 +3,14 @@ package com.sejong.sejongpeer.domain.lecture.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.sejong.sejongpeer.domain.lecture.entity.Lecture;
 
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
 
 	List<Lecture> findAllByCollege(String college);
+
+	@Query("SELECT DISTINCT l.college FROM Lecture l")
+	List<String> findAllColleges();
 }
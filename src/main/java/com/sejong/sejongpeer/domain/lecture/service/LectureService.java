@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +21,7 @@ public class LectureService {
 
 	private final LectureRepository lectureRepository;
 
+	@Cacheable(cacheNames = "getLessonInfoByCollege", key = "#college")
 	@Transactional(readOnly = true)
 	public List<CollegeLectureProfessorResponse> getLessonInfoByColleage(String college) {
 		List<Lecture> lectures = lectureRepository.findAllByCollege(college);
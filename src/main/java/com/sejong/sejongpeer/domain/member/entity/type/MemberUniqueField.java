@@ -0,0 +1,22 @@
+package com.sejong.sejongpeer.domain.member.entity.type;
+
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원마다 달라야 하는 항목. 여러 항목이 겹칠 때 어느 항목의 오류를 알릴지는 검사하는 쪽에서 정한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum MemberUniqueField {
+	PHONE_NUMBER("휴대폰 번호", ErrorCode.DUPLICATED_PHONE_NUMBER),
+	ACCOUNT("아이디", ErrorCode.DUPLICATED_ACCOUNT),
+	STUDENT_ID("학번", ErrorCode.DUPLICATED_STUDENT_ID),
+	NICKNAME("닉네임", ErrorCode.DUPLICATED_NICKNAME),
+	KAKAO_ACCOUNT("카카오 계정", ErrorCode.DUPLICATED_KAKAO_ACCOUNT);
+
+	private final String value;
+	private final ErrorCode duplicatedErrorCode;
+}
@@ -3,12 +3,30 @@ package com.sejong.sejongpeer.domain.member.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sejong.sejongpeer.domain.member.entity.Member;
 
-public interface MemberRepository extends JpaRepository<Member, String> {
+public interface MemberRepository extends JpaRepository<Member, String>, MemberRepositoryCustom {
 	Optional<Member> findByAccount(String account);
 
+	// 로그인은 트랜잭션 밖에서 응답을 만들므로 응답에 필요한 전공도 함께 조회한다
+	@Query("SELECT m FROM Member m LEFT JOIN FETCH m.collegeMajor LEFT JOIN FETCH m.collegeMinor "
+		+ "WHERE m.account = :account")
+	Optional<Member> findWithCollegeMajorsByAccount(@Param("account") String account);
+
+	// 조회한 뒤 그 사이 비밀번호가 바뀌었다면 갱신하지 않는다
+	@Transactional
+	@Modifying
+	@Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :currentPassword")
+	int updatePasswordIfMatches(
+		@Param("id") String id,
+		@Param("currentPassword") String currentPassword,
+		@Param("newPassword") String newPassword);
+
 	boolean existsByStudentId(String studentId);
 
 	boolean existsByAccount(String account);
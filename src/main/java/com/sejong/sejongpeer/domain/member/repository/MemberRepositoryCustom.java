@@ -0,0 +1,27 @@
+package com.sejong.sejongpeer.domain.member.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+import com.sejong.sejongpeer.domain.member.vo.MemberUniqueValues;
+
+public interface MemberRepositoryCustom {
+	/**
+	 * 주어진 값 중 이미 다른 회원이 쓰고 있는 항목을 쿼리 한 번으로 모두 찾는다.
+	 *
+	 * @return 겹치는 항목, {@link MemberUniqueField} 선언 순서
+	 */
+	Set<MemberUniqueField> findDuplicatedFields(Map<MemberUniqueField, String> values);
+
+	Optional<MemberUniqueValues> findUniqueValues(String memberId);
+
+	/**
+	 * id 순서로 lastId 다음 회원부터 size 명의 값을 조회한다.
+	 *
+	 * @param lastId 이전 조회의 마지막 회원 id, 처음이면 null
+	 */
+	List<MemberUniqueValues> findUniqueValuesAfter(String lastId, int size);
+}
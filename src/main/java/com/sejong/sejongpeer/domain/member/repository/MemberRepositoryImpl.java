@@ -0,0 +1,94 @@
+package com.sejong.sejongpeer.domain.member.repository;
+
+import static com.sejong.sejongpeer.domain.member.entity.QMember.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+import com.sejong.sejongpeer.domain.member.vo.MemberUniqueValues;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+	private final JPAQueryFactory jpaQueryFactory;
+
+	/**
+	 * 각 항목의 일치 여부를 max(case when ...) 로 모아 한 행으로 돌려받는다.
+	 * where 절은 항목별 조건을 OR 로 묶어, 겹치는 회원 행만 읽는다.
+	 */
+	@Override
+	public Set<MemberUniqueField> findDuplicatedFields(Map<MemberUniqueField, String> values) {
+		Set<MemberUniqueField> duplicated = EnumSet.noneOf(MemberUniqueField.class);
+		if (values.isEmpty()) {
+			return duplicated;
+		}
+
+		List<MemberUniqueField> fields = List.copyOf(values.keySet());
+		BooleanBuilder anyMatches = new BooleanBuilder();
+		Expression<?>[] matches = new Expression<?>[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			StringPath path = pathOf(fields.get(i));
+			String value = values.get(fields.get(i));
+			anyMatches.or(path.eq(value));
+			matches[i] = new CaseBuilder().when(path.eq(value)).then(1).otherwise(0).max();
+		}
+
+		Tuple row = jpaQueryFactory.select(matches).from(member).where(anyMatches).fetchOne();
+		for (int i = 0; row != null && i < fields.size(); i++) {
+			if (Integer.valueOf(1).equals(row.get(i, Integer.class))) {
+				duplicated.add(fields.get(i));
+			}
+		}
+		return duplicated;
+	}
+
+	@Override
+	public Optional<MemberUniqueValues> findUniqueValues(String memberId) {
+		return Optional.ofNullable(jpaQueryFactory
+			.select(uniqueValues())
+			.from(member)
+			.where(member.id.eq(memberId))
+			.fetchOne());
+	}
+
+	@Override
+	public List<MemberUniqueValues> findUniqueValuesAfter(String lastId, int size) {
+		return jpaQueryFactory
+			.select(uniqueValues())
+			.from(member)
+			.where(lastId == null ? null : member.id.gt(lastId))
+			.orderBy(member.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	private Expression<MemberUniqueValues> uniqueValues() {
+		return Projections.constructor(MemberUniqueValues.class,
+			member.id, member.phoneNumber, member.account, member.studentId, member.nickname, member.kakaoAccount);
+	}
+
+	private StringPath pathOf(MemberUniqueField field) {
+		return switch (field) {
+			case PHONE_NUMBER -> member.phoneNumber;
+			case ACCOUNT -> member.account;
+			case STUDENT_ID -> member.studentId;
+			case NICKNAME -> member.nickname;
+			case KAKAO_ACCOUNT -> member.kakaoAccount;
+		};
+	}
+}
@@ -0,0 +1,7 @@
+package com.sejong.sejongpeer.domain.member.service;
+
+/**
+ * 회원 정보가 바뀌거나 탈퇴한 회원. 캐시된 회원 정보를 비우는 데 사용한다.
+ */
+public record MemberChangedEvent(String memberId) {
+}
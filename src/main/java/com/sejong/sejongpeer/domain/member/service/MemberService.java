@@ -1,7 +1,6 @@
 package com.sejong.sejongpeer.domain.member.service;
 
-import com.sejong.sejongpeer.domain.auth.entity.RefreshToken;
-import com.sejong.sejongpeer.domain.auth.repository.RefreshTokenRepository;
+import com.sejong.sejongpeer.domain.auth.service.RefreshTokenService;
 import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
 import com.sejong.sejongpeer.domain.college.repository.CollegeMajorRepository;
 import com.sejong.sejongpeer.domain.member.dto.request.AccountFindRequest;
@@ -13,16 +12,20 @@ import com.sejong.sejongpeer.domain.member.dto.response.ExistsCheckResponse;
 import com.sejong.sejongpeer.domain.member.dto.response.MemberInfoResponse;
 import com.sejong.sejongpeer.domain.member.entity.Member;
 import com.sejong.sejongpeer.domain.member.entity.type.MemberInfo;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
 import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 import com.sejong.sejongpeer.global.util.MemberUtil;
 import com.sejong.sejongpeer.global.util.SecurityUtil;
+import com.sejong.sejongpeer.security.util.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -30,41 +33,50 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class MemberService {
 	private final MemberRepository memberRepository;
-	private final RefreshTokenRepository refreshTokenRepository;
+	private final RefreshTokenService refreshTokenService;
 	private final CollegeMajorRepository collegeMajorRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	private final MemberUtil memberUtil;
 	private final SecurityUtil securityUtil;
 	private final MemberVerificationService memberVerificationService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MemberUniqueValueFilter memberUniqueValueFilter;
+	private final TransactionOperations transactionOperations;
 
+	// 해시 스레드를 기다리는 동안 DB 연결을 잡고 있지 않도록 중복 검사, 해시, 저장을 나누어 실행한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void signUp(SignUpRequest request) {
 		memberVerificationService.verifySignUp(request);
+		String encodedPassword = passwordHasher.encode(request.password());
 
-		Member member = createMember(request);
-		memberRepository.save(member);
+		Member member = transactionOperations.execute(status -> {
+			Member created = createMember(request, encodedPassword);
+			memberRepository.save(created);
+			eventPublisher.publishEvent(new MemberChangedEvent(created.getId()));
+			return created;
+		});
 
 		log.info("회원가입 완료: {}", member);
 	}
 
-	private Member createMember(SignUpRequest request) {
-		String encodedPassword = passwordEncoder.encode(request.password());
-
-		CollegeMajor collegeMajor =
-			collegeMajorRepository
-				.findByCollegeAndMajor(request.college(), request.major())
-				.orElseThrow(() -> new CustomException(ErrorCode.COLLEGE_NOT_FOUND));
+	private Member createMember(SignUpRequest request, String encodedPassword) {
+		CollegeMajor collegeMajor = getCollegeMajor(request.college(), request.major());
 
 		CollegeMajor collegeMinor = null;
 		if (request.hasSubMajor()) {
-			collegeMinor =
-				collegeMajorRepository
-					.findByCollegeAndMajor(request.subCollege(), request.subMajor())
-					.orElseThrow(() -> new CustomException(ErrorCode.COLLEGE_NOT_FOUND));
+			collegeMinor = getCollegeMajor(request.subCollege(), request.subMajor());
 		}
 
 		return Member.create(request, collegeMajor, collegeMinor, encodedPassword);
 	}
 
+	private CollegeMajor getCollegeMajor(String college, String major) {
+		return collegeMajorRepository
+			.findIdByCollegeAndMajor(college, major)
+			.map(collegeMajorRepository::getReferenceById)
+			.orElseThrow(() -> new CustomException(ErrorCode.COLLEGE_NOT_FOUND));
+	}
+
 	@Transactional(readOnly = true)
 	public MemberInfoResponse getMemberInfo() {
 		final Member currentMember = memberUtil.getCurrentMember();
@@ -75,6 +87,7 @@ public class MemberService {
 		final Member member = memberUtil.getCurrentMember();
 
 		updateMember(member, request);
+		eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
 	}
 
 	private void updateMember(Member member, MemberUpdateRequest request) {
@@ -94,26 +107,34 @@ public class MemberService {
 		return AccountFindResponse.of(member);
 	}
 
+	// 회원가입과 같은 이유로 해시는 트랜잭션 밖에서 한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void resetPassword(PasswordResetRequest request) {
-		Member member =
+		String memberId =
 			memberRepository
 				.findByAccountAndStudentId(request.account(), request.studentId())
-				.orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+				.orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND))
+				.getId();
 
 		if (!request.password().equals(request.passwordCheck())) {
 			throw new CustomException(ErrorCode.PASSWORD_NOT_MATCH);
 		}
 
-		member.changePassword(passwordEncoder.encode(request.password()));
+		String encodedPassword = passwordHasher.encode(request.password());
+		transactionOperations.executeWithoutResult(status -> {
+			Member member = memberRepository.findById(memberId)
+				.orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+			member.changePassword(encodedPassword);
+			eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+		});
 	}
 
 	public void deleteMember() {
 		final String memberId = securityUtil.getCurrentMemberId();
-		RefreshToken refreshToken = refreshTokenRepository.findByMemberId(memberId)
-			.orElseThrow(() -> new CustomException(
-				ErrorCode.UNAUTHORIZED));    // refresh token이 없다는 것은 로그인하지 않았단 뜻. 로그인 없이 회원탈퇴는 불가
-
-		refreshTokenRepository.delete(refreshToken);
+		// refresh token이 없다는 것은 로그인하지 않았단 뜻. 로그인 없이 회원탈퇴는 불가
+		if (!refreshTokenService.revoke(memberId)) {
+			throw new CustomException(ErrorCode.UNAUTHORIZED);
+		}
 
 		Member member =
 			memberRepository
@@ -121,25 +142,32 @@ public class MemberService {
 				.orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
 
 		memberRepository.delete(member);
+		eventPublisher.publishEvent(new MemberChangedEvent(memberId));
 	}
 
+	// 중복 확인은 입력할 때마다 호출되므로, 필터에 없는 값은 DB 를 조회하지 않고 바로 답한다
 	@Transactional(readOnly = true)
 	public ExistsCheckResponse checkAccountExists(String account) {
-		return ExistsCheckResponse.of(memberRepository.existsByAccount(account));
+		return ExistsCheckResponse.of(memberUniqueValueFilter.mightExist(MemberUniqueField.ACCOUNT, account)
+			&& memberRepository.existsByAccount(account));
 	}
 
 	@Transactional(readOnly = true)
 	public ExistsCheckResponse checkNicknameExists(String nickname) {
-		return ExistsCheckResponse.of(memberRepository.existsByNickname(nickname));
+		return ExistsCheckResponse.of(memberUniqueValueFilter.mightExist(MemberUniqueField.NICKNAME, nickname)
+			&& memberRepository.existsByNickname(nickname));
 	}
 
 	@Transactional(readOnly = true)
 	public ExistsCheckResponse checkPhoneNumberExists(String phoneNumber) {
-		return ExistsCheckResponse.of(memberRepository.existsByPhoneNumber(phoneNumber));
+		return ExistsCheckResponse.of(memberUniqueValueFilter.mightExist(MemberUniqueField.PHONE_NUMBER, phoneNumber)
+			&& memberRepository.existsByPhoneNumber(phoneNumber));
 	}
 
 	@Transactional(readOnly = true)
 	public ExistsCheckResponse checkKakaoAccountExists(String kakaoAccount) {
-		return ExistsCheckResponse.of(memberRepository.existsByKakaoAccount(kakaoAccount));
+		return ExistsCheckResponse.of(
+			memberUniqueValueFilter.mightExist(MemberUniqueField.KAKAO_ACCOUNT, kakaoAccount)
+				&& memberRepository.existsByKakaoAccount(kakaoAccount));
 	}
 }
@@ -0,0 +1,127 @@
+package com.sejong.sejongpeer.domain.member.service;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.domain.member.vo.MemberUniqueValues;
+import com.sejong.sejongpeer.global.util.BloomFilter;
+import com.sejong.sejongpeer.infra.config.properties.MemberUniqueFilterProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원가입 화면의 중복 확인 앞에 두는 {@link MemberUniqueField} 별 Bloom filter.
+ * 필터에 없는 값은 DB 를 조회하지 않고 사용 가능하다고 답한다.
+ *
+ * <p>가입과 정보 수정은 커밋 후 {@link MemberChangedEvent}로 필터에 더한다. 필터는 값을 뺄 수 없으므로
+ * 탈퇴나 수정으로 풀린 값은 DB 조회로 확인하고, 주기적으로 필터를 새로 만들어 정리한다.
+ * 다른 서버에서 가입한 값도 다시 만들 때 반영된다. 그 전까지는 사용 가능하다고 잘못 답할 수 있지만,
+ * 가입과 수정은 항상 DB 로 중복을 확인하므로 잘못 저장되지는 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberUniqueValueFilter {
+	private final MemberRepository memberRepository;
+	private final MemberUniqueFilterProperties properties;
+
+	private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+	private volatile Map<MemberUniqueField, BloomFilter> filters;
+	private volatile boolean rebuilding;
+
+	/**
+	 * @return false 이면 그 값을 쓰는 회원이 없다. 필터를 만들기 전에는 항상 true
+	 */
+	public boolean mightExist(MemberUniqueField field, String value) {
+		Map<MemberUniqueField, BloomFilter> current = filters;
+		return current == null || current.get(field).mightContain(normalize(value));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		rebuild();
+	}
+
+	@Scheduled(
+		initialDelayString = "${member.unique-filter.rebuild-delay-millis:600000}",
+		fixedDelayString = "${member.unique-filter.rebuild-delay-millis:600000}")
+	public synchronized void rebuild() {
+		long start = System.currentTimeMillis();
+		rebuilding = true;
+		try {
+			long expectedInsertions = Math.max(properties.expectedInsertions(), memberRepository.count() * 2);
+			Map<MemberUniqueField, BloomFilter> rebuilt = new EnumMap<>(MemberUniqueField.class);
+			for (MemberUniqueField field : MemberUniqueField.values()) {
+				rebuilt.put(field, new BloomFilter(expectedInsertions, properties.falsePositiveProbability()));
+			}
+
+			long count = 0;
+			String lastId = null;
+			List<MemberUniqueValues> members;
+			do {
+				members = memberRepository.findUniqueValuesAfter(lastId, properties.scanBatchSize());
+				members.forEach(values -> put(rebuilt, values));
+				count += members.size();
+				if (!members.isEmpty()) {
+					lastId = members.get(members.size() - 1).id();
+				}
+			} while (members.size() == properties.scanBatchSize());
+
+			filters = rebuilt;
+			log.info("회원 중복 확인 필터 생성 완료: {}명, {}ms", count, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.warn("회원 중복 확인 필터를 만들지 못해 이전 필터를 계속 사용합니다: {}", e.getMessage(), e);
+		} finally {
+			rebuilding = false;
+			// 읽는 동안 바뀐 회원은 새 필터에 빠졌을 수 있으므로 다시 더한다
+			changedDuringRebuild.forEach(this::add);
+			changedDuringRebuild.clear();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		if (rebuilding) {
+			changedDuringRebuild.add(event.memberId());
+		}
+		add(event.memberId());
+	}
+
+	private void add(String memberId) {
+		Map<MemberUniqueField, BloomFilter> current = filters;
+		if (current != null) {
+			memberRepository.findUniqueValues(memberId).ifPresent(values -> put(current, values));
+		}
+	}
+
+	private void put(Map<MemberUniqueField, BloomFilter> target, MemberUniqueValues values) {
+		target.forEach((field, filter) -> {
+			String value = values.get(field);
+			if (value != null) {
+				filter.put(normalize(value));
+			}
+		});
+	}
+
+	// MySQL 기본 collation 은 대소문자와 전각/반각을 구분하지 않으므로 같은 값으로 보이는 문자열을 하나로 모은다
+	private String normalize(String value) {
+		return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,14 +1,21 @@
 package com.sejong.sejongpeer.domain.member.service;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.sejong.sejongpeer.domain.member.dto.request.MemberUpdateRequest;
 import com.sejong.sejongpeer.domain.member.dto.request.SignUpRequest;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
 import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -20,11 +27,14 @@ public class MemberVerificationService {
 
 	public void verifySignUp(SignUpRequest request) {
 		verifyPassword(request.password(), request.passwordCheck());
-		verifyPhoneNumber(request.phoneNumber());
-		verifyAccount(request.account());
-		verifyStudentId(request.studentId());
-		verifyNickname(request.nickname());
-		verifyKakaoAccount(request.kakaoAccount());
+
+		Map<MemberUniqueField, String> values = new LinkedHashMap<>();
+		values.put(MemberUniqueField.PHONE_NUMBER, request.phoneNumber());
+		values.put(MemberUniqueField.ACCOUNT, request.account());
+		values.put(MemberUniqueField.STUDENT_ID, request.studentId());
+		values.put(MemberUniqueField.NICKNAME, request.nickname());
+		values.put(MemberUniqueField.KAKAO_ACCOUNT, request.kakaoAccount());
+		verifyNotDuplicated(values);
 	}
 
 	private void verifyPassword(String password, String passwordCheck) {
@@ -33,68 +43,42 @@ public class MemberVerificationService {
 		}
 	}
 
-	private void verifyPhoneNumber(String phoneNumber) {
-		if (existsPhoneNumber(phoneNumber)) {
-			throw new CustomException(ErrorCode.DUPLICATED_PHONE_NUMBER);
-		}
-	}
-
 	public boolean existsPhoneNumber(String phoneNumber) {
 		return memberRepository.existsByPhoneNumber(phoneNumber);
 	}
 
-	private void verifyAccount(String account) {
-		if (existsAccount(account)) {
-			throw new CustomException(ErrorCode.DUPLICATED_ACCOUNT);
-		}
-	}
-
-	private boolean existsAccount(String account) {
-		return memberRepository.existsByAccount(account);
-	}
-
-	private void verifyStudentId(String studentId) {
-		if (existsStudentId(studentId)) {
-			throw new CustomException(ErrorCode.DUPLICATED_STUDENT_ID);
-		}
-	}
-
-	private boolean existsStudentId(String studentId) {
-		return memberRepository.existsByStudentId(studentId);
-	}
-
-	private void verifyNickname(String nickname) {
-		if (existsNickname(nickname)) {
-			throw new CustomException(ErrorCode.DUPLICATED_NICKNAME);
-		}
-	}
-
 	public boolean existsNickname(String nickname) {
 		return memberRepository.existsByNickname(nickname);
 	}
 
-	private void verifyKakaoAccount(String kakaoAccount) {
-		if (existsKakaoAccount(kakaoAccount)) {
-			throw new CustomException(ErrorCode.DUPLICATED_KAKAO_ACCOUNT);
-		}
-	}
-
 	public boolean existsKakaoAccount(String kakaoAccount) {
 		return memberRepository.existsByKakaoAccount(kakaoAccount);
 	}
 
 	public void verifyUpdatable(MemberUpdateRequest request) {
 		// 원자성 보장을 위해 하나라도 잘못되거나 중복된 정보가 있으면 업데이트 되어서는 안됨
-		if (request.nickname() != null && existsNickname(request.nickname())) {
-			throw new CustomException(ErrorCode.DUPLICATED_NICKNAME);
+		// 여러 항목이 겹치면 닉네임, 휴대폰 번호, 카카오 계정 순서로 앞선 항목의 오류를 알린다
+		Map<MemberUniqueField, String> values = new LinkedHashMap<>();
+		if (request.nickname() != null) {
+			values.put(MemberUniqueField.NICKNAME, request.nickname());
 		}
-
-		if (request.phoneNumber() != null && existsPhoneNumber(request.phoneNumber())) {
-			throw new CustomException(ErrorCode.DUPLICATED_PHONE_NUMBER);
+		if (request.phoneNumber() != null) {
+			values.put(MemberUniqueField.PHONE_NUMBER, request.phoneNumber());
 		}
-
-		if (request.kakaoAccount() != null && existsKakaoAccount(request.kakaoAccount())) {
-			throw new CustomException(ErrorCode.DUPLICATED_KAKAO_ACCOUNT);
+		if (request.kakaoAccount() != null) {
+			values.put(MemberUniqueField.KAKAO_ACCOUNT, request.kakaoAccount());
 		}
+		verifyNotDuplicated(values);
+	}
+
+	// 겹치는 항목을 쿼리 한 번으로 모두 찾고, 그중 values 에 넣은 순서로 가장 앞선 항목의 오류를 알린다
+	private void verifyNotDuplicated(Map<MemberUniqueField, String> values) {
+		Set<MemberUniqueField> duplicated = memberRepository.findDuplicatedFields(values);
+		values.keySet().stream()
+			.filter(duplicated::contains)
+			.findFirst()
+			.ifPresent(field -> {
+				throw new CustomException(field.getDuplicatedErrorCode());
+			});
 	}
 }
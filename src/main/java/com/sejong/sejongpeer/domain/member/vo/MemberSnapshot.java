@@ -0,0 +1,37 @@
+package com.sejong.sejongpeer.domain.member.vo;
+
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+/**
+ * 로그인한 회원을 매 요청마다 조회하지 않도록 캐시해 두는 읽기 전용 회원 정보.
+ * 엔티티를 수정해야 하는 곳에서는 {@link com.sejong.sejongpeer.global.util.MemberUtil#getCurrentMember()}를 사용한다.
+ */
+public record MemberSnapshot(
+	String id,
+	String nickname,
+	String phoneNumber,
+	Gender gender,
+	String studentId,
+	Integer grade,
+	Long collegeMajorId,
+	Long collegeMinorId
+) {
+	public static MemberSnapshot from(Member member) {
+		return new MemberSnapshot(
+			member.getId(),
+			member.getNickname(),
+			member.getPhoneNumber(),
+			member.getGender(),
+			member.getStudentId(),
+			member.getGrade(),
+			idOf(member.getCollegeMajor()),
+			idOf(member.getCollegeMinor()));
+	}
+
+	// 지연 로딩 프록시의 id 는 초기화 없이 읽을 수 있다
+	private static Long idOf(CollegeMajor collegeMajor) {
+		return collegeMajor != null ? collegeMajor.getId() : null;
+	}
+}
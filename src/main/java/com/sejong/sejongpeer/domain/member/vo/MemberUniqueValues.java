@@ -0,0 +1,25 @@
+package com.sejong.sejongpeer.domain.member.vo;
+
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+
+/**
+ * 회원 한 명의 {@link MemberUniqueField} 값. 중복 확인용 필터를 채울 때 회원 엔티티 대신 이 값만 조회한다.
+ */
+public record MemberUniqueValues(
+	String id,
+	String phoneNumber,
+	String account,
+	String studentId,
+	String nickname,
+	String kakaoAccount
+) {
+	public String get(MemberUniqueField field) {
+		return switch (field) {
+			case PHONE_NUMBER -> phoneNumber;
+			case ACCOUNT -> account;
+			case STUDENT_ID -> studentId;
+			case NICKNAME -> nickname;
+			case KAKAO_ACCOUNT -> kakaoAccount;
+		};
+	}
+}
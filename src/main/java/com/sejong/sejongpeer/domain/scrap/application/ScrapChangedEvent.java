@@ -0,0 +1,7 @@
+package com.sejong.sejongpeer.domain.scrap.application;
+
+/**
+ * 스크랩이 추가(delta = 1)되거나 취소(delta = -1)된 게시글.
+ */
+public record ScrapChangedEvent(Long studyId, int delta) {
+}
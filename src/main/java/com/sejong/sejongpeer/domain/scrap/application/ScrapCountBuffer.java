@@ -0,0 +1,47 @@
+package com.sejong.sejongpeer.domain.scrap.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 아직 study.scrap_count 에 반영되지 않은 스크랩 수 증감을 게시글별로 모아 둔다.
+ *
+ * <p>스크랩이 몰리는 게시글도 요청마다 같은 행을 UPDATE 하지 않고, {@link ScrapCountSynchronizer}가
+ * 주기적으로 모인 증감을 한 번에 반영한다. ConcurrentHashMap 은 버킷 단위로 잠그므로
+ * 서로 다른 게시글의 증감은 경합하지 않는다.
+ */
+@Component
+public class ScrapCountBuffer {
+
+	private final ConcurrentHashMap<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+
+	// 스크랩 저장이 커밋된 뒤에만 반영해서 롤백된 스크랩이 집계되지 않도록 한다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onScrapChanged(ScrapChangedEvent event) {
+		add(event.studyId(), event.delta());
+	}
+
+	public void add(Long studyId, int delta) {
+		pendingDeltas.merge(studyId, delta, (current, added) -> current + added == 0 ? null : current + added);
+	}
+
+	public int pendingDelta(Long studyId) {
+		return pendingDeltas.getOrDefault(studyId, 0);
+	}
+
+	/** 모인 증감을 꺼내고 비운다. 꺼내는 동안 들어온 증감은 다음 번에 꺼내진다. */
+	public Map<Long, Integer> drain() {
+		Map<Long, Integer> drained = new HashMap<>();
+		for (Long studyId : pendingDeltas.keySet()) {
+			Integer delta = pendingDeltas.remove(studyId);
+			if (delta != null) {
+				drained.put(studyId, delta);
+			}
+		}
+		return drained;
+	}
+}
@@ -0,0 +1,139 @@
+package com.sejong.sejongpeer.domain.scrap.application;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot;
+import com.sejong.sejongpeer.infra.config.properties.ScrapCountProperties;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ScrapCountBuffer}에 모인 증감을 study.scrap_count 에 반영하고, 주기적으로 scrap 테이블과 맞춘다.
+ * 반영 전에 서버가 종료되는 등으로 생긴 차이는 보정 작업이 바로잡는다.
+ *
+ * <p>보정은 실제 개수로 덮어쓰지 않고 차이만큼 더한다. 어느 서버든 버퍼에 남은 증감은 이미 커밋된 스크랩이라
+ * 실제 개수에는 들어 있고 컬럼에는 아직 없다. 그 차이를 보정으로 채우면 증감이 반영될 때 한 번 더 세어진다.
+ * 그래서 차이가 있는 게시글을 모은 뒤 반영 주기보다 오래 기다렸다가 다시 읽고, 그 사이 컬럼과 실제 개수가
+ * 그대로인 게시글만, 이 서버 버퍼의 증감을 뺀 만큼 고친다.
+ * 보정은 서버가 뜰 때도 한 번 실행하므로, 컬럼이 기본값 0 으로 추가된 직후에도 새벽 보정을 기다리지 않고 채워진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScrapCountSynchronizer {
+	private static final String RECONCILE_JOB = "scrap-count-reconcile";
+
+	private final ScrapCountBuffer scrapCountBuffer;
+	private final StudyRepository studyRepository;
+	private final ScrapCountProperties scrapCountProperties;
+	private final SchedulerLockManager schedulerLockManager;
+
+	@Scheduled(fixedDelayString = "${scrap.count.flush-delay-millis:1000}")
+	public synchronized void flush() {
+		Map<Long, Integer> deltas = scrapCountBuffer.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		// 증감은 대부분 +1, -1 이므로 같은 증감끼리 묶어 IN 절 UPDATE 한 번으로 반영한다
+		Map<Integer, List<Long>> studyIdsByDelta = deltas.entrySet().stream()
+			.collect(Collectors.groupingBy(Map.Entry::getValue,
+				Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+		int batchSize = scrapCountProperties.flushBatchSize();
+		studyIdsByDelta.forEach((delta, studyIds) -> {
+			for (int from = 0; from < studyIds.size(); from += batchSize) {
+				List<Long> batch = studyIds.subList(from, Math.min(from + batchSize, studyIds.size()));
+				try {
+					studyRepository.addScrapCount(batch, delta);
+				} catch (RuntimeException e) {
+					log.error("스크랩 수 {}건 반영 실패, 다음 주기에 다시 반영합니다: {}", batch.size(), e.getMessage(), e);
+					batch.forEach(studyId -> scrapCountBuffer.add(studyId, delta));
+				}
+			}
+		});
+	}
+
+	@Scheduled(cron = "${scrap.count.reconcile-cron:0 30 4 * * *}")
+	public void reconcile() {
+		// 아직 반영하지 않은 증감을 먼저 비워 두면 차이가 있다고 잘못 모으는 게시글이 줄어든다
+		flush();
+		schedulerLockManager.runExclusively(RECONCILE_JOB, this::reconcileScrapCounts);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileOnStartup() {
+		try {
+			reconcile();
+		} catch (RuntimeException e) {
+			log.error("서버 시작 시 스크랩 수 보정 실패, 다음 보정 주기에 다시 맞춥니다: {}", e.getMessage(), e);
+		}
+	}
+
+	private void reconcileScrapCounts(SchedulerLease lease) {
+		Long maxId = studyRepository.findMaxId();
+		if (maxId == null) {
+			return;
+		}
+
+		Map<Long, ScrapCountSnapshot> suspects = new HashMap<>();
+		int chunkSize = scrapCountProperties.reconcileChunkSize();
+		for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+			studyRepository.findScrapCountMismatches(fromId, fromId + chunkSize)
+				.forEach(snapshot -> suspects.put(snapshot.studyId(), snapshot));
+		}
+		if (suspects.isEmpty()) {
+			return;
+		}
+
+		try {
+			Thread.sleep(scrapCountProperties.reconcileSettleMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		int corrected = 0;
+		List<Long> studyIds = List.copyOf(suspects.keySet());
+		for (int from = 0; from < studyIds.size(); from += chunkSize) {
+			List<Long> chunk = studyIds.subList(from, Math.min(from + chunkSize, studyIds.size()));
+			for (ScrapCountSnapshot snapshot : studyRepository.findScrapCounts(chunk)) {
+				corrected += correct(lease, suspects.get(snapshot.studyId()), snapshot);
+			}
+		}
+		if (corrected > 0) {
+			log.warn("스크랩 수가 실제와 달랐던 게시글 {}건을 보정했습니다.", corrected);
+		}
+	}
+
+	private int correct(SchedulerLease lease, ScrapCountSnapshot before, ScrapCountSnapshot now) {
+		// 기다리는 동안 반영되었거나 새로 스크랩된 게시글은 다음 보정에 맡긴다
+		if (!now.equals(before)) {
+			return 0;
+		}
+		// 버퍼는 다시 읽은 뒤에 본다. 그 사이 들어온 스크랩은 덜 고칠 뿐, 두 번 세지는 않는다
+		int drift = now.actualCount() - now.storedCount() - scrapCountBuffer.pendingDelta(now.studyId());
+		if (drift == 0) {
+			return 0;
+		}
+		return lease.fenced(() -> studyRepository.correctScrapCount(now.studyId(), now.storedCount(), drift));
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	public void flushOnShutdown() {
+		flush();
+	}
+}
@@ -7,6 +7,7 @@ import com.sejong.sejongpeer.domain.scrap.dto.response.StudyScrapCreateResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostResponse;
 import com.sejong.sejongpeer.domain.study.service.StudyService;
 import com.sejong.sejongpeer.global.util.SecurityUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,15 +33,16 @@ public class ScrapService {
 	private final StudyService studyService;
 	private final MemberUtil memberUtil;
 	private final SecurityUtil securityUtil;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Long getScrapCountByStudyPost(final Long studyId) {
 		Study study = studyRepository.findById(studyId).orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
 
-		return scrapRepository.countByStudy(study);
+		return (long)studyService.getScrapCountByStudy(study);
 	}
 
 	public StudyScrapCreateResponse createScrap(Long studyId) {
-		final Member loginMember = memberUtil.getCurrentMember();
+		final Member loginMember = memberUtil.getCurrentMemberReference();
 
 		Study study = studyRepository.findById(studyId).orElseThrow(
 			() -> new CustomException(ErrorCode.STUDY_NOT_FOUND)
@@ -55,6 +57,7 @@ public class ScrapService {
 
 		Scrap newScrap = Scrap.createScrap(ScrapType.STUDY, loginMember, study);
 		scrapRepository.save(newScrap);
+		eventPublisher.publishEvent(new ScrapChangedEvent(studyId, 1));
 
 		return StudyScrapCreateResponse.from(newScrap);
 	}
@@ -67,10 +70,11 @@ public class ScrapService {
 		);
 
 		scrapRepository.delete(scrap);
+		eventPublisher.publishEvent(new ScrapChangedEvent(studyId, -1));
 	}
 
 	public List<StudyTotalPostResponse> getAllMyScrapStudyPosts() {
-		final Member loginMember = memberUtil.getCurrentMember();
+		final Member loginMember = memberUtil.getCurrentMemberReference();
 
 		List<Scrap> myAllScraps = scrapRepository.findAllByMember(loginMember);
 
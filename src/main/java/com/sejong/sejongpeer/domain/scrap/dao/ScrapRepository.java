@@ -13,8 +13,6 @@ import com.sejong.sejongpeer.domain.study.entity.Study;
 public interface ScrapRepository extends JpaRepository<Scrap, Long> {
 	List<Scrap> findByTypeAndStudy(ScrapType type, Study study);
 
-	Long countByStudy(Study study);
-
 	List<Scrap> findAllByMember(Member member);
 
 	boolean existsByMemberAndStudy(Member member, Study study);
@@ -3,11 +3,11 @@ package com.sejong.sejongpeer.domain.study.api;
 import java.util.List;
 
 import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 import com.sejong.sejongpeer.domain.study.dto.request.StudyPostSearchRequest;
 import com.sejong.sejongpeer.domain.study.dto.request.StudyUpdateRequest;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyPostInfoResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostResponse;
 import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
@@ -38,12 +38,15 @@ public class StudyController {
 		studyService.deleteStudy(studyId);
 	}
 
-	@Operation(summary = "게시글 목록 조회", description = "학교 수업 스터디 혹은 수업 외 활동 게시글 전체 목록을 반환합니다.")
+	@Operation(summary = "게시글 목록 조회",
+		description = "학교 수업 스터디 혹은 수업 외 활동 게시글을 최신순으로 반환합니다. "
+			+ "다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다. size 는 최대 50입니다.")
 	@GetMapping("/post")
-	public Slice<StudyTotalPostResponse> getAllStudyPost(
+	public StudyFeedResponse<StudyTotalPostResponse> getAllStudyPost(
 		@RequestParam(name = "studyType") StudyType studyType,
-		@RequestParam(defaultValue = "0") int page) {
-		return studyService.getAllStudyPost(studyType, page);
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		return studyService.getAllStudyPost(studyType, cursor, size);
 	}
 
 	@Operation(summary = "게시글 단건 상세 조회", description = "게시글 목록 조회에서 리턴 받은 각 게시글 id에 해당하는 게시글의 세부 정보를 반환합니다.")
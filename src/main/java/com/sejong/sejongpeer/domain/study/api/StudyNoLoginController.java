@@ -1,5 +1,6 @@
 package com.sejong.sejongpeer.domain.study.api;
 
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyPostInfoNoLoginResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyPostInfoResponse;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostNoLoginResponse;
@@ -8,7 +9,6 @@ import com.sejong.sejongpeer.domain.study.service.StudyNoLoginService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "5-3. [비로그인 유저를 위한 스터디]", description = "로그인하지 않은 유저를 위한 게시글 조회 API입니다.")
@@ -19,12 +19,15 @@ public class StudyNoLoginController {
 
 	private final StudyNoLoginService studyNoLoginService;
 
-	@Operation(summary = "게시글 목록 조회", description = "토큰 없이 게시글 전체 목록을 조회합니다.")
+	@Operation(summary = "게시글 목록 조회",
+		description = "토큰 없이 게시글 목록을 최신순으로 조회합니다. "
+			+ "다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다. size 는 최대 50입니다.")
 	@GetMapping("/post")
-	public Slice<StudyTotalPostNoLoginResponse> getAllStudyPostWithoutLogin(
+	public StudyFeedResponse<StudyTotalPostNoLoginResponse> getAllStudyPostWithoutLogin(
 		@RequestParam(name = "studyType") StudyType studyType,
-		@RequestParam(defaultValue = "0") int page) {
-		return studyNoLoginService.getAllStudyPostWithoutLogin(studyType, page);
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		return studyNoLoginService.getAllStudyPostWithoutLogin(studyType, cursor, size);
 	}
 
 	@Operation(summary = "게시글 단건 상세 조회", description = "토큰 없이 게시글 상세 정보를 조회합니다.")
@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.domain.study.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달할 값, 마지막 페이지이면 null
+ */
+public record StudyFeedResponse<T>(
+	List<T> posts,
+	boolean hasNext,
+	String nextCursor
+) {
+	public <R> StudyFeedResponse<R> map(Function<T, R> mapper) {
+		return new StudyFeedResponse<>(posts.stream().map(mapper).toList(), hasNext, nextCursor);
+	}
+}
@@ -1,9 +1,11 @@
 package com.sejong.sejongpeer.domain.study.dto.response;
 
+import com.sejong.sejongpeer.domain.image.entity.Image;
 import com.sejong.sejongpeer.domain.study.entity.Study;
 import com.sejong.sejongpeer.domain.study.entity.StudyTagMap;
 import com.sejong.sejongpeer.domain.study.entity.Tag;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,6 +15,7 @@ public record StudyTotalPostResponse(
 	String createdAt,
 	String recruitmentEndAt,
 	boolean hasImage,
+	String thumbnailUrl,
 	String recruitmentStatus,
 	Integer participantCount,
 	Integer totalRecruitmentCount,
@@ -21,6 +24,11 @@ public record StudyTotalPostResponse(
 	List<String> tags,
 	boolean isScraped
 ) {
+	public StudyTotalPostResponse withScrapCount(int scrapCount) {
+		return new StudyTotalPostResponse(id, title, createdAt, recruitmentEndAt, hasImage, thumbnailUrl,
+			recruitmentStatus, participantCount, totalRecruitmentCount, categoryName, scrapCount, tags, isScraped);
+	}
+
 	public static StudyTotalPostResponse fromLectureStudy(Study study, String lectureName, int scrapCount, boolean isScraped) {
 		boolean hasImage = !study.getImages().isEmpty();
 		return new StudyTotalPostResponse(
@@ -29,6 +37,7 @@ public record StudyTotalPostResponse(
 			study.getCreatedAt().toString().substring(0, 10),
 			study.getRecruitmentEndAt().toString().substring(0, 10),
 			hasImage,
+			thumbnailUrlOf(study),
 			study.getRecruitmentStatus().getValue(),
 			study.getParticipantsCount(),
 			study.getRecruitmentCount(),
@@ -47,6 +56,7 @@ public record StudyTotalPostResponse(
 			study.getCreatedAt().toString().substring(0, 10),
 			study.getRecruitmentEndAt().toString().substring(0, 10),
 			hasImage,
+			thumbnailUrlOf(study),
 			study.getRecruitmentStatus().getValue(),
 			study.getParticipantsCount(),
 			study.getRecruitmentCount(),
@@ -56,5 +66,12 @@ public record StudyTotalPostResponse(
 			isScraped
 		);
 	}
-}
 
+	// 첫 번째 이미지의 가장 작은 URL. 축소본이 아직 없으면 원본을 내려준다
+	private static String thumbnailUrlOf(Study study) {
+		return study.getImages().stream()
+			.min(Comparator.comparing(Image::getId))
+			.map(Image::getSmallestUrl)
+			.orElse(null);
+	}
+}
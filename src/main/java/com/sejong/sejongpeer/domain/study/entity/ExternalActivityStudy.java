@@ -7,15 +7,20 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(
+	name = "idx_external_activity_study_external_activity_id_study_id",
+	columnList = "external_activity_id, study_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ExternalActivityStudy extends BaseAuditEntity {
@@ -11,6 +11,7 @@ import com.sejong.sejongpeer.domain.image.entity.Image;
 import com.sejong.sejongpeer.domain.study.entity.type.Frequency;
 import com.sejong.sejongpeer.domain.study.entity.type.StudyMethod;
 import com.sejong.sejongpeer.domain.studyrelation.entity.StudyRelation;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 import com.sejong.sejongpeer.domain.common.BaseAuditEntity;
@@ -32,9 +33,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -43,6 +46,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+	@Index(name = "idx_study_type_created_at_id", columnList = "type, created_at, id"),
+	@Index(name = "idx_study_updated_at", columnList = "updated_at")
+})
 public class Study extends BaseAuditEntity {
 
 	@Id
@@ -95,6 +102,12 @@ public class Study extends BaseAuditEntity {
 	@Enumerated(EnumType.STRING)
 	private ImageUploadStatus uploadStatus;
 
+	// 엔티티 수정 시 덮어쓰지 않도록 updatable = false, 값은 ScrapCountSynchronizer 의 UPDATE 쿼리로만 바뀐다
+	@Comment("스크랩 수")
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private int scrapCount;
+
 	@Comment("모집 시작 기간")
 	private LocalDateTime recruitmentStartAt;
 
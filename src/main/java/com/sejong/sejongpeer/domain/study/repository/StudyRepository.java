@@ -2,25 +2,62 @@ package com.sejong.sejongpeer.domain.study.repository;
 
 import com.sejong.sejongpeer.domain.member.entity.Member;
 import com.sejong.sejongpeer.domain.study.entity.Study;
+import com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot;
 
-import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryCustom, JpaSpecificationExecutor<Study> {
 
-	Slice<Study> findByTypeAndCreatedAtBetween(StudyType studyType, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
-
-	Long countByTypeAndCreatedAtBetween(StudyType studyType, LocalDateTime startDate, LocalDateTime endDate);
-
 	Page<Study> findAll(Specification<Study> spec, Pageable pageable);
 
 	Optional<Study> findByMemberAndId(Member member, Long studyId);
+
+	@Query("select max(s.id) from Study s")
+	Long findMaxId();
+
+	@Transactional
+	@Modifying
+	@Query("update Study s set s.scrapCount = s.scrapCount + :delta where s.id in :studyIds")
+	int addScrapCount(@Param("studyIds") Collection<Long> studyIds, @Param("delta") int delta);
+
+	// (fromId, toId] 범위에서 scrap_count 가 scrap 테이블 기준 개수와 다른 게시글
+	@Query("""
+		select new com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot(s.id, s.scrapCount,
+			(select cast(count(sc) as Integer) from Scrap sc where sc.study = s))
+		from Study s
+		where s.id > :fromId and s.id <= :toId
+		and s.scrapCount <> (select cast(count(sc) as Integer) from Scrap sc where sc.study = s)
+		""")
+	List<ScrapCountSnapshot> findScrapCountMismatches(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+	@Query("""
+		select new com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot(s.id, s.scrapCount,
+			(select cast(count(sc) as Integer) from Scrap sc where sc.study = s))
+		from Study s
+		where s.id in :studyIds
+		""")
+	List<ScrapCountSnapshot> findScrapCounts(@Param("studyIds") Collection<Long> studyIds);
+
+	// 읽은 뒤 다른 반영이 없었을 때만 차이만큼 더한다. 덮어쓰지 않으므로 아직 반영되지 않은 증감은 그대로 유효하다
+	@Transactional
+	@Modifying
+	@Query("""
+		update Study s set s.scrapCount = s.scrapCount + :drift
+		where s.id = :studyId and s.scrapCount = :storedCount
+		""")
+	int correctScrapCount(@Param("studyId") Long studyId, @Param("storedCount") int storedCount,
+		@Param("drift") int drift);
 }
@@ -1,9 +1,40 @@
 package com.sejong.sejongpeer.domain.study.repository;
 
-import com.sejong.sejongpeer.domain.study.entity.Study;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Slice;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostResponse;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.search.StudySearchDocument;
+import com.sejong.sejongpeer.domain.study.vo.StudyFeedCursor;
 
 public interface StudyRepositoryCustom {
-	Slice<Study> findStudySlice(int size, Long lastId);
+	/**
+	 * 게시글 목록을 카테고리 이름, 스크랩 수, 스크랩 여부와 함께 (작성일시, id) 내림차순으로 조회한다.
+	 * 태그 조회까지 포함해 최대 두 번의 쿼리로 끝난다.
+	 *
+	 * @param cursor 이전 페이지의 마지막 게시글 위치, 첫 페이지이면 null
+	 * @param viewerId 조회하는 회원 id, 비로그인이면 null 이며 isScraped 는 항상 false
+	 */
+	StudyFeedResponse<StudyTotalPostResponse> findStudyFeed(
+		StudyType studyType, StudyFeedCursor cursor, int size, String viewerId);
+
+	/**
+	 * 주어진 id 의 게시글 목록 응답을 id 순서대로 조회한다. findStudyFeed 와 같은 projection 을 사용한다.
+	 */
+	List<StudyTotalPostResponse> findStudyPosts(List<Long> studyIds, String viewerId);
+
+	/**
+	 * 검색 색인을 만들기 위해 id 오름차순으로 lastId 다음 게시글부터 size 개를 조회한다.
+	 */
+	List<StudySearchDocument> findSearchDocuments(Long lastId, int size);
+
+	/**
+	 * 다른 인스턴스에서 바뀐 게시글을 색인에 반영하기 위해 since 이후에 수정된 게시글을 findSearchDocuments 처럼 나누어 조회한다.
+	 */
+	List<StudySearchDocument> findSearchDocumentsUpdatedSince(LocalDateTime since, Long lastId, int size);
+
+	Optional<StudySearchDocument> findSearchDocument(Long studyId);
 }
@@ -1,53 +1,212 @@
 package com.sejong.sejongpeer.domain.study.repository;
 
+import static com.sejong.sejongpeer.domain.externalactivity.entity.QExternalActivity.*;
+import static com.sejong.sejongpeer.domain.image.entity.QImage.*;
+import static com.sejong.sejongpeer.domain.lecture.entity.QLecture.*;
+import static com.sejong.sejongpeer.domain.scrap.entity.QScrap.*;
+import static com.sejong.sejongpeer.domain.study.entity.QExternalActivityStudy.*;
+import static com.sejong.sejongpeer.domain.study.entity.QLectureStudy.*;
 import static com.sejong.sejongpeer.domain.study.entity.QStudy.*;
+import static com.sejong.sejongpeer.domain.study.entity.QStudyTagMap.*;
+import static com.sejong.sejongpeer.domain.study.entity.QTag.*;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sejong.sejongpeer.domain.study.entity.Study;
-
-import java.util.List;
+import com.sejong.sejongpeer.domain.image.entity.QImage;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostResponse;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.search.StudySearchDocument;
+import com.sejong.sejongpeer.domain.study.vo.StudyFeedCursor;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
-import org.springframework.stereotype.Repository;
-
 @Repository
 @RequiredArgsConstructor
 public class StudyRepositoryImpl implements StudyRepositoryCustom {
 	private final JPAQueryFactory jpaQueryFactory;
 
 	@Override
-	public Slice<Study> findStudySlice(int size, Long lastId) {
-		List<Study> studies =
-			jpaQueryFactory
-				.selectFrom(study)
-				.where(ltStudyId(lastId))
-				.orderBy(study.id.desc())
+	public StudyFeedResponse<StudyTotalPostResponse> findStudyFeed(
+		StudyType studyType, StudyFeedCursor cursor, int size, String viewerId) {
+		StudyPostProjection projection = new StudyPostProjection(viewerId);
+		List<Tuple> rows =
+			projection.query()
+				.where(study.type.eq(studyType), afterCursor(cursor))
+				.orderBy(study.createdAt.desc(), study.id.desc())
 				.limit((long)size + 1)
 				.fetch();
-		return checkLastPage(size, studies);
+
+		// 조회한 결과 개수가 요청한 페이지 사이즈보다 크면 뒤에 더 있음, next = true
+		boolean hasNext = rows.size() > size;
+		String nextCursor = null;
+		if (hasNext) {
+			rows = rows.subList(0, size);
+			Tuple last = rows.get(size - 1);
+			nextCursor = new StudyFeedCursor(last.get(study.createdAt), last.get(study.id)).encode();
+		}
+		return new StudyFeedResponse<>(projection.toResponses(rows), hasNext, nextCursor);
+	}
+
+	@Override
+	public List<StudyTotalPostResponse> findStudyPosts(List<Long> studyIds, String viewerId) {
+		if (studyIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		StudyPostProjection projection = new StudyPostProjection(viewerId);
+		Map<Long, StudyTotalPostResponse> posts = projection.toResponses(
+				projection.query().where(study.id.in(studyIds)).fetch())
+			.stream()
+			.collect(Collectors.toMap(StudyTotalPostResponse::id, Function.identity()));
+
+		return studyIds.stream().map(posts::get).filter(Objects::nonNull).toList();
+	}
+
+	@Override
+	public List<StudySearchDocument> findSearchDocuments(Long lastId, int size) {
+		return findSearchDocuments(lastId == null ? null : study.id.gt(lastId), size);
+	}
+
+	@Override
+	public List<StudySearchDocument> findSearchDocumentsUpdatedSince(LocalDateTime since, Long lastId, int size) {
+		return findSearchDocuments(study.updatedAt.goe(since).and(lastId == null ? null : study.id.gt(lastId)), size);
 	}
 
-	private BooleanExpression ltStudyId(Long lastId) {
-		if (lastId == null) {
+	@Override
+	public Optional<StudySearchDocument> findSearchDocument(Long studyId) {
+		return findSearchDocuments(study.id.eq(studyId), 1).stream().findFirst();
+	}
+
+	private List<StudySearchDocument> findSearchDocuments(BooleanExpression condition, int size) {
+		List<Tuple> rows =
+			jpaQueryFactory
+				.select(study.id, study.type, study.title, study.content, study.createdAt)
+				.from(study)
+				.where(condition)
+				.orderBy(study.id.asc())
+				.limit(size)
+				.fetch();
+
+		Map<Long, List<String>> tagNames = findTagNames(rows.stream().map(row -> row.get(study.id)).toList());
+
+		return rows.stream()
+			.map(row -> new StudySearchDocument(
+				row.get(study.id),
+				row.get(study.type),
+				row.get(study.title),
+				row.get(study.content),
+				tagNames.getOrDefault(row.get(study.id), Collections.emptyList()),
+				row.get(study.createdAt)))
+			.toList();
+	}
+
+	// (type, created_at, id) 인덱스를 따라 커서 다음 위치부터 읽는다
+	private BooleanExpression afterCursor(StudyFeedCursor cursor) {
+		if (cursor == null) {
 			return null;
 		}
-		return study.id.lt(lastId);
+		return study.createdAt.lt(cursor.createdAt())
+			.or(study.createdAt.eq(cursor.createdAt()).and(study.id.lt(cursor.id())));
+	}
+
+	private Map<Long, List<String>> findTagNames(List<Long> studyIds) {
+		if (studyIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return jpaQueryFactory
+			.select(studyTagMap.study.id, tag.name)
+			.from(studyTagMap)
+			.join(studyTagMap.tag, tag)
+			.where(studyTagMap.study.id.in(studyIds))
+			.orderBy(studyTagMap.id.asc())
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(
+				row -> row.get(studyTagMap.study.id),
+				Collectors.mapping(row -> row.get(tag.name), Collectors.toUnmodifiableList())));
 	}
 
-	private Slice<Study> checkLastPage(int size, List<Study> result) {
-		boolean hasNext = false;
+	/**
+	 * 게시글 목록 응답에 필요한 컬럼을 한 번에 조회하는 projection.
+	 * 카테고리 이름은 join, 이미지 및 스크랩 여부와 대표 이미지 URL 은 상관 서브쿼리로 가져오고 태그만 별도 쿼리로 조회한다.
+	 * 스크랩 수는 study.scrap_count 컬럼을 그대로 읽는다.
+	 */
+	private final class StudyPostProjection {
+		private final QImage firstImage = new QImage("firstImage");
+		private final Expression<String> categoryName = lecture.name.coalesce(externalActivity.name);
+		private final Expression<Boolean> hasImage =
+			existsAsBoolean(JPAExpressions.selectOne().from(image).where(image.study.eq(study)).exists());
+		// 첫 번째 이미지의 썸네일, 아직 변환 전이면 원본
+		private final Expression<String> thumbnailUrl = JPAExpressions
+			.select(image.thumbnailUrl.coalesce(image.imgUrl))
+			.from(image)
+			.where(image.id.eq(JPAExpressions.select(firstImage.id.min()).from(firstImage)
+				.where(firstImage.study.eq(study))));
+		private final Expression<Boolean> isScraped;
 
-		// 조회한 결과 개수가 요청한 페이지 사이즈보다 크면 뒤에 더 있음, next = true
-		if (result.size() > size) {
-			hasNext = true;
-			result.remove(size);
+		private StudyPostProjection(String viewerId) {
+			this.isScraped = viewerId == null
+				? Expressions.FALSE
+				: existsAsBoolean(JPAExpressions.selectOne().from(scrap)
+					.where(scrap.study.eq(study), scrap.member.id.eq(viewerId)).exists());
+		}
+
+		private JPAQuery<Tuple> query() {
+			return jpaQueryFactory
+				.select(study.id, study.title, study.createdAt, study.recruitmentEndAt, study.recruitmentStatus,
+					study.participantsCount, study.recruitmentCount, categoryName, study.scrapCount,
+					hasImage, thumbnailUrl, isScraped)
+				.from(study)
+				.leftJoin(lectureStudy).on(lectureStudy.study.eq(study))
+				.leftJoin(lectureStudy.lecture, lecture)
+				.leftJoin(externalActivityStudy).on(externalActivityStudy.study.eq(study))
+				.leftJoin(externalActivityStudy.externalActivity, externalActivity);
 		}
-		Pageable pageable = Pageable.unpaged();
-		return new SliceImpl<>(result, pageable, hasNext);
+
+		private List<StudyTotalPostResponse> toResponses(List<Tuple> rows) {
+			Map<Long, List<String>> tagNames = findTagNames(rows.stream().map(row -> row.get(study.id)).toList());
+
+			return rows.stream()
+				.map(row -> new StudyTotalPostResponse(
+					row.get(study.id),
+					row.get(study.title),
+					toDateString(row.get(study.createdAt)),
+					toDateString(row.get(study.recruitmentEndAt)),
+					Boolean.TRUE.equals(row.get(hasImage)),
+					row.get(thumbnailUrl),
+					row.get(study.recruitmentStatus).getValue(),
+					row.get(study.participantsCount),
+					row.get(study.recruitmentCount),
+					row.get(categoryName),
+					row.get(study.scrapCount),
+					tagNames.getOrDefault(row.get(study.id), Collections.emptyList()),
+					Boolean.TRUE.equals(row.get(isScraped))))
+				.toList();
+		}
+	}
+
+	private Expression<Boolean> existsAsBoolean(BooleanExpression exists) {
+		return new CaseBuilder().when(exists).then(true).otherwise(false);
+	}
+
+	private String toDateString(LocalDateTime dateTime) {
+		return dateTime == null ? null : dateTime.toLocalDate().toString();
 	}
 }
@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.sejong.sejongpeer.domain.study.entity.StudyTagMap;
 
-public interface StudyTagMapRepository extends JpaRepository<StudyTagMap, Long> {
+public interface StudyTagMapRepository extends JpaRepository<StudyTagMap, Long>, StudyTagMapRepositoryCustom {
 }
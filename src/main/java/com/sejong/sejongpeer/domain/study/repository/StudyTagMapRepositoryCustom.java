@@ -0,0 +1,11 @@
+package com.sejong.sejongpeer.domain.study.repository;
+
+import java.util.Collection;
+
+public interface StudyTagMapRepositoryCustom {
+	/**
+	 * 스터디와 태그의 연결을 JDBC batch insert 한 번으로 저장한다.
+	 * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 읽은 {@code Study.studyTagMaps} 에는 반영되지 않는다.
+	 */
+	void insertAll(Long studyId, Collection<Long> tagIds);
+}
@@ -0,0 +1,31 @@
+package com.sejong.sejongpeer.domain.study.repository;
+
+import java.util.Collection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * study_tag_map 의 id 는 IDENTITY 라서 Hibernate 는 INSERT 를 batch 로 묶지 못한다. 그래서 JDBC batch 로 직접 저장한다.
+ * MySQL 에서는 rewriteBatchedStatements 옵션으로 batch 가 multi-row INSERT 하나로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyTagMapRepositoryImpl implements StudyTagMapRepositoryCustom {
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void insertAll(Long studyId, Collection<Long> tagIds) {
+		if (tagIds.isEmpty()) {
+			return;
+		}
+
+		jdbcTemplate.batchUpdate("insert into study_tag_map (study_id, tag_id) values (?, ?)",
+			tagIds, tagIds.size(), (ps, tagId) -> {
+				ps.setLong(1, studyId);
+				ps.setLong(2, tagId);
+			});
+	}
+}
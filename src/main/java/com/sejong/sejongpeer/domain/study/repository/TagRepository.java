@@ -1,12 +1,29 @@
 package com.sejong.sejongpeer.domain.study.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sejong.sejongpeer.domain.study.entity.Tag;
 
-public interface TagRepository extends JpaRepository<Tag, Long> {
+import jakarta.persistence.LockModeType;
+
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 	Optional<Tag> findByName(String name);
 	Optional<Tag> findByHashedName(String hashedName);  // 해시값으로 태그를 찾는 메소드
+
+	List<Tag> findAllByHashedNameIn(Collection<String> hashedNames);
+
+	/**
+	 * {@link #insertIgnoringDuplicates} 직후에 사용한다. MySQL 의 REPEATABLE READ 에서 일반 SELECT 는
+	 * 트랜잭션 시작 시점의 스냅샷을 읽어 다른 트랜잭션이 방금 만든 태그를 보지 못하므로, 잠금 읽기로 최신 행을 읽는다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select t from Tag t where t.hashedName in :hashedNames")
+	List<Tag> findAllLatestByHashedNameIn(@Param("hashedNames") Collection<String> hashedNames);
 }
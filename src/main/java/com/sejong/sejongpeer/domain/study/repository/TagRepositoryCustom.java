@@ -0,0 +1,12 @@
+package com.sejong.sejongpeer.domain.study.repository;
+
+import java.util.Map;
+
+public interface TagRepositoryCustom {
+	/**
+	 * 태그들을 INSERT 한 번으로 저장한다. 같은 해시값의 태그가 이미 있으면 건너뛴다.
+	 *
+	 * @param namesByHashedName 해시값별 태그 이름
+	 */
+	void insertIgnoringDuplicates(Map<String, String> namesByHashedName);
+}
@@ -0,0 +1,35 @@
+package com.sejong.sejongpeer.domain.study.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+	private final JdbcTemplate jdbcTemplate;
+
+	// 동시에 같은 태그를 만드는 요청이 있어도 uk_tag_hashed_name 덕분에 한 건만 남는다
+	@Override
+	public void insertIgnoringDuplicates(Map<String, String> namesByHashedName) {
+		if (namesByHashedName.isEmpty()) {
+			return;
+		}
+
+		List<Object> args = new ArrayList<>(namesByHashedName.size() * 2);
+		namesByHashedName.forEach((hashedName, name) -> {
+			args.add(name);
+			args.add(hashedName);
+		});
+		jdbcTemplate.update("insert into tag (name, hashed_name) values "
+				+ String.join(", ", Collections.nCopies(namesByHashedName.size(), "(?, ?)"))
+				+ " on duplicate key update id = id",
+			args.toArray());
+	}
+}
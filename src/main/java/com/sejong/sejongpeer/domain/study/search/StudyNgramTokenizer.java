@@ -0,0 +1,68 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글은 형태소 분석 없이도 부분 검색이 되도록 글자 단위 n-gram 으로 나눈다.
+ *
+ * <p>문서는 단어마다 1-gram 과 2-gram 을 모두 만들고, 검색어는 두 글자 이상이면 2-gram, 한 글자이면 1-gram 만 만든다.
+ * 검색어의 모든 gram 을 포함한 문서만 결과가 되므로 기존 LIKE '%검색어%' 와 거의 같은 결과를 돌려준다.
+ */
+public final class StudyNgramTokenizer {
+
+	private StudyNgramTokenizer() {
+	}
+
+	public static List<String> tokenizeDocument(String text) {
+		List<String> grams = new ArrayList<>();
+		for (String word : words(text)) {
+			for (int i = 0; i < word.length(); i++) {
+				grams.add(word.substring(i, i + 1));
+				if (i + 1 < word.length()) {
+					grams.add(word.substring(i, i + 2));
+				}
+			}
+		}
+		return grams;
+	}
+
+	public static Set<String> tokenizeQuery(String query) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String word : words(query)) {
+			if (word.length() == 1) {
+				grams.add(word);
+				continue;
+			}
+			for (int i = 0; i + 1 < word.length(); i++) {
+				grams.add(word.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	// 전각 문자와 대소문자를 맞춘 뒤 글자와 숫자가 아닌 문자를 기준으로 단어를 나눈다
+	private static List<String> words(String text) {
+		List<String> words = new ArrayList<>();
+		if (text == null) {
+			return words;
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+		int start = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+			if (letter && start < 0) {
+				start = i;
+			} else if (!letter && start >= 0) {
+				words.add(normalized.substring(start, i));
+				start = -1;
+			}
+		}
+		return words;
+	}
+}
@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+
+/** 검색 색인에 필요한 게시글 정보 */
+public record StudySearchDocument(
+	Long id,
+	StudyType type,
+	String title,
+	String content,
+	List<String> tags,
+	LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,163 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+
+/**
+ * 게시글 제목, 내용, 태그의 n-gram 으로 만든 메모리 역색인.
+ *
+ * <p>gram 마다 해당 gram 을 포함한 게시글과 가중치를 보관한다. 가중치는 제목 3, 태그 2, 내용 1 로 등장 횟수를 더한 뒤 로그로 줄인 값이다.
+ * 검색 시 검색어의 모든 gram 을 포함한 게시글만 골라 가중치 x idf 합으로 정렬한다.
+ */
+public class StudySearchIndex {
+	private static final float TITLE_WEIGHT = 3f;
+	private static final float TAG_WEIGHT = 2f;
+	private static final float CONTENT_WEIGHT = 1f;
+
+	private static final Comparator<ScoredStudy> RANKING = Comparator
+		.comparingDouble(ScoredStudy::score).reversed()
+		.thenComparing(ScoredStudy::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+		.thenComparing(ScoredStudy::id, Comparator.reverseOrder());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+	private final Map<Long, IndexedStudy> studies = new HashMap<>();
+
+	public void put(StudySearchDocument document) {
+		Map<String, Float> weights = weigh(document);
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(document.id());
+			weights.forEach((gram, weight) ->
+				postings.computeIfAbsent(gram, key -> new HashMap<>()).put(document.id(), weight));
+			studies.put(document.id(), new IndexedStudy(document.type(), document.createdAt(), weights.keySet()));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long studyId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(studyId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return studies.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param studyType null 이면 모든 유형을 검색한다
+	 * @return 검색어를 포함한 게시글 id, 관련도가 높은 순서이며 같으면 최신순
+	 */
+	public List<Long> search(String query, StudyType studyType) {
+		Set<String> grams = StudyNgramTokenizer.tokenizeQuery(query);
+		if (grams.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			List<Map<Long, Float>> lists = new ArrayList<>(grams.size());
+			for (String gram : grams) {
+				Map<Long, Float> posting = postings.get(gram);
+				if (posting == null) {
+					return List.of();
+				}
+				lists.add(posting);
+			}
+			// 가장 짧은 posting 을 기준으로 나머지에 모두 포함되는지 확인한다
+			lists.sort(Comparator.comparingInt(Map::size));
+
+			double[] idf = new double[lists.size()];
+			for (int i = 0; i < lists.size(); i++) {
+				idf[i] = Math.log(1 + (double)studies.size() / lists.get(i).size());
+			}
+
+			List<ScoredStudy> matched = new ArrayList<>();
+			for (Map.Entry<Long, Float> entry : lists.get(0).entrySet()) {
+				IndexedStudy study = studies.get(entry.getKey());
+				if (studyType != null && study.type() != studyType) {
+					continue;
+				}
+				double score = score(entry.getKey(), lists, idf);
+				if (score > 0) {
+					matched.add(new ScoredStudy(entry.getKey(), score, study.createdAt()));
+				}
+			}
+
+			matched.sort(RANKING);
+			return matched.stream().map(ScoredStudy::id).toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 검색어의 gram 중 하나라도 없는 게시글은 0
+	private double score(Long studyId, List<Map<Long, Float>> lists, double[] idf) {
+		double score = 0;
+		for (int i = 0; i < lists.size(); i++) {
+			Float weight = lists.get(i).get(studyId);
+			if (weight == null) {
+				return 0;
+			}
+			score += weight * idf[i];
+		}
+		return score;
+	}
+
+	private void removeInternal(Long studyId) {
+		IndexedStudy previous = studies.remove(studyId);
+		if (previous == null) {
+			return;
+		}
+		for (String gram : previous.grams()) {
+			Map<Long, Float> posting = postings.get(gram);
+			posting.remove(studyId);
+			if (posting.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	private Map<String, Float> weigh(StudySearchDocument document) {
+		Map<String, Float> counts = new HashMap<>();
+		addGrams(counts, document.title(), TITLE_WEIGHT);
+		addGrams(counts, document.content(), CONTENT_WEIGHT);
+		if (document.tags() != null) {
+			document.tags().forEach(tag -> addGrams(counts, tag, TAG_WEIGHT));
+		}
+		counts.replaceAll((gram, count) -> (float)(1 + Math.log(count)));
+		return counts;
+	}
+
+	private void addGrams(Map<String, Float> counts, String text, float weight) {
+		for (String gram : StudyNgramTokenizer.tokenizeDocument(text)) {
+			counts.merge(gram, weight, Float::sum);
+		}
+	}
+
+	private record IndexedStudy(StudyType type, LocalDateTime createdAt, Set<String> grams) {
+	}
+
+	private record ScoredStudy(Long id, double score, LocalDateTime createdAt) {
+	}
+}
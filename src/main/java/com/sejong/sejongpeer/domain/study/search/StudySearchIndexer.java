@@ -0,0 +1,137 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.study.service.StudyChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 검색 색인을 관리한다. 서버가 뜨면 DB 에서 전체 색인을 만들고, 이후에는 변경된 게시글만 다시 색인한다.
+ * 색인이 준비되기 전에는 {@link #isReady()} 가 false 이며 검색은 기존 LIKE 조회를 사용한다.
+ *
+ * <p>색인은 인스턴스마다 따로 있고 변경 이벤트는 같은 인스턴스에서만 받으므로, 다른 인스턴스에서 바뀐 게시글은
+ * 주기적으로 수정 시각 기준으로 따라잡는다. 삭제된 게시글은 매일 전체 재구성으로 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndexer {
+	private static final int REBUILD_BATCH_SIZE = 1000;
+	// 수정 시각을 기록한 뒤 늦게 커밋된 변경도 다음 주기에 읽도록 이전 주기와 겹쳐 조회한다
+	private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+	private final StudyRepository studyRepository;
+
+	// 재구성 중에 변경된 게시글은 새 색인으로 바꾼 뒤 다시 반영한다
+	private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private volatile StudySearchIndex index = new StudySearchIndex();
+	private volatile boolean rebuilding;
+	private volatile boolean ready;
+	private LocalDateTime caughtUpSince;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.error("게시글 검색 색인 재구성 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage(), e);
+		}
+	}
+
+	@Scheduled(cron = "${study.search.rebuild-cron:0 0 5 * * *}")
+	public synchronized void rebuild() {
+		long start = System.currentTimeMillis();
+		LocalDateTime startedAt = LocalDateTime.now();
+		rebuilding = true;
+		changedDuringRebuild.clear();
+
+		boolean rebuiltIndex = false;
+		try {
+			StudySearchIndex rebuilt = new StudySearchIndex();
+			Long lastId = null;
+			List<StudySearchDocument> documents;
+			while (!(documents = studyRepository.findSearchDocuments(lastId, REBUILD_BATCH_SIZE)).isEmpty()) {
+				documents.forEach(rebuilt::put);
+				lastId = documents.get(documents.size() - 1).id();
+			}
+
+			index = rebuilt;
+			caughtUpSince = startedAt.minus(CATCH_UP_OVERLAP);
+			ready = true;
+			rebuiltIndex = true;
+			log.info("게시글 검색 색인 재구성 완료: {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+		} finally {
+			// 실패했다면 재구성 중의 변경은 이미 기존 색인에 반영되어 있다
+			rebuilding = false;
+			if (rebuiltIndex) {
+				changedDuringRebuild.forEach(this::reindex);
+			}
+			changedDuringRebuild.clear();
+		}
+	}
+
+	/**
+	 * 마지막으로 따라잡은 뒤 수정된 게시글을 다시 색인한다. 색인이 아직 없다면 전체 재구성을 다시 시도한다.
+	 */
+	@Scheduled(
+		initialDelayString = "${study.search.catch-up-delay-millis:60000}",
+		fixedDelayString = "${study.search.catch-up-delay-millis:60000}")
+	public synchronized void catchUp() {
+		if (!ready) {
+			rebuild();
+			return;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now();
+		Long lastId = null;
+		List<StudySearchDocument> documents;
+		while (!(documents = studyRepository.findSearchDocumentsUpdatedSince(
+			caughtUpSince, lastId, REBUILD_BATCH_SIZE)).isEmpty()) {
+			documents.forEach(index::put);
+			lastId = documents.get(documents.size() - 1).id();
+		}
+		caughtUpSince = startedAt.minus(CATCH_UP_OVERLAP);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onStudyChanged(StudyChangedEvent event) {
+		if (rebuilding) {
+			changedDuringRebuild.add(event.studyId());
+		}
+		reindex(event.studyId());
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * @return 검색어를 포함한 게시글 id, 관련도가 높은 순서
+	 */
+	public List<Long> search(String searchWord, StudyType studyType) {
+		return index.search(searchWord, studyType);
+	}
+
+	private void reindex(Long studyId) {
+		studyRepository.findSearchDocument(studyId)
+			.ifPresentOrElse(index::put, () -> index.remove(studyId));
+	}
+}
@@ -1,8 +1,12 @@
 package com.sejong.sejongpeer.domain.study.service;
 
 import com.sejong.sejongpeer.domain.image.dto.response.StudyImageUrlResponse;
+import com.sejong.sejongpeer.domain.image.service.ImageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.sejong.sejongpeer.domain.externalactivity.entity.ExternalActivity;
 import com.sejong.sejongpeer.domain.externalactivity.repository.ExternalActivityRepository;
@@ -34,8 +38,12 @@ public class ExternalActivityStudyService {
 	private final MemberRepository memberRepository;
 	private final SecurityUtil securityUtil;
 	private final TagService tagService;
-	private final StudyService studyService;
+	private final ImageService imageService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionOperations transactionOperations;
 
+	// 이미지는 트랜잭션 밖에서 먼저 올리고, 게시글과 이미지는 모두 올라간 뒤 한 트랜잭션에서 저장한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public StudyCreateResponse createStudy(ExternalActivityStudyCreateRequest request) throws IOException {
 		final String memberId = securityUtil.getCurrentMemberId();
 		Member member = memberRepository.findById(memberId)
@@ -44,28 +52,25 @@ public class ExternalActivityStudyService {
 		ExternalActivity externalActivity = externalActivityRepository.findById(request.externalActivityId())
 			.orElseThrow(() -> new CustomException(ErrorCode.EXTERNAL_ACTIVITY_NOT_FOUND));
 
-		StudyVo vo = StudyVo.from(request);
-		Study study = Study.create(member, vo);
-		Study savedStudy = studyRepository.save(study);
+		List<String> imageUrls = imageService.uploadBase64Images(request.base64ImagesList());
 
-		List<StudyImageUrlResponse> externalActivityStudyImageUrlResponse;
+		return transactionOperations.execute(status -> {
+			StudyVo vo = StudyVo.from(request);
+			Study study = Study.create(member, vo);
+			Study savedStudy = studyRepository.save(study);
 
-		try {
-			externalActivityStudyImageUrlResponse = studyService.uploadFiles(savedStudy.getId(), request.base64ImagesList());
-		} catch (CustomException e) {
-			if (e.getErrorCode() == ErrorCode.STUDY_IMAGE_SIZE_TOO_BIG) {
-				studyRepository.delete(savedStudy);
-			}
-			throw e;
-		}
+			List<StudyImageUrlResponse> externalActivityStudyImageUrlResponse =
+				imageService.saveStudyImages(savedStudy, imageUrls);
 
-		tagService.setTagAndStudyTagMap(vo.tags(), savedStudy);
+			tagService.setTagAndStudyTagMap(vo.tags(), savedStudy);
+			eventPublisher.publishEvent(new StudyChangedEvent(savedStudy.getId()));
 
-		ExternalActivityStudy externalActivityStudy = ExternalActivityStudy.create(externalActivity, savedStudy);
+			ExternalActivityStudy externalActivityStudy = ExternalActivityStudy.create(externalActivity, savedStudy);
 
-		externalActivityStudyRepository.save(externalActivityStudy);
+			externalActivityStudyRepository.save(externalActivityStudy);
 
-		return StudyCreateResponse.from(savedStudy, externalActivityStudyImageUrlResponse);
+			return StudyCreateResponse.from(savedStudy, externalActivityStudyImageUrlResponse);
+		});
 	}
 
 }
@@ -5,8 +5,11 @@ import com.sejong.sejongpeer.domain.image.dto.response.StudyImageUrlResponse;
 import com.sejong.sejongpeer.domain.image.entity.Image;
 import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
 import com.sejong.sejongpeer.domain.image.service.ImageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.sejong.sejongpeer.domain.lecture.entity.Lecture;
 import com.sejong.sejongpeer.domain.lecture.repository.LectureRepository;
@@ -42,8 +45,12 @@ public class LectureStudyService {
 	private final MemberRepository memberRepository;
 
 	private final TagService tagService;
-	private final StudyService studyService;
+	private final ImageService imageService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionOperations transactionOperations;
 
+	// 이미지는 트랜잭션 밖에서 먼저 올리고, 게시글과 이미지는 모두 올라간 뒤 한 트랜잭션에서 저장한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public StudyCreateResponse createStudy(LectureStudyCreateRequest request) throws IOException {
 		final String memberId = securityUtil.getCurrentMemberId();
 
@@ -55,27 +62,24 @@ public class LectureStudyService {
 		Lecture lecture = lectureRepository.findById(request.lectureId())
 			.orElseThrow(() -> new CustomException(ErrorCode.LECTURE_NOT_FOUND));
 
-		StudyVo vo = StudyVo.from(request);
-		Study study = Study.create(member, vo);
-		Study saveStudy = studyRepository.save(study);
+		List<String> imageUrls = imageService.uploadBase64Images(request.base64ImagesList());
 
-		List<StudyImageUrlResponse> lectureStudyImageUrlResponse;
+		return transactionOperations.execute(status -> {
+			StudyVo vo = StudyVo.from(request);
+			Study study = Study.create(member, vo);
+			Study saveStudy = studyRepository.save(study);
 
-		try {
-			lectureStudyImageUrlResponse = studyService.uploadFiles(saveStudy.getId(), request.base64ImagesList());
-		} catch (CustomException e) {
-			if (e.getErrorCode() == ErrorCode.STUDY_IMAGE_SIZE_TOO_BIG) {
-				studyRepository.delete(saveStudy);
-			}
-			throw e;
-		}
+			List<StudyImageUrlResponse> lectureStudyImageUrlResponse =
+				imageService.saveStudyImages(saveStudy, imageUrls);
 
-		tagService.setTagAndStudyTagMap(vo.tags(), saveStudy);
+			tagService.setTagAndStudyTagMap(vo.tags(), saveStudy);
+			eventPublisher.publishEvent(new StudyChangedEvent(saveStudy.getId()));
 
-		LectureStudy lectureStudy = LectureStudy.create(lecture, saveStudy);
+			LectureStudy lectureStudy = LectureStudy.create(lecture, saveStudy);
 
-		lectureStudyRepository.save(lectureStudy);
+			lectureStudyRepository.save(lectureStudy);
 
-		return StudyCreateResponse.from(saveStudy, lectureStudyImageUrlResponse);
+			return StudyCreateResponse.from(saveStudy, lectureStudyImageUrlResponse);
+		});
 	}
 }
@@ -0,0 +1,5 @@
+package com.sejong.sejongpeer.domain.study.service;
+
+/** 게시글이 생성, 수정, 삭제되었음을 알리는 이벤트. 커밋 이후 검색 색인에 반영된다. */
+public record StudyChangedEvent(Long studyId) {
+}
@@ -1,14 +1,10 @@
 package com.sejong.sejongpeer.domain.study.service;
 
-import com.sejong.sejongpeer.domain.externalactivity.entity.ExternalActivity;
 import com.sejong.sejongpeer.domain.externalactivity.repository.ExternalActivityRepository;
-import com.sejong.sejongpeer.domain.image.dto.response.StudyImageUrlResponse;
-import com.sejong.sejongpeer.domain.image.entity.Image;
-import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
-import com.sejong.sejongpeer.domain.image.service.ImageService;
-import com.sejong.sejongpeer.domain.lecture.entity.Lecture;
 import com.sejong.sejongpeer.domain.lecture.repository.LectureRepository;
 import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
+import com.sejong.sejongpeer.domain.scrap.application.ScrapCountBuffer;
 import com.sejong.sejongpeer.domain.scrap.dao.ScrapRepository;
 import com.sejong.sejongpeer.domain.study.dto.request.StudyPostSearchRequest;
 import com.sejong.sejongpeer.domain.study.dto.request.StudyUpdateRequest;
@@ -20,6 +16,8 @@ import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
 import com.sejong.sejongpeer.domain.study.repository.ExternalActivityStudyRepository;
 import com.sejong.sejongpeer.domain.study.repository.LectureStudyRepository;
 import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.study.search.StudySearchIndexer;
+import com.sejong.sejongpeer.domain.study.vo.StudyFeedCursor;
 import com.sejong.sejongpeer.domain.studyrelation.entity.StudyRelation;
 import com.sejong.sejongpeer.domain.studyrelation.entity.type.StudyMatchingStatus;
 import com.sejong.sejongpeer.domain.studyrelation.repository.StudyRelationRepository;
@@ -31,15 +29,19 @@ import com.sejong.sejongpeer.infra.sms.service.SmsService;
 import com.sejong.sejongpeer.infra.sms.service.SmsText;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.io.IOException;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,6 +51,8 @@ public class StudyService {
 	private static final String MESSAGE_ALARM_SEJONGPEER_PREFIX = "[세종피어] ";
 	private static final String MESSAGE_ALARM_PARENTHESES_PREFIX = "(";
 	private static final String MESSAGE_ALARM_PARENTHESES_POSTFIX = "...) ";
+	private static final int MAX_STUDY_FEED_SIZE = 50;
+	private static final int SEARCH_FILTER_CHUNK_SIZE = 500;
 
 	private final LectureRepository lectureRepository;
 	private final ExternalActivityRepository externalActivityRepository;
@@ -57,14 +61,15 @@ public class StudyService {
 	private final StudyRepository studyRepository;
 	private final StudyRelationRepository studyRelationRepository;
 	private final ScrapRepository scrapRepository;
-	private final ImageRepository imageRepository;
+	private final ScrapCountBuffer scrapCountBuffer;
 	private final SmsService smsService;
-	private final ImageService imageService;
 	private final MemberUtil memberUtil;
+	private final StudySearchIndexer studySearchIndexer;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 	public StudyUpdateResponse updateStudy(final StudyUpdateRequest studyUpdateRequest, final Long studyId) {
-		final Member member = memberUtil.getCurrentMember();
+		final Member member = memberUtil.getCurrentMemberReference();
 
 		Study study =
 			studyRepository
@@ -81,6 +86,7 @@ public class StudyService {
 			studyUpdateRequest.questionLink(),
 			studyUpdateRequest.recruitmentStartAt(),
 			studyUpdateRequest.recruitmentEndAt());
+		eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
 		return StudyUpdateResponse.from(study);
 	}
 
@@ -88,9 +94,9 @@ public class StudyService {
 		Study study = studyRepository.findById(studyId)
 			.orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
 
-		final Member loginMember = memberUtil.getCurrentMember();
+		final MemberSnapshot loginMember = memberUtil.getCurrentMemberSnapshot();
 
-		if (!loginMember.equals(study.getMember())) {
+		if (!loginMember.id().equals(study.getMember().getId())) {
 			throw new CustomException(ErrorCode.STUDY_CANNOT_DELETED);
 		}
 
@@ -113,6 +119,7 @@ public class StudyService {
 			studyRepository.delete(study);
 		}
 
+		eventPublisher.publishEvent(new StudyChangedEvent(studyId));
 	}
 
 	private void sendStudyDeletionAlarmToStudyApplicant(StudyRelation studyRelation) {
@@ -129,52 +136,27 @@ public class StudyService {
 	}
 
 	@Transactional(readOnly = true)
-	public Slice<StudyTotalPostResponse> getAllStudyPost(StudyType studyType, int page) {
-		final Member loginMember = memberUtil.getCurrentMember();
+	public StudyFeedResponse<StudyTotalPostResponse> getAllStudyPost(StudyType studyType, String cursor, int size) {
+		final MemberSnapshot loginMember = memberUtil.getCurrentMemberSnapshot();
 
-		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime endDate = now.minusMonths(page * 6);
-		LocalDateTime startDate = endDate.minusMonths(6);
-
-		Pageable pageable;
-		Slice<Study> studySlice;
-
-		if (StudyType.LECTURE.equals(studyType)) {
-			int size = studyRepository.countByTypeAndCreatedAtBetween(StudyType.LECTURE, startDate, endDate).intValue();
-			pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-			studySlice = studyRepository.findByTypeAndCreatedAtBetween(StudyType.LECTURE, startDate, endDate, pageable);
-			return mapToStudyTotalPostResponse(loginMember, studySlice, StudyType.LECTURE);
-		}
-
-		if (StudyType.EXTERNAL_ACTIVITY.equals(studyType)) {
-			int size = studyRepository.countByTypeAndCreatedAtBetween(StudyType.EXTERNAL_ACTIVITY, startDate, endDate).intValue();
-			pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-			studySlice = studyRepository.findByTypeAndCreatedAtBetween(StudyType.EXTERNAL_ACTIVITY, startDate, endDate, pageable);
-			return mapToStudyTotalPostResponse(loginMember, studySlice, StudyType.EXTERNAL_ACTIVITY);
-		}
+		return findStudyFeed(studyType, StudyFeedCursor.decode(cursor), limitFeedSize(size), loginMember.id());
+	}
 
-		return new SliceImpl<>(Collections.emptyList(), Pageable.unpaged(), false);
+	// study.scrap_count 에 아직 반영되지 않은 스크랩 증감을 더해 게시글 상세와 같은 값을 보여준다
+	StudyFeedResponse<StudyTotalPostResponse> findStudyFeed(
+		StudyType studyType, StudyFeedCursor cursor, int size, String viewerId) {
+		return studyRepository.findStudyFeed(studyType, cursor, size, viewerId)
+			.map(post -> post.withScrapCount(post.scrapCount() + scrapCountBuffer.pendingDelta(post.id())));
 	}
 
-	private Slice<StudyTotalPostResponse> mapToStudyTotalPostResponse(Member loginMember, Slice<Study> studySlice, StudyType studyType) {
-		return studySlice.map(study -> {
-			String categoryName = getCategoryNameByStudyType(study);
-			int scrapCount = getScrapCountByStudy(study);
-			boolean isScraped = isStudyPostScrappedByMember(loginMember, study);
-
-			if (studyType == StudyType.LECTURE) {
-				return StudyTotalPostResponse.fromLectureStudy(study, categoryName, scrapCount, isScraped);
-			} else if (studyType == StudyType.EXTERNAL_ACTIVITY) {
-				return StudyTotalPostResponse.fromExternalActivityStudy(study, categoryName, scrapCount, isScraped);
-			} else {
-				throw new CustomException(ErrorCode.STUDY_TYPE_NOT_FOUND);
-			}
-		});
+	// 한 번에 조회하는 게시글 수를 1 ~ MAX_STUDY_FEED_SIZE 로 제한
+	static int limitFeedSize(int size) {
+		return Math.max(1, Math.min(size, MAX_STUDY_FEED_SIZE));
 	}
 
 	@Transactional(readOnly = true)
 	public StudyPostInfoResponse getOneStudyPostInfo(final Long studyId) {
-		final Member loginMember = memberUtil.getCurrentMember();
+		final Member loginMember = memberUtil.getCurrentMemberReference();
 
 		Study study = studyRepository.findById(studyId)
 			.orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
@@ -206,46 +188,58 @@ public class StudyService {
 
 	@Transactional(readOnly = true)
 	public List<StudyTotalPostResponse> getAllStudyPostBySearch(StudyType studyType, Integer page, Integer size, StudyPostSearchRequest request) {
-		final Member loginMember = memberUtil.getCurrentMember();
+		final MemberSnapshot loginMember = memberUtil.getCurrentMemberSnapshot();
+		validateCategoryExists(studyType, request.getCategoryId());
 
+		// 카테고리 조건도 쿼리에 포함해야 페이지 크기만큼 채워서 가져올 수 있다
 		Specification<Study> spec = Specification.where(StudySpecification.checkStudyTypeMatching(studyType))
 			.and(StudySpecification.checkRecruitmentPersonnelMatch(request.getRecruitmentPersonnel()))
 			.and(StudySpecification.findByRecruitmentStatus(request.getIsRecruiting()))
-			.and(StudySpecification.containsTitleOrContent(request.getSearchWord()));
-
-		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-		Slice<Study> studyPage = studyRepository.findAll(spec, pageable);
+			.and(StudySpecification.matchesCategory(studyType, request.getCategoryId()));
 
-		return studyPage.stream()
-			.filter(study -> isCategoryNameMatching(study, request.getCategoryId()))
-			.map(study -> mapToCommonStudyTotalPostResponse(loginMember, study))
-			.collect(Collectors.toUnmodifiableList());
+		List<Study> studies;
+		if (StringUtils.hasText(request.getSearchWord()) && studySearchIndexer.isReady()) {
+			studies = searchRankedStudies(studyType, page, size, request.getSearchWord(), spec);
+		} else {
+			spec = spec.and(StudySpecification.containsTitleOrContent(request.getSearchWord()));
+			Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+			studies = studyRepository.findAll(spec, pageable).getContent();
+		}
 
+		return studyRepository.findStudyPosts(studies.stream().map(Study::getId).toList(), loginMember.id());
 	}
 
-	private boolean isCategoryNameMatching(Study study, Long categoryId) {
-		if (categoryId == null) return true;
-
-		if (study.getType().equals(StudyType.LECTURE)) {
-			Lecture lecture = lectureRepository.findById(categoryId)
-				.orElseThrow(() -> new CustomException(ErrorCode.LECTURE_NOT_FOUND));
-			String lectureName = lecture.getName();
+	// 검색 색인에서 관련도 순으로 찾은 게시글 중 나머지 조건에 맞는 게시글을 골라 page 번째 페이지를 만든다
+	private List<Study> searchRankedStudies(
+		StudyType studyType, int page, int size, String searchWord, Specification<Study> spec) {
+		List<Long> rankedIds = studySearchIndexer.search(searchWord, studyType);
+		int from = page * size;
+		int to = from + size;
+
+		List<Study> matched = new ArrayList<>();
+		for (int start = 0; start < rankedIds.size() && matched.size() < to; start += SEARCH_FILTER_CHUNK_SIZE) {
+			List<Long> chunk = rankedIds.subList(start, Math.min(start + SEARCH_FILTER_CHUNK_SIZE, rankedIds.size()));
+			Map<Long, Study> studies = studyRepository.findAll(spec.and(StudySpecification.idIn(chunk))).stream()
+				.collect(Collectors.toMap(Study::getId, Function.identity()));
+			chunk.stream().map(studies::get).filter(Objects::nonNull).forEach(matched::add);
+		}
 
-			LectureStudy lectureStudy = lectureStudyRepository.findByStudy(study)
-				.orElseThrow(() -> new CustomException(ErrorCode.LECTURE_AND_STUDY_NOT_CONNECTED));
-			String studyCategoryName = lectureStudy.getLecture().getName();
+		if (from >= matched.size()) {
+			return Collections.emptyList();
+		}
+		return matched.subList(from, Math.min(to, matched.size()));
+	}
 
-			return lectureName.equals(studyCategoryName);
-		} else {
-			ExternalActivity externalActivity = externalActivityRepository.findById(categoryId)
-				.orElseThrow(() -> new CustomException(ErrorCode.EXTERNAL_ACTIVITY_NOT_FOUND));
-			String externalActivityName = externalActivity.getName();
 
-			ExternalActivityStudy externalActivityStudy = externalActivityStudyRepository.findByStudy(study)
-				.orElseThrow(() -> new CustomException(ErrorCode.LECTURE_AND_STUDY_NOT_CONNECTED));
-			String studyCategoryName = externalActivityStudy.getExternalActivity().getName();
+	private void validateCategoryExists(StudyType studyType, Long categoryId) {
+		if (categoryId == null) return;
 
-			return externalActivityName.equals(studyCategoryName);
+		if (studyType == StudyType.LECTURE) {
+			if (!lectureRepository.existsById(categoryId)) {
+				throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
+			}
+		} else if (!externalActivityRepository.existsById(categoryId)) {
+			throw new CustomException(ErrorCode.EXTERNAL_ACTIVITY_NOT_FOUND);
 		}
 	}
 
@@ -263,27 +257,12 @@ public class StudyService {
 		}
 	}
 
+	// 아직 scrap_count 에 반영되지 않은 증감까지 더해서 방금 누른 스크랩이 바로 보이도록 한다
 	public int getScrapCountByStudy(Study study) {
-		Long scrapCount = scrapRepository.countByStudy(study);
-		return scrapCount.intValue();
+		return study.getScrapCount() + scrapCountBuffer.pendingDelta(study.getId());
 	}
 
 	private boolean isStudyPostScrappedByMember(Member member, Study study) {
 		return scrapRepository.existsByMemberAndStudy(member, study);
 	}
-
-	public List<StudyImageUrlResponse> uploadFiles(Long studyId, List<String> base64ImagesList) {
-		List<Image> originalImages = imageRepository.findAllByStudyId(studyId);
-		imageRepository.deleteAll(originalImages);
-
-		return base64ImagesList.parallelStream()
-			.map(base64Image -> {
-				try {
-					return imageService.uploadFile(studyId, base64Image);
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
-			})
-			.collect(Collectors.toUnmodifiableList());
-	}
 }
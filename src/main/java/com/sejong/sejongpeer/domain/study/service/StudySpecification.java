@@ -1,10 +1,16 @@
 package com.sejong.sejongpeer.domain.study.service;
 
+import com.sejong.sejongpeer.domain.study.entity.ExternalActivityStudy;
+import com.sejong.sejongpeer.domain.study.entity.LectureStudy;
 import com.sejong.sejongpeer.domain.study.entity.Study;
 import com.sejong.sejongpeer.domain.study.entity.type.RecruitmentStatus;
 import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 public class StudySpecification {
 
 	private static final int MININUM_STUDY_PERSONNEL_EXCLUDING_SELF = 1;
@@ -52,4 +58,30 @@ public class StudySpecification {
 		};
 	}
 
+	public static Specification<Study> idIn(Collection<Long> studyIds) {
+		return (root, query, criteriaBuilder) -> root.get("id").in(studyIds);
+	}
+
+	// 강의는 lecture_study.lecture_id, 대외활동은 external_activity_study.external_activity_id 로 카테고리를 거른다
+	public static Specification<Study> matchesCategory(StudyType studyType, Long categoryId) {
+		return (root, query, criteriaBuilder) -> {
+			if (categoryId == null) {
+				return criteriaBuilder.conjunction();
+			}
+
+			Subquery<Long> subquery = query.subquery(Long.class);
+			if (studyType == StudyType.LECTURE) {
+				Root<LectureStudy> lectureStudy = subquery.from(LectureStudy.class);
+				subquery.select(lectureStudy.get("studyId")).where(
+					criteriaBuilder.equal(lectureStudy.get("study"), root),
+					criteriaBuilder.equal(lectureStudy.get("lecture").get("id"), categoryId));
+			} else {
+				Root<ExternalActivityStudy> externalActivityStudy = subquery.from(ExternalActivityStudy.class);
+				subquery.select(externalActivityStudy.get("studyId")).where(
+					criteriaBuilder.equal(externalActivityStudy.get("study"), root),
+					criteriaBuilder.equal(externalActivityStudy.get("externalActivity").get("id"), categoryId));
+			}
+			return criteriaBuilder.exists(subquery);
+		};
+	}
 }
@@ -3,50 +3,84 @@ package com.sejong.sejongpeer.domain.study.service;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sejong.sejongpeer.domain.study.entity.Study;
 import com.sejong.sejongpeer.domain.study.entity.StudyTagMap;
 import com.sejong.sejongpeer.domain.study.entity.Tag;
-import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
 import com.sejong.sejongpeer.domain.study.repository.StudyTagMapRepository;
 import com.sejong.sejongpeer.domain.study.repository.TagRepository;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class TagService {
+	private static final String TAG_ID_CACHE = "tagIds";
 
 	private final TagRepository tagRepository;
-	private final StudyRepository studyRepository;
 	private final StudyTagMapRepository studyTagMapRepository;
+	private final Cache tagIdCache;
 
-	public void setTagAndStudyTagMap(List<String> tags, Study study) {
-		tags.forEach(tagName -> {
-			String hashName = hashTagName(tagName);
-			Tag tag = tagRepository.findByHashedName(hashName)
-				.orElseGet(() -> tagRepository.save(new Tag(tagName)));
+	public TagService(
+		TagRepository tagRepository,
+		StudyTagMapRepository studyTagMapRepository,
+		CacheManager cacheManager) {
+		this.tagRepository = tagRepository;
+		this.studyTagMapRepository = studyTagMapRepository;
+		this.tagIdCache = cacheManager.getCache(TAG_ID_CACHE);
+	}
 
-			StudyTagMap tagMap = StudyTagMap.builder()
-				.study(study)
-				.tag(tag)
-				.build();
+	/**
+	 * 태그 이름을 id 로 바꾸고 스터디와의 연결을 한 번에 저장한다.
+	 *
+	 * <p>자주 쓰는 태그는 {@code tagIds} 캐시에서 바로 찾는다. 캐시에 없는 태그는 해시값 IN 조회 한 번으로 찾고,
+	 * 그래도 없는 태그는 INSERT 한 번으로 만든 뒤 다시 조회한다. 연결은 JDBC batch insert 한 번으로 저장한다.
+	 * 같은 이름이 여러 번 와도 한 번만 연결한다.
+	 */
+	public void setTagAndStudyTagMap(List<String> tags, Study study) {
+		Map<String, Long> tagIds = new LinkedHashMap<>();
+		Map<String, String> uncachedNamesByHash = new LinkedHashMap<>();
+		for (String tagName : tags) {
+			Long cachedId = tagIdCache.get(tagName, Long.class);
+			if (cachedId != null) {
+				tagIds.put(tagName, cachedId);
+			} else if (!tagIds.containsKey(tagName)) {
+				tagIds.put(tagName, null);
+				uncachedNamesByHash.put(hashTagName(tagName), tagName);
+			}
+		}
 
-			tag.addStudyTagMap(tagMap);
-			study.addStudyTagMap(tagMap);
+		if (!uncachedNamesByHash.isEmpty()) {
+			resolveUncachedTagIds(uncachedNamesByHash, tagIds);
+		}
+		studyTagMapRepository.insertAll(study.getId(), tagIds.values());
+	}
 
-			studyTagMapRepository.save(tagMap);
-		});
+	private void resolveUncachedTagIds(Map<String, String> namesByHash, Map<String, Long> tagIds) {
+		Map<String, String> missingNamesByHash = new LinkedHashMap<>(namesByHash);
+		// 이미 커밋된 태그만 캐시에 넣는다. 이 트랜잭션에서 만든 태그는 롤백될 수 있으므로 다음 사용 때 캐시된다
+		for (Tag tag : tagRepository.findAllByHashedNameIn(namesByHash.keySet())) {
+			String tagName = missingNamesByHash.remove(tag.getHashedName());
+			tagIds.put(tagName, tag.getId());
+			tagIdCache.put(tagName, tag.getId());
+		}
 
-		studyRepository.save(study);
+		if (missingNamesByHash.isEmpty()) {
+			return;
+		}
+		tagRepository.insertIgnoringDuplicates(missingNamesByHash);
+		for (Tag tag : tagRepository.findAllLatestByHashedNameIn(missingNamesByHash.keySet())) {
+			tagIds.put(missingNamesByHash.get(tag.getHashedName()), tag.getId());
+		}
 	}
 
 	private String hashTagName(String tagName) {
@@ -0,0 +1,7 @@
+package com.sejong.sejongpeer.domain.study.vo;
+
+/**
+ * 한 시점에 읽은 게시글의 스크랩 수. storedCount 는 study.scrap_count, actualCount 는 scrap 테이블 기준 개수다.
+ */
+public record ScrapCountSnapshot(Long studyId, int storedCount, int actualCount) {
+}
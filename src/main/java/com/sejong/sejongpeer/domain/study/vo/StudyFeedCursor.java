@@ -0,0 +1,35 @@
+package com.sejong.sejongpeer.domain.study.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+
+/**
+ * 게시글 목록의 마지막 게시글 위치. 작성일시가 같은 게시글은 id로 순서를 정한다.
+ * 클라이언트에는 Base64 문자열로 전달하며, 다음 페이지 요청 시 그대로 돌려받는다.
+ */
+public record StudyFeedCursor(LocalDateTime createdAt, Long id) {
+	private static final String DELIMITER = "_";
+
+	public static StudyFeedCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(DELIMITER, 2);
+			return new StudyFeedCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			throw new CustomException(ErrorCode.INVALID_STUDY_FEED_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
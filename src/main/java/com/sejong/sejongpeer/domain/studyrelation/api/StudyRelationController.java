@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.sejong.sejongpeer.domain.study.dto.response.StudyApplicantsListRespone;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
 import com.sejong.sejongpeer.domain.studyrelation.dto.request.StudyMatchingRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sejong.sejongpeer.domain.studyrelation.dto.request.StudyApplyRequest;
@@ -60,10 +62,14 @@ public class StudyRelationController {
 		studyRelationService.earlyCloseRegistration(studyId);
 	}
 
-	@Operation(summary = "지원한 스터디 조회", description = "지원한 스터디를 전부 조회합니다")
+	@Operation(summary = "지원한 스터디 조회",
+		description = "지원한 스터디를 최신순으로 조회합니다. "
+			+ "다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다. size 는 최대 50입니다.")
 	@GetMapping("/applied")
-	public List<AppliedStudyResponse> getAllAppliedStudies() {
-		return 	studyRelationService.getAppliedStudies();
+	public StudyFeedResponse<AppliedStudyResponse> getAllAppliedStudies(
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		return studyRelationService.getAppliedStudies(cursor, size);
 	}
 
 	@Operation(summary = "스터디 지원자 리스트 조회", description = "마이페이지에서 게시글 마다 대기상태인 지원자의 리스트를 조회합니다.")
@@ -1,4 +1,14 @@
 package com.sejong.sejongpeer.domain.studyrelation.repository;
 
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.studyrelation.dto.response.AppliedStudyResponse;
+
 public interface StudyRelationRepositoryCustom {
+	/**
+	 * 회원이 지원한(취소하지 않은) 스터디를 스크랩 수, 스크랩 여부, 태그와 함께 스터디 id 내림차순으로 조회한다.
+	 * 태그 조회까지 포함해 최대 두 번의 쿼리로 끝난다.
+	 *
+	 * @param lastStudyId 이전 페이지의 마지막 스터디 id, 첫 페이지이면 null
+	 */
+	StudyFeedResponse<AppliedStudyResponse> findAppliedStudies(String memberId, Long lastStudyId, int size);
 }
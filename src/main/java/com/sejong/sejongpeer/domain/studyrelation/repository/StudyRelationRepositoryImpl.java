@@ -0,0 +1,97 @@
+package com.sejong.sejongpeer.domain.studyrelation.repository;
+
+import static com.sejong.sejongpeer.domain.scrap.entity.QScrap.*;
+import static com.sejong.sejongpeer.domain.study.entity.QStudy.*;
+import static com.sejong.sejongpeer.domain.study.entity.QStudyTagMap.*;
+import static com.sejong.sejongpeer.domain.study.entity.QTag.*;
+import static com.sejong.sejongpeer.domain.studyrelation.entity.QStudyRelation.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.studyrelation.dto.response.AppliedStudyResponse;
+import com.sejong.sejongpeer.domain.studyrelation.entity.type.StudyMatchingStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class StudyRelationRepositoryImpl implements StudyRelationRepositoryCustom {
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public StudyFeedResponse<AppliedStudyResponse> findAppliedStudies(String memberId, Long lastStudyId, int size) {
+		// 스크랩 수는 study.scrap_count 컬럼을, 스크랩 여부는 상관 서브쿼리로 함께 읽는다
+		Expression<Boolean> isScrapped = new CaseBuilder()
+			.when(JPAExpressions.selectOne().from(scrap)
+				.where(scrap.study.eq(study), scrap.member.id.eq(memberId)).exists())
+			.then(true)
+			.otherwise(false);
+
+		List<Tuple> rows =
+			jpaQueryFactory
+				.select(study.id, study.title, study.recruitmentCount, study.participantsCount, study.type,
+					study.scrapCount, study.recruitmentStatus, isScrapped,
+					study.recruitmentStartAt, study.recruitmentEndAt)
+				.from(studyRelation)
+				.join(studyRelation.study, study)
+				.where(studyRelation.member.id.eq(memberId),
+					studyRelation.status.ne(StudyMatchingStatus.CANCEL),
+					lastStudyId == null ? null : study.id.lt(lastStudyId))
+				.orderBy(study.id.desc())
+				.limit((long)size + 1)
+				.fetch();
+
+		// 조회한 결과 개수가 요청한 페이지 사이즈보다 크면 뒤에 더 있음, next = true
+		boolean hasNext = rows.size() > size;
+		String nextCursor = null;
+		if (hasNext) {
+			rows = rows.subList(0, size);
+			nextCursor = String.valueOf(rows.get(size - 1).get(study.id));
+		}
+
+		Map<Long, List<String>> tagNames = findTagNames(rows.stream().map(row -> row.get(study.id)).toList());
+		List<AppliedStudyResponse> responses = rows.stream()
+			.map(row -> new AppliedStudyResponse(
+				row.get(study.id),
+				row.get(study.title),
+				row.get(study.recruitmentCount),
+				row.get(study.participantsCount),
+				row.get(study.type).getValue(),
+				tagNames.getOrDefault(row.get(study.id), Collections.emptyList()),
+				row.get(study.scrapCount).longValue(),
+				row.get(study.recruitmentStatus),
+				Boolean.TRUE.equals(row.get(isScrapped)),
+				row.get(study.recruitmentStartAt),
+				row.get(study.recruitmentEndAt)))
+			.toList();
+		return new StudyFeedResponse<>(responses, hasNext, nextCursor);
+	}
+
+	private Map<Long, List<String>> findTagNames(List<Long> studyIds) {
+		if (studyIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return jpaQueryFactory
+			.select(studyTagMap.study.id, tag.name)
+			.from(studyTagMap)
+			.join(studyTagMap.tag, tag)
+			.where(studyTagMap.study.id.in(studyIds))
+			.orderBy(studyTagMap.id.asc())
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(
+				row -> row.get(studyTagMap.study.id),
+				Collectors.mapping(row -> row.get(tag.name), Collectors.toUnmodifiableList())));
+	}
+}
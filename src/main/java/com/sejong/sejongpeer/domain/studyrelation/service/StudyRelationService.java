@@ -7,8 +7,10 @@ import java.util.List;
 import java.util.Map;
 
 import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
-import com.sejong.sejongpeer.domain.scrap.application.ScrapService;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
+import com.sejong.sejongpeer.domain.scrap.application.ScrapCountBuffer;
 import com.sejong.sejongpeer.domain.study.dto.response.StudyApplicantsListRespone;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
 import com.sejong.sejongpeer.domain.study.entity.type.RecruitmentStatus;
 import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
 import com.sejong.sejongpeer.domain.studyrelation.dto.request.StudyMatchingRequest;
@@ -19,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.sejong.sejongpeer.domain.member.entity.Member;
 import com.sejong.sejongpeer.domain.study.entity.Study;
 import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
-import com.sejong.sejongpeer.domain.study.service.TagService;
 import com.sejong.sejongpeer.domain.studyrelation.dto.request.StudyApplyRequest;
 import com.sejong.sejongpeer.domain.studyrelation.dto.response.AppliedStudyResponse;
 import com.sejong.sejongpeer.domain.studyrelation.dto.response.StudyRelationCreateResponse;
@@ -41,6 +42,7 @@ public class StudyRelationService {
 	private static final String MESSAGE_ALARM_SEJONGPEER_PREFIX = "[세종피어] ";
 	private static final String MESSAGE_ALARM_PARENTHESES_PREFIX = "(";
 	private static final String MESSAGE_ALARM_PARENTHESES_POSTFIX = "...) ";
+	private static final int MAX_APPLIED_STUDY_SIZE = 50;
 
 	private final StudyRepository studyRepository;
 	private final SmsService smsService;
@@ -48,14 +50,13 @@ public class StudyRelationService {
 	private final MemberRepository memberRepository;
 	private final MemberUtil memberUtil;
 	private final SecurityUtil securityUtil;
-	private final TagService tagService;
-	private final ScrapService scrapService;
+	private final ScrapCountBuffer scrapCountBuffer;
 
 	public StudyRelationCreateResponse applyStudy(StudyApplyRequest studyApplyRequest) {
 		Study study = studyRepository.findById(studyApplyRequest.studyId())
 			.orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
 
-		final Member loginMember = memberUtil.getCurrentMember();
+		final Member loginMember = memberUtil.getCurrentMemberReference();
 
 		StudyRelation lastRelation = studyRelationRepository.findTopByMemberAndStudyOrderByIdDesc(loginMember, study)
 			.orElse(null);
@@ -154,7 +155,7 @@ public class StudyRelationService {
 
 	public void earlyCloseRegistration(final Long studyId) {
 
-		final Member member = memberUtil.getCurrentMember();
+		final Member member = memberUtil.getCurrentMemberReference();
 
 		Study study =
 			studyRepository
@@ -192,26 +193,16 @@ public class StudyRelationService {
 		);
 	}
 
-	public List<AppliedStudyResponse> getAppliedStudies() {
-		final Member loginMember = memberUtil.getCurrentMember();
-		List<StudyRelation> studyRelations = loginMember.getStudyRelations();
-
-		studyRelations.sort((sr1, sr2) -> sr2.getStudy().getId().compareTo(sr1.getStudy().getId()));
-
-		List<AppliedStudyResponse> list = new ArrayList<>();
-		studyRelations.stream()
-			.forEach(studyRelation -> {
-				if(!studyRelation.getStatus().equals(StudyMatchingStatus.CANCEL)) {
-					Study study = studyRelation.getStudy();
+	@Transactional(readOnly = true)
+	public StudyFeedResponse<AppliedStudyResponse> getAppliedStudies(Long cursor, int size) {
+		final MemberSnapshot loginMember = memberUtil.getCurrentMemberSnapshot();
 
-					Long scrapCount = scrapService.getScrapCountByStudyPost(study.getId());
-					List<String> tags = tagService.getTagsNameByStudy(study);
-					boolean hasMemberScrappedStudy = scrapService.hasMemberScrappedStudy(loginMember, study);
+		StudyFeedResponse<AppliedStudyResponse> appliedStudies = studyRelationRepository.findAppliedStudies(
+			loginMember.id(), cursor, Math.max(1, Math.min(size, MAX_APPLIED_STUDY_SIZE)));
 
-					list.add(AppliedStudyResponse.of(study, tags, scrapCount, hasMemberScrappedStudy));
-				}
-			});
-		return list;
+		// study.scrap_count 에 아직 반영되지 않은 스크랩 증감을 더해 게시글 상세와 같은 값을 보여준다
+		return appliedStudies.map(response -> response.withScrapCount(
+			response.scrapCount() + scrapCountBuffer.pendingDelta(response.studyId())));
 	}
 
 	public Map<String, List<StudyApplicantsListRespone>> getApplicatnsList() {
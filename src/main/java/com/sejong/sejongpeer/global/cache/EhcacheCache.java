@@ -0,0 +1,105 @@
+package com.sejong.sejongpeer.global.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+
+/**
+ * Ehcache 2 캐시를 Spring {@link org.springframework.cache.Cache}로 사용한다.
+ * 크기 제한, 만료 시간, 적중/미스 통계는 ehcache.xml 설정과 Ehcache 가 맡는다.
+ *
+ * <p>{@link #refresh(Runnable)} 안에서 조회하면 캐시된 값을 무시하고 다시 불러와 덮어쓴다.
+ * 다른 스레드는 새 값이 들어갈 때까지 기존 값을 그대로 읽으므로, 만료 전에 미리 갱신할 때 사용한다.
+ */
+public class EhcacheCache extends AbstractValueAdaptingCache {
+	private static final ThreadLocal<Boolean> REFRESHING = ThreadLocal.withInitial(() -> false);
+
+	private final Ehcache cache;
+
+	public EhcacheCache(Ehcache cache) {
+		super(true);
+		this.cache = cache;
+	}
+
+	public static void refresh(Runnable task) {
+		REFRESHING.set(true);
+		try {
+			task.run();
+		} finally {
+			REFRESHING.remove();
+		}
+	}
+
+	@Override
+	public String getName() {
+		return cache.getName();
+	}
+
+	@Override
+	public Ehcache getNativeCache() {
+		return cache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		if (REFRESHING.get()) {
+			return null;
+		}
+		Element element = cache.get(key);
+		return element != null ? element.getObjectValue() : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper cached = get(key);
+		if (cached != null) {
+			return (T)cached.get();
+		}
+
+		// 같은 키를 동시에 조회하면 한 스레드만 불러오고 나머지는 그 값을 사용한다
+		cache.acquireWriteLockOnKey(key);
+		try {
+			Element element = REFRESHING.get() ? null : cache.getQuiet(key);
+			if (element != null) {
+				return (T)fromStoreValue(element.getObjectValue());
+			}
+			T value = valueLoader.call();
+			put(key, value);
+			return value;
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		} finally {
+			cache.releaseWriteLockOnKey(key);
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		cache.put(new Element(key, toStoreValue(value)));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		Element existing = cache.putIfAbsent(new Element(key, toStoreValue(value)));
+		return existing != null ? toValueWrapper(existing.getObjectValue()) : null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		cache.remove(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		return cache.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		cache.removeAll();
+	}
+}
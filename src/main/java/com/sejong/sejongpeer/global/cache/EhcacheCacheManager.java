@@ -0,0 +1,27 @@
+package com.sejong.sejongpeer.global.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import net.sf.ehcache.CacheManager;
+
+/**
+ * ehcache.xml 에 정의된 캐시만 사용한다. 정의되지 않은 이름으로 조회하면 크기 제한 없는 캐시가 생기지 않도록 null 을 돌려준다.
+ */
+public class EhcacheCacheManager extends AbstractCacheManager {
+	private final CacheManager cacheManager;
+
+	public EhcacheCacheManager(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return Arrays.stream(cacheManager.getCacheNames())
+			.map(name -> new EhcacheCache(cacheManager.getEhcache(name)))
+			.toList();
+	}
+}
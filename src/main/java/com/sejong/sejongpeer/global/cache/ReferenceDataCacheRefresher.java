@@ -0,0 +1,74 @@
+package com.sejong.sejongpeer.global.cache;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sejong.sejongpeer.domain.college.dto.CollegeMajorResponse;
+import com.sejong.sejongpeer.domain.college.repository.CollegeMajorRepository;
+import com.sejong.sejongpeer.domain.college.service.CollegeMajorService;
+import com.sejong.sejongpeer.domain.externalactivity.service.ExternalActivityService;
+import com.sejong.sejongpeer.domain.lecture.repository.LectureRepository;
+import com.sejong.sejongpeer.domain.lecture.service.LectureService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단과대, 학과, 수업, 대외활동 분류처럼 운영 중에 거의 바뀌지 않는 기준 데이터를 캐시에 미리 올려 둔다.
+ *
+ * <p>서버가 뜨면 모든 키를 한 번 불러오고, 이후에는 ehcache.xml 의 만료 시간보다 짧은 주기로 다시 불러와 덮어쓴다.
+ * 갱신 중에도 요청은 기존 값을 읽으므로 만료로 인한 캐시 미스가 생기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheRefresher {
+	private final CollegeMajorService collegeMajorService;
+	private final CollegeMajorRepository collegeMajorRepository;
+	private final LectureService lectureService;
+	private final LectureRepository lectureRepository;
+	private final ExternalActivityService externalActivityService;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		load("적재");
+	}
+
+	@Scheduled(
+		initialDelayString = "${reference-data.cache.refresh-interval-millis:1200000}",
+		fixedDelayString = "${reference-data.cache.refresh-interval-millis:1200000}")
+	public void refresh() {
+		EhcacheCache.refresh(() -> load("갱신"));
+	}
+
+	// 실패해도 기존 값은 만료 전까지 남아 있고, 만료된 키는 요청 시점에 다시 조회된다
+	private void load(String action) {
+		long start = System.currentTimeMillis();
+		try {
+			int count = loadAll();
+			log.info("기준 데이터 캐시 {} 완료: {}건, {}ms", action, count, System.currentTimeMillis() - start);
+		} catch (RuntimeException e) {
+			log.warn("기준 데이터 캐시 {} 실패", action, e);
+		}
+	}
+
+	private int loadAll() {
+		List<String> colleges = collegeMajorService.getAllColleges();
+		int count = 1;
+		for (String college : colleges) {
+			List<CollegeMajorResponse> majors = collegeMajorService.getAllMajorsByCollege(college);
+			majors.forEach(major -> collegeMajorRepository.findIdByCollegeAndMajor(major.college(), major.major()));
+			count += 1 + majors.size();
+		}
+		for (String college : lectureRepository.findAllColleges()) {
+			lectureService.getLessonInfoByColleage(college);
+			count++;
+		}
+		externalActivityService.getAllExternalActivityCategories();
+		return count + 1;
+	}
+}
@@ -0,0 +1,26 @@
+package com.sejong.sejongpeer.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingStrategy;
+import com.sejong.sejongpeer.domain.buddy.util.GreedyMatchingStrategy;
+import com.sejong.sejongpeer.domain.buddy.util.MaximumMatchingStrategy;
+import com.sejong.sejongpeer.infra.config.properties.BuddyMatchingProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class BuddyMatchingConfig {
+
+	private final BuddyMatchingProperties buddyMatchingProperties;
+
+	@Bean
+	public BuddyMatchingStrategy buddyMatchingStrategy() {
+		return switch (buddyMatchingProperties.strategy()) {
+			case GREEDY -> new GreedyMatchingStrategy();
+			case MAXIMUM -> new MaximumMatchingStrategy(buddyMatchingProperties.timeBudget());
+		};
+	}
+}
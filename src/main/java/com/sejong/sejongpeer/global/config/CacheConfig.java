@@ -1,9 +1,40 @@
 package com.sejong.sejongpeer.global.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import net.sf.ehcache.CacheManager;
+
+import com.sejong.sejongpeer.global.cache.EhcacheCache;
+import com.sejong.sejongpeer.global.cache.EhcacheCacheManager;
+
+import io.micrometer.core.instrument.binder.cache.EhCache2Metrics;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public CacheManager ehcacheManager() throws IOException {
+		try (InputStream config = new ClassPathResource("ehcache.xml").getInputStream()) {
+			return new CacheManager(config);
+		}
+	}
+
+	@Bean
+	public EhcacheCacheManager cacheManager(CacheManager ehcacheManager) {
+		return new EhcacheCacheManager(ehcacheManager);
+	}
+
+	// 캐시마다 cache.gets(result=hit|miss), cache.evictions, cache.size 지표를 남긴다
+	@Bean
+	public CacheMeterBinderProvider<EhcacheCache> ehcacheMeterBinderProvider() {
+		return (cache, tags) -> new EhCache2Metrics(cache.getNativeCache(), tags);
+	}
 }
@@ -0,0 +1,106 @@
+package com.sejong.sejongpeer.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.sejong.sejongpeer.infra.config.properties.HonbabMatchingProperties;
+import com.sejong.sejongpeer.infra.config.properties.ImageDerivativeProperties;
+import com.sejong.sejongpeer.infra.config.properties.ImageUploadProperties;
+import com.sejong.sejongpeer.infra.config.properties.PasswordHashingProperties;
+import com.sejong.sejongpeer.infra.config.properties.SmsOutboxProperties;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig {
+
+	private final SmsOutboxProperties smsOutboxProperties;
+	private final HonbabMatchingProperties honbabMatchingProperties;
+	private final ImageUploadProperties imageUploadProperties;
+	private final ImageDerivativeProperties imageDerivativeProperties;
+	private final PasswordHashingProperties passwordHashingProperties;
+
+	/**
+	 * outbox 전송 작업은 한 번 실행될 때 밀린 SMS를 모두 가져가므로 대기열에는 한 건만 있으면 충분하다.
+	 * 대기열이 차 있으면 새 작업은 버리고, 놓친 작업은 주기적인 polling 이 처리한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor smsDispatchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(smsOutboxProperties.workerCount());
+		executor.setMaxPoolSize(smsOutboxProperties.workerCount());
+		executor.setQueueCapacity(1);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setThreadNamePrefix("sms-dispatch-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * 혼밥 신청 변경은 커밋된 뒤 이 풀에서 대기열에 반영한다.
+	 * 대기열이 차면 새 작업은 버리고, 놓친 신청은 주기적인 동기화가 새 신청을 읽어 반영한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor honbabMatchingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(honbabMatchingProperties.workerCount());
+		executor.setMaxPoolSize(honbabMatchingProperties.workerCount());
+		executor.setQueueCapacity(honbabMatchingProperties.queueCapacity());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setThreadNamePrefix("honbab-matching-");
+		return executor;
+	}
+
+	/**
+	 * S3 업로드는 응답을 기다리는 동안 스레드를 붙잡고 있으므로 공용 ForkJoinPool 대신 크기가 정해진 전용 풀에서 실행한다.
+	 * 대기열까지 가득 차면 거절하고, ImageUploader 가 요청의 제한 시간 안에서 자리가 날 때까지 기다렸다가 다시 넣는다.
+	 * 요청 스레드가 직접 올리면 그 업로드는 제한 시간으로 멈출 수 없다.
+	 * 동시 업로드 수와 대기열 길이는 actuator 의 executor.active, executor.queued 지표로 확인한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageUploadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(imageUploadProperties.concurrency());
+		executor.setMaxPoolSize(imageUploadProperties.concurrency());
+		executor.setQueueCapacity(imageUploadProperties.queueCapacity());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setThreadNamePrefix("image-upload-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * 축소본 생성은 CPU 를 쓰므로 요청 처리 스레드와 나누어 작은 풀에서 실행한다.
+	 * 대기열이 차면 새 작업은 거절하고, 변환 대기로 남은 이미지는 주기적인 재시도 작업이 처리한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(imageDerivativeProperties.concurrency());
+		executor.setMaxPoolSize(imageDerivativeProperties.concurrency());
+		executor.setQueueCapacity(imageDerivativeProperties.queueCapacity());
+		executor.setThreadNamePrefix("image-derivative-");
+		return executor;
+	}
+
+	/**
+	 * 비밀번호 해시는 요청마다 수십 ms 씩 CPU 를 쓰므로, 로그인이 몰려도 다른 API 가 쓸 CPU 가 남도록 작은 풀에서 실행한다.
+	 * 대기열이 차면 더 기다려도 제시간에 끝나지 않으므로 바로 거절하고, 요청 스레드는 503 으로 응답한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor passwordHashingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(passwordHashingProperties.concurrency());
+		executor.setMaxPoolSize(passwordHashingProperties.concurrency());
+		executor.setQueueCapacity(passwordHashingProperties.queueCapacity());
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setThreadNamePrefix("password-hashing-");
+		return executor;
+	}
+}
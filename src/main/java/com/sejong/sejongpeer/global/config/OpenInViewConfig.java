@@ -0,0 +1,37 @@
+package com.sejong.sejongpeer.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * spring.jpa.open-in-view 대신 직접 등록해, 비밀번호를 해시하는 API 에서만 요청 내내 영속성 컨텍스트를 열어 두지 않는다.
+ *
+ * <p>영속성 컨텍스트가 열려 있으면 처음 조회할 때 얻은 DB 연결을 요청이 끝날 때까지 놓지 않으므로,
+ * 해시 스레드를 기다리는 로그인이 몰리면 연결 풀이 먼저 바닥난다. 나머지 API 는 이전과 같이 동작한다.
+ */
+@Configuration
+public class OpenInViewConfig {
+	private static final String[] PASSWORD_HASHING_PATHS = {
+		"/api/v1/auth/sign-in",
+		"/api/v1/member/sign-up",
+		"/api/v1/member/help/reset-password"
+	};
+
+	@Bean
+	public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+		return new OpenEntityManagerInViewInterceptor();
+	}
+
+	@Bean
+	public WebMvcConfigurer openEntityManagerInViewConfigurer(OpenEntityManagerInViewInterceptor interceptor) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addWebRequestInterceptor(interceptor).excludePathPatterns(PASSWORD_HASHING_PATHS);
+			}
+		};
+	}
+}
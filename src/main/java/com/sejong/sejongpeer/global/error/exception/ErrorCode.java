@@ -21,7 +21,12 @@ public enum ErrorCode {
 	// 인증 에러
 	UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
 	TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "세션이 만료되었습니다."),
+	REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 토큰입니다. 다시 로그인해주세요."),
 	AUTH_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "인증 정보를 찾을 수 없습니다."),
+	SEJONG_AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "세종대학교 학생 인증 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+	SEJONG_AUTH_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "세종대학교 포털의 응답이 늦어지고 있습니다. 잠시 후 다시 시도해주세요."),
+	SEJONG_AUTH_UNAVAILABLE(HttpStatus.BAD_GATEWAY, "세종대학교 포털에 연결할 수 없습니다."),
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	// 회원가입 및 회원정보 수정 에러
 	INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "계정과 일치하지 않는 비밀번호입니다."),
@@ -65,6 +70,7 @@ public enum ErrorCode {
 	STUDY_NOT_OWNER(HttpStatus.FORBIDDEN, "스터디의 소유자가 아닙니다."),
 	CANNOT_CHANGE_TO_HASHNAME(HttpStatus.CONFLICT, "태그 문자를 해시값으로 변환할 수 없습니다."),
 	STUDY_ALREADY_CLOSED(HttpStatus.CONFLICT, "이미 마감된 스터디 입니다."),
+	INVALID_STUDY_FEED_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 게시글 목록 커서입니다."),
 
 	// Study 지원 에러
 	STUDY_RELATION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 스터디의 신청내역을 찾을 수 없습니다."),
@@ -91,6 +97,7 @@ public enum ErrorCode {
 	STUDY_UPLOAD_STATUS_IS_NOT_NONE(HttpStatus.BAD_REQUEST, "스터디 이미지 업로드 상태가 NONE이 아닙니다."),
 	STUDY_UPLOAD_STATUS_IS_NOT_PENDING(HttpStatus.BAD_REQUEST, "스터디 이미지 업로드 상태가 PENDING이 아닙니다."),
 	STUDY_IMAGE_SIZE_TOO_BIG(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 크기가 서버 수용 한도를 초과했습니다."),
+	IMAGE_UPLOAD_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "이미지 업로드 시간이 초과되었습니다."),
 
 	// 스크랩 에러
 	SCRAP_CANNOT_BE_DUPLICATED(HttpStatus.CONFLICT, "이미 스크랩한 게시글입니다."),
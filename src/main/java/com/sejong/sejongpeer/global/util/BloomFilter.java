@@ -0,0 +1,71 @@
+package com.sejong.sejongpeer.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 Bloom filter. {@link #mightContain(String)} 가 false 이면 넣은 적이 없는 값이고,
+ * true 이면 넣은 적이 있거나 falsePositiveProbability 확률로 잘못 판단한 값이다. 값을 뺄 수는 없다.
+ *
+ * <p>여러 스레드가 동시에 넣고 조회해도 된다.
+ */
+public class BloomFilter {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		long insertions = Math.max(1, expectedInsertions);
+		long optimalBits = (long)Math.ceil(
+			-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, (optimalBits + 63) / 64)));
+		this.bitSize = bits.length() * 64L;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / insertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			long mask = 1L << index;
+			int word = (int)(index >>> 6);
+			if ((bits.get(word) & mask) == 0) {
+				bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 두 해시를 섞어 k 개의 위치를 만든다 (Kirsch-Mitzenmacher). 첫 해시는 FNV-1a 에 murmur3 finalizer 를 더한다
+	private static long hash(String value) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return mix(hash);
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,101 @@
+package com.sejong.sejongpeer.global.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.sejong.sejongpeer.domain.member.service.MemberChangedEvent;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
+import com.sejong.sejongpeer.infra.config.properties.MemberSnapshotCacheProperties;
+
+/**
+ * 회원 정보 스냅샷을 요청 단위로 한 번, 서버 전체에서는 ttl 동안 재사용한다.
+ *
+ * <p>회원 정보가 바뀌면 {@link MemberChangedEvent}로 커밋 후에 비우고, 다른 서버에 남은 값은 ttl 이 지나면 다시 조회한다.
+ */
+@Component
+public class MemberSnapshotCache {
+	private static final String REQUEST_ATTRIBUTE = MemberSnapshotCache.class.getName() + ".SNAPSHOT";
+
+	private final Map<String, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+	private final long ttlNanos;
+	private final int maxSize;
+
+	public MemberSnapshotCache(MemberSnapshotCacheProperties properties) {
+		this.ttlNanos = properties.ttl().toNanos();
+		this.maxSize = properties.maxSize();
+	}
+
+	public MemberSnapshot get(String memberId, Function<String, MemberSnapshot> loader) {
+		MemberSnapshot snapshot = getFromRequest(memberId);
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		CachedSnapshot cached = snapshots.get(memberId);
+		if (cached != null && !cached.isExpired(System.nanoTime())) {
+			snapshot = cached.snapshot();
+		} else {
+			snapshot = loader.apply(memberId);
+			put(snapshot);
+		}
+		setToRequest(snapshot);
+		return snapshot;
+	}
+
+	public void put(MemberSnapshot snapshot) {
+		long now = System.nanoTime();
+		if (snapshots.size() >= maxSize) {
+			snapshots.values().removeIf(cached -> cached.isExpired(now));
+			if (snapshots.size() >= maxSize) {
+				snapshots.clear();
+			}
+		}
+		snapshots.put(snapshot.id(), new CachedSnapshot(snapshot, now + ttlNanos));
+	}
+
+	public void evict(String memberId) {
+		snapshots.remove(memberId);
+		MemberSnapshot requestSnapshot = getFromRequest(memberId);
+		if (requestSnapshot != null) {
+			RequestContextHolder.currentRequestAttributes()
+				.removeAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	// 커밋 전에 비우면 다른 요청이 바뀌기 전 값을 다시 캐시할 수 있으므로 커밋 후에 비운다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMemberChanged(MemberChangedEvent event) {
+		evict(event.memberId());
+	}
+
+	private MemberSnapshot getFromRequest(String memberId) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+		Object snapshot = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (snapshot instanceof MemberSnapshot memberSnapshot && memberSnapshot.id().equals(memberId)) {
+			return memberSnapshot;
+		}
+		return null;
+	}
+
+	private void setToRequest(MemberSnapshot snapshot) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null) {
+			attributes.setAttribute(REQUEST_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	private record CachedSnapshot(MemberSnapshot snapshot, long expiresAt) {
+		boolean isExpired(long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 
 import com.sejong.sejongpeer.domain.member.entity.Member;
 import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 
@@ -15,6 +16,7 @@ public class MemberUtil {
 
 	private final SecurityUtil securityUtil;
 	private final MemberRepository memberRepository;
+	private final MemberSnapshotCache memberSnapshotCache;
 
 	public Member getCurrentMember() {
 		return memberRepository
@@ -22,6 +24,20 @@ public class MemberUtil {
 			.orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 	}
 
+	/** 로그인한 회원의 읽기 전용 정보. 캐시에 있으면 조회 쿼리를 실행하지 않는다. */
+	public MemberSnapshot getCurrentMemberSnapshot() {
+		return memberSnapshotCache.get(securityUtil.getCurrentMemberId(),
+			memberId -> MemberSnapshot.from(getMemberByMemberId(memberId)));
+	}
+
+	/**
+	 * 로그인한 회원의 프록시. 조회 조건이나 연관관계 설정에만 쓸 때 사용하며,
+	 * 회원 존재 여부는 스냅샷으로 확인하므로 id 외의 필드를 읽지 않으면 조회 쿼리가 실행되지 않는다.
+	 */
+	public Member getCurrentMemberReference() {
+		return memberRepository.getReferenceById(getCurrentMemberSnapshot().id());
+	}
+
 	public Member getMemberByMemberId(String memberId) {
 		return memberRepository
 			.findById(memberId)
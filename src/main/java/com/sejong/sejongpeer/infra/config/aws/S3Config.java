@@ -3,9 +3,11 @@ package com.sejong.sejongpeer.infra.config.aws;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.sejong.sejongpeer.infra.config.properties.S3Properties;
@@ -30,8 +32,17 @@ public class S3Config {
 
 	@Bean
 	public AmazonS3 amazonS3() {
-		return AmazonS3ClientBuilder.standard()
-			.withCredentials(new AWSStaticCredentialsProvider(awsCredentialsProvider()))
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(awsCredentialsProvider()));
+
+		// 로컬의 S3 호환 서버(MinIO, LocalStack 등)로 테스트할 때는 storage.endpoint 를 지정한다
+		if (StringUtils.hasText(s3Properties.endpoint())) {
+			return builder
+				.withEndpointConfiguration(new EndpointConfiguration(s3Properties.endpoint(), s3Properties.region()))
+				.withPathStyleAccessEnabled(true)
+				.build();
+		}
+		return builder
 			.withRegion(s3Properties.region())
 			.build();
 	}
@@ -0,0 +1,13 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "aligo.api")
+public record AligoProperties(
+	String key,
+	String userId,
+	String sender,
+	@DefaultValue("https://apis.aligo.in") String baseUrl
+) {
+}
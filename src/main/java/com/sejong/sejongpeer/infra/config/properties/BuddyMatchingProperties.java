@@ -0,0 +1,15 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingStrategyType;
+
+@ConfigurationProperties(prefix = "buddy.matching")
+public record BuddyMatchingProperties(
+	@DefaultValue("GREEDY") BuddyMatchingStrategyType strategy,
+	@DefaultValue("10s") Duration timeBudget
+) {
+}
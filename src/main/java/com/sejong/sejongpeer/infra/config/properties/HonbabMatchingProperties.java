@@ -0,0 +1,11 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "honbab.matching")
+public record HonbabMatchingProperties(
+	@DefaultValue("2") int workerCount,
+	@DefaultValue("100") int queueCapacity
+) {
+}
@@ -0,0 +1,23 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param concurrency 동시에 변환하는 이미지 수. 변환은 CPU 를 쓰므로 코어 수보다 작게 둔다
+ * @param queueCapacity 변환 스레드가 모두 바쁠 때 기다릴 수 있는 이미지 수. 넘친 이미지는 재시도 작업이 처리한다
+ * @param retryAfter 업로드 후 이 시간이 지나도 변환 대기 중인 이미지는 재시도 작업이 다시 변환한다
+ * @param retryBatchSize 재시도 작업 한 번에 다시 변환하는 최대 이미지 수
+ * @param maxAttempts 이 횟수만큼 변환을 시도해도 끝나지 않은 이미지는 FAILED 로 바꾸고 원본을 그대로 쓴다
+ */
+@ConfigurationProperties(prefix = "image.derivative")
+public record ImageDerivativeProperties(
+	@DefaultValue("2") int concurrency,
+	@DefaultValue("100") int queueCapacity,
+	@DefaultValue("5m") Duration retryAfter,
+	@DefaultValue("100") int retryBatchSize,
+	@DefaultValue("5") int maxAttempts
+) {
+}
@@ -0,0 +1,24 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @param partSize 업로드 하나가 사용하는 버퍼 크기이자 멀티파트 업로드의 파트 크기. S3 는 마지막 파트를 빼고 5MB 이상이어야 한다.
+ * @param maxSize 디코딩한 이미지 하나의 최대 크기
+ * @param concurrency 동시에 올리는 이미지 수. 업로드 하나가 partSize 만큼 메모리를 쓴다
+ * @param queueCapacity 업로드 스레드가 모두 바쁠 때 기다릴 수 있는 이미지 수
+ * @param timeout 요청 하나의 이미지를 모두 올릴 때까지 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "image.upload")
+public record ImageUploadProperties(
+	@DefaultValue("5MB") DataSize partSize,
+	@DefaultValue("20MB") DataSize maxSize,
+	@DefaultValue("8") int concurrency,
+	@DefaultValue("32") int queueCapacity,
+	@DefaultValue("30s") Duration timeout
+) {
+}
@@ -0,0 +1,13 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "member.snapshot-cache")
+public record MemberSnapshotCacheProperties(
+	@DefaultValue("30s") Duration ttl,
+	@DefaultValue("10000") int maxSize
+) {
+}
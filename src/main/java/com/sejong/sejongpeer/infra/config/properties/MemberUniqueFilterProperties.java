@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param expectedInsertions 항목별 필터가 담을 최소 값 개수. 회원 수의 두 배가 더 크면 그만큼 크게 만든다
+ * @param falsePositiveProbability 없는 값을 있다고 잘못 판단해 DB 를 조회하게 되는 비율
+ * @param scanBatchSize 필터를 다시 만들 때 한 번에 읽는 회원 수
+ */
+@ConfigurationProperties(prefix = "member.unique-filter")
+public record MemberUniqueFilterProperties(
+	@DefaultValue("100000") long expectedInsertions,
+	@DefaultValue("0.01") double falsePositiveProbability,
+	@DefaultValue("1000") int scanBatchSize
+) {
+}
@@ -0,0 +1,21 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param strength BCrypt cost. 올리면 로그인할 때 낮은 cost 로 저장된 비밀번호를 새 cost 로 다시 해시한다
+ * @param concurrency 동시에 해시하는 비밀번호 수. 해시는 CPU 를 쓰므로 코어 수보다 크게 두지 않는다
+ * @param queueCapacity 해시 스레드가 모두 바쁠 때 기다릴 수 있는 요청 수. 넘친 요청은 바로 503 으로 응답한다
+ * @param timeout 대기열에서 기다린 시간을 포함해 해시 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "password.hashing")
+public record PasswordHashingProperties(
+	@DefaultValue("10") int strength,
+	@DefaultValue("2") int concurrency,
+	@DefaultValue("50") int queueCapacity,
+	@DefaultValue("3s") Duration timeout
+) {
+}
@@ -3,7 +3,22 @@ package com.sejong.sejongpeer.infra.config.properties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
-@EnableConfigurationProperties({S3Properties.class})
+@EnableConfigurationProperties({
+	S3Properties.class,
+	BuddyMatchingProperties.class,
+	HonbabMatchingProperties.class,
+	AligoProperties.class,
+	SmsOutboxProperties.class,
+	ScrapCountProperties.class,
+	MemberSnapshotCacheProperties.class,
+	SchedulerLockProperties.class,
+	ImageUploadProperties.class,
+	ImageDerivativeProperties.class,
+	MemberUniqueFilterProperties.class,
+	PasswordHashingProperties.class,
+	RedisClientProperties.class,
+	SejongAuthProperties.class
+})
 @Configuration
 public class PropertiesConfig {
 }
@@ -0,0 +1,27 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * redis 프로필의 접속 정보. {@code RedisClient} 를 쓰는 저장소를 켰을 때만 접속한다.
+ *
+ * @param username ACL 사용자. 비어 있으면 비밀번호만으로 인증한다
+ * @param password 비어 있으면 인증하지 않는다
+ * @param ssl TLS 로 접속하고 서버 인증서와 호스트 이름을 확인한다
+ * @param timeout 연결과 응답을 기다리는 최대 시간
+ * @param maxConnections 동시에 열어 두는 최대 연결 수. 모두 사용 중이면 timeout 까지 기다린다
+ */
+@ConfigurationProperties(prefix = "redis")
+public record RedisClientProperties(
+	@DefaultValue("localhost") String host,
+	@DefaultValue("6379") int port,
+	String username,
+	String password,
+	@DefaultValue("false") boolean ssl,
+	@DefaultValue("2s") Duration timeout,
+	@DefaultValue("8") int maxConnections
+) {
+}
@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param leaseDuration 잠금 유지 시간. 작업이 실행되는 동안 1/3 주기로 연장하며, 인스턴스가 죽으면 이 시간이 지난 뒤 다른 인스턴스가 가져간다
+ * @param minHoldDuration 작업이 일찍 끝나도 잠금을 유지하는 시간. 인스턴스마다 같은 cron 이 조금씩 늦게 실행되어도 한 번만 실행되게 한다
+ */
+@ConfigurationProperties(prefix = "scheduler.lock")
+public record SchedulerLockProperties(
+	@DefaultValue("5m") Duration leaseDuration,
+	@DefaultValue("30s") Duration minHoldDuration
+) {
+}
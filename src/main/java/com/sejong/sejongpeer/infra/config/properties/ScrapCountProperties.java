@@ -0,0 +1,13 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "scrap.count")
+public record ScrapCountProperties(
+	@DefaultValue("1000") int flushBatchSize,
+	@DefaultValue("1000") int reconcileChunkSize,
+	// 다른 서버 버퍼에 남은 증감이 반영될 때까지 기다리는 시간. 반영 주기보다 충분히 길어야 한다
+	@DefaultValue("3000") long reconcileSettleMillis
+) {
+}
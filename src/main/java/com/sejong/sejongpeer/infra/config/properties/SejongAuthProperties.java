@@ -0,0 +1,21 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param baseUrl 세종대학교 포털 인증 서버 주소
+ * @param connectTimeout 포털 서버와 연결을 맺을 때까지 기다리는 최대 시간
+ * @param timeout 요청을 보내고 응답 본문을 받을 때까지 기다리는 최대 시간. 넘으면 504 로 응답한다
+ * @param maxConcurrentRequests 동시에 포털로 보내는 최대 요청 수. 넘친 요청은 기다리지 않고 503 으로 응답한다
+ */
+@ConfigurationProperties(prefix = "sejong.auth")
+public record SejongAuthProperties(
+	@DefaultValue("https://auth.imsejong.com") String baseUrl,
+	@DefaultValue("2s") Duration connectTimeout,
+	@DefaultValue("5s") Duration timeout,
+	@DefaultValue("20") int maxConcurrentRequests
+) {
+}
@@ -0,0 +1,17 @@
+package com.sejong.sejongpeer.infra.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "sms.outbox")
+public record SmsOutboxProperties(
+	@DefaultValue("500") int batchSize,
+	@DefaultValue("5") int maxAttempts,
+	@DefaultValue("30s") Duration retryBackoff,
+	@DefaultValue("5m") Duration claimTimeout,
+	@DefaultValue("10s") Duration requestTimeout,
+	@DefaultValue("2") int workerCount
+) {
+}
@@ -0,0 +1,24 @@
+package com.sejong.sejongpeer.infra.config.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.sejong.sejongpeer.infra.config.properties.RedisClientProperties;
+import com.sejong.sejongpeer.infra.redis.RedisClient;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@Profile("redis")
+@RequiredArgsConstructor
+public class RedisConfig {
+
+	private final RedisClientProperties redisClientProperties;
+
+	// 연결은 처음 명령을 보낼 때 만든다
+	@Bean
+	public RedisClient redisClient() {
+		return new RedisClient(redisClientProperties);
+	}
+}
@@ -0,0 +1,295 @@
+package com.sejong.sejongpeer.infra.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.sejong.sejongpeer.infra.config.properties.RedisClientProperties;
+
+/**
+ * 문자열 키와 값만 쓰는 최소한의 Redis 클라이언트. RESP2 프로토콜로 명령을 보내고 응답을 읽는다.
+ *
+ * <p>연결은 {@code maxConnections} 개까지 만들어 재사용하고, 입출력 오류가 난 연결은 버린다.
+ * 비밀번호가 있으면 연결을 만들 때마다 AUTH 로 인증하고, {@code ssl} 이면 TLS 로 접속한다.
+ * 응답 오류는 {@link IllegalStateException}, 입출력 오류는 {@link UncheckedIOException} 으로 던진다.
+ */
+public class RedisClient implements DisposableBean {
+	private final String host;
+	private final int port;
+	private final String username;
+	private final String password;
+	private final boolean ssl;
+	private final int timeoutMillis;
+	private final Semaphore permits;
+	private final Queue<Connection> idle = new ConcurrentLinkedQueue<>();
+
+	public RedisClient(RedisClientProperties properties) {
+		this.host = properties.host();
+		this.port = properties.port();
+		this.username = blankToNull(properties.username());
+		this.password = blankToNull(properties.password());
+		this.ssl = properties.ssl();
+		this.timeoutMillis = Math.toIntExact(properties.timeout().toMillis());
+		this.permits = new Semaphore(properties.maxConnections());
+	}
+
+	public String get(String key) {
+		return (String)execute("GET", key);
+	}
+
+	public void set(String key, String value, Duration ttl) {
+		execute("SET", key, value, "PX", String.valueOf(ttl.toMillis()));
+	}
+
+	/**
+	 * @return 키가 없어서 저장했으면 true
+	 */
+	public boolean setIfAbsent(String key, String value, Duration ttl) {
+		return execute("SET", key, value, "PX", String.valueOf(ttl.toMillis()), "NX") != null;
+	}
+
+	/**
+	 * 값을 읽고 키를 지운다. 같은 키에 동시에 호출해도 값은 한 호출에만 돌아간다 (Redis 6.2 이상).
+	 */
+	public String getDel(String key) {
+		return (String)execute("GETDEL", key);
+	}
+
+	public long del(String... keys) {
+		String[] command = new String[keys.length + 1];
+		command[0] = "DEL";
+		System.arraycopy(keys, 0, command, 1, keys.length);
+		return (Long)execute(command);
+	}
+
+	public void sadd(String key, String member) {
+		execute("SADD", key, member);
+	}
+
+	public void srem(String key, String member) {
+		execute("SREM", key, member);
+	}
+
+	public List<String> smembers(String key) {
+		Object[] members = (Object[])execute("SMEMBERS", key);
+		List<String> result = new ArrayList<>(members.length);
+		for (Object member : members) {
+			result.add((String)member);
+		}
+		return result;
+	}
+
+	public void pexpire(String key, Duration ttl) {
+		execute("PEXPIRE", key, String.valueOf(ttl.toMillis()));
+	}
+
+	public Object execute(String... command) {
+		Connection connection = acquire();
+		boolean healthy = false;
+		try {
+			connection.write(command);
+			Object reply = connection.read();
+			healthy = true;
+			if (reply instanceof RedisError error) {
+				throw new IllegalStateException("Redis 명령 " + command[0] + " 실패: " + error.message());
+			}
+			return reply;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Redis 명령 " + command[0] + " 실패", e);
+		} finally {
+			release(connection, healthy);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		Connection connection;
+		while ((connection = idle.poll()) != null) {
+			connection.close();
+		}
+	}
+
+	private Connection acquire() {
+		try {
+			if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new UncheckedIOException(new IOException("Redis 연결을 얻지 못했습니다."));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new IOException("Redis 연결을 기다리는 중 중단되었습니다."));
+		}
+
+		Connection connection = idle.poll();
+		if (connection != null) {
+			return connection;
+		}
+		try {
+			return connect();
+		} catch (IOException e) {
+			permits.release();
+			throw new UncheckedIOException("Redis " + host + ":" + port + " 에 연결하지 못했습니다.", e);
+		}
+	}
+
+	private Connection connect() throws IOException {
+		Connection connection = new Connection(host, port, timeoutMillis, ssl);
+		if (password == null) {
+			return connection;
+		}
+		try {
+			connection.write(username == null
+				? new String[] {"AUTH", password}
+				: new String[] {"AUTH", username, password});
+			if (connection.read() instanceof RedisError error) {
+				throw new IOException("Redis 인증 실패: " + error.message());
+			}
+			return connection;
+		} catch (IOException e) {
+			connection.close();
+			throw e;
+		}
+	}
+
+	private void release(Connection connection, boolean healthy) {
+		if (healthy) {
+			idle.offer(connection);
+		} else {
+			connection.close();
+		}
+		permits.release();
+	}
+
+	private static String blankToNull(String value) {
+		return value == null || value.isBlank() ? null : value;
+	}
+
+	private record RedisError(String message) {
+	}
+
+	private static final class Connection {
+		private final Socket socket;
+		private final InputStream in;
+		private final OutputStream out;
+
+		private Connection(String host, int port, int timeoutMillis, boolean ssl) throws IOException {
+			Socket plain = new Socket();
+			try {
+				plain.connect(new InetSocketAddress(host, port), timeoutMillis);
+				plain.setSoTimeout(timeoutMillis);
+				plain.setTcpNoDelay(true);
+				socket = ssl ? startTls(plain, host, port) : plain;
+				in = new BufferedInputStream(socket.getInputStream());
+				out = new BufferedOutputStream(socket.getOutputStream());
+			} catch (IOException e) {
+				plain.close();
+				throw e;
+			}
+		}
+
+		// JVM 기본 신뢰 저장소로 서버 인증서를 확인하고, 인증서가 접속한 호스트의 것인지도 확인한다
+		private static Socket startTls(Socket plain, String host, int port) throws IOException {
+			SSLSocket tls = (SSLSocket)((SSLSocketFactory)SSLSocketFactory.getDefault())
+				.createSocket(plain, host, port, true);
+			SSLParameters parameters = tls.getSSLParameters();
+			parameters.setEndpointIdentificationAlgorithm("HTTPS");
+			tls.setSSLParameters(parameters);
+			tls.startHandshake();
+			return tls;
+		}
+
+		private void write(String... command) throws IOException {
+			writeLine('*', command.length);
+			for (String argument : command) {
+				byte[] bytes = argument.getBytes(StandardCharsets.UTF_8);
+				writeLine('$', bytes.length);
+				out.write(bytes);
+				out.write('\r');
+				out.write('\n');
+			}
+			out.flush();
+		}
+
+		private void writeLine(char type, int value) throws IOException {
+			out.write(type);
+			out.write(String.valueOf(value).getBytes(StandardCharsets.US_ASCII));
+			out.write('\r');
+			out.write('\n');
+		}
+
+		private Object read() throws IOException {
+			int type = in.read();
+			String line = readLine();
+			return switch (type) {
+				case '+' -> line;
+				case '-' -> new RedisError(line);
+				case ':' -> Long.parseLong(line);
+				case '$' -> readBulk(Integer.parseInt(line));
+				case '*' -> readArray(Integer.parseInt(line));
+				case -1 -> throw new EOFException("Redis 연결이 끊어졌습니다.");
+				default -> throw new IOException("알 수 없는 Redis 응답 형식: " + (char)type);
+			};
+		}
+
+		private String readBulk(int length) throws IOException {
+			if (length < 0) {
+				return null;
+			}
+			byte[] bytes = in.readNBytes(length);
+			readLine();
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private Object[] readArray(int length) throws IOException {
+			if (length < 0) {
+				return null;
+			}
+			Object[] elements = new Object[length];
+			for (int i = 0; i < length; i++) {
+				elements[i] = read();
+			}
+			return elements;
+		}
+
+		private String readLine() throws IOException {
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			int current;
+			while ((current = in.read()) != '\r') {
+				if (current == -1) {
+					throw new EOFException("Redis 연결이 끊어졌습니다.");
+				}
+				line.write(current);
+			}
+			in.read();
+			return line.toString(StandardCharsets.UTF_8);
+		}
+
+		private void close() {
+			try {
+				socket.close();
+			} catch (IOException ignored) {
+				// 버리는 연결이므로 닫다가 난 오류는 무시한다
+			}
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.sejong.sejongpeer.infra.scheduler.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 작업별 잠금.
+ * 행은 처음 잠금을 얻을 때 만들어지며, 이후에는 만료된 잠금을 가져가는 UPDATE 로만 바뀐다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+	@Id
+	@Comment("작업 이름")
+	@Column(length = 64)
+	private String name;
+
+	@Comment("잠금을 가진 인스턴스")
+	@Column(length = 100, nullable = false)
+	private String lockedBy;
+
+	@Comment("잠금을 얻은 시각")
+	@Column(nullable = false)
+	private LocalDateTime lockedAt;
+
+	@Comment("잠금 만료 시각")
+	@Column(nullable = false)
+	private LocalDateTime lockedUntil;
+
+	@Comment("잠금을 얻을 때마다 1씩 증가하는 펜싱 토큰")
+	@Column(nullable = false)
+	private long fencingToken;
+}
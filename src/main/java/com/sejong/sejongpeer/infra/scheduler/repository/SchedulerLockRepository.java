@@ -0,0 +1,82 @@
+package com.sejong.sejongpeer.infra.scheduler.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sejong.sejongpeer.infra.scheduler.entity.SchedulerLock;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * 모든 변경은 조건부 UPDATE 한 번으로 끝나며, 호출한 쪽의 트랜잭션과 상관없이 바로 커밋된다.
+ * {@link #lockIfHeld}만 예외로, 작업의 트랜잭션 안에서 행을 잠가 커밋할 때까지 다른 인스턴스가 잠금을 가져가지 못하게 한다.
+ */
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+	// 만료된 잠금만 가져가므로 동시에 호출해도 한 인스턴스만 1을 돌려받는다
+	@Modifying
+	@Query("UPDATE SchedulerLock l SET l.lockedBy = :lockedBy, l.lockedAt = :now, l.lockedUntil = :lockedUntil, "
+		+ "l.fencingToken = l.fencingToken + 1 WHERE l.name = :name AND l.lockedUntil <= :now")
+	int acquire(
+		@Param("name") String name,
+		@Param("lockedBy") String lockedBy,
+		@Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	// 처음 잠금을 얻는 경우. 동시에 넣으면 기본 키 중복으로 한 인스턴스만 성공한다
+	@Modifying
+	@Query(value = "INSERT INTO scheduler_lock (name, locked_by, locked_at, locked_until, fencing_token) "
+		+ "VALUES (:name, :lockedBy, :now, :lockedUntil, 1)", nativeQuery = true)
+	int insert(
+		@Param("name") String name,
+		@Param("lockedBy") String lockedBy,
+		@Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Query("SELECT l.fencingToken FROM SchedulerLock l WHERE l.name = :name AND l.lockedBy = :lockedBy")
+	Optional<Long> findFencingToken(@Param("name") String name, @Param("lockedBy") String lockedBy);
+
+	// 이미 만료되었거나 다른 인스턴스가 가져간 잠금은 연장하지 않는다
+	@Modifying
+	@Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil "
+		+ "WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :now")
+	int extend(
+		@Param("name") String name,
+		@Param("fencingToken") long fencingToken,
+		@Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Modifying
+	@Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil "
+		+ "WHERE l.name = :name AND l.fencingToken = :fencingToken")
+	int release(
+		@Param("name") String name,
+		@Param("fencingToken") long fencingToken,
+		@Param("lockedUntil") LocalDateTime lockedUntil);
+
+	@Query("SELECT COUNT(l) > 0 FROM SchedulerLock l "
+		+ "WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :now")
+	boolean isHeld(
+		@Param("name") String name,
+		@Param("fencingToken") long fencingToken,
+		@Param("now") LocalDateTime now);
+
+	// 잠금을 가진 동안에만 행을 잠근다. 작업의 트랜잭션이 커밋될 때까지 다른 인스턴스의 acquire 는 기다린다
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Query("SELECT l FROM SchedulerLock l "
+		+ "WHERE l.name = :name AND l.fencingToken = :fencingToken AND l.lockedUntil > :now")
+	Optional<SchedulerLock> lockIfHeld(
+		@Param("name") String name,
+		@Param("fencingToken") long fencingToken,
+		@Param("now") LocalDateTime now);
+}
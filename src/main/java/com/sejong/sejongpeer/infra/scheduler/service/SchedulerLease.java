@@ -0,0 +1,83 @@
+package com.sejong.sejongpeer.infra.scheduler.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+/**
+ * 한 번 얻은 작업 잠금. 펜싱 토큰은 잠금을 얻을 때마다 커지므로, 만료된 뒤 다른 인스턴스가 가져가면
+ * 이전 토큰으로는 연장이나 해제를 할 수 없다.
+ * 작업은 결과를 반영하는 단위마다 {@link #fenced}로 감싸 잠금을 잃은 뒤에는 아무것도 커밋하지 않게 한다.
+ */
+public final class SchedulerLease implements AutoCloseable {
+	private final SchedulerLockManager manager;
+	private final String name;
+	private final long fencingToken;
+	private final LocalDateTime acquiredAt;
+
+	private volatile boolean lost;
+	private volatile ScheduledFuture<?> renewal;
+
+	SchedulerLease(SchedulerLockManager manager, String name, long fencingToken, LocalDateTime acquiredAt) {
+		this.manager = manager;
+		this.name = name;
+		this.fencingToken = fencingToken;
+		this.acquiredAt = acquiredAt;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getFencingToken() {
+		return fencingToken;
+	}
+
+	/** 연장에 실패한 적이 없는지. DB 까지 확인하려면 {@link #isHeld()}를 사용한다. */
+	public boolean isLost() {
+		return lost;
+	}
+
+	/** 지금도 이 토큰으로 잠금을 가지고 있는지 DB 에서 확인한다. 오래 걸리는 작업이 결과를 반영하기 전에 확인한다. */
+	public boolean isHeld() {
+		return !lost && manager.isHeld(this);
+	}
+
+	/**
+	 * 잠금을 가진 동안에만 work 를 한 트랜잭션에서 실행한다. 트랜잭션이 끝날 때까지 잠금 행을 잠가 두므로
+	 * 그 사이에 잠금이 만료되어도 다른 인스턴스는 커밋 뒤에야 잠금을 가져간다.
+	 *
+	 * @throws SchedulerLeaseLostException 이미 잠금을 잃은 경우. work 는 실행되지 않는다
+	 */
+	public <T> T fenced(Supplier<T> work) {
+		return manager.fenced(this, work);
+	}
+
+	public void fenced(Runnable work) {
+		manager.fenced(this, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	@Override
+	public void close() {
+		manager.release(this);
+	}
+
+	LocalDateTime getAcquiredAt() {
+		return acquiredAt;
+	}
+
+	void markLost() {
+		this.lost = true;
+	}
+
+	ScheduledFuture<?> getRenewal() {
+		return renewal;
+	}
+
+	void setRenewal(ScheduledFuture<?> renewal) {
+		this.renewal = renewal;
+	}
+}
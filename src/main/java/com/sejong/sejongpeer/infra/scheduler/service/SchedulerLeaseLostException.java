@@ -0,0 +1,12 @@
+package com.sejong.sejongpeer.infra.scheduler.service;
+
+/**
+ * 작업이 결과를 반영하려는 시점에 잠금을 이미 잃은 경우. 반영하려던 트랜잭션은 롤백된다.
+ */
+public class SchedulerLeaseLostException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public SchedulerLeaseLostException(String name, long fencingToken) {
+		super(name + " 잠금을 잃어 작업 결과를 반영하지 않습니다. (token: " + fencingToken + ")");
+	}
+}
@@ -0,0 +1,191 @@
+package com.sejong.sejongpeer.infra.scheduler.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sejong.sejongpeer.infra.config.properties.SchedulerLockProperties;
+import com.sejong.sejongpeer.infra.scheduler.repository.SchedulerLockRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블루/그린 배포처럼 여러 인스턴스가 함께 떠 있을 때 스케줄 작업을 작업별로 한 인스턴스에서만 실행한다.
+ *
+ * <p>scheduler_lock 테이블의 작업별 행을 조건부 UPDATE 로 가져가는 방식이며, 작업이 실행되는 동안에는
+ * 잠금 유지 시간의 1/3 주기로 연장한다. 인스턴스가 죽어 연장이 멈추면 유지 시간이 지난 뒤 다른 인스턴스가 가져간다.
+ * 잠금은 작업마다 따로 잡으므로 작업들은 여러 인스턴스에 나뉘어 실행될 수 있다.
+ * 만료 판단은 각 인스턴스의 시계를 사용하므로 인스턴스 사이의 시계 차이는 잠금 유지 시간보다 충분히 작아야 한다.
+ * 연장이 늦어 잠금을 잃은 뒤에도 작업이 계속될 수 있으므로, 작업은 {@link SchedulerLease#fenced}로 감싼 단위로만 커밋한다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockManager {
+
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final SchedulerLockProperties schedulerLockProperties;
+	private final String instanceId;
+	private final TransactionTemplate transactionTemplate;
+	private final ScheduledExecutorService renewer;
+
+	@Autowired
+	public SchedulerLockManager(
+		SchedulerLockRepository schedulerLockRepository,
+		SchedulerLockProperties schedulerLockProperties,
+		PlatformTransactionManager transactionManager) {
+		this(schedulerLockRepository, schedulerLockProperties, transactionManager, defaultInstanceId());
+	}
+
+	SchedulerLockManager(
+		SchedulerLockRepository schedulerLockRepository,
+		SchedulerLockProperties schedulerLockProperties,
+		PlatformTransactionManager transactionManager,
+		String instanceId) {
+		this.schedulerLockRepository = schedulerLockRepository;
+		this.schedulerLockProperties = schedulerLockProperties;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.instanceId = instanceId;
+		this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "scheduler-lock-renewer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 잠금을 얻은 경우에만 job 을 실행하고, 끝나면 잠금을 놓는다.
+	 * job 은 받은 잠금의 {@link SchedulerLease#fenced}로 결과를 반영하며, 도중에 잠금을 잃으면 남은 작업을 멈춘다.
+	 *
+	 * @return job 을 실행했는지 여부. 다른 인스턴스가 실행 중이면 false
+	 */
+	public boolean runExclusively(String name, Consumer<SchedulerLease> job) {
+		Optional<SchedulerLease> acquired = tryAcquire(name);
+		if (acquired.isEmpty()) {
+			log.debug("다른 인스턴스가 실행 중이므로 {} 작업을 건너뜁니다.", name);
+			return false;
+		}
+
+		try (SchedulerLease lease = acquired.get()) {
+			job.accept(lease);
+		} catch (SchedulerLeaseLostException e) {
+			log.warn("{} 작업 실행 중 잠금을 잃어 남은 작업을 멈춥니다. (token: {})", name,
+				acquired.get().getFencingToken());
+		}
+		return true;
+	}
+
+	/**
+	 * 잠금을 얻으면 작업이 끝날 때까지 자동으로 연장되는 {@link SchedulerLease}를 돌려준다. 사용한 뒤에는 반드시 닫아야 한다.
+	 */
+	public Optional<SchedulerLease> tryAcquire(String name) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime lockedUntil = now.plus(schedulerLockProperties.leaseDuration());
+
+		if (!acquireOrInsert(name, now, lockedUntil)) {
+			return Optional.empty();
+		}
+
+		long fencingToken = schedulerLockRepository.findFencingToken(name, instanceId).orElseThrow();
+		SchedulerLease lease = new SchedulerLease(this, name, fencingToken, now);
+		long renewMillis = Math.max(schedulerLockProperties.leaseDuration().toMillis() / 3, 1);
+		lease.setRenewal(
+			renewer.scheduleAtFixedRate(() -> renew(lease), renewMillis, renewMillis, TimeUnit.MILLISECONDS));
+		return Optional.of(lease);
+	}
+
+	<T> T fenced(SchedulerLease lease, Supplier<T> work) {
+		return transactionTemplate.execute(status -> {
+			if (lease.isLost() || schedulerLockRepository.lockIfHeld(lease.getName(), lease.getFencingToken(),
+				LocalDateTime.now()).isEmpty()) {
+				throw new SchedulerLeaseLostException(lease.getName(), lease.getFencingToken());
+			}
+			return work.get();
+		});
+	}
+
+	boolean isHeld(SchedulerLease lease) {
+		return schedulerLockRepository.isHeld(lease.getName(), lease.getFencingToken(), LocalDateTime.now());
+	}
+
+	void release(SchedulerLease lease) {
+		cancelRenewal(lease);
+
+		// 너무 빨리 놓으면 조금 늦게 같은 cron 을 실행한 인스턴스가 한 번 더 실행하므로 최소 유지 시간까지는 잡아 둔다
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime minHoldUntil = lease.getAcquiredAt().plus(schedulerLockProperties.minHoldDuration());
+		LocalDateTime lockedUntil = minHoldUntil.isAfter(now) ? minHoldUntil : now;
+		try {
+			schedulerLockRepository.release(lease.getName(), lease.getFencingToken(), lockedUntil);
+		} catch (RuntimeException e) {
+			log.warn("{} 잠금 해제 실패, 유지 시간이 지나면 만료됩니다: {}", lease.getName(), e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renewer.shutdownNow();
+	}
+
+	private boolean acquireOrInsert(String name, LocalDateTime now, LocalDateTime lockedUntil) {
+		if (schedulerLockRepository.acquire(name, instanceId, now, lockedUntil) == 1) {
+			return true;
+		}
+		if (schedulerLockRepository.existsById(name)) {
+			return false;
+		}
+		try {
+			return schedulerLockRepository.insert(name, instanceId, now, lockedUntil) == 1;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+
+	private void renew(SchedulerLease lease) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			int extended = schedulerLockRepository.extend(lease.getName(), lease.getFencingToken(), now,
+				now.plus(schedulerLockProperties.leaseDuration()));
+			if (extended == 0) {
+				lease.markLost();
+				cancelRenewal(lease);
+				log.warn("{} 잠금을 연장하지 못했습니다. 다른 인스턴스가 가져갔습니다. (token: {})",
+					lease.getName(), lease.getFencingToken());
+			}
+		} catch (RuntimeException e) {
+			// 일시적인 DB 오류는 다음 주기에 다시 연장한다. 유지 시간이 지나면 연장 조건에서 걸러진다
+			log.warn("{} 잠금 연장 실패: {}", lease.getName(), e.getMessage());
+		}
+	}
+
+	private void cancelRenewal(SchedulerLease lease) {
+		ScheduledFuture<?> renewal = lease.getRenewal();
+		if (renewal != null) {
+			renewal.cancel(false);
+		}
+	}
+
+	private static String defaultInstanceId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown";
+		}
+		return host.substring(0, Math.min(host.length(), 60)) + "-" + UUID.randomUUID();
+	}
+}
@@ -0,0 +1,109 @@
+package com.sejong.sejongpeer.infra.sms.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Comment;
+
+import com.sejong.sejongpeer.domain.common.BaseAuditEntity;
+import com.sejong.sejongpeer.infra.sms.entity.type.SmsOutboxStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전송할 SMS를 업무 트랜잭션과 함께 저장해 두는 outbox. 커밋 이후 {@code SmsOutboxDispatcher}가 모아서 전송한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_sms_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class SmsOutbox extends BaseAuditEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Comment("수신자 전화번호")
+	@Column(length = 30, nullable = false)
+	private String receiver;
+
+	@Comment("메시지 내용")
+	@Column(columnDefinition = "text", nullable = false)
+	private String message;
+
+	@Comment("전송 상태")
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private SmsOutboxStatus status;
+
+	@Comment("전송 시도 횟수")
+	@Column(nullable = false)
+	private int attemptCount;
+
+	@Comment("다음 전송 시도 시각")
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Comment("전송을 가져간 작업 식별자")
+	@Column(length = 36)
+	private String claimToken;
+
+	@Comment("전송을 가져간 시각")
+	private LocalDateTime claimedAt;
+
+	@Comment("마지막 전송 실패 사유")
+	@Column(length = 255)
+	private String lastError;
+
+	@Builder(access = AccessLevel.PRIVATE)
+	private SmsOutbox(String receiver, String message, SmsOutboxStatus status, LocalDateTime nextAttemptAt) {
+		this.receiver = receiver;
+		this.message = message;
+		this.status = status;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public static SmsOutbox create(String receiver, String message) {
+		return SmsOutbox.builder()
+			.receiver(receiver)
+			.message(message)
+			.status(SmsOutboxStatus.PENDING)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+	}
+
+	public void markSent() {
+		this.status = SmsOutboxStatus.SENT;
+		this.attemptCount++;
+		this.claimToken = null;
+		this.lastError = null;
+	}
+
+	/**
+	 * 전송 실패 시 대기 시간을 두 배씩 늘려 다시 시도하고, 최대 시도 횟수를 넘기면 실패로 남긴다.
+	 */
+	public void markFailed(String error, int maxAttempts, Duration baseBackoff) {
+		this.attemptCount++;
+		this.claimToken = null;
+		this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+
+		if (attemptCount >= maxAttempts) {
+			this.status = SmsOutboxStatus.FAILED;
+			return;
+		}
+		this.status = SmsOutboxStatus.PENDING;
+		this.nextAttemptAt = LocalDateTime.now().plus(baseBackoff.multipliedBy(1L << (attemptCount - 1)));
+	}
+}
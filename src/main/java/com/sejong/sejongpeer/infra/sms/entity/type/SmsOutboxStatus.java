@@ -0,0 +1,15 @@
+package com.sejong.sejongpeer.infra.sms.entity.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SmsOutboxStatus {
+	PENDING("전송 대기"),
+	SENDING("전송 중"),
+	SENT("전송 완료"),
+	FAILED("전송 실패");
+
+	private final String value;
+}
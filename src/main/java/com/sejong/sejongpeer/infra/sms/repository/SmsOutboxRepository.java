@@ -0,0 +1,32 @@
+package com.sejong.sejongpeer.infra.sms.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sejong.sejongpeer.infra.sms.entity.SmsOutbox;
+
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long> {
+
+	@Query("SELECT o.id FROM SmsOutbox o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.id")
+	List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+	// 여러 작업이 같은 행을 고르더라도 PENDING 조건 때문에 한 작업만 가져간다
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE SmsOutbox o SET o.status = 'SENDING', o.claimToken = :claimToken, o.claimedAt = :now "
+		+ "WHERE o.id IN :ids AND o.status = 'PENDING'")
+	int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+	List<SmsOutbox> findAllByClaimToken(String claimToken);
+
+	// 전송 중 서버가 종료되어 SENDING 으로 남은 행을 다시 대기 상태로 돌린다
+	@Modifying
+	@Query("UPDATE SmsOutbox o SET o.status = 'PENDING', o.claimToken = NULL "
+		+ "WHERE o.status = 'SENDING' AND o.claimedAt < :threshold")
+	int releaseStaleClaims(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,125 @@
+package com.sejong.sejongpeer.infra.sms.service;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sejong.sejongpeer.infra.config.properties.AligoProperties;
+import com.sejong.sejongpeer.infra.config.properties.SmsOutboxProperties;
+
+/** Aligo 대량 전송 API(/send_mass/)로 수신자별 메시지를 한 번에 전송합니다. */
+@Component
+public class AligoSmsClient {
+	/** /send_mass/ 한 번에 보낼 수 있는 최대 수신자 수 */
+	public static final int MAX_RECEIVERS = 500;
+
+	private static final Charset EUC_KR = Charset.forName("EUC-KR");
+	private static final int SMS_MAX_BYTES = 90;
+
+	private final WebClient webClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AligoProperties aligoProperties;
+	private final Duration requestTimeout;
+
+	public AligoSmsClient(
+		WebClient.Builder webClientBuilder,
+		AligoProperties aligoProperties,
+		SmsOutboxProperties smsOutboxProperties) {
+		this.webClient = webClientBuilder.clone().baseUrl(aligoProperties.baseUrl()).build();
+		this.aligoProperties = aligoProperties;
+		this.requestTimeout = smsOutboxProperties.requestTimeout();
+	}
+
+	/**
+	 * 90byte를 넘는 메시지는 LMS로 보내야 합니다. /send_mass/ 는 요청 단위로 타입을 지정하므로 타입별로 나누어 호출합니다.
+	 */
+	public static SmsMessageType messageTypeOf(String message) {
+		return message.getBytes(EUC_KR).length > SMS_MAX_BYTES ? SmsMessageType.LMS : SmsMessageType.SMS;
+	}
+
+	/**
+	 * @param type 메시지 타입, 모든 메시지가 같은 타입이어야 합니다
+	 * @param messages 수신자와 메시지 목록, 최대 {@link #MAX_RECEIVERS}건
+	 * @throws AligoSmsException 전송 요청이 실패한 경우
+	 */
+	public void sendMass(SmsMessageType type, List<SmsMessage> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		if (messages.size() > MAX_RECEIVERS) {
+			throw new IllegalArgumentException("한 번에 최대 " + MAX_RECEIVERS + "건까지 전송할 수 있습니다.");
+		}
+
+		MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+		formData.add("key", aligoProperties.key());
+		formData.add("user_id", aligoProperties.userId());
+		formData.add("sender", aligoProperties.sender());
+		formData.add("msg_type", type.name());
+		formData.add("cnt", String.valueOf(messages.size()));
+		for (int i = 0; i < messages.size(); i++) {
+			formData.add("rec_" + (i + 1), messages.get(i).receiver());
+			formData.add("msg_" + (i + 1), messages.get(i).message());
+		}
+
+		String body;
+		try {
+			body = webClient
+				.post()
+				.uri("/send_mass/")
+				.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+				.body(BodyInserters.fromFormData(formData))
+				.retrieve()
+				.bodyToMono(String.class)
+				.block(requestTimeout);
+		} catch (RuntimeException e) {
+			throw new AligoSmsException("Aligo 요청 실패: " + e.getMessage(), e);
+		}
+
+		AligoResponse response = parse(body);
+		// result_code 가 1 이상이면 성공, 음수면 실패
+		if (response.resultCode() < 1) {
+			throw new AligoSmsException("Aligo 전송 실패(" + response.resultCode() + "): " + response.message(), null);
+		}
+	}
+
+	private AligoResponse parse(String body) {
+		if (body == null) {
+			throw new AligoSmsException("Aligo 응답이 비어 있습니다.", null);
+		}
+		try {
+			return objectMapper.readValue(body, AligoResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new AligoSmsException("Aligo 응답을 해석할 수 없습니다: " + body, e);
+		}
+	}
+
+	public enum SmsMessageType {
+		SMS, LMS
+	}
+
+	public record SmsMessage(String receiver, String message) {
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	private record AligoResponse(@JsonProperty("result_code") int resultCode, String message) {
+	}
+
+	public static class AligoSmsException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public AligoSmsException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+}
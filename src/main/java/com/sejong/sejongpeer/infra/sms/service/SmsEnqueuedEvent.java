@@ -0,0 +1,5 @@
+package com.sejong.sejongpeer.infra.sms.service;
+
+/** outbox 에 SMS가 저장되었음을 알리는 이벤트. 트랜잭션 커밋 이후 전송 작업을 깨운다. */
+public record SmsEnqueuedEvent(Long outboxId) {
+}
@@ -0,0 +1,80 @@
+package com.sejong.sejongpeer.infra.sms.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sejong.sejongpeer.infra.sms.entity.SmsOutbox;
+import com.sejong.sejongpeer.infra.sms.service.AligoSmsClient.SmsMessage;
+import com.sejong.sejongpeer.infra.sms.service.AligoSmsClient.SmsMessageType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 에 쌓인 SMS를 Aligo 대량 전송 API로 보낸다.
+ * 요청 트랜잭션이 커밋된 뒤 별도 스레드에서 실행되므로 요청 처리 시간과 DB 커넥션 점유에 SMS 전송이 포함되지 않는다.
+ */
+@Slf4j
+@Component
+public class SmsOutboxDispatcher {
+
+	private final SmsOutboxService smsOutboxService;
+	private final AligoSmsClient aligoSmsClient;
+	private final ThreadPoolTaskExecutor smsDispatchExecutor;
+
+	public SmsOutboxDispatcher(
+		SmsOutboxService smsOutboxService,
+		AligoSmsClient aligoSmsClient,
+		@Qualifier("smsDispatchExecutor") ThreadPoolTaskExecutor smsDispatchExecutor) {
+		this.smsOutboxService = smsOutboxService;
+		this.aligoSmsClient = aligoSmsClient;
+		this.smsDispatchExecutor = smsDispatchExecutor;
+	}
+
+	// 트랜잭션 밖에서 저장된 경우에도 바로 전송하도록 fallbackExecution 사용
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSmsEnqueued(SmsEnqueuedEvent event) {
+		smsDispatchExecutor.execute(this::drain);
+	}
+
+	// 이벤트를 놓쳤거나 재시도 시각이 된 SMS를 주기적으로 전송
+	@Scheduled(fixedDelayString = "${sms.outbox.poll-delay-millis:10000}")
+	public void poll() {
+		int released = smsOutboxService.releaseStaleClaims();
+		if (released > 0) {
+			log.warn("전송 중 상태로 남아 있던 SMS {}건을 다시 대기 상태로 돌렸습니다.", released);
+		}
+		smsDispatchExecutor.execute(this::drain);
+	}
+
+	/** 전송할 SMS가 없을 때까지 batchSize 단위로 가져와 전송한다. */
+	void drain() {
+		List<SmsOutbox> claimed;
+		while (!(claimed = smsOutboxService.claimDueMessages()).isEmpty()) {
+			Map<SmsMessageType, List<SmsOutbox>> byType = claimed.stream()
+				.collect(Collectors.groupingBy(outbox -> AligoSmsClient.messageTypeOf(outbox.getMessage())));
+			byType.forEach(this::send);
+		}
+	}
+
+	private void send(SmsMessageType type, List<SmsOutbox> outboxes) {
+		List<Long> ids = outboxes.stream().map(SmsOutbox::getId).toList();
+		List<SmsMessage> messages = outboxes.stream()
+			.map(outbox -> new SmsMessage(outbox.getReceiver(), outbox.getMessage()))
+			.toList();
+
+		try {
+			aligoSmsClient.sendMass(type, messages);
+			smsOutboxService.markSent(ids);
+		} catch (RuntimeException e) {
+			log.error("SMS {}건 전송 실패: {}", ids.size(), e.getMessage(), e);
+			smsOutboxService.markFailed(ids, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.sejong.sejongpeer.infra.sms.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sejong.sejongpeer.infra.config.properties.SmsOutboxProperties;
+import com.sejong.sejongpeer.infra.sms.entity.SmsOutbox;
+import com.sejong.sejongpeer.infra.sms.repository.SmsOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SmsOutboxService {
+
+	private final SmsOutboxRepository smsOutboxRepository;
+	private final SmsOutboxProperties smsOutboxProperties;
+
+	/**
+	 * 전송할 시각이 된 outbox 를 최대 batchSize 건 가져가 SENDING 상태로 바꾼다.
+	 * 여러 작업이 동시에 호출해도 각 행은 한 작업에만 돌아간다.
+	 */
+	public List<SmsOutbox> claimDueMessages() {
+		LocalDateTime now = LocalDateTime.now();
+		int batchSize = Math.min(smsOutboxProperties.batchSize(), AligoSmsClient.MAX_RECEIVERS);
+
+		List<Long> dueIds = smsOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+		if (dueIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		String claimToken = UUID.randomUUID().toString();
+		smsOutboxRepository.claim(dueIds, claimToken, now);
+		return smsOutboxRepository.findAllByClaimToken(claimToken);
+	}
+
+	public void markSent(List<Long> ids) {
+		smsOutboxRepository.findAllById(ids).forEach(SmsOutbox::markSent);
+	}
+
+	public void markFailed(List<Long> ids, String error) {
+		smsOutboxRepository.findAllById(ids).forEach(outbox -> outbox.markFailed(
+			error, smsOutboxProperties.maxAttempts(), smsOutboxProperties.retryBackoff()));
+	}
+
+	public int releaseStaleClaims() {
+		LocalDateTime threshold = LocalDateTime.now().minus(smsOutboxProperties.claimTimeout());
+		return smsOutboxRepository.releaseStaleClaims(threshold);
+	}
+}
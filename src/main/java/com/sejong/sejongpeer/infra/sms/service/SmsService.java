@@ -1,75 +1,55 @@
 package com.sejong.sejongpeer.infra.sms.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
-import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-
-/** SMS 메시지를 보내는 서비스를 제공합니다. Aligo API를 사용하여 SMS를 전송합니다. */
-@Service
-public class SmsService {
-	private static final String ALIGO_BASE_URL = "https://apis.aligo.in";
+import java.util.List;
 
-	private final WebClient webClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-	@Value("${aligo.api.key}")
-	private String apiKey;
+import com.sejong.sejongpeer.infra.sms.entity.SmsOutbox;
+import com.sejong.sejongpeer.infra.sms.repository.SmsOutboxRepository;
 
-	@Value("${aligo.api.user-id}")
-	private String apiUserId;
+import lombok.RequiredArgsConstructor;
 
-	@Value("${aligo.api.sender}")
-	private String sender;
+/**
+ * SMS 메시지를 보내는 서비스를 제공합니다.
+ * 호출한 트랜잭션 안에서 outbox 에 저장만 하고, 실제 Aligo API 전송은 커밋 이후 {@link SmsOutboxDispatcher}가 모아서 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SmsService {
 
-	@Autowired
-	public SmsService(WebClient.Builder webClientBuilder) {
-		this.webClient = webClientBuilder.baseUrl(ALIGO_BASE_URL).build();
-	}
+	private final SmsOutboxRepository smsOutboxRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * @param receiver 받는사람의 전화번호 010xxxxyyyy 형식
 	 * @param msg 보낼 메시지 90byte 한글 최대 45자 가능
-	 * @return 전송결과 또는 오류
 	 */
-	public String sendSms(String receiver, SmsText msg) {
-
-		MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-		formData.add("key", apiKey);
-		formData.add("user_id", apiUserId);
-		formData.add("sender", sender);
-		formData.add("receiver", receiver);
-		formData.add("msg", msg.getValue());
-
-		return webClient
-			.post()
-			.uri("/send/")
-			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
-			.body(BodyInserters.fromMultipartData(formData))
-			.retrieve()
-			.bodyToMono(String.class)
-			.block();
+	public void sendSms(String receiver, SmsText msg) {
+		enqueue(receiver, msg.getValue());
 	}
 
-	public String sendFormattedSms(String receiver, String msg) {
+	public void sendFormattedSms(String receiver, String msg) {
+		enqueue(receiver, msg);
+	}
 
-		MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-		formData.add("key", apiKey);
-		formData.add("user_id", apiUserId);
-		formData.add("sender", sender);
-		formData.add("receiver", receiver);
-		formData.add("msg", msg);
+	/**
+	 * 같은 메시지를 여러 명에게 보낼 때 outbox 저장과 전송 요청을 한 번에 처리합니다.
+	 */
+	public void sendSms(List<String> receivers, SmsText msg) {
+		if (receivers.isEmpty()) {
+			return;
+		}
+		List<SmsOutbox> outboxes = smsOutboxRepository.saveAll(receivers.stream()
+			.map(receiver -> SmsOutbox.create(receiver, msg.getValue()))
+			.toList());
+		eventPublisher.publishEvent(new SmsEnqueuedEvent(outboxes.get(0).getId()));
+	}
 
-		return webClient
-			.post()
-			.uri("/send/")
-			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
-			.body(BodyInserters.fromMultipartData(formData))
-			.retrieve()
-			.bodyToMono(String.class)
-			.block();
+	private void enqueue(String receiver, String msg) {
+		SmsOutbox outbox = smsOutboxRepository.save(SmsOutbox.create(receiver, msg));
+		eventPublisher.publishEvent(new SmsEnqueuedEvent(outbox.getId()));
 	}
 }
@@ -19,6 +19,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.sejong.sejongpeer.global.common.constants.UrlConstants;
 import com.sejong.sejongpeer.global.util.SpringEnvironmentUtil;
+import com.sejong.sejongpeer.infra.config.properties.PasswordHashingProperties;
 import com.sejong.sejongpeer.security.constant.WebSecurityURIs;
 import com.sejong.sejongpeer.security.filter.JwtAuthenticationFilter;
 
@@ -30,10 +31,11 @@ import lombok.RequiredArgsConstructor;
 public class WebSecurityConfig {
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 	private final SpringEnvironmentUtil springEnvironmentUtil;
+	private final PasswordHashingProperties passwordHashingProperties;
 
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+		return new BCryptPasswordEncoder(passwordHashingProperties.strength());
 	}
 
 	@Bean
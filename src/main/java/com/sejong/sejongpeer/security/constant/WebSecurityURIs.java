@@ -9,6 +9,7 @@ public final class WebSecurityURIs {
 	public static final List<String> PUBLIC_URIS =
 		List.of(
 			"/api/v1/auth/sign-in",
+			"/api/v1/auth/reissue",
 			"/sejongpeer-actuator/**",
 			"/api/v1/study/unauthenticated/**",
 			"/api/v1/auth/sejong-auth",
@@ -3,7 +3,6 @@ package com.sejong.sejongpeer.security.filter;
 import java.io.IOException;
 
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -12,6 +11,7 @@ import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 import com.sejong.sejongpeer.security.constant.HeaderConstant;
 import com.sejong.sejongpeer.security.constant.WebSecurityURIs;
 import com.sejong.sejongpeer.security.util.JwtProvider;
+import com.sejong.sejongpeer.security.util.PublicUriMatcher;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+	private static final PublicUriMatcher PUBLIC_URI_MATCHER = PublicUriMatcher.compile(WebSecurityURIs.PUBLIC_URIS);
+
 	private final JwtProvider jwtProvider;
 
 	@Override
@@ -65,7 +67,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) {
-		return WebSecurityURIs.PUBLIC_URIS.stream()
-			.anyMatch(uri -> new AntPathRequestMatcher(uri).matches(request));
+		return PUBLIC_URI_MATCHER.matches(request);
 	}
 }
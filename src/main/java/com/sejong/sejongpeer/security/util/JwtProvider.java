@@ -1,18 +1,22 @@
 package com.sejong.sejongpeer.security.util;
 
 import com.sejong.sejongpeer.security.constant.HeaderConstant;
+import com.sejong.sejongpeer.security.util.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Service
 public class JwtProvider {
+    private static final String FAMILY_CLAIM = "fam";
+
     @Value("${jwt.access-token-expiration}")
     public long ACCESS_TOKEN_VALID_MILL_TIME;
 
@@ -37,6 +43,27 @@ public class JwtProvider {
     @Value("${jwt.refresh-token-key}")
     private String REFRESH_SECRET_KEY;
 
+    @Value("${jwt.verified-token-cache-size:10000}")
+    private int VERIFIED_TOKEN_CACHE_SIZE;
+
+    // 키와 파서는 불변이고 스레드 안전하므로 시작할 때 한 번만 만든다
+    private Key accessTokenKey;
+    private Key refreshTokenKey;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+    private VerifiedTokenCache accessTokenCache;
+    private VerifiedTokenCache refreshTokenCache;
+
+    @PostConstruct
+    void init() {
+        accessTokenKey = Keys.hmacShaKeyFor(ACCESS_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        refreshTokenKey = Keys.hmacShaKeyFor(REFRESH_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        accessTokenParser = Jwts.parserBuilder().setSigningKey(accessTokenKey).build();
+        refreshTokenParser = Jwts.parserBuilder().setSigningKey(refreshTokenKey).build();
+        accessTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+        refreshTokenCache = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
+    }
+
     public String resolveToken(@Nullable HttpServletRequest request, String header) {
         String authHeader = request.getHeader(header);
         if (authHeader == null) {
@@ -57,22 +84,25 @@ public class JwtProvider {
                         .setSubject(memberId)
                         .setIssuedAt(now)
                         .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_VALID_MILL_TIME))
-                        .signWith(getAccessTokenKey())
+                        .signWith(accessTokenKey)
                         .compact();
 
         return accessToken;
     }
 
-    public String generateRefreshToken(@Nullable String memberId) {
+    public String generateRefreshToken(@Nullable String memberId, String familyId) {
         final Date now = new Date();
 
-        // 토큰 생성
+        // 토큰 생성. 같은 초에 다시 발급해도 교체 전 토큰과 구별되도록 jti 를 넣는다
+        // 로그인 한 번에서 이어지는 토큰은 같은 family 를 가지므로, 기기마다 따로 교체된다
         String refreshToken =
                 Jwts.builder()
+                        .setId(UUID.randomUUID().toString())
+                        .claim(FAMILY_CLAIM, familyId)
                         .setSubject(memberId)
                         .setIssuedAt(now)
                         .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_VALID_MILL_TIME))
-                        .signWith(getRefreshTokenKey())
+                        .signWith(refreshTokenKey)
                         .compact();
 
         return refreshToken;
@@ -86,37 +116,45 @@ public class JwtProvider {
     }
 
     private Claims extractAllAccessTokenClaims(String token, boolean isAccessToken) {
-        Key signingKey = isAccessToken ? getAccessTokenKey() : getRefreshTokenKey();
+        JwtParser parser = isAccessToken ? accessTokenParser : refreshTokenParser;
 
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(signingKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
-    public String extractMemberId(String token, boolean isAccessToken) {
-        return extractClaim(token, isAccessToken, (claims) -> claims.get("sub", String.class));
-    }
+    // 한 요청에서 유효성 확인과 memberId 추출을 모두 하므로, 검증된 토큰은 만료될 때까지 다시 파싱하지 않는다
+    private VerifiedToken verify(String token, boolean isAccessToken) {
+        VerifiedTokenCache cache = isAccessToken ? accessTokenCache : refreshTokenCache;
+        long now = System.currentTimeMillis();
 
-    public Date extractExpiration(String token, boolean isAccessToken) {
-        return extractClaim(token, isAccessToken, Claims::getExpiration);
-    }
+        VerifiedToken cached = cache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
 
-    private Key getAccessTokenKey() {
-        byte[] keyBytes = ACCESS_SECRET_KEY.getBytes(StandardCharsets.UTF_8);
+        Claims claims = extractAllAccessTokenClaims(token, isAccessToken);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+        cache.put(token, verified, now);
+        return verified;
+    }
 
-        return Keys.hmacShaKeyFor(keyBytes);
+    public String extractMemberId(String token, boolean isAccessToken) {
+        return verify(token, isAccessToken).memberId();
     }
 
-    private Key getRefreshTokenKey() {
-        byte[] keyBytes = REFRESH_SECRET_KEY.getBytes(StandardCharsets.UTF_8);
+    /**
+     * @return family 를 넣기 전에 발급된 refresh token 이면 null
+     */
+    @Nullable
+    public String extractFamilyId(String refreshToken) {
+        return extractClaim(refreshToken, false, claims -> claims.get(FAMILY_CLAIM, String.class));
+    }
 
-        return Keys.hmacShaKeyFor(keyBytes);
+    public Date extractExpiration(String token, boolean isAccessToken) {
+        return new Date(verify(token, isAccessToken).expiresAt());
     }
 
     public boolean isTokenValid(String token, boolean isAccessToken) {
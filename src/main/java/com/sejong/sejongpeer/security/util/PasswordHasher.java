@@ -0,0 +1,84 @@
+package com.sejong.sejongpeer.security.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.PasswordHashingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시와 검증을 요청 처리 스레드 대신 {@code passwordHashingExecutor} 에서 실행한다.
+ *
+ * <p>요청 스레드는 결과를 기다리기만 하므로, 로그인이 몰려도 CPU 는 해시 스레드 수만큼만 쓰인다.
+ * 대기열이 가득 찼거나 제한 시간 안에 끝나지 않으면 {@link ErrorCode#PASSWORD_HASHING_BUSY} 로 거절한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+	private final PasswordEncoder passwordEncoder;
+	private final AsyncTaskExecutor hashingExecutor;
+	private final long timeoutMillis;
+
+	public PasswordHasher(
+		PasswordEncoder passwordEncoder,
+		@Qualifier("passwordHashingExecutor") AsyncTaskExecutor hashingExecutor,
+		PasswordHashingProperties properties) {
+		this.passwordEncoder = passwordEncoder;
+		this.hashingExecutor = hashingExecutor;
+		this.timeoutMillis = properties.timeout().toMillis();
+	}
+
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * @return 설정한 BCrypt cost 보다 낮은 cost 로 저장된 비밀번호이면 true. 해시를 다시 계산하지 않으므로 바로 호출해도 된다
+	 */
+	public boolean needsRehash(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T execute(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = hashingExecutor.submit(task);
+		} catch (TaskRejectedException e) {
+			log.warn("비밀번호 해시 대기열이 가득 차 요청을 거절합니다.");
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 응답을 기다리던 요청은 끝났으므로 아직 대기열에 있는 해시는 실행하지 않는다
+			future.cancel(true);
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.sejong.sejongpeer.security.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 없이 접근할 수 있는 URI 패턴을 시작할 때 한 번 분류해 두고, 요청 경로를 한 번 훑어서 판단한다.
+ *
+ * <ul>
+ *     <li>와일드카드가 없는 패턴은 경로 전체로 조회한다.</li>
+ *     <li>{@code /prefix/**} 패턴은 요청 경로의 상위 경로를 차례로 조회한다.</li>
+ *     <li>그 밖의 패턴은 미리 파싱한 {@link PathPattern}으로 검사한다.</li>
+ * </ul>
+ * 판단 결과는 {@link org.springframework.security.web.util.matcher.AntPathRequestMatcher}와 같다.
+ */
+public final class PublicUriMatcher {
+	private static final String SUBPATH_SUFFIX = "/**";
+
+	private final Set<String> exactPaths = new HashSet<>();
+	private final Set<String> subpathPrefixes = new HashSet<>();
+	private final List<PathPattern> patterns = new ArrayList<>();
+
+	private PublicUriMatcher(Collection<String> uriPatterns) {
+		PathPatternParser parser = new PathPatternParser();
+		for (String uriPattern : uriPatterns) {
+			if (!hasWildcard(uriPattern)) {
+				exactPaths.add(uriPattern);
+			} else if (isSubpathPattern(uriPattern)) {
+				subpathPrefixes.add(uriPattern.substring(0, uriPattern.length() - SUBPATH_SUFFIX.length()));
+			} else {
+				patterns.add(parser.parse(uriPattern));
+			}
+		}
+	}
+
+	public static PublicUriMatcher compile(Collection<String> uriPatterns) {
+		return new PublicUriMatcher(uriPatterns);
+	}
+
+	public boolean matches(HttpServletRequest request) {
+		return matches(getRequestPath(request));
+	}
+
+	public boolean matches(String path) {
+		if (exactPaths.contains(path) || subpathPrefixes.contains(path)) {
+			return true;
+		}
+		for (int i = path.indexOf('/', 1); i > 0; i = path.indexOf('/', i + 1)) {
+			if (subpathPrefixes.contains(path.substring(0, i))) {
+				return true;
+			}
+		}
+		if (patterns.isEmpty()) {
+			return false;
+		}
+
+		PathContainer pathContainer = PathContainer.parsePath(path);
+		for (PathPattern pattern : patterns) {
+			if (pattern.matches(pathContainer)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// AntPathRequestMatcher 와 같이 servletPath + pathInfo 를 요청 경로로 사용한다
+	private static String getRequestPath(HttpServletRequest request) {
+		String path = request.getServletPath();
+		String pathInfo = request.getPathInfo();
+		if (pathInfo != null) {
+			path = StringUtils.hasLength(path) ? path + pathInfo : pathInfo;
+		}
+		return path;
+	}
+
+	private static boolean isSubpathPattern(String pattern) {
+		if (!pattern.endsWith(SUBPATH_SUFFIX)) {
+			return false;
+		}
+		String prefix = pattern.substring(0, pattern.length() - SUBPATH_SUFFIX.length());
+		return !prefix.isEmpty() && !hasWildcard(prefix);
+	}
+
+	private static boolean hasWildcard(String pattern) {
+		return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+	}
+}
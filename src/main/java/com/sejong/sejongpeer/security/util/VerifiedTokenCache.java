@@ -0,0 +1,65 @@
+package com.sejong.sejongpeer.security.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 마친 토큰을 만료 시각까지 보관한다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용해서 메모리에 토큰이 남지 않도록 한다.
+ */
+class VerifiedTokenCache {
+	private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+	private final int maxSize;
+
+	VerifiedTokenCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	VerifiedToken get(String token, long now) {
+		if (maxSize <= 0) {
+			return null;
+		}
+		String key = hash(token);
+		VerifiedToken verified = tokens.get(key);
+		if (verified == null) {
+			return null;
+		}
+		if (verified.isExpired(now)) {
+			tokens.remove(key, verified);
+			return null;
+		}
+		return verified;
+	}
+
+	void put(String token, VerifiedToken verified, long now) {
+		if (maxSize <= 0 || verified.isExpired(now)) {
+			return;
+		}
+		if (tokens.size() >= maxSize) {
+			tokens.values().removeIf(cached -> cached.isExpired(now));
+			if (tokens.size() >= maxSize) {
+				tokens.clear();
+			}
+		}
+		tokens.put(hash(token), verified);
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	record VerifiedToken(String memberId, long expiresAt) {
+		boolean isExpired(long now) {
+			return expiresAt <= now;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+-- refresh token 을 로그인(family)마다 한 행으로 보관한다.
+-- 예전 refresh_token 테이블은 member_id 가 PK 라서 같은 회원의 두 번째 로그인을 넣을 수 없다.
+-- 예전 토큰에는 fam claim 이 없어 어차피 재발급에 쓸 수 없으므로 테이블째 지운다.
+-- 여러 번 실행해도 결과가 같도록 작성한다.
+drop table if exists refresh_token;
+
+create table if not exists refresh_token_family (
+	family_id char(36) not null,
+	member_id char(36) not null,
+	token varchar(255) not null,
+	expires_at datetime(6) not null,
+	primary key (family_id),
+	index idx_refresh_token_family_member_id (member_id),
+	index idx_refresh_token_family_expires_at (expires_at),
+	constraint fk_refresh_token_family_member foreign key (member_id) references member (id)
+);
@@ -0,0 +1,35 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreTest {
+	private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+	@Override
+	protected RefreshTokenStore store() {
+		return store;
+	}
+
+	@Override
+	protected String memberId() {
+		return "member";
+	}
+
+	@Test
+	@DisplayName("주기적인 정리 작업은 만료된 토큰만 지운다")
+	void sweepsExpiredTokens() throws InterruptedException {
+		store.save("expired", FAMILY, "token-1", Duration.ofMillis(1));
+		store.save("active", FAMILY, "token-2", TTL);
+		store.save("active", OTHER_FAMILY, "token-3", Duration.ofMillis(1));
+		Thread.sleep(20);
+
+		store.deleteExpired();
+
+		assertThat(store.size()).isEqualTo(1);
+	}
+}
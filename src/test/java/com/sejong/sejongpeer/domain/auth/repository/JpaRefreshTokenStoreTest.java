@@ -0,0 +1,115 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 로그인할 때의 upsert 는 MySQL 문법을 쓰므로 H2 를 MySQL 모드로 띄우는 test 프로필을 사용한다
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class, JpaRefreshTokenStore.class})
+// 상속한 테스트에는 테스트 트랜잭션이 적용되지 않으므로, 모든 테스트를 트랜잭션 없이 실행하고 직접 정리한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTest extends RefreshTokenStoreTest {
+	@Autowired private JpaRefreshTokenStore store;
+	@Autowired private RefreshTokenRepository refreshTokenRepository;
+	@Autowired private EntityManager entityManager;
+	@Autowired private PlatformTransactionManager transactionManager;
+	@MockBean private SchedulerLockManager schedulerLockManager;
+
+	private final List<String> memberIds = new ArrayList<>();
+	private String memberId;
+
+	@BeforeEach
+	void setUp() {
+		memberId = persistMember("member").getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			refreshTokenRepository.deleteAllInBatch();
+			entityManager.createQuery("delete from Member m where m.id in :ids")
+				.setParameter("ids", memberIds)
+				.executeUpdate();
+		});
+	}
+
+	@Override
+	protected RefreshTokenStore store() {
+		return store;
+	}
+
+	@Override
+	protected String memberId() {
+		return memberId;
+	}
+
+	@Test
+	@DisplayName("주기적인 정리 작업은 만료된 토큰만 지운다")
+	void sweepsExpiredTokens() throws InterruptedException {
+		String activeMemberId = persistMember("active").getId();
+		store.save(memberId, FAMILY, "token-1", Duration.ofMillis(1));
+		store.save(activeMemberId, OTHER_FAMILY, "token-2", TTL);
+		Thread.sleep(20);
+		given(schedulerLockManager.runExclusively(anyString(), any())).willAnswer(invocation -> {
+			SchedulerLease lease = mock(SchedulerLease.class);
+			given(lease.fenced(ArgumentMatchers.<Supplier<Integer>>any())).willAnswer(fenced -> fenced.<Supplier<?>>getArgument(0).get());
+			invocation.<Consumer<SchedulerLease>>getArgument(1).accept(lease);
+			return true;
+		});
+
+		store.deleteExpired();
+
+		assertThat(refreshTokenRepository.count()).isEqualTo(1);
+		assertThat(refreshTokenRepository.existsById(OTHER_FAMILY)).isTrue();
+	}
+
+	private Member persistMember(String account) {
+		Member member = Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber("010" + Math.abs(account.hashCode() % 100000000))
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId(account)
+			.kakaoAccount(account)
+			.build();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.persist(member));
+		memberIds.add(member.getId());
+		return member;
+	}
+}
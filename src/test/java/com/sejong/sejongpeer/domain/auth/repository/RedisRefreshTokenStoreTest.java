@@ -0,0 +1,58 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sejong.sejongpeer.infra.config.properties.RedisClientProperties;
+import com.sejong.sejongpeer.infra.redis.RedisClient;
+import com.sejong.sejongpeer.util.EmbeddedRedisServer;
+
+class RedisRefreshTokenStoreTest extends RefreshTokenStoreTest {
+	private static final String PASSWORD = "redis-password";
+
+	private EmbeddedRedisServer server;
+	private RedisClient redisClient;
+	private RedisRefreshTokenStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new EmbeddedRedisServer(PASSWORD);
+		redisClient = new RedisClient(new RedisClientProperties(
+			server.host(), server.port(), null, PASSWORD, false, Duration.ofSeconds(2), 2));
+		store = new RedisRefreshTokenStore(redisClient);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		redisClient.destroy();
+		server.close();
+	}
+
+	@Test
+	@DisplayName("비밀번호가 틀리면 명령을 보내기 전에 연결을 버린다")
+	void rejectsWrongPassword() {
+		RedisClient wrongPassword = new RedisClient(new RedisClientProperties(
+			server.host(), server.port(), null, "wrong", false, Duration.ofSeconds(2), 1));
+
+		assertThatThrownBy(() -> wrongPassword.get("key")).isInstanceOf(UncheckedIOException.class);
+		wrongPassword.destroy();
+	}
+
+	@Override
+	protected RefreshTokenStore store() {
+		return store;
+	}
+
+	@Override
+	protected String memberId() {
+		return "member";
+	}
+}
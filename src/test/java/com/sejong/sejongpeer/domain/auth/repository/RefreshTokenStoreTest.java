@@ -0,0 +1,81 @@
+package com.sejong.sejongpeer.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sejong.sejongpeer.domain.auth.repository.RefreshTokenStore.RotationResult;
+
+/**
+ * 모든 {@link RefreshTokenStore} 구현이 지켜야 하는 동작. 구현마다 이 클래스를 상속해서 확인한다.
+ */
+abstract class RefreshTokenStoreTest {
+	protected static final Duration TTL = Duration.ofDays(3);
+	protected static final String FAMILY = "00000000-0000-0000-0000-000000000001";
+	protected static final String OTHER_FAMILY = "00000000-0000-0000-0000-000000000002";
+
+	protected abstract RefreshTokenStore store();
+
+	protected abstract String memberId();
+
+	@Test
+	@DisplayName("보관 중인 토큰을 보내면 새 토큰으로 교체하고, 새 토큰으로 다시 교체할 수 있다")
+	void rotatesCurrentToken() {
+		store().save(memberId(), FAMILY, "token-1", TTL);
+
+		assertThat(store().rotate(memberId(), FAMILY, "token-1", "token-2", TTL)).isEqualTo(RotationResult.ROTATED);
+		assertThat(store().rotate(memberId(), FAMILY, "token-2", "token-3", TTL)).isEqualTo(RotationResult.ROTATED);
+	}
+
+	@Test
+	@DisplayName("이미 교체된 토큰을 다시 보내면 재사용으로 보고, 같은 family 에서 교체한 토큰까지 무효화한다")
+	void revokesOnReuse() {
+		store().save(memberId(), FAMILY, "token-1", TTL);
+		store().rotate(memberId(), FAMILY, "token-1", "token-2", TTL);
+
+		assertThat(store().rotate(memberId(), FAMILY, "token-1", "token-3", TTL)).isEqualTo(RotationResult.REUSED);
+		assertThat(store().rotate(memberId(), FAMILY, "token-2", "token-4", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("기기마다 로그인한 family 는 따로 교체되고, 한 family 의 재사용은 다른 family 를 무효화하지 않는다")
+	void keepsOtherFamiliesOnReuse() {
+		store().save(memberId(), FAMILY, "phone-1", TTL);
+		store().save(memberId(), OTHER_FAMILY, "laptop-1", TTL);
+
+		assertThat(store().rotate(memberId(), FAMILY, "phone-1", "phone-2", TTL)).isEqualTo(RotationResult.ROTATED);
+		assertThat(store().rotate(memberId(), OTHER_FAMILY, "laptop-1", "laptop-2", TTL))
+			.isEqualTo(RotationResult.ROTATED);
+		assertThat(store().rotate(memberId(), FAMILY, "phone-1", "phone-3", TTL)).isEqualTo(RotationResult.REUSED);
+		assertThat(store().rotate(memberId(), OTHER_FAMILY, "laptop-2", "laptop-3", TTL))
+			.isEqualTo(RotationResult.ROTATED);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 교체할 수 없고, 삭제할 때도 로그인된 상태로 보지 않는다")
+	void ignoresExpiredToken() throws InterruptedException {
+		store().save(memberId(), FAMILY, "token-1", Duration.ofMillis(1));
+		Thread.sleep(20);
+
+		assertThat(store().rotate(memberId(), FAMILY, "token-1", "token-2", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+		store().save(memberId(), OTHER_FAMILY, "token-3", Duration.ofMillis(1));
+		Thread.sleep(20);
+		assertThat(store().delete(memberId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("회원의 토큰을 삭제하면 모든 family 를 더 이상 교체할 수 없다")
+	void deletesAllFamilies() {
+		store().save(memberId(), FAMILY, "phone-1", TTL);
+		store().save(memberId(), OTHER_FAMILY, "laptop-1", TTL);
+
+		assertThat(store().delete(memberId())).isTrue();
+		assertThat(store().delete(memberId())).isFalse();
+		assertThat(store().rotate(memberId(), FAMILY, "phone-1", "phone-2", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+		assertThat(store().rotate(memberId(), OTHER_FAMILY, "laptop-1", "laptop-2", TTL))
+			.isEqualTo(RotationResult.NOT_FOUND);
+	}
+}
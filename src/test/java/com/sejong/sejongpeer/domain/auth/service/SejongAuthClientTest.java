@@ -0,0 +1,156 @@
+package com.sejong.sejongpeer.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sejong.sejongpeer.domain.auth.dto.request.SejongAuthRequest;
+import com.sejong.sejongpeer.domain.auth.dto.response.SejongAuthClientResponse;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.SejongAuthProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class SejongAuthClientTest {
+	private static final String SUCCESS_BODY = """
+		{"msg":"로그인 성공","result":{"authenticator":"ClassicSession","body":{"grade":"3","major":"컴퓨터공학과",
+		"name":"홍길동","status":"재학"},"code":"success","is_auth":true,"status_code":200,"success":true},
+		"version":"0.1"}""";
+
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicInteger failuresLeft = new AtomicInteger();
+	private volatile long latencyMillis;
+	private volatile CountDownLatch portalGate = new CountDownLatch(0);
+	private HttpServer portal;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		portal = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		portal.createContext("/auth", this::respond);
+		portal.setExecutor(Executors.newCachedThreadPool());
+		portal.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		portalGate.countDown();
+		portal.stop(0);
+	}
+
+	@Test
+	@DisplayName("같은 계정의 동시 요청은 포털에 한 번만 보내고, 성공한 결과는 캐시에서 다시 돌려준다")
+	void coalescesAndCachesIdenticalRequests() {
+		latencyMillis = 200;
+		SejongAuthClient client = client(Duration.ofSeconds(5), 10);
+		SejongAuthRequest request = new SejongAuthRequest("18011111", "password");
+
+		List<SejongAuthClientResponse> responses = Flux.range(0, 5)
+			.flatMap(i -> client.authenticate(request))
+			.collectList()
+			.block(Duration.ofSeconds(5));
+		SejongAuthClientResponse repeated = client.authenticate(request).block(Duration.ofSeconds(5));
+
+		assertThat(responses).hasSize(5).allSatisfy(response -> assertThat(response.name()).isEqualTo("홍길동"));
+		assertThat(repeated.isAuth()).isTrue();
+		assertThat(requestCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("포털 응답이 제한 시간을 넘으면 기다리지 않고 504 로 끝낸다")
+	void timesOutSlowPortal() {
+		// 포털은 테스트가 끝날 때까지 응답하지 않으므로, 제한 시간이 없으면 block 이 먼저 끝난다
+		portalGate = new CountDownLatch(1);
+		SejongAuthClient client = client(Duration.ofMillis(500), 10);
+
+		assertThatThrownBy(() -> client.authenticate(new SejongAuthRequest("18011111", "password"))
+			.block(Duration.ofSeconds(10)))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.SEJONG_AUTH_TIMEOUT);
+	}
+
+	@Test
+	@DisplayName("실패한 요청은 진행 중인 요청과 캐시에 남지 않아, 바로 다시 보내면 포털에 새로 요청한다")
+	void doesNotReuseFailedRequest() {
+		failuresLeft.set(1);
+		SejongAuthClient client = client(Duration.ofSeconds(5), 10);
+		SejongAuthRequest request = new SejongAuthRequest("18011111", "password");
+
+		List<ErrorCode> errors = new ArrayList<>();
+
+		// 실패 신호를 받는 도중에 다시 보내므로, 결과를 전달한 뒤에 목록에서 지우면 실패한 요청을 그대로 다시 받는다
+		SejongAuthClientResponse retried = client.authenticate(request)
+			.onErrorResume(CustomException.class, error -> {
+				errors.add(error.getErrorCode());
+				return client.authenticate(request);
+			})
+			.block(Duration.ofSeconds(5));
+
+		assertThat(errors).containsExactly(ErrorCode.SEJONG_AUTH_UNAVAILABLE);
+		assertThat(retried.success()).isTrue();
+		assertThat(requestCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("동시에 포털로 보내는 요청 수를 넘으면 다른 계정의 요청은 바로 거절한다")
+	void rejectsBeyondBulkhead() {
+		latencyMillis = 500;
+		SejongAuthClient client = client(Duration.ofSeconds(5), 1);
+		Mono<SejongAuthClientResponse> first = client.authenticate(new SejongAuthRequest("18011111", "password"))
+			.cache();
+		first.subscribe();
+
+		assertThatThrownBy(() -> client.authenticate(new SejongAuthRequest("18022222", "password"))
+			.block(Duration.ofSeconds(5)))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.SEJONG_AUTH_BUSY);
+		assertThat(first.block(Duration.ofSeconds(5)).success()).isTrue();
+	}
+
+	private SejongAuthClient client(Duration timeout, int maxConcurrentRequests) {
+		SejongAuthProperties properties = new SejongAuthProperties(
+			"http://127.0.0.1:" + portal.getAddress().getPort(), Duration.ofSeconds(1), timeout, maxConcurrentRequests);
+		return new SejongAuthClient(WebClient.builder(), properties,
+			new ConcurrentMapCacheManager("sejongAuthResults"));
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		exchange.getRequestBody().readAllBytes();
+		try {
+			portalGate.await();
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		boolean fail = failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0;
+		byte[] body = SUCCESS_BODY.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		try (OutputStream out = exchange.getResponseBody()) {
+			exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+			out.write(body);
+		} catch (IOException ignored) {
+			// 제한 시간이 지나 클라이언트가 연결을 끊었다
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.sejong.sejongpeer.domain.buddy.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.buddy.dto.request.BuddyRegistrationRequest;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingPool;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyProfile;
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.college.repository.CollegeMajorRepository;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class BuddyRepositoryTest {
+	private static final int BUDDY_COUNT = 300;
+
+	@Autowired private BuddyRepository buddyRepository;
+	@Autowired private MemberRepository memberRepository;
+	@Autowired private CollegeMajorRepository collegeMajorRepository;
+
+	private List<Buddy> buddies;
+
+	@BeforeEach
+	void setUp() {
+		// 단과대가 달라도 학과명이 같은 경우를 포함한다
+		List<CollegeMajor> collegeMajors = collegeMajorRepository.saveAll(List.of(
+			CollegeMajor.builder().college("공과대학").major("컴퓨터공학과").build(),
+			CollegeMajor.builder().college("공과대학").major("기계공학과").build(),
+			CollegeMajor.builder().college("경영경제대학").major("경영학부").build(),
+			CollegeMajor.builder().college("소프트웨어융합대학").major("컴퓨터공학과").build()));
+
+		Random random = new Random(7);
+		buddies = new ArrayList<>();
+		for (int i = 0; i < BUDDY_COUNT; i++) {
+			Member member = memberRepository.save(Member.builder()
+				.account("buddy" + i)
+				.password("password")
+				.name("홍길동")
+				.nickname("b" + i)
+				.phoneNumber("010" + i)
+				.gender(pick(random, Gender.values()))
+				.grade(1 + random.nextInt(4))
+				.studentId((18 + random.nextInt(5)) + "011111")
+				.kakaoAccount("buddy" + i)
+				.collegeMajor(pick(random, collegeMajors))
+				.collegeMinor(pick(random, collegeMajors))
+				.build());
+
+			BuddyRegistrationRequest request = BuddyRegistrationRequest.builder()
+				.genderOption(pick(random, GenderOption.values()))
+				.classTypeOption(pick(random, ClassTypeOption.values()))
+				.collegeMajorOption(pick(random, CollegeMajorOption.values()))
+				.gradeOption(pick(random, GradeOption.values()))
+				.isSubMajor(random.nextInt(3) == 0)
+				.build();
+			buddies.add(buddyRepository.save(Buddy.create(request, member)));
+		}
+	}
+
+	@Test
+	@DisplayName("후보만 조회해도 전체 대기 Buddy 에서 찾을 때와 같은 상대를 고른다")
+	void findsSamePartnerAsFullScan() {
+		BuddyMatchingPool fullPool = BuddyMatchingPool.from(
+			buddyRepository.findAllWithMemberByStatus(BuddyStatus.IN_PROGRESS));
+
+		int candidateCount = 0;
+		int matchedCount = 0;
+		for (Buddy me : buddies) {
+			List<Buddy> candidates = findCandidates(me);
+			candidateCount += candidates.size();
+
+			Optional<Buddy> expected = fullPool.findPartner(me);
+			Optional<Buddy> actual = BuddyMatchingPool.from(candidates).findPartner(me);
+			assertThat(actual.map(Buddy::getId)).isEqualTo(expected.map(Buddy::getId));
+			if (expected.isPresent()) {
+				matchedCount++;
+			}
+		}
+		assertThat(matchedCount).isPositive();
+		assertThat(candidateCount).isLessThan(BUDDY_COUNT * BUDDY_COUNT / 2);
+	}
+
+	// MatchingService.matchBuddyWhenRegister 와 같은 인자로 조회한다
+	private List<Buddy> findCandidates(Buddy me) {
+		BuddyProfile profile = BuddyProfile.from(me);
+		return buddyRepository.findCandidatesWithMember(BuddyStatus.IN_PROGRESS, profile.gender(),
+			profile.genderOption() == GenderOption.NO_MATTER,
+			profile.collegeMajorOption() == CollegeMajorOption.NO_MATTER,
+			profile.collegeMajorOption() == CollegeMajorOption.SAME_DEPARTMENT,
+			profile.college(), profile.major());
+	}
+
+	private static <T> T pick(Random random, T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static <T> T pick(Random random, List<T> values) {
+		return values.get(random.nextInt(values.size()));
+	}
+}
@@ -0,0 +1,138 @@
+package com.sejong.sejongpeer.domain.buddy.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.buddy.dto.request.BuddyRegistrationRequest;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
+import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.type.BuddyMatchedStatus;
+import com.sejong.sejongpeer.domain.buddy.repository.BuddyMatchedRepository;
+import com.sejong.sejongpeer.domain.buddy.repository.BuddyRepository;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.infra.sms.service.SmsService;
+import com.sejong.sejongpeer.infra.sms.service.SmsText;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class BuddyMatchingServiceTest {
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	@Autowired private BuddyRepository buddyRepository;
+	@Autowired private BuddyMatchedRepository buddyMatchedRepository;
+	@Autowired private EntityManager entityManager;
+
+	private final SmsService smsService = mock(SmsService.class);
+	private BuddyMatchingService buddyMatchingService;
+
+	@BeforeEach
+	void setUp() {
+		buddyMatchingService = new BuddyMatchingService(buddyMatchedRepository, buddyRepository, smsService, null);
+	}
+
+	@Test
+	@DisplayName("24시간 동안 응답하지 않은 Buddy는 거절, 상대는 거절당함으로 바꾸고 SMS를 한 번에 저장한다")
+	void expireUnansweredMatchings() {
+		Buddy unanswered = saveBuddy("a", BuddyStatus.FOUND_BUDDY, NOW.minusHours(25));
+		Buddy accepted = saveBuddy("b", BuddyStatus.ACCEPT, NOW.minusHours(1));
+		Buddy bothFirst = saveBuddy("c", BuddyStatus.FOUND_BUDDY, NOW.minusHours(30));
+		Buddy bothSecond = saveBuddy("d", BuddyStatus.FOUND_BUDDY, NOW.minusHours(30));
+		Buddy recentFirst = saveBuddy("e", BuddyStatus.FOUND_BUDDY, NOW.minusHours(2));
+		Buddy recentSecond = saveBuddy("f", BuddyStatus.FOUND_BUDDY, NOW.minusHours(2));
+		BuddyMatched expired = saveMatched(unanswered, accepted);
+		BuddyMatched bothExpired = saveMatched(bothFirst, bothSecond);
+		BuddyMatched waiting = saveMatched(recentFirst, recentSecond);
+		entityManager.clear();
+
+		int expiredCount = buddyMatchingService.expireUnansweredMatchings(NOW.minusHours(24));
+		entityManager.clear();
+
+		assertThat(expiredCount).isEqualTo(2);
+		assertThat(statusOf(unanswered)).isEqualTo(BuddyStatus.REJECT);
+		assertThat(statusOf(accepted)).isEqualTo(BuddyStatus.DENIED);
+		assertThat(statusOf(bothFirst)).isEqualTo(BuddyStatus.REJECT);
+		assertThat(statusOf(bothSecond)).isEqualTo(BuddyStatus.REJECT);
+		assertThat(statusOf(recentFirst)).isEqualTo(BuddyStatus.FOUND_BUDDY);
+		assertThat(statusOf(recentSecond)).isEqualTo(BuddyStatus.FOUND_BUDDY);
+		assertThat(buddyMatchedRepository.findById(expired.getId())).get()
+			.extracting(BuddyMatched::getStatus).isEqualTo(BuddyMatchedStatus.MATCHING_FAIL);
+		assertThat(buddyMatchedRepository.findById(bothExpired.getId())).get()
+			.extracting(BuddyMatched::getStatus).isEqualTo(BuddyMatchedStatus.MATCHING_FAIL);
+		assertThat(buddyMatchedRepository.findById(waiting.getId())).get()
+			.extracting(BuddyMatched::getStatus).isEqualTo(BuddyMatchedStatus.IN_PROGRESS);
+
+		verify(smsService).sendSms(argThat((List<String> receivers) -> receivers.size() == 3
+				&& receivers.containsAll(List.of("010a", "010c", "010d"))),
+			eq(SmsText.MATCHING_AUTO_FAILED_REJECT));
+		verify(smsService).sendSms(List.of("010b"), SmsText.MATCHING_AUTO_FAILED_DENIED);
+		verifyNoMoreInteractions(smsService);
+	}
+
+	private Buddy saveBuddy(String account, BuddyStatus status, LocalDateTime updatedAt) {
+		Member member = Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber("010" + account)
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId("20011111")
+			.kakaoAccount(account)
+			.build();
+		entityManager.persist(member);
+
+		BuddyRegistrationRequest request = BuddyRegistrationRequest.builder()
+			.genderOption(GenderOption.NO_MATTER)
+			.classTypeOption(ClassTypeOption.NO_MATTER)
+			.collegeMajorOption(CollegeMajorOption.NO_MATTER)
+			.gradeOption(GradeOption.NO_MATTER)
+			.isSubMajor(false)
+			.build();
+		Buddy buddy = Buddy.create(request, member);
+		buddy.changeStatus(status);
+		entityManager.persist(buddy);
+		entityManager.flush();
+
+		// 수정 시각은 auditing 이 채우므로 저장한 뒤 직접 바꾼다
+		entityManager.createQuery("UPDATE Buddy b SET b.updatedAt = :updatedAt WHERE b.id = :id")
+			.setParameter("updatedAt", updatedAt)
+			.setParameter("id", buddy.getId())
+			.executeUpdate();
+		return buddy;
+	}
+
+	private BuddyMatched saveMatched(Buddy owner, Buddy partner) {
+		BuddyMatched buddyMatched = BuddyMatched.registerMatchingPair(owner, partner);
+		entityManager.persist(buddyMatched);
+		entityManager.flush();
+		return buddyMatched;
+	}
+
+	private BuddyStatus statusOf(Buddy buddy) {
+		return buddyRepository.findById(buddy.getId()).orElseThrow().getStatus();
+	}
+}
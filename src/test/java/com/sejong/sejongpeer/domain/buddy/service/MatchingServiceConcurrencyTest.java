@@ -0,0 +1,176 @@
+package com.sejong.sejongpeer.domain.buddy.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.buddy.dto.request.BuddyRegistrationRequest;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.BuddyStatus;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddymatched.BuddyMatched;
+import com.sejong.sejongpeer.domain.buddy.repository.BuddyMatchedRepository;
+import com.sejong.sejongpeer.domain.buddy.repository.BuddyRepository;
+import com.sejong.sejongpeer.domain.buddy.util.GreedyMatchingStrategy;
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.college.repository.CollegeMajorRepository;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.infra.config.properties.SchedulerLockProperties;
+import com.sejong.sejongpeer.infra.scheduler.repository.SchedulerLockRepository;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+import com.sejong.sejongpeer.infra.sms.service.SmsService;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MatchingServiceConcurrencyTest {
+	private static final int REGISTRATION_COUNT = 1_000;
+	private static final int THREAD_COUNT = 8;
+
+	@Autowired private BuddyRepository buddyRepository;
+	@Autowired private BuddyMatchedRepository buddyMatchedRepository;
+	@Autowired private MemberRepository memberRepository;
+	@Autowired private CollegeMajorRepository collegeMajorRepository;
+	@Autowired private SchedulerLockRepository schedulerLockRepository;
+	@Autowired private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private SchedulerLockManager schedulerLockManager;
+	private MatchingService matchingService;
+	private List<String> memberIds;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		schedulerLockManager = new SchedulerLockManager(schedulerLockRepository,
+			new SchedulerLockProperties(Duration.ofMinutes(1), Duration.ZERO), transactionManager);
+		matchingService = new MatchingService(mock(SmsService.class), new GreedyMatchingStrategy(),
+			buddyRepository, buddyMatchedRepository);
+
+		List<CollegeMajor> collegeMajors = collegeMajorRepository.saveAll(List.of(
+			CollegeMajor.builder().college("공과대학").major("컴퓨터공학과").build(),
+			CollegeMajor.builder().college("공과대학").major("기계공학과").build(),
+			CollegeMajor.builder().college("경영경제대학").major("경영학부").build()));
+
+		Random random = new Random(13);
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < REGISTRATION_COUNT; i++) {
+			members.add(Member.builder()
+				.account("buddy" + i)
+				.password("password")
+				.name("홍길동")
+				.nickname("b" + i)
+				.phoneNumber("010" + i)
+				.gender(pick(random, Gender.values()))
+				.grade(1 + random.nextInt(4))
+				.studentId((18 + random.nextInt(5)) + "011111")
+				.kakaoAccount("buddy" + i)
+				.collegeMajor(collegeMajors.get(random.nextInt(collegeMajors.size())))
+				.build());
+		}
+		memberIds = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+	}
+
+	@AfterEach
+	void tearDown() {
+		schedulerLockManager.shutdown();
+		schedulerLockRepository.deleteAllInBatch();
+		buddyMatchedRepository.deleteAllInBatch();
+		buddyRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+		collegeMajorRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("신청과 정기 매칭이 동시에 실행되어도 한 Buddy 가 두 번 매칭되지 않는다")
+	void neverMatchesBuddyTwice() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+		AtomicBoolean registering = new AtomicBoolean(true);
+		Random random = new Random(17);
+
+		Future<Integer> scheduled = executor.submit(() -> {
+			int count = 0;
+			while (registering.get()) {
+				schedulerLockManager.runExclusively("buddy-matching", matchingService::executeMatching);
+				count++;
+				Thread.sleep(500);
+			}
+			return count;
+		});
+
+		List<Future<?>> registrations = new ArrayList<>();
+		for (String memberId : memberIds) {
+			BuddyRegistrationRequest request = randomRequest(random);
+			registrations.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				Buddy buddy = buddyRepository.save(Buddy.create(request, memberRepository.getReferenceById(memberId)));
+				matchingService.matchBuddyWhenRegister(buddy);
+			})));
+		}
+		for (Future<?> registration : registrations) {
+			registration.get();
+		}
+		registering.set(false);
+		assertThat(scheduled.get()).isPositive();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		List<BuddyMatched> matcheds = buddyMatchedRepository.findAll();
+		Set<Long> matchedBuddyIds = new HashSet<>();
+		for (BuddyMatched matched : matcheds) {
+			assertThat(matchedBuddyIds.add(matched.getOwner().getId())).isTrue();
+			assertThat(matchedBuddyIds.add(matched.getPartner().getId())).isTrue();
+		}
+		List<Buddy> buddies = buddyRepository.findAll();
+		assertThat(buddies).hasSize(REGISTRATION_COUNT);
+		assertThat(buddies).filteredOn(buddy -> buddy.getStatus() == BuddyStatus.FOUND_BUDDY)
+			.extracting(Buddy::getId)
+			.containsExactlyInAnyOrderElementsOf(matchedBuddyIds);
+		assertThat(matcheds).isNotEmpty();
+	}
+
+	private BuddyRegistrationRequest randomRequest(Random random) {
+		return BuddyRegistrationRequest.builder()
+			.genderOption(pick(random, GenderOption.values()))
+			.classTypeOption(pick(random, ClassTypeOption.values()))
+			.collegeMajorOption(pick(random, CollegeMajorOption.values()))
+			.gradeOption(pick(random, GradeOption.values()))
+			.isSubMajor(false)
+			.build();
+	}
+
+	private static <T> T pick(Random random, T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
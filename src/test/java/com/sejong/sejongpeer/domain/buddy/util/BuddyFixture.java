@@ -0,0 +1,77 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sejong.sejongpeer.domain.buddy.dto.request.BuddyRegistrationRequest;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+final class BuddyFixture {
+	private static final String[] COLLEGES = {"인문과학대학", "사회과학대학", "경영경제대학", "공과대학"};
+	private static final String[] MAJORS = {"학과A", "학과B", "학과C"};
+	private static final String[] STUDENT_IDS = {"18011111", "19011111", "20011111", "21011111", "22011111"};
+
+	private BuddyFixture() {
+	}
+
+	/**
+	 * @param sharedMajorNames true 면 단과대가 달라도 같은 학과명을 사용한다
+	 */
+	static List<CollegeMajor> collegeMajors(boolean sharedMajorNames) {
+		List<CollegeMajor> collegeMajors = new ArrayList<>();
+		long id = 1;
+		for (String college : COLLEGES) {
+			for (String major : MAJORS) {
+				String majorName = sharedMajorNames ? major : college + " " + major;
+				CollegeMajor collegeMajor = CollegeMajor.builder().college(college).major(majorName).build();
+				ReflectionTestUtils.setField(collegeMajor, "id", id++);
+				collegeMajors.add(collegeMajor);
+			}
+		}
+		return collegeMajors;
+	}
+
+	static List<Buddy> randomBuddies(Random random, int count, List<CollegeMajor> collegeMajors) {
+		List<Buddy> buddies = new ArrayList<>(count);
+		for (long id = 1; id <= count; id++) {
+			Member member = Member.builder()
+				.gender(pick(random, Gender.values()))
+				.grade(1 + random.nextInt(4))
+				.studentId(pick(random, STUDENT_IDS))
+				.collegeMajor(collegeMajors.get(random.nextInt(collegeMajors.size())))
+				.collegeMinor(collegeMajors.get(random.nextInt(collegeMajors.size())))
+				.build();
+
+			BuddyRegistrationRequest request = BuddyRegistrationRequest.builder()
+				.genderOption(pick(random, GenderOption.values()))
+				.classTypeOption(pick(random, ClassTypeOption.values()))
+				.collegeMajorOption(pick(random, CollegeMajorOption.values()))
+				.gradeOption(pick(random, GradeOption.values()))
+				.isSubMajor(random.nextInt(5) == 0)
+				.build();
+
+			buddies.add(buddy(id, member, request));
+		}
+		return buddies;
+	}
+
+	static Buddy buddy(long id, Member member, BuddyRegistrationRequest request) {
+		Buddy buddy = Buddy.create(request, member);
+		ReflectionTestUtils.setField(buddy, "id", id);
+		return buddy;
+	}
+
+	private static <T> T pick(Random random, T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
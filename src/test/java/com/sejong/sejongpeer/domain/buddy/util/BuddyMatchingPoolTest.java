@@ -0,0 +1,83 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+
+class BuddyMatchingPoolTest {
+	@Test
+	@DisplayName("BuddyFilter 순차 탐색과 같은 상대를 매칭한다")
+	void sameResultAsSequentialFilter() {
+		List<Buddy> candidates = createBuddies(new Random(42), 3_000);
+
+		List<Buddy> expected = new ArrayList<>(candidates);
+		List<Buddy> pooled = new ArrayList<>(candidates);
+		BuddyMatchingPool pool = BuddyMatchingPool.from(pooled);
+
+		for (Buddy me : candidates) {
+			if (!expected.contains(me)) {
+				assertThat(pool.contains(me)).isFalse();
+				continue;
+			}
+			Buddy sequential = findSequentially(expected, me);
+			Buddy indexed = pool.findPartner(me).orElse(null);
+
+			assertThat(indexed).isSameAs(sequential);
+			if (sequential != null) {
+				expected.remove(me);
+				expected.remove(sequential);
+				pool.remove(me);
+				pool.remove(sequential);
+			}
+		}
+		assertThat(pool.size()).isEqualTo(expected.size());
+	}
+
+	@Test
+	@DisplayName("Buddy 마다 Member 정보를 한 번만 읽고, 매칭 중에는 후보를 하나씩 비교하지 않는다")
+	void readsEachMemberOnce() {
+		// 순차 탐색은 비교할 때마다 양쪽 Member 를 읽으므로 대기 인원의 제곱에 비례해 읽는다
+		List<Buddy> candidates = createBuddies(new Random(2), 5_000).stream().map(Mockito::spy).toList();
+
+		BuddyMatchingPool pool = BuddyMatchingPool.from(candidates);
+		int matchedCount = 0;
+		for (Buddy me : candidates) {
+			if (!pool.contains(me)) {
+				continue;
+			}
+			Buddy partner = pool.findPartner(me).orElse(null);
+			if (partner != null) {
+				pool.remove(me);
+				pool.remove(partner);
+				matchedCount += 2;
+			}
+		}
+
+		assertThat(matchedCount).isPositive();
+		candidates.forEach(buddy -> verify(buddy, times(1)).getMember());
+	}
+
+	private Buddy findSequentially(List<Buddy> candidates, Buddy me) {
+		return candidates.stream()
+			.filter(candidate -> candidate != me)
+			.filter(candidate -> BuddyFilter.filterSuitableGender(candidate, me))
+			.filter(candidate -> BuddyFilter.filterSuitableCollegeMajor(candidate, me))
+			.filter(candidate -> BuddyFilter.filterSuitableType(candidate, me))
+			.filter(candidate -> BuddyFilter.filterSuitableGrade(candidate, me))
+			.findFirst()
+			.orElse(null);
+	}
+
+	private List<Buddy> createBuddies(Random random, int count) {
+		return BuddyFixture.randomBuddies(random, count, BuddyFixture.collegeMajors(true));
+	}
+}
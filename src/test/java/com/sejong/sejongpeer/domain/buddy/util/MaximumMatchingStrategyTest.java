@@ -0,0 +1,180 @@
+package com.sejong.sejongpeer.domain.buddy.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sejong.sejongpeer.domain.buddy.dto.request.BuddyRegistrationRequest;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.Buddy;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.ClassTypeOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.CollegeMajorOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GenderOption;
+import com.sejong.sejongpeer.domain.buddy.entity.buddy.type.GradeOption;
+import com.sejong.sejongpeer.domain.buddy.util.BuddyMatchingResult.BuddyPair;
+import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+class MaximumMatchingStrategyTest {
+	private final List<CollegeMajor> collegeMajors = BuddyFixture.collegeMajors(true);
+	private final MaximumMatchingStrategy strategy = new MaximumMatchingStrategy(Duration.ofSeconds(30));
+
+	@Test
+	@DisplayName("작은 그래프에서 완전 탐색으로 구한 최대 매칭 수와 같다")
+	void sameAsExhaustiveSearch() {
+		Random random = new Random(7);
+
+		for (int round = 0; round < 300; round++) {
+			List<Buddy> candidates = BuddyFixture.randomBuddies(random, 2 + random.nextInt(13), collegeMajors);
+
+			BuddyMatchingResult result = strategy.match(candidates);
+
+			assertValidPairs(result.pairs());
+			assertThat(result.completed()).isTrue();
+			assertThat(result.pairs()).hasSize(maximumPairCount(candidates));
+			assertThat(result.greedyPairCount()).isEqualTo(new GreedyMatchingStrategy().match(candidates).pairs().size());
+		}
+	}
+
+	@Test
+	@DisplayName("상관없음을 고른 Buddy가 까다로운 Buddy의 유일한 상대를 먼저 가져가도 최대 매칭을 찾는다")
+	void findsPairsGreedyMisses() {
+		Buddy first = buddy(1, 1, GradeOption.NO_MATTER);
+		Buddy second = buddy(2, 2, GradeOption.NO_MATTER);
+		Buddy wantsFirstGrade = buddy(3, 3, GradeOption.GRADE_1);
+		Buddy wantsSecondGrade = buddy(4, 4, GradeOption.GRADE_2);
+		List<Buddy> candidates = List.of(first, second, wantsFirstGrade, wantsSecondGrade);
+
+		BuddyMatchingResult result = strategy.match(candidates);
+
+		assertThat(result.greedyPairCount()).isEqualTo(1);
+		assertThat(result.additionalPairCount()).isEqualTo(1);
+		assertThat(result.pairs())
+			.extracting(pair -> pair.owner().getId() + "-" + pair.partner().getId())
+			.containsExactly("1-3", "2-4");
+	}
+
+	@Test
+	@DisplayName("대기 Buddy가 많아도 서로 조건이 맞는 쌍만, 한 Buddy를 한 번씩만 매칭한다")
+	void matchesLargePool() {
+		List<Buddy> candidates = BuddyFixture.randomBuddies(new Random(11), 10_000, collegeMajors);
+
+		BuddyMatchingResult result = new MaximumMatchingStrategy(Duration.ofMinutes(10)).match(candidates);
+
+		assertValidPairs(result.pairs());
+		assertThat(result.completed()).isTrue();
+		assertThat(result.pairs()).isNotEmpty();
+	}
+
+	@Test
+	@DisplayName("시간 제한을 넘기면 탐색을 멈추고 그때까지 찾은 매칭을 돌려준다")
+	void stopsAtTimeBudget() {
+		List<Buddy> candidates = BuddyFixture.randomBuddies(new Random(11), 10_000, collegeMajors);
+
+		BuddyMatchingResult result = new MaximumMatchingStrategy(Duration.ZERO).match(candidates);
+
+		assertValidPairs(result.pairs());
+		assertThat(result.completed()).isFalse();
+	}
+
+	@Test
+	@DisplayName("단과대가 다른 같은 이름의 학과끼리는 어느 쪽을 먼저 보더라도 같은 학과 조건으로 매칭하지 않는다")
+	void requiresBothSidesToAccept() {
+		CollegeMajor major = collegeMajors.get(0);
+		CollegeMajor sameNameInOtherCollege = collegeMajors.stream()
+			.filter(other -> other.getMajor().equals(major.getMajor()) && !other.getCollege().equals(major.getCollege()))
+			.findFirst()
+			.orElseThrow();
+		Buddy sameDepartment = buddy(1, major, CollegeMajorOption.SAME_DEPARTMENT);
+		Buddy noMatter = buddy(2, sameNameInOtherCollege, CollegeMajorOption.NO_MATTER);
+
+		assertThat(strategy.match(List.of(sameDepartment, noMatter)).pairs()).isEmpty();
+		assertThat(strategy.match(List.of(noMatter, sameDepartment)).pairs()).isEmpty();
+
+		Buddy noMatterInSameMajor = buddy(3, major, CollegeMajorOption.NO_MATTER);
+		assertThat(strategy.match(List.of(sameDepartment, noMatter, noMatterInSameMajor)).pairs())
+			.extracting(pair -> pair.owner().getId() + "-" + pair.partner().getId())
+			.containsExactlyInAnyOrder("1-3");
+	}
+
+	private Buddy buddy(long id, int grade, GradeOption gradeOption) {
+		return buddy(id, grade, gradeOption, collegeMajors.get(0), CollegeMajorOption.NO_MATTER);
+	}
+
+	private Buddy buddy(long id, CollegeMajor collegeMajor, CollegeMajorOption collegeMajorOption) {
+		return buddy(id, 1, GradeOption.NO_MATTER, collegeMajor, collegeMajorOption);
+	}
+
+	private Buddy buddy(
+		long id, int grade, GradeOption gradeOption, CollegeMajor collegeMajor, CollegeMajorOption collegeMajorOption) {
+		Member member = Member.builder()
+			.gender(Gender.FEMALE)
+			.grade(grade)
+			.studentId("20011111")
+			.collegeMajor(collegeMajor)
+			.build();
+
+		BuddyRegistrationRequest request = BuddyRegistrationRequest.builder()
+			.genderOption(GenderOption.NO_MATTER)
+			.classTypeOption(ClassTypeOption.NO_MATTER)
+			.collegeMajorOption(collegeMajorOption)
+			.gradeOption(gradeOption)
+			.isSubMajor(false)
+			.build();
+
+		return BuddyFixture.buddy(id, member, request);
+	}
+
+	private void assertValidPairs(List<BuddyPair> pairs) {
+		Set<Buddy> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (BuddyPair pair : pairs) {
+			assertThat(isCompatible(pair.owner(), pair.partner())).isTrue();
+			assertThat(matched.add(pair.owner())).isTrue();
+			assertThat(matched.add(pair.partner())).isTrue();
+		}
+	}
+
+	private int maximumPairCount(List<Buddy> candidates) {
+		int n = candidates.size();
+		boolean[][] compatible = new boolean[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				compatible[i][j] = i != j && isCompatible(candidates.get(i), candidates.get(j));
+			}
+		}
+
+		int[] best = new int[1 << n];
+		for (int mask = 1; mask < (1 << n); mask++) {
+			int i = Integer.numberOfTrailingZeros(mask);
+			int rest = mask & ~(1 << i);
+			best[mask] = best[rest];
+			for (int j = i + 1; j < n; j++) {
+				if ((rest & (1 << j)) != 0 && compatible[i][j]) {
+					best[mask] = Math.max(best[mask], 1 + best[rest & ~(1 << j)]);
+				}
+			}
+		}
+		return Arrays.stream(best).max().orElse(0);
+	}
+
+	// 최대 매칭의 간선은 서로의 조건을 모두 만족해야 한다
+	private boolean isCompatible(Buddy me, Buddy candidate) {
+		return accepts(me, candidate) && accepts(candidate, me);
+	}
+
+	private boolean accepts(Buddy me, Buddy candidate) {
+		return BuddyFilter.filterSuitableGender(candidate, me)
+			&& BuddyFilter.filterSuitableCollegeMajor(candidate, me)
+			&& BuddyFilter.filterSuitableType(candidate, me)
+			&& BuddyFilter.filterSuitableGrade(candidate, me);
+	}
+}
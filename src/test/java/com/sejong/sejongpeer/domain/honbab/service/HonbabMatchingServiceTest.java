@@ -0,0 +1,82 @@
+package com.sejong.sejongpeer.domain.honbab.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.honbab.dto.request.RegisterHonbabRequest;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.Honbab;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.GenderOption;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.HonbabStatus;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.MenuCategoryOption;
+import com.sejong.sejongpeer.domain.honbab.repository.HonbabMatchedRepository;
+import com.sejong.sejongpeer.domain.honbab.repository.HonbabRepository;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.infra.sms.service.SmsService;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class HonbabMatchingServiceTest {
+	private static final RegisterHonbabRequest REQUEST =
+		new RegisterHonbabRequest(GenderOption.NO_MATTER, MenuCategoryOption.NO_MATTER);
+
+	@Autowired private HonbabRepository honbabRepository;
+	@Autowired private HonbabMatchedRepository honbabMatchedRepository;
+	@Autowired private MemberRepository memberRepository;
+	@Autowired private EntityManager entityManager;
+
+	private HonbabMatchingService honbabMatchingService;
+
+	@BeforeEach
+	void setUp() {
+		honbabMatchingService = new HonbabMatchingService(mock(SmsService.class), honbabRepository,
+			honbabMatchedRepository);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스에서 신청되어 대기열에 없는 신청도 새 신청 동기화에서 찾아 매칭한다")
+	void matchesHonbabMissingFromWaitingPool() {
+		honbabRepository.save(Honbab.createHonbab(member("first"), REQUEST));
+		honbabMatchingService.rebuildWaitingPool();
+
+		// 이벤트 없이 저장해 다른 인스턴스의 대기열에만 들어간 신청처럼 만든다
+		honbabRepository.save(Honbab.createHonbab(member("second"), REQUEST));
+		honbabMatchingService.syncNewHonbabs();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(honbabRepository.findAll())
+			.hasSize(2)
+			.extracting(Honbab::getStatus)
+			.containsOnly(HonbabStatus.MATCHING_COMPLETED);
+		assertThat(honbabMatchedRepository.count()).isEqualTo(1);
+	}
+
+	private Member member(String account) {
+		return memberRepository.save(Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber("010" + Math.abs(account.hashCode() % 100000000))
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId(account)
+			.kakaoAccount(account)
+			.build());
+	}
+}
@@ -0,0 +1,83 @@
+package com.sejong.sejongpeer.domain.honbab.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sejong.sejongpeer.domain.honbab.dto.request.RegisterHonbabRequest;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.Honbab;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.GenderOption;
+import com.sejong.sejongpeer.domain.honbab.entity.honbab.type.MenuCategoryOption;
+import com.sejong.sejongpeer.domain.honbab.util.HonbabWaitingPool.Waiting;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+
+class HonbabWaitingPoolTest {
+	@Test
+	@DisplayName("신청 순서대로 HonbabFilter 순차 탐색과 같은 상대를 매칭한다")
+	void sameResultAsSequentialFilter() {
+		Random random = new Random(42);
+		List<Honbab> waitings = new ArrayList<>();
+		HonbabWaitingPool pool = new HonbabWaitingPool();
+
+		for (long id = 1; id <= 5_000; id++) {
+			Honbab me = honbab(id, random);
+
+			Honbab sequential = waitings.stream()
+				.filter(candidate -> HonbabFilter.filterSutiableGender(candidate, me))
+				.filter(candidate -> HonbabFilter.filterSuitableMenuCategory(candidate, me))
+				.findFirst()
+				.orElse(null);
+			Long indexed = pool.pollPartnerOrAdd(Waiting.from(me)).map(Waiting::honbabId).orElse(null);
+
+			if (sequential == null) {
+				assertThat(indexed).isNull();
+				waitings.add(me);
+			} else {
+				assertThat(indexed).isEqualTo(sequential.getId());
+				waitings.remove(sequential);
+			}
+
+			// 가끔 대기중인 신청을 취소한다
+			if (!waitings.isEmpty() && random.nextInt(10) == 0) {
+				Honbab canceled = waitings.remove(random.nextInt(waitings.size()));
+				assertThat(pool.remove(canceled.getId())).isTrue();
+			}
+			assertThat(pool.size()).isEqualTo(waitings.size());
+		}
+	}
+
+	@Test
+	@DisplayName("기준 시각 이전에 등록된 신청만 대기열에서 뺀다")
+	void removeCreatedBefore() {
+		LocalDateTime now = LocalDateTime.now();
+		HonbabWaitingPool pool = new HonbabWaitingPool();
+		pool.add(new Waiting(1L, MenuCategoryOption.KOREAN, GenderOption.SAME, Gender.MALE, now.minusHours(2)));
+		pool.add(new Waiting(2L, MenuCategoryOption.CHINESE, GenderOption.SAME, Gender.FEMALE, now.minusHours(2)));
+		pool.add(new Waiting(3L, MenuCategoryOption.KOREAN, GenderOption.SAME, Gender.MALE, now));
+
+		assertThat(pool.removeCreatedBefore(now.minusHours(1))).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(pool.contains(3L)).isTrue();
+		assertThat(pool.size()).isEqualTo(1);
+	}
+
+	private Honbab honbab(long id, Random random) {
+		Member member = Member.builder()
+			.gender(Gender.values()[random.nextInt(Gender.values().length)])
+			.build();
+		RegisterHonbabRequest request = new RegisterHonbabRequest(
+			GenderOption.values()[random.nextInt(GenderOption.values().length)],
+			MenuCategoryOption.values()[random.nextInt(MenuCategoryOption.values().length)]);
+
+		Honbab honbab = Honbab.createHonbab(member, request);
+		ReflectionTestUtils.setField(honbab, "id", id);
+		return honbab;
+	}
+}
@@ -0,0 +1,163 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.util.unit.DataSize;
+
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeStatus;
+import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
+import com.sejong.sejongpeer.domain.image.vo.ImageContent;
+import com.sejong.sejongpeer.infra.config.properties.ImageDerivativeProperties;
+import com.sejong.sejongpeer.infra.config.properties.ImageUploadProperties;
+import com.sejong.sejongpeer.infra.config.properties.S3Properties;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+import com.sejong.sejongpeer.util.InMemoryAmazonS3;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+	private static final Long IMAGE_ID = 1L;
+
+	@Mock
+	private ImageRepository imageRepository;
+	@Mock
+	private SchedulerLockManager schedulerLockManager;
+
+	private final InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+	private ImageUploader imageUploader;
+	private ImageDerivativeService imageDerivativeService;
+
+	@BeforeEach
+	void setUp() {
+		imageUploader = new ImageUploader(amazonS3, new TaskExecutorAdapter(new SyncTaskExecutor()),
+			new S3Properties(null, null, null, "bucket", null),
+			new ImageUploadProperties(DataSize.ofMegabytes(5), DataSize.ofMegabytes(20), 1, 1, Duration.ofSeconds(30)));
+		imageDerivativeService = new ImageDerivativeService(imageRepository, imageUploader,
+			new ImageDerivativeGenerator(), new SyncTaskExecutor(), schedulerLockManager,
+			new ImageDerivativeProperties(1, 1, Duration.ofMinutes(5), 100, 5));
+	}
+
+	@Test
+	@DisplayName("원본을 내려받아 비율을 유지한 썸네일과 피드용 축소본을 올리고 기록한다")
+	void createsResizedDerivatives() throws IOException {
+		givenOriginal(png(2000, 1000));
+
+		imageDerivativeService.onStudyImagesUploaded(new StudyImagesUploadedEvent(List.of(IMAGE_ID)));
+
+		ArgumentCaptor<String> thumbnailUrl = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> feedUrl = ArgumentCaptor.forClass(String.class);
+		then(imageRepository).should().updateDerivatives(
+			eq(IMAGE_ID), thumbnailUrl.capture(), feedUrl.capture(), eq(ImageDerivativeStatus.COMPLETE));
+
+		assertSize(thumbnailUrl.getValue(), 320, 160);
+		assertSize(feedUrl.getValue(), 960, 480);
+		assertThat(amazonS3.objectCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("축소본 크기보다 작은 원본은 키우지 않는다")
+	void doesNotEnlargeSmallImage() throws IOException {
+		givenOriginal(png(200, 100));
+
+		imageDerivativeService.createDerivatives(IMAGE_ID);
+
+		ArgumentCaptor<String> thumbnailUrl = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> feedUrl = ArgumentCaptor.forClass(String.class);
+		then(imageRepository).should().updateDerivatives(
+			eq(IMAGE_ID), thumbnailUrl.capture(), feedUrl.capture(), eq(ImageDerivativeStatus.COMPLETE));
+
+		assertSize(thumbnailUrl.getValue(), 200, 100);
+		assertSize(feedUrl.getValue(), 200, 100);
+	}
+
+	@Test
+	@DisplayName("읽을 수 없는 이미지는 변환 실패로 기록하고 축소본을 올리지 않는다")
+	void marksUnreadableImageAsFailed() throws IOException {
+		givenOriginal("not an image".getBytes());
+
+		imageDerivativeService.createDerivatives(IMAGE_ID);
+
+		then(imageRepository).should().updateDerivatives(IMAGE_ID, null, null, ImageDerivativeStatus.FAILED);
+		assertThat(amazonS3.objectCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("S3 에 원본이 없으면 다시 시도하지 않도록 변환 실패로 기록한다")
+	void marksMissingOriginalAsFailed() {
+		given(imageRepository.findImgUrlById(IMAGE_ID)).willReturn(Optional.of("https://bucket.s3.local/missing.png"));
+
+		imageDerivativeService.createDerivatives(IMAGE_ID);
+
+		then(imageRepository).should().updateDerivatives(IMAGE_ID, null, null, ImageDerivativeStatus.FAILED);
+	}
+
+	@Test
+	@DisplayName("재시도 작업은 시도 횟수를 넘긴 이미지를 먼저 실패로 바꾼 뒤 남은 대기 이미지를 다시 변환한다")
+	void failsExhaustedImagesBeforeRetrying() {
+		given(schedulerLockManager.runExclusively(anyString(), any())).willAnswer(invocation -> {
+			SchedulerLease lease = mock(SchedulerLease.class);
+			given(lease.fenced(ArgumentMatchers.<Supplier<Integer>>any())).willAnswer(fenced -> fenced.<Supplier<?>>getArgument(0).get());
+			invocation.<Consumer<SchedulerLease>>getArgument(1).accept(lease);
+			return true;
+		});
+		given(imageRepository.findIdsByDerivativeStatus(eq(ImageDerivativeStatus.PENDING), any(), any()))
+			.willReturn(List.of());
+
+		imageDerivativeService.retryPendingDerivatives();
+
+		InOrder inOrder = inOrder(imageRepository);
+		inOrder.verify(imageRepository)
+			.failExhaustedDerivatives(ImageDerivativeStatus.PENDING, ImageDerivativeStatus.FAILED, 5);
+		inOrder.verify(imageRepository).findIdsByDerivativeStatus(eq(ImageDerivativeStatus.PENDING), any(), any());
+	}
+
+	private void givenOriginal(byte[] original) throws IOException {
+		String url = imageUploader.upload(new ImageContent("png", new ByteArrayInputStream(original)));
+		given(imageRepository.findImgUrlById(IMAGE_ID)).willReturn(Optional.of(url));
+	}
+
+	private void assertSize(String url, int width, int height) throws IOException {
+		assertThat(url).endsWith(".jpeg");
+		BufferedImage image = ImageIO.read(imageUploader.download(url));
+		assertThat(image.getWidth()).isEqualTo(width);
+		assertThat(image.getHeight()).isEqualTo(height);
+	}
+
+	private byte[] png(int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.ORANGE);
+		graphics.fillRect(0, 0, width / 2, height);
+		graphics.dispose();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,172 @@
+package com.sejong.sejongpeer.domain.image.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import com.sejong.sejongpeer.domain.image.vo.ImageContent;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.ImageUploadProperties;
+import com.sejong.sejongpeer.infra.config.properties.S3Properties;
+import com.sejong.sejongpeer.util.InMemoryAmazonS3;
+
+class ImageUploaderTest {
+	private static final int CONCURRENCY = 2;
+
+	private final InMemoryAmazonS3 amazonS3 = new InMemoryAmazonS3();
+	private final ThreadPoolTaskExecutor uploadExecutor = uploadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		uploadExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("한 파트보다 큰 Base64 이미지는 디코딩하면서 멀티파트로 올린다")
+	void uploadsLargeImageInParts() throws IOException {
+		byte[] image = randomBytes(DataSize.ofMegabytes(11).toBytes());
+
+		String url = imageUploader(Duration.ofSeconds(30)).upload(ImageContent.fromDataUrl(dataUrl("png", image)));
+
+		assertThat(url).endsWith(".png");
+		assertThat(amazonS3.getObject(key(url))).isEqualTo(image);
+		assertThat(amazonS3.uploadedPartCount()).isEqualTo(3);
+		assertThat(amazonS3.putObjectCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("한 파트 안에 끝나는 이미지는 멀티파트 없이 한 번에 올린다")
+	void uploadsSmallImageAtOnce() throws IOException {
+		byte[] image = randomBytes(1_000);
+		String dataUrl = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(image);
+
+		String url = imageUploader(Duration.ofSeconds(30)).upload(ImageContent.fromDataUrl(
+			new ByteArrayInputStream(dataUrl.getBytes(StandardCharsets.US_ASCII))));
+
+		assertThat(url).endsWith(".jpeg");
+		assertThat(amazonS3.getObject(key(url))).isEqualTo(image);
+		assertThat(amazonS3.putObjectCount()).isEqualTo(1);
+		assertThat(amazonS3.uploadedPartCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 올리던 멀티파트 업로드를 취소한다")
+	void abortsWhenImageTooLarge() {
+		byte[] image = randomBytes(DataSize.ofMegabytes(13).toBytes());
+		ImageUploader imageUploader = imageUploader(Duration.ofSeconds(30));
+
+		assertThatThrownBy(() -> imageUploader.upload(ImageContent.fromDataUrl(dataUrl("png", image))))
+			.isInstanceOfSatisfying(CustomException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.STUDY_IMAGE_SIZE_TOO_BIG));
+
+		assertThat(amazonS3.abortedUploadCount()).isEqualTo(1);
+		assertThat(amazonS3.pendingUploadCount()).isZero();
+		assertThat(amazonS3.objectCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("전용 풀 크기만큼 동시에 올리고, 대기열이 차면 자리가 날 때까지 기다리며, 결과는 요청 순서대로 돌려준다")
+	void uploadsWithBoundedConcurrency() throws IOException {
+		amazonS3.setLatency(Duration.ofMillis(50));
+		List<byte[]> images = IntStream.range(0, 12).mapToObj(i -> randomBytes(100 + i)).toList();
+
+		List<String> urls = imageUploader(Duration.ofSeconds(30)).uploadAll(images.stream()
+			.map(image -> new ImageContent("png", new ByteArrayInputStream(image)))
+			.toList());
+
+		assertThat(urls).hasSize(images.size());
+		for (int i = 0; i < images.size(); i++) {
+			assertThat(amazonS3.getObject(key(urls.get(i)))).isEqualTo(images.get(i));
+		}
+		// 대기열이 차도 요청 스레드가 직접 올리지 않으므로 업로드 스레드 수를 넘지 않는다
+		assertThat(amazonS3.maxInFlightRequests()).isEqualTo(CONCURRENCY);
+	}
+
+	@Test
+	@DisplayName("이미지 하나가 제한 시간을 넘기면 남은 업로드를 취소하고 시간 초과로 응답한다")
+	void failsWhenUploadTimesOut() throws InterruptedException {
+		amazonS3.setLatency(Duration.ofSeconds(5));
+		ImageUploader imageUploader = imageUploader(Duration.ofMillis(100));
+		List<ImageContent> images = List.of(
+			new ImageContent("png", new ByteArrayInputStream(randomBytes(100))),
+			new ImageContent("png", new ByteArrayInputStream(randomBytes(200))));
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> imageUploader.uploadAll(images))
+			.isInstanceOfSatisfying(CustomException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IMAGE_UPLOAD_TIMEOUT));
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+
+		// 취소된 업로드가 중단되지 않았다면 응답 지연(5초) 동안 스레드가 끝나지 않는다
+		uploadExecutor.getThreadPoolExecutor().shutdown();
+		assertThat(uploadExecutor.getThreadPoolExecutor().awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(amazonS3.objectCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("제한 시간은 이미지마다가 아니라 요청 전체에 적용한다")
+	void appliesTimeoutToWholeRequest() {
+		amazonS3.setLatency(Duration.ofMillis(300));
+		ImageUploader imageUploader = imageUploader(Duration.ofMillis(700));
+		// 두 개씩 세 번에 나누어 올라가므로 이미지 하나는 제한 시간 안에 끝나도 요청 전체는 900ms 가 걸린다
+		List<ImageContent> images = IntStream.range(0, 6)
+			.mapToObj(i -> new ImageContent("png", new ByteArrayInputStream(randomBytes(100 + i))))
+			.toList();
+
+		assertThatThrownBy(() -> imageUploader.uploadAll(images))
+			.isInstanceOfSatisfying(CustomException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IMAGE_UPLOAD_TIMEOUT));
+	}
+
+	private ImageUploader imageUploader(Duration timeout) {
+		return new ImageUploader(amazonS3, uploadExecutor,
+			new S3Properties(null, null, null, "bucket", null),
+			new ImageUploadProperties(DataSize.ofMegabytes(5), DataSize.ofMegabytes(12), CONCURRENCY, 2, timeout));
+	}
+
+	private ThreadPoolTaskExecutor uploadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(CONCURRENCY);
+		executor.setMaxPoolSize(CONCURRENCY);
+		executor.setQueueCapacity(2);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// curl 이나 base64 명령 출력처럼 76자마다 줄바꿈된 data URL
+	private InputStream dataUrl(String extension, byte[] image) {
+		InputStream prefix = new ByteArrayInputStream(
+			("data:image/" + extension + ";base64,").getBytes(StandardCharsets.US_ASCII));
+		return new SequenceInputStream(prefix, new ByteArrayInputStream(Base64.getMimeEncoder().encode(image)));
+	}
+
+	private byte[] randomBytes(long size) {
+		byte[] bytes = new byte[Math.toIntExact(size)];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	private String key(String url) {
+		return url.substring(url.lastIndexOf('/') + 1);
+	}
+}
@@ -0,0 +1,100 @@
+package com.sejong.sejongpeer.domain.member.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+import com.sejong.sejongpeer.domain.member.vo.MemberUniqueValues;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class MemberRepositoryImplTest {
+	@Autowired private MemberRepository memberRepository;
+	@Autowired private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		saveMember("first", "01011111111", "20011111", "kakao1");
+		saveMember("second", "01022222222", "20022222", "kakao2");
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("겹치는 항목을 회원이 달라도 쿼리 한 번으로 모두 찾는다")
+	void findsAllDuplicatedFieldsInOneQuery() {
+		Map<MemberUniqueField, String> values = new EnumMap<>(MemberUniqueField.class);
+		values.put(MemberUniqueField.PHONE_NUMBER, "01099999999");
+		values.put(MemberUniqueField.ACCOUNT, "first");
+		values.put(MemberUniqueField.STUDENT_ID, "20033333");
+		values.put(MemberUniqueField.NICKNAME, "second");
+		values.put(MemberUniqueField.KAKAO_ACCOUNT, "kakao1");
+		Statistics statistics = statistics();
+
+		assertThat(memberRepository.findDuplicatedFields(values)).containsExactly(
+			MemberUniqueField.ACCOUNT, MemberUniqueField.NICKNAME, MemberUniqueField.KAKAO_ACCOUNT);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("겹치는 회원이 없으면 빈 집합을 돌려준다")
+	void findsNoDuplicatedFields() {
+		assertThat(memberRepository.findDuplicatedFields(
+			Map.of(MemberUniqueField.NICKNAME, "third", MemberUniqueField.PHONE_NUMBER, "01033333333")))
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("id 순서로 이어서 회원 값을 나누어 읽는다")
+	void readsUniqueValuesInPages() {
+		List<MemberUniqueValues> firstPage = memberRepository.findUniqueValuesAfter(null, 1);
+		List<MemberUniqueValues> secondPage = memberRepository.findUniqueValuesAfter(firstPage.get(0).id(), 1);
+
+		assertThat(secondPage).singleElement()
+			.satisfies(values -> assertThat(values.id()).isGreaterThan(firstPage.get(0).id()));
+		assertThat(memberRepository.findUniqueValuesAfter(secondPage.get(0).id(), 1)).isEmpty();
+		assertThat(List.of(firstPage.get(0), secondPage.get(0)))
+			.extracting(values -> values.get(MemberUniqueField.ACCOUNT))
+			.containsExactlyInAnyOrder("first", "second");
+	}
+
+	private void saveMember(String account, String phoneNumber, String studentId, String kakaoAccount) {
+		entityManager.persist(Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber(phoneNumber)
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId(studentId)
+			.kakaoAccount(kakaoAccount)
+			.build());
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
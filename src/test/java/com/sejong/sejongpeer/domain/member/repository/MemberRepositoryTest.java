@@ -57,4 +57,26 @@ class MemberRepositoryTest {
         Assertions.assertEquals(savedMember.getCollegeMajor().getMajor(), "호텔관광외식경영학부");
         Assertions.assertNotNull(savedMember.getCollegeMinor().getMajor(), "국어국문학과");
     }
+
+    @Test
+    void 조회한_뒤_비밀번호가_바뀌지_않았을_때만_비밀번호를_갱신한다() {
+        // given
+        Member member =
+                memberRepository.save(
+                        Member.builder()
+                                .phoneNumber("01012341234")
+                                .grade(1)
+                                .gender(Gender.MALE)
+                                .studentId("12345678")
+                                .name("홍길동")
+                                .nickname("길동")
+                                .kakaoAccount("test")
+                                .account("test")
+                                .password("old")
+                                .build());
+
+        // when, then
+        Assertions.assertEquals(0, memberRepository.updatePasswordIfMatches(member.getId(), "changed", "rehashed"));
+        Assertions.assertEquals(1, memberRepository.updatePasswordIfMatches(member.getId(), "old", "rehashed"));
+    }
 }
@@ -2,6 +2,8 @@ package com.sejong.sejongpeer.domain.member.service;
 
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -14,14 +16,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.sejong.sejongpeer.config.PasswordEncoderTestConfig;
+import com.sejong.sejongpeer.domain.auth.service.RefreshTokenService;
 import com.sejong.sejongpeer.domain.college.entity.CollegeMajor;
 import com.sejong.sejongpeer.domain.college.repository.CollegeMajorRepository;
 import com.sejong.sejongpeer.domain.member.dto.request.AccountFindRequest;
@@ -32,27 +39,49 @@ import com.sejong.sejongpeer.domain.member.dto.response.AccountFindResponse;
 import com.sejong.sejongpeer.domain.member.dto.response.MemberInfoResponse;
 import com.sejong.sejongpeer.domain.member.entity.Member;
 import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
 import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
 import com.sejong.sejongpeer.global.error.exception.CustomException;
 import com.sejong.sejongpeer.global.error.exception.ErrorCode;
 import com.sejong.sejongpeer.global.util.MemberUtil;
+import com.sejong.sejongpeer.global.util.SecurityUtil;
+import com.sejong.sejongpeer.infra.config.properties.PasswordHashingProperties;
 import com.sejong.sejongpeer.security.MemberDetails;
+import com.sejong.sejongpeer.security.util.PasswordHasher;
 
 @ExtendWith(MockitoExtension.class)
 @Import(PasswordEncoderTestConfig.class)
 class MemberServiceTest {
-	@InjectMocks
 	private MemberService memberService;
 	@Spy
 	private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+	@Spy
+	private PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder,
+		new TaskExecutorAdapter(new SyncTaskExecutor()), new PasswordHashingProperties(10, 1, 1, Duration.ofSeconds(3)));
 	@Mock
 	private CollegeMajorRepository collegeMajorRepository;
 	@Mock
 	private MemberRepository memberRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private RefreshTokenService refreshTokenService;
+	@Mock
+	private SecurityUtil securityUtil;
+	@Mock
+	private MemberUniqueValueFilter memberUniqueValueFilter;
 
 	@InjectMocks
 	private MemberUtil memberUtil;
 
+	// 중복 검사는 memberRepository 목으로 확인하도록 실제 MemberVerificationService 를 사용한다
+	@BeforeEach
+	void setUpMemberService() {
+		memberService = new MemberService(memberRepository, refreshTokenService, collegeMajorRepository,
+			passwordHasher, memberUtil, securityUtil, new MemberVerificationService(memberRepository), eventPublisher,
+			memberUniqueValueFilter, TransactionOperations.withoutTransaction());
+	}
+
 	@Nested
 	@DisplayName("회원가입 테스트")
 	class SignUpTest {
@@ -93,13 +122,15 @@ class MemberServiceTest {
 					.major(signUpRequest.subMajor())
 					.build();
 			given(
-				collegeMajorRepository.findByCollegeAndMajor(
+				collegeMajorRepository.findIdByCollegeAndMajor(
 					signUpRequest.college(), signUpRequest.major()))
-				.willReturn(Optional.ofNullable(major));
+				.willReturn(Optional.of(1L));
 			given(
-				collegeMajorRepository.findByCollegeAndMajor(
+				collegeMajorRepository.findIdByCollegeAndMajor(
 					signUpRequest.subCollege(), signUpRequest.subMajor()))
-				.willReturn(Optional.ofNullable(minor));
+				.willReturn(Optional.of(2L));
+			given(collegeMajorRepository.getReferenceById(1L)).willReturn(major);
+			given(collegeMajorRepository.getReferenceById(2L)).willReturn(minor);
 
 			Member member =
 				Member.create(
@@ -120,7 +151,8 @@ class MemberServiceTest {
 		@Test
 		void 중복된_아이디_회원가입() {
 			// given
-			given(memberRepository.existsByAccount("test")).willReturn(true);
+			given(memberRepository.findDuplicatedFields(anyMap()))
+				.willReturn(EnumSet.of(MemberUniqueField.ACCOUNT));
 
 			// when
 			CustomException e =
@@ -134,7 +166,8 @@ class MemberServiceTest {
 		@Test
 		void 중복된_학번_회원가입() {
 			// given
-			given(memberRepository.existsByStudentId(signUpRequest.studentId())).willReturn(true);
+			given(memberRepository.findDuplicatedFields(anyMap()))
+				.willReturn(EnumSet.of(MemberUniqueField.STUDENT_ID));
 
 			// when
 			CustomException e =
@@ -148,7 +181,8 @@ class MemberServiceTest {
 		@Test
 		void 중복된_전화번호_회원가입() {
 			// given
-			given(memberRepository.existsByPhoneNumber("01011112222")).willReturn(true);
+			given(memberRepository.findDuplicatedFields(anyMap()))
+				.willReturn(EnumSet.of(MemberUniqueField.PHONE_NUMBER));
 
 			// when
 			CustomException e =
@@ -356,6 +390,7 @@ class MemberServiceTest {
 				.build();
 			given(memberRepository.findByAccountAndStudentId(ACCOUNT, STUDENT_ID)).willReturn(
 				Optional.ofNullable(member));
+			given(memberRepository.findById(member.getId())).willReturn(Optional.ofNullable(member));
 
 			// when
 			memberService.resetPassword(request);
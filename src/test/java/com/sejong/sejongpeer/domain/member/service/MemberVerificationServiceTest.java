@@ -0,0 +1,59 @@
+package com.sejong.sejongpeer.domain.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sejong.sejongpeer.domain.member.dto.request.MemberUpdateRequest;
+import com.sejong.sejongpeer.domain.member.dto.request.SignUpRequest;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.entity.type.MemberUniqueField;
+import com.sejong.sejongpeer.domain.member.repository.MemberRepository;
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class MemberVerificationServiceTest {
+	@Mock
+	private MemberRepository memberRepository;
+	@InjectMocks
+	private MemberVerificationService memberVerificationService;
+
+	@Test
+	@DisplayName("회원정보 수정에서 닉네임과 휴대폰 번호가 모두 겹치면 닉네임 중복을 알린다")
+	void reportsNicknameFirstOnUpdate() {
+		given(memberRepository.findDuplicatedFields(anyMap()))
+			.willReturn(EnumSet.of(MemberUniqueField.PHONE_NUMBER, MemberUniqueField.NICKNAME));
+		MemberUpdateRequest request = MemberUpdateRequest.builder()
+			.nickname("tester")
+			.phoneNumber("01011112222")
+			.build();
+
+		assertThatThrownBy(() -> memberVerificationService.verifyUpdatable(request))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.DUPLICATED_NICKNAME);
+	}
+
+	@Test
+	@DisplayName("회원가입에서 닉네임과 휴대폰 번호가 모두 겹치면 휴대폰 번호 중복을 알린다")
+	void reportsPhoneNumberFirstOnSignUp() {
+		given(memberRepository.findDuplicatedFields(anyMap()))
+			.willReturn(EnumSet.of(MemberUniqueField.PHONE_NUMBER, MemberUniqueField.NICKNAME));
+		SignUpRequest request = new SignUpRequest("test", "test", "test", "test", "18011111", "인문과학대학", "국어국문학과",
+			null, null, 2, Gender.MALE, "01011112222", "tester", "testkakao");
+
+		assertThatThrownBy(() -> memberVerificationService.verifySignUp(request))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.DUPLICATED_PHONE_NUMBER);
+	}
+}
@@ -0,0 +1,56 @@
+package com.sejong.sejongpeer.domain.scrap.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScrapCountBufferTest {
+	private final ScrapCountBuffer buffer = new ScrapCountBuffer();
+
+	@Test
+	@DisplayName("스크랩 후 취소하면 반영할 증감이 남지 않는다")
+	void cancelledScrapLeavesNothing() {
+		buffer.add(1L, 1);
+		buffer.add(2L, 1);
+		buffer.add(1L, -1);
+
+		assertThat(buffer.pendingDelta(1L)).isZero();
+		assertThat(buffer.drain()).containsExactly(Map.entry(2L, 1));
+		assertThat(buffer.drain()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("증감을 쌓는 도중에 여러 번 비워도 잃어버리거나 두 번 세는 증감이 없다")
+	void drainWhileAdding() throws InterruptedException {
+		int threadCount = 8;
+		int addsPerThread = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < addsPerThread; i++) {
+					buffer.add((long)(i % 3), 1);
+				}
+				done.countDown();
+			});
+		}
+
+		Map<Long, Integer> flushed = new HashMap<>();
+		while (done.getCount() > 0) {
+			buffer.drain().forEach((studyId, delta) -> flushed.merge(studyId, delta, Integer::sum));
+		}
+		buffer.drain().forEach((studyId, delta) -> flushed.merge(studyId, delta, Integer::sum));
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(flushed.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(threadCount * addsPerThread);
+	}
+}
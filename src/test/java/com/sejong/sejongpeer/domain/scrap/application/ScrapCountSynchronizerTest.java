@@ -0,0 +1,97 @@
+package com.sejong.sejongpeer.domain.scrap.application;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot;
+import com.sejong.sejongpeer.infra.config.properties.ScrapCountProperties;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLease;
+import com.sejong.sejongpeer.infra.scheduler.service.SchedulerLockManager;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapCountSynchronizerTest {
+	private static final Long STUDY_ID = 1L;
+
+	@Mock
+	private StudyRepository studyRepository;
+	@Mock
+	private SchedulerLockManager schedulerLockManager;
+
+	private final ScrapCountBuffer scrapCountBuffer = new ScrapCountBuffer();
+	private ScrapCountSynchronizer scrapCountSynchronizer;
+
+	@BeforeEach
+	void setUp() {
+		scrapCountSynchronizer = new ScrapCountSynchronizer(scrapCountBuffer, studyRepository,
+			new ScrapCountProperties(1000, 1000, 0), schedulerLockManager);
+		given(studyRepository.findMaxId()).willReturn(STUDY_ID);
+	}
+
+	@Test
+	@DisplayName("버퍼를 비운 뒤 보정 전에 들어온 스크랩은 보정하지 않고 다음 반영 때 한 번만 더한다")
+	void keepsScrapBufferedAfterFlush() {
+		givenLease(() -> scrapCountBuffer.add(STUDY_ID, 1));
+		given(studyRepository.findScrapCountMismatches(0L, 1000L))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 3, 4)));
+		given(studyRepository.findScrapCounts(List.of(STUDY_ID)))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 3, 4)));
+
+		scrapCountSynchronizer.reconcile();
+		scrapCountSynchronizer.flush();
+
+		then(studyRepository).should(never()).correctScrapCount(any(), anyInt(), anyInt());
+		then(studyRepository).should().addScrapCount(List.of(STUDY_ID), 1);
+	}
+
+	@Test
+	@DisplayName("다른 서버 버퍼에 있던 증감이 기다리는 동안 반영되면 보정하지 않는다")
+	void skipsDeltaFlushedByOtherServer() {
+		givenLease(() -> { });
+		given(studyRepository.findScrapCountMismatches(0L, 1000L))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 3, 4)));
+		given(studyRepository.findScrapCounts(List.of(STUDY_ID)))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 4, 4)));
+
+		scrapCountSynchronizer.reconcile();
+
+		then(studyRepository).should(never()).correctScrapCount(any(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("기다린 뒤에도 차이가 그대로면 읽은 값이 바뀌지 않았을 때만 차이만큼 더한다")
+	void correctsStableDrift() {
+		givenLease(() -> { });
+		given(studyRepository.findScrapCountMismatches(0L, 1000L))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 3, 5)));
+		given(studyRepository.findScrapCounts(List.of(STUDY_ID)))
+			.willReturn(List.of(new ScrapCountSnapshot(STUDY_ID, 3, 5)));
+
+		scrapCountSynchronizer.reconcile();
+
+		then(studyRepository).should().correctScrapCount(STUDY_ID, 3, 2);
+	}
+
+	// beforeReconcile 은 flush 가 끝나고 보정이 시작되기 전에 실행된다
+	private void givenLease(Runnable beforeReconcile) {
+		given(schedulerLockManager.runExclusively(anyString(), any())).willAnswer(invocation -> {
+			beforeReconcile.run();
+			SchedulerLease lease = mock(SchedulerLease.class);
+			lenient().when(lease.fenced(ArgumentMatchers.<Supplier<Integer>>any()))
+				.thenAnswer(fenced -> fenced.<Supplier<?>>getArgument(0).get());
+			invocation.<Consumer<SchedulerLease>>getArgument(1).accept(lease);
+			return true;
+		});
+	}
+}
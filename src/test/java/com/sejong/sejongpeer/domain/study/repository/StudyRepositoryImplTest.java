@@ -0,0 +1,286 @@
+package com.sejong.sejongpeer.domain.study.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.externalactivity.entity.ExternalActivity;
+import com.sejong.sejongpeer.domain.image.entity.Image;
+import com.sejong.sejongpeer.domain.image.entity.type.ImageDerivativeStatus;
+import com.sejong.sejongpeer.domain.image.repository.ImageRepository;
+import com.sejong.sejongpeer.domain.lecture.entity.Lecture;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.scrap.entity.Scrap;
+import com.sejong.sejongpeer.domain.scrap.entity.ScrapType;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyTotalPostResponse;
+import com.sejong.sejongpeer.domain.study.entity.ExternalActivityStudy;
+import com.sejong.sejongpeer.domain.study.entity.LectureStudy;
+import com.sejong.sejongpeer.domain.study.entity.Study;
+import com.sejong.sejongpeer.domain.study.entity.StudyTagMap;
+import com.sejong.sejongpeer.domain.study.entity.Tag;
+import com.sejong.sejongpeer.domain.study.entity.type.Frequency;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyMethod;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.search.StudySearchDocument;
+import com.sejong.sejongpeer.domain.study.service.StudySpecification;
+import com.sejong.sejongpeer.domain.study.vo.ScrapCountSnapshot;
+import com.sejong.sejongpeer.domain.study.vo.StudyFeedCursor;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.util.DomainObjectUtil;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class StudyRepositoryImplTest {
+	private static final int STUDY_COUNT = 20;
+
+	@Autowired private StudyRepository studyRepository;
+	@Autowired private ImageRepository imageRepository;
+	@Autowired private EntityManager entityManager;
+
+	private Member writer;
+	private Member viewer;
+
+	@BeforeEach
+	void setUp() {
+		writer = saveMember("writer", "01011111111");
+		viewer = saveMember("viewer", "01022222222");
+
+		Lecture lecture = DomainObjectUtil.createInstance(Lecture.class,
+			it -> ReflectionTestUtils.setField(it, "name", "자료구조"));
+		ExternalActivity externalActivity = DomainObjectUtil.createInstance(ExternalActivity.class,
+			it -> ReflectionTestUtils.setField(it, "name", "공모전"));
+		Tag tag = new Tag("알고리즘");
+		entityManager.persist(lecture);
+		entityManager.persist(externalActivity);
+		entityManager.persist(tag);
+
+		for (int i = 0; i < STUDY_COUNT; i++) {
+			Study study = saveStudy(StudyType.LECTURE, "수업 스터디 " + i);
+			entityManager.persist(LectureStudy.create(lecture, study));
+
+			StudyTagMap studyTagMap = StudyTagMap.builder().tag(tag).build();
+			study.addStudyTagMap(studyTagMap);
+			entityManager.persist(studyTagMap);
+
+			entityManager.persist(Scrap.createScrap(ScrapType.STUDY, writer, study));
+			if (i % 2 == 0) {
+				entityManager.persist(Scrap.createScrap(ScrapType.STUDY, viewer, study));
+				entityManager.persist(Image.createBase64ToImage(study, "https://image/" + i));
+			}
+		}
+
+		Study externalStudy = saveStudy(StudyType.EXTERNAL_ACTIVITY, "외부 활동 스터디");
+		entityManager.persist(ExternalActivityStudy.create(externalActivity, externalStudy));
+
+		entityManager.flush();
+		// 스크랩 수 컬럼은 ScrapCountSynchronizer 가 채우므로, 저장한 스크랩 기준으로 보정해 둔다
+		List<ScrapCountSnapshot> mismatches = studyRepository.findScrapCountMismatches(0L, Long.MAX_VALUE);
+		assertThat(mismatches).hasSize(STUDY_COUNT);
+		mismatches.forEach(it ->
+			studyRepository.correctScrapCount(it.studyId(), it.storedCount(), it.actualCount() - it.storedCount()));
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("게시글 수와 상관없이 두 번의 쿼리로 카테고리, 스크랩, 태그 정보를 함께 조회한다")
+	void findStudyFeedWithTwoQueries() {
+		Statistics statistics = statistics();
+
+		List<StudyTotalPostResponse> feed =
+			studyRepository.findStudyFeed(StudyType.LECTURE, null, STUDY_COUNT, viewer.getId()).posts();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(feed).hasSize(STUDY_COUNT);
+		assertThat(feed).allSatisfy(post -> {
+			assertThat(post.categoryName()).isEqualTo("자료구조");
+			assertThat(post.tags()).containsExactly("알고리즘");
+			assertThat(post.isScraped()).isEqualTo(post.hasImage());
+		});
+		assertThat(feed).filteredOn(StudyTotalPostResponse::isScraped).hasSize(STUDY_COUNT / 2)
+			.allSatisfy(post -> assertThat(post.scrapCount()).isEqualTo(2));
+		assertThat(feed).filteredOn(post -> !post.isScraped())
+			.allSatisfy(post -> assertThat(post.scrapCount()).isEqualTo(1));
+	}
+
+	@Test
+	@DisplayName("대표 이미지로 첫 번째 이미지의 썸네일을, 축소본이 아직 없으면 원본을 내려준다")
+	void findStudyFeedWithSmallestImageUrl() {
+		Image converted = imageRepository.findAll(Sort.by("id")).get(0);
+		imageRepository.updateDerivatives(
+			converted.getId(), "https://thumbnail/0", "https://feed/0", ImageDerivativeStatus.COMPLETE);
+		entityManager.persist(Image.createBase64ToImage(converted.getStudy(), "https://image/later"));
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = statistics();
+
+		List<StudyTotalPostResponse> feed =
+			studyRepository.findStudyFeed(StudyType.LECTURE, null, STUDY_COUNT, viewer.getId()).posts();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(feed).filteredOn(StudyTotalPostResponse::hasImage)
+			.extracting(StudyTotalPostResponse::thumbnailUrl)
+			.containsExactlyInAnyOrderElementsOf(Stream.concat(
+				Stream.of("https://thumbnail/0"),
+				IntStream.range(1, STUDY_COUNT / 2).mapToObj(i -> "https://image/" + i * 2)).toList());
+		assertThat(feed).filteredOn(post -> !post.hasImage())
+			.allSatisfy(post -> assertThat(post.thumbnailUrl()).isNull());
+	}
+
+	@Test
+	@DisplayName("비로그인 조회는 스크랩 여부를 false로 반환한다")
+	void findStudyFeedWithoutViewer() {
+		Statistics statistics = statistics();
+
+		List<StudyTotalPostResponse> feed =
+			studyRepository.findStudyFeed(StudyType.EXTERNAL_ACTIVITY, null, STUDY_COUNT, null).posts();
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(feed).singleElement().satisfies(post -> {
+			assertThat(post.categoryName()).isEqualTo("공모전");
+			assertThat(post.isScraped()).isFalse();
+			assertThat(post.hasImage()).isFalse();
+			assertThat(post.tags()).isEmpty();
+		});
+	}
+
+	@Test
+	@DisplayName("커서로 이어서 조회하면 모든 게시글을 최신순으로 중복 없이 한 번씩 반환한다")
+	void findStudyFeedWithCursor() {
+		List<Long> expected = studyRepository.findAll().stream()
+			.filter(study -> study.getType() == StudyType.LECTURE)
+			.sorted(Comparator.comparing(Study::getCreatedAt).thenComparing(Study::getId).reversed())
+			.map(Study::getId)
+			.toList();
+
+		List<Long> actual = new ArrayList<>();
+		StudyFeedCursor cursor = null;
+		int pageCount = 0;
+		while (true) {
+			Statistics statistics = statistics();
+			StudyFeedResponse<StudyTotalPostResponse> page =
+				studyRepository.findStudyFeed(StudyType.LECTURE, cursor, 7, viewer.getId());
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+			assertThat(page.posts()).hasSizeLessThanOrEqualTo(7);
+			page.posts().forEach(post -> actual.add(post.id()));
+			pageCount++;
+			if (!page.hasNext()) {
+				assertThat(page.nextCursor()).isNull();
+				break;
+			}
+			cursor = StudyFeedCursor.decode(page.nextCursor());
+		}
+
+		assertThat(pageCount).isEqualTo(3);
+		assertThat(actual).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	@DisplayName("검색 색인용 게시글을 id 순서로 나누어 조회한다")
+	void findSearchDocuments() {
+		List<StudySearchDocument> first = studyRepository.findSearchDocuments(null, 15);
+		List<StudySearchDocument> rest = studyRepository.findSearchDocuments(first.get(first.size() - 1).id(), 15);
+
+		assertThat(first).hasSize(15);
+		assertThat(rest).hasSize(STUDY_COUNT + 1 - 15);
+		assertThat(first.get(0).tags()).containsExactly("알고리즘");
+		assertThat(studyRepository.findSearchDocument(rest.get(rest.size() - 1).id()))
+			.get().extracting(StudySearchDocument::title).isEqualTo("외부 활동 스터디");
+	}
+
+	@Test
+	@DisplayName("주어진 시각 이후에 수정된 게시글만 검색 색인용으로 조회한다")
+	void findSearchDocumentsUpdatedSince() {
+		LocalDateTime now = LocalDateTime.now();
+
+		assertThat(studyRepository.findSearchDocumentsUpdatedSince(now.minusMinutes(10), null, STUDY_COUNT + 1))
+			.extracting(StudySearchDocument::id)
+			.containsExactlyElementsOf(studyRepository.findSearchDocuments(null, STUDY_COUNT + 1).stream()
+				.map(StudySearchDocument::id).toList());
+		assertThat(studyRepository.findSearchDocumentsUpdatedSince(now.plusMinutes(10), null, STUDY_COUNT + 1))
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("카테고리 조건을 쿼리에 포함해 페이지를 가득 채우고, 페이지 크기와 상관없이 같은 수의 쿼리로 조회한다")
+	void findStudyPostsByCategory() {
+		Lecture otherLecture = DomainObjectUtil.createInstance(Lecture.class,
+			it -> ReflectionTestUtils.setField(it, "name", "운영체제"));
+		entityManager.persist(otherLecture);
+		for (int i = 0; i < 10; i++) {
+			entityManager.persist(LectureStudy.create(otherLecture, saveStudy(StudyType.LECTURE, "운영체제 스터디 " + i)));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Specification<Study> spec = Specification.where(StudySpecification.checkStudyTypeMatching(StudyType.LECTURE))
+			.and(StudySpecification.matchesCategory(StudyType.LECTURE, otherLecture.getId()));
+
+		for (int size : new int[] {4, 10}) {
+			List<Long> ids = studyRepository.findAll(spec, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")))
+				.map(Study::getId).getContent();
+
+			Statistics statistics = statistics();
+			List<StudyTotalPostResponse> posts = studyRepository.findStudyPosts(ids, viewer.getId());
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+			assertThat(posts).hasSize(size).extracting(StudyTotalPostResponse::id).containsExactlyElementsOf(ids);
+			assertThat(posts).allSatisfy(post -> assertThat(post.categoryName()).isEqualTo("운영체제"));
+		}
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private Member saveMember(String account, String phoneNumber) {
+		Member member = Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber(phoneNumber)
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId("20011111")
+			.kakaoAccount(account)
+			.build();
+		entityManager.persist(member);
+		return member;
+	}
+
+	private Study saveStudy(StudyType type, String title) {
+		Study study = Study.createStudy(title, "내용", 4, type, "https://open.kakao.com", "https://question",
+			StudyMethod.FACE_TO_FACE, Frequency.ONCE_OR_TWICE_A_WEEK,
+			LocalDateTime.now(), LocalDateTime.now().plusDays(7), writer);
+		entityManager.persist(study);
+		return study;
+	}
+}
@@ -0,0 +1,58 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+
+class StudySearchIndexTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+	private final StudySearchIndex index = new StudySearchIndex();
+
+	@BeforeEach
+	void setUp() {
+		index.put(document(1L, StudyType.LECTURE, "자료구조 스터디 모집", "매주 과제를 같이 풀어요", List.of("코딩")));
+		index.put(document(2L, StudyType.LECTURE, "운영체제 스터디", "자료구조 복습도 함께 합니다", List.of()));
+		index.put(document(3L, StudyType.EXTERNAL_ACTIVITY, "공모전 팀원 구해요", "Java Spring 백엔드", List.of("자료구조")));
+		index.put(document(4L, StudyType.LECTURE, "알고리즘", "C 언어로 풀어요", List.of()));
+	}
+
+	@Test
+	@DisplayName("단어 일부만 입력해도 제목, 내용, 태그에서 찾는다")
+	void findsPartialKoreanWord() {
+		assertThat(index.search("료구", null)).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(index.search("스터디 모집", null)).containsExactly(1L);
+		assertThat(index.search("SPRING", null)).containsExactly(3L);
+		assertThat(index.search("c", null)).containsExactly(4L);
+		assertThat(index.search("네트워크", null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("제목에서 찾은 게시글을 태그, 내용에서 찾은 게시글보다 앞에 둔다")
+	void ranksTitleOverTagsAndContent() {
+		assertThat(index.search("자료구조", null)).containsExactly(1L, 3L, 2L);
+		assertThat(index.search("자료구조", StudyType.LECTURE)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("수정하거나 삭제한 게시글은 이전 내용으로 검색되지 않는다")
+	void reflectsUpdatesAndRemovals() {
+		index.put(document(1L, StudyType.LECTURE, "컴퓨터 네트워크 스터디", "소켓 프로그래밍", List.of()));
+		index.remove(2L);
+
+		assertThat(index.search("자료구조", null)).containsExactly(3L);
+		assertThat(index.search("네트워크", null)).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	private StudySearchDocument document(Long id, StudyType type, String title, String content, List<String> tags) {
+		return new StudySearchDocument(id, type, title, content, tags, NOW.plusMinutes(id));
+	}
+}
@@ -0,0 +1,52 @@
+package com.sejong.sejongpeer.domain.study.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+
+class StudySearchIndexerTest {
+	private final StudyRepository studyRepository = mock(StudyRepository.class);
+	private final StudySearchIndexer indexer = new StudySearchIndexer(studyRepository);
+
+	@Test
+	@DisplayName("재구성이 실패해도 다음 주기에 다시 재구성해 색인을 준비한다")
+	void retriesFailedRebuild() {
+		given(studyRepository.findSearchDocuments(null, 1000))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(List.of(document(1L, "자료구조 스터디")));
+
+		indexer.rebuildOnStartup();
+		assertThat(indexer.isReady()).isFalse();
+
+		indexer.catchUp();
+		assertThat(indexer.isReady()).isTrue();
+		assertThat(indexer.search("자료구조", null)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스에서 추가되거나 수정된 게시글을 주기적으로 색인에 반영한다")
+	void catchesUpWithChangesFromOtherInstances() {
+		given(studyRepository.findSearchDocuments(null, 1000)).willReturn(List.of(document(1L, "자료구조 스터디")));
+		indexer.rebuild();
+		given(studyRepository.findSearchDocumentsUpdatedSince(any(), isNull(), eq(1000)))
+			.willReturn(List.of(document(1L, "운영체제 스터디"), document(2L, "자료구조 공부")));
+
+		indexer.catchUp();
+
+		assertThat(indexer.search("자료구조", null)).containsExactly(2L);
+		assertThat(indexer.search("운영체제", null)).containsExactly(1L);
+	}
+
+	private static StudySearchDocument document(Long id, String title) {
+		return new StudySearchDocument(id, StudyType.LECTURE, title, "", List.of(), LocalDateTime.now());
+	}
+}
@@ -0,0 +1,115 @@
+package com.sejong.sejongpeer.domain.study.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.study.entity.Study;
+import com.sejong.sejongpeer.domain.study.entity.Tag;
+import com.sejong.sejongpeer.domain.study.entity.type.Frequency;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyMethod;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.study.repository.TagRepository;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 태그 upsert 는 MySQL 문법을 쓰므로 H2 를 MySQL 모드로 띄우는 test 프로필을 사용한다
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class, TagService.class, ConcurrentMapCacheManager.class})
+class TagServiceTest {
+	@Autowired private TagService tagService;
+	@Autowired private TagRepository tagRepository;
+	@Autowired private StudyRepository studyRepository;
+	@Autowired private EntityManager entityManager;
+	@Autowired private CacheManager cacheManager;
+
+	private Member writer;
+
+	@BeforeEach
+	void setUp() {
+		// 테스트마다 롤백되므로 이전 테스트에서 캐시한 태그 id 는 남아 있으면 안 된다
+		cacheManager.getCache("tagIds").clear();
+
+		writer = Member.builder()
+			.account("writer")
+			.password("password")
+			.name("홍길동")
+			.nickname("writer")
+			.phoneNumber("01011111111")
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId("20011111")
+			.kakaoAccount("writer")
+			.build();
+		entityManager.persist(writer);
+		entityManager.persist(new Tag("자바"));
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("있는 태그는 재사용하고 없는 태그만 만들어, 중복 없이 스터디에 연결한다")
+	void createsOnlyMissingTags() {
+		Study study = saveStudy();
+
+		tagService.setTagAndStudyTagMap(List.of("자바", "스프링", "스프링", "JPA"), study);
+
+		assertThat(tagRepository.findAll()).extracting(Tag::getName)
+			.containsExactlyInAnyOrder("자바", "스프링", "JPA");
+		assertThat(tagService.getTagsNameByStudy(reload(study)))
+			.containsExactlyInAnyOrder("자바", "스프링", "JPA");
+	}
+
+	@Test
+	@DisplayName("이미 쓰인 태그는 캐시에서 찾아 태그를 조회하지 않는다")
+	void resolvesPopularTagsFromCache() {
+		tagService.setTagAndStudyTagMap(List.of("자바"), saveStudy());
+		Study study = saveStudy();
+		Statistics statistics = statistics();
+
+		tagService.setTagAndStudyTagMap(List.of("자바"), study);
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(tagService.getTagsNameByStudy(reload(study))).containsExactly("자바");
+	}
+
+	private Study saveStudy() {
+		Study study = Study.createStudy("스터디", "내용", 4, StudyType.LECTURE, "https://open.kakao.com",
+			"https://question", StudyMethod.FACE_TO_FACE, Frequency.ONCE_OR_TWICE_A_WEEK,
+			LocalDateTime.now(), LocalDateTime.now().plusDays(7),
+			entityManager.getReference(Member.class, writer.getId()));
+		return studyRepository.saveAndFlush(study);
+	}
+
+	private Study reload(Study study) {
+		entityManager.clear();
+		return studyRepository.findById(study.getId()).orElseThrow();
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
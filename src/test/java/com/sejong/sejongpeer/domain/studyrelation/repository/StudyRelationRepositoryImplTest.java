@@ -0,0 +1,153 @@
+package com.sejong.sejongpeer.domain.studyrelation.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.domain.member.entity.Member;
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.scrap.entity.Scrap;
+import com.sejong.sejongpeer.domain.scrap.entity.ScrapType;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.study.entity.Study;
+import com.sejong.sejongpeer.domain.study.entity.StudyTagMap;
+import com.sejong.sejongpeer.domain.study.entity.Tag;
+import com.sejong.sejongpeer.domain.study.entity.type.Frequency;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyMethod;
+import com.sejong.sejongpeer.domain.study.entity.type.StudyType;
+import com.sejong.sejongpeer.domain.study.repository.StudyRepository;
+import com.sejong.sejongpeer.domain.studyrelation.dto.response.AppliedStudyResponse;
+import com.sejong.sejongpeer.domain.studyrelation.entity.StudyRelation;
+import com.sejong.sejongpeer.domain.studyrelation.entity.type.StudyMatchingStatus;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+class StudyRelationRepositoryImplTest {
+	private static final int STUDY_COUNT = 20;
+
+	@Autowired private StudyRelationRepository studyRelationRepository;
+	@Autowired private StudyRepository studyRepository;
+	@Autowired private EntityManager entityManager;
+
+	private Member applicant;
+	private final List<Long> appliedStudyIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Member writer = saveMember("writer", "01011111111");
+		applicant = saveMember("applicant", "01022222222");
+		Tag tag = new Tag("알고리즘");
+		entityManager.persist(tag);
+
+		for (int i = 0; i < STUDY_COUNT; i++) {
+			Study study = Study.createStudy("스터디 " + i, "내용", 4, StudyType.LECTURE, "https://open.kakao.com",
+				"https://question", StudyMethod.FACE_TO_FACE, Frequency.ONCE_OR_TWICE_A_WEEK,
+				LocalDateTime.now(), LocalDateTime.now().plusDays(7), writer);
+			entityManager.persist(study);
+
+			StudyTagMap studyTagMap = StudyTagMap.builder().tag(tag).build();
+			study.addStudyTagMap(studyTagMap);
+			entityManager.persist(studyTagMap);
+
+			StudyRelation relation = StudyRelation.createStudyRelations(applicant, study);
+			entityManager.persist(relation);
+			// 다섯 번째마다 지원을 취소해 둔다
+			if (i % 5 == 0) {
+				relation.changeStudyMatchingStatus(StudyMatchingStatus.CANCEL);
+			} else {
+				appliedStudyIds.add(0, study.getId());
+			}
+			if (i % 2 == 0) {
+				entityManager.persist(Scrap.createScrap(ScrapType.STUDY, applicant, study));
+			}
+			entityManager.persist(StudyRelation.createStudyRelations(writer, study));
+		}
+
+		entityManager.flush();
+		studyRepository.findScrapCountMismatches(0L, Long.MAX_VALUE).forEach(it ->
+			studyRepository.correctScrapCount(it.studyId(), it.storedCount(), it.actualCount() - it.storedCount()));
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("지원한 스터디 수와 상관없이 두 번의 쿼리로 스크랩, 태그 정보를 함께 최신순으로 조회한다")
+	void findAppliedStudiesWithTwoQueries() {
+		Statistics statistics = statistics();
+
+		StudyFeedResponse<AppliedStudyResponse> page =
+			studyRelationRepository.findAppliedStudies(applicant.getId(), null, STUDY_COUNT);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(page.hasNext()).isFalse();
+		assertThat(page.posts()).extracting(AppliedStudyResponse::studyId).containsExactlyElementsOf(appliedStudyIds);
+		assertThat(page.posts()).allSatisfy(study -> {
+			assertThat(study.tags()).containsExactly("알고리즘");
+			assertThat(study.scrapCount()).isEqualTo(study.isScrappedStudy() ? 1L : 0L);
+		});
+		assertThat(page.posts()).filteredOn(AppliedStudyResponse::isScrappedStudy).hasSize(8);
+	}
+
+	@Test
+	@DisplayName("커서로 이어서 조회하면 지원한 스터디를 중복 없이 한 번씩 반환한다")
+	void findAppliedStudiesWithCursor() {
+		List<Long> actual = new ArrayList<>();
+		Long cursor = null;
+		int pageCount = 0;
+		while (true) {
+			Statistics statistics = statistics();
+			StudyFeedResponse<AppliedStudyResponse> page =
+				studyRelationRepository.findAppliedStudies(applicant.getId(), cursor, 7);
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+			page.posts().forEach(study -> actual.add(study.studyId()));
+			pageCount++;
+			if (!page.hasNext()) {
+				assertThat(page.nextCursor()).isNull();
+				break;
+			}
+			cursor = Long.valueOf(page.nextCursor());
+		}
+
+		assertThat(pageCount).isEqualTo(3);
+		assertThat(actual).containsExactlyElementsOf(appliedStudyIds);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private Member saveMember(String account, String phoneNumber) {
+		Member member = Member.builder()
+			.account(account)
+			.password("password")
+			.name("홍길동")
+			.nickname(account)
+			.phoneNumber(phoneNumber)
+			.gender(Gender.MALE)
+			.grade(1)
+			.studentId("20011111")
+			.kakaoAccount(account)
+			.build();
+		entityManager.persist(member);
+		return member;
+	}
+}
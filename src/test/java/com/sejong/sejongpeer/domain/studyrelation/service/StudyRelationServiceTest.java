@@ -0,0 +1,44 @@
+package com.sejong.sejongpeer.domain.studyrelation.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
+import com.sejong.sejongpeer.domain.scrap.application.ScrapCountBuffer;
+import com.sejong.sejongpeer.domain.study.dto.response.StudyFeedResponse;
+import com.sejong.sejongpeer.domain.study.entity.type.RecruitmentStatus;
+import com.sejong.sejongpeer.domain.studyrelation.dto.response.AppliedStudyResponse;
+import com.sejong.sejongpeer.domain.studyrelation.repository.StudyRelationRepository;
+import com.sejong.sejongpeer.global.util.MemberUtil;
+
+class StudyRelationServiceTest {
+	private final StudyRelationRepository studyRelationRepository = mock(StudyRelationRepository.class);
+	private final MemberUtil memberUtil = mock(MemberUtil.class);
+	private final ScrapCountBuffer scrapCountBuffer = new ScrapCountBuffer();
+	private final StudyRelationService studyRelationService = new StudyRelationService(
+		null, null, studyRelationRepository, null, memberUtil, null, scrapCountBuffer);
+
+	@Test
+	@DisplayName("신청한 스터디 목록의 스크랩 수에 아직 반영되지 않은 증감을 더한다")
+	void addsPendingScrapDelta() {
+		when(memberUtil.getCurrentMemberSnapshot())
+			.thenReturn(new MemberSnapshot("member", null, null, null, null, null, null, null));
+		when(studyRelationRepository.findAppliedStudies("member", null, 10))
+			.thenReturn(new StudyFeedResponse<>(List.of(appliedStudy(1L, 3L), appliedStudy(2L, 5L)), false, null));
+		scrapCountBuffer.add(1L, 2);
+
+		StudyFeedResponse<AppliedStudyResponse> response = studyRelationService.getAppliedStudies(null, 10);
+
+		assertThat(response.posts()).extracting(AppliedStudyResponse::scrapCount).containsExactly(5L, 5L);
+	}
+
+	private AppliedStudyResponse appliedStudy(Long studyId, Long scrapCount) {
+		return new AppliedStudyResponse(studyId, "스터디", 4, 1, "수업", List.of(), scrapCount,
+			RecruitmentStatus.RECRUITING, false, null, null);
+	}
+}
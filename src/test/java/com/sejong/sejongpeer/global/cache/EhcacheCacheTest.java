@@ -0,0 +1,83 @@
+package com.sejong.sejongpeer.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+
+import io.micrometer.core.instrument.binder.cache.EhCache2Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EhcacheCacheTest {
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	private CacheManager cacheManager;
+	private EhcacheCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new CacheManager(new Configuration().name("EhcacheCacheTest"));
+		cacheManager.addCache(new Cache(new CacheConfiguration("reference", 2)));
+		cache = new EhcacheCache(cacheManager.getEhcache("reference"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		cacheManager.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 키는 한 번만 불러오고, 설정한 개수를 넘으면 오래된 키부터 내보낸다")
+	void loadsOnceAndBoundsSize() {
+		assertThat(cache.get("a", this::load)).isEqualTo("value1");
+		assertThat(cache.get("a", this::load)).isEqualTo("value1");
+		assertThat(loadCount).hasValue(1);
+
+		cache.get("b", this::load);
+		cache.get("c", this::load);
+
+		assertThat(cache.getNativeCache().getSize()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("갱신 중에는 캐시된 값을 무시하고 다시 불러오지만, 다른 조회에는 덮어쓸 때까지 기존 값을 준다")
+	void refreshReplacesCachedValue() {
+		cache.get("a", this::load);
+
+		EhcacheCache.refresh(() -> {
+			assertThat(cache.get("a")).isNull();
+			assertThat(cache.getNativeCache().get("a").getObjectValue()).isEqualTo("value1");
+			assertThat(cache.get("a", this::load)).isEqualTo("value2");
+		});
+
+		assertThat(cache.get("a", this::load)).isEqualTo("value2");
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("적중과 미스를 캐시 지표로 남긴다")
+	void recordsHitAndMissMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		EhCache2Metrics.monitor(registry, cache.getNativeCache());
+
+		cache.get("a", this::load);
+		cache.get("a", this::load);
+		cache.get("a", this::load);
+
+		assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+	}
+
+	private String load() {
+		return "value" + loadCount.incrementAndGet();
+	}
+}
@@ -0,0 +1,26 @@
+package com.sejong.sejongpeer.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+	private static final int INSERTIONS = 10_000;
+
+	@Test
+	@DisplayName("넣은 값은 항상 있다고 답하고, 넣지 않은 값은 정한 확률 안팎으로만 잘못 답한다")
+	void answersWithBoundedFalsePositives() {
+		BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+		IntStream.range(0, INSERTIONS).forEach(i -> filter.put("member" + i));
+
+		assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> filter.mightContain("member" + i));
+
+		long falsePositives = IntStream.range(INSERTIONS, INSERTIONS * 11)
+			.filter(i -> filter.mightContain("member" + i))
+			.count();
+		assertThat((double)falsePositives / (INSERTIONS * 10)).isLessThan(0.02);
+	}
+}
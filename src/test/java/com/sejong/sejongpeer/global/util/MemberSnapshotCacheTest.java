@@ -0,0 +1,71 @@
+package com.sejong.sejongpeer.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.sejong.sejongpeer.domain.member.entity.type.Gender;
+import com.sejong.sejongpeer.domain.member.service.MemberChangedEvent;
+import com.sejong.sejongpeer.domain.member.vo.MemberSnapshot;
+import com.sejong.sejongpeer.infra.config.properties.MemberSnapshotCacheProperties;
+
+class MemberSnapshotCacheTest {
+	private final AtomicInteger loadCount = new AtomicInteger();
+	private final Function<String, MemberSnapshot> loader = memberId -> {
+		loadCount.incrementAndGet();
+		return new MemberSnapshot(memberId, "nickname" + loadCount.get(), "01011112222", Gender.MALE,
+			"20011111", 1, 1L, null);
+	};
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("ttl 동안은 요청이 달라도 한 번만 조회한다")
+	void loadsOnceWithinTtl() {
+		MemberSnapshotCache cache = new MemberSnapshotCache(new MemberSnapshotCacheProperties(Duration.ofMinutes(1), 100));
+
+		cache.get("member", loader);
+		cache.get("member", loader);
+
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("ttl 이 지나도 같은 요청 안에서는 다시 조회하지 않는다")
+	void reusesSnapshotWithinRequest() {
+		MemberSnapshotCache cache = new MemberSnapshotCache(new MemberSnapshotCacheProperties(Duration.ZERO, 100));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		cache.get("member", loader);
+		cache.get("member", loader);
+		assertThat(loadCount).hasValue(1);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		cache.get("member", loader);
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("회원 정보가 바뀌면 요청과 공유 캐시에서 모두 비운다")
+	void evictsOnMemberChanged() {
+		MemberSnapshotCache cache = new MemberSnapshotCache(new MemberSnapshotCacheProperties(Duration.ofMinutes(1), 100));
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		cache.get("member", loader);
+
+		cache.onMemberChanged(new MemberChangedEvent("member"));
+
+		assertThat(cache.get("member", loader).nickname()).isEqualTo("nickname2");
+	}
+}
@@ -0,0 +1,208 @@
+package com.sejong.sejongpeer.infra.scheduler.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sejong.sejongpeer.TestQuerydslConfig;
+import com.sejong.sejongpeer.global.config.JpaAuditingConfig;
+import com.sejong.sejongpeer.infra.config.properties.SchedulerLockProperties;
+import com.sejong.sejongpeer.infra.scheduler.repository.SchedulerLockRepository;
+
+/**
+ * 같은 DB 를 바라보는 두 인스턴스를 SchedulerLockManager 두 개로 흉내 낸다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, TestQuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLockManagerTest {
+	private static final String JOB = "test-job";
+
+	@Autowired private SchedulerLockRepository schedulerLockRepository;
+	@Autowired private PlatformTransactionManager transactionManager;
+
+	private final List<SchedulerLockManager> managers = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		managers.forEach(SchedulerLockManager::shutdown);
+		schedulerLockRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("두 인스턴스가 동시에 실행해도 작업은 한 번에 한 곳에서만 실행되고, 토큰은 실행할 때마다 커진다")
+	void runsOnOneInstanceAtATime() throws Exception {
+		SchedulerLockManager blue = manager("blue", Duration.ofSeconds(10), Duration.ZERO);
+		SchedulerLockManager green = manager("green", Duration.ofSeconds(10), Duration.ZERO);
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<Long> tokens = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			SchedulerLockManager manager = i % 2 == 0 ? blue : green;
+			results.add(executor.submit(() -> manager.tryAcquire(JOB).map(lease -> {
+				try (lease) {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					synchronized (tokens) {
+						tokens.add(lease.getFencingToken());
+					}
+					running.decrementAndGet();
+				}
+				return true;
+			}).orElse(false)));
+		}
+		int executed = 0;
+		for (Future<Boolean> result : results) {
+			executed += result.get() ? 1 : 0;
+		}
+		executor.shutdown();
+
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(executed).isPositive();
+		assertThat(tokens).doesNotHaveDuplicates().hasSize(executed);
+	}
+
+	@Test
+	@DisplayName("최소 유지 시간 안에는 작업이 일찍 끝나도 다른 인스턴스가 다시 실행하지 않는다")
+	void keepsLockForMinHoldDuration() {
+		SchedulerLockManager blue = manager("blue", Duration.ofSeconds(10), Duration.ofSeconds(10));
+		SchedulerLockManager green = manager("green", Duration.ofSeconds(10), Duration.ofSeconds(10));
+		AtomicInteger count = new AtomicInteger();
+
+		assertThat(blue.runExclusively(JOB, lease -> count.incrementAndGet())).isTrue();
+		assertThat(green.runExclusively(JOB, lease -> count.incrementAndGet())).isFalse();
+		assertThat(blue.runExclusively(JOB, lease -> count.incrementAndGet())).isFalse();
+		assertThat(count).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("작업이 잠금 유지 시간보다 오래 걸려도 연장되어 다른 인스턴스가 가져가지 못한다")
+	void renewsLeaseWhileRunning() throws Exception {
+		SchedulerLockManager blue = manager("blue", Duration.ofMillis(300), Duration.ZERO);
+		SchedulerLockManager green = manager("green", Duration.ofMillis(300), Duration.ZERO);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finish = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<Boolean> running = executor.submit(() -> blue.runExclusively(JOB, lease -> {
+			started.countDown();
+			await(finish);
+		}));
+		started.await();
+
+		for (int i = 0; i < 5; i++) {
+			Thread.sleep(200);
+			assertThat(green.tryAcquire(JOB)).isEmpty();
+		}
+		finish.countDown();
+		assertThat(running.get()).isTrue();
+		executor.shutdown();
+
+		assertThat(green.runExclusively(JOB, lease -> { })).isTrue();
+	}
+
+	@Test
+	@DisplayName("연장이 멈춘 잠금은 만료 후 다른 인스턴스가 더 큰 토큰으로 가져가고, 이전 토큰은 쓸 수 없다")
+	void fencesExpiredLease() throws Exception {
+		SchedulerLockManager blue = manager("blue", Duration.ofMillis(200), Duration.ZERO);
+		SchedulerLockManager green = manager("green", Duration.ofMillis(200), Duration.ZERO);
+
+		SchedulerLease stale = blue.tryAcquire(JOB).orElseThrow();
+		// 인스턴스가 멈춘 상황: 연장이 더 이상 실행되지 않는다
+		blue.shutdown();
+		assertThat(green.tryAcquire(JOB)).isEmpty();
+
+		SchedulerLease current = eventually(() -> green.tryAcquire(JOB).orElse(null));
+		assertThat(current.getFencingToken()).isGreaterThan(stale.getFencingToken());
+		assertThat(stale.isHeld()).isFalse();
+		assertThat(current.isHeld()).isTrue();
+
+		// 이전 토큰으로 해제해도 새 잠금에는 영향이 없다
+		stale.close();
+		assertThat(blue.tryAcquire(JOB)).isEmpty();
+		assertThat(current.isHeld()).isTrue();
+		current.close();
+	}
+
+	@Test
+	@DisplayName("작업 도중 잠금이 만료되어 다른 인스턴스가 가져가면 그 뒤의 결과는 반영하지 않고 작업을 멈춘다")
+	void stopsJobAfterLeaseExpires() throws Exception {
+		SchedulerLockManager blue = manager("blue", Duration.ofMillis(200), Duration.ZERO);
+		SchedulerLockManager green = manager("green", Duration.ofMillis(200), Duration.ZERO);
+		CountDownLatch firstCommitted = new CountDownLatch(1);
+		CountDownLatch stolen = new CountDownLatch(1);
+		List<Integer> committed = new ArrayList<>();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		Future<Boolean> running = executor.submit(() -> blue.runExclusively(JOB, lease -> {
+			for (int chunk = 0; chunk < 3; chunk++) {
+				int current = chunk;
+				lease.fenced(() -> committed.add(current));
+				firstCommitted.countDown();
+				await(stolen);
+			}
+		}));
+		firstCommitted.await();
+
+		// 인스턴스가 멈춘 상황: 연장이 멈춘 사이 잠금이 만료되어 다른 인스턴스가 가져간다
+		blue.shutdown();
+		SchedulerLease current = eventually(() -> green.tryAcquire(JOB).orElse(null));
+		stolen.countDown();
+
+		assertThat(running.get()).isTrue();
+		executor.shutdown();
+		assertThat(committed).containsExactly(0);
+		assertThat(current.isHeld()).isTrue();
+		current.close();
+	}
+
+	private SchedulerLockManager manager(String instanceId, Duration leaseDuration, Duration minHoldDuration) {
+		SchedulerLockManager manager = new SchedulerLockManager(schedulerLockRepository,
+			new SchedulerLockProperties(leaseDuration, minHoldDuration), transactionManager, instanceId);
+		managers.add(manager);
+		return manager;
+	}
+
+	private static <T> T eventually(Callable<T> supplier) throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			T value = supplier.call();
+			if (value != null) {
+				return value;
+			}
+			Thread.sleep(50);
+		}
+		throw new AssertionError("시간 안에 조건을 만족하지 못했습니다.");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
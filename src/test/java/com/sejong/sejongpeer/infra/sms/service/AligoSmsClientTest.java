@@ -0,0 +1,108 @@
+package com.sejong.sejongpeer.infra.sms.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sejong.sejongpeer.infra.config.properties.AligoProperties;
+import com.sejong.sejongpeer.infra.config.properties.SmsOutboxProperties;
+import com.sejong.sejongpeer.infra.sms.service.AligoSmsClient.AligoSmsException;
+import com.sejong.sejongpeer.infra.sms.service.AligoSmsClient.SmsMessage;
+import com.sejong.sejongpeer.infra.sms.service.AligoSmsClient.SmsMessageType;
+import com.sun.net.httpserver.HttpServer;
+
+class AligoSmsClientTest {
+	private HttpServer stubServer;
+	private String requestPath;
+	private Map<String, String> requestForm;
+	private String responseBody;
+	private AligoSmsClient aligoSmsClient;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubServer.createContext("/", exchange -> {
+			requestPath = exchange.getRequestURI().getPath();
+			requestForm = parseForm(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+			byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		stubServer.start();
+
+		String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+		aligoSmsClient = new AligoSmsClient(
+			WebClient.builder(),
+			new AligoProperties("key", "user", "01000000000", baseUrl),
+			new SmsOutboxProperties(500, 5, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(5), 1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubServer.stop(0);
+	}
+
+	@Test
+	@DisplayName("여러 수신자의 메시지를 /send_mass/ 한 번의 요청으로 보낸다")
+	void sendsMessagesInOneRequest() {
+		responseBody = "{\"result_code\":\"1\",\"message\":\"success\",\"success_cnt\":2,\"error_cnt\":0}";
+
+		aligoSmsClient.sendMass(SmsMessageType.SMS, List.of(
+			new SmsMessage("01011112222", "첫 번째 메시지"),
+			new SmsMessage("01033334444", "두 번째 메시지")));
+
+		assertThat(requestPath).isEqualTo("/send_mass/");
+		assertThat(requestForm)
+			.containsEntry("msg_type", "SMS")
+			.containsEntry("cnt", "2")
+			.containsEntry("rec_1", "01011112222")
+			.containsEntry("msg_1", "첫 번째 메시지")
+			.containsEntry("rec_2", "01033334444")
+			.containsEntry("msg_2", "두 번째 메시지");
+	}
+
+	@Test
+	@DisplayName("Aligo가 실패 코드를 돌려주면 예외가 발생한다")
+	void throwsWhenResultCodeIsNegative() {
+		responseBody = "{\"result_code\":\"-101\",\"message\":\"인증오류\"}";
+
+		assertThatThrownBy(() -> aligoSmsClient.sendMass(SmsMessageType.SMS, List.of(new SmsMessage("01011112222", "메시지"))))
+			.isInstanceOf(AligoSmsException.class)
+			.hasMessageContaining("-101");
+	}
+
+	@Test
+	@DisplayName("90byte를 넘는 메시지는 LMS로 분류한다")
+	void classifiesLongMessageAsLms() {
+		assertThat(AligoSmsClient.messageTypeOf("가".repeat(45))).isEqualTo(SmsMessageType.SMS);
+		assertThat(AligoSmsClient.messageTypeOf("가".repeat(46))).isEqualTo(SmsMessageType.LMS);
+	}
+
+	private Map<String, String> parseForm(String body) {
+		Map<String, String> form = new LinkedHashMap<>();
+		for (String pair : body.split("&")) {
+			String[] keyValue = pair.split("=", 2);
+			form.put(URLDecoder.decode(keyValue[0], StandardCharsets.UTF_8),
+				keyValue.length > 1 ? URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8) : "");
+		}
+		return form;
+	}
+}
@@ -0,0 +1,88 @@
+package com.sejong.sejongpeer.security.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.JwtParser;
+
+class JwtProviderTest {
+	private static final String ACCESS_KEY = "access-token-key-for-test-access-token-key-for-test";
+	private static final String REFRESH_KEY = "refresh-token-key-for-test-refresh-token-key-for-test";
+
+	@Test
+	@DisplayName("access token 과 refresh token 은 서로의 키로 검증되지 않는다")
+	void verifiesWithMatchingKeyOnly() {
+		JwtProvider jwtProvider = jwtProvider(60_000, 10_000);
+		String accessToken = jwtProvider.generateAccessToken("member");
+		String refreshToken = jwtProvider.generateRefreshToken("member", "family");
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(jwtProvider.isTokenValid(accessToken, true)).isTrue();
+			assertThat(jwtProvider.isTokenValid(refreshToken, false)).isTrue();
+			assertThat(jwtProvider.isTokenValid(accessToken, false)).isFalse();
+			assertThat(jwtProvider.isTokenValid(refreshToken, true)).isFalse();
+			assertThat(jwtProvider.extractMemberId(accessToken, true)).isEqualTo("member");
+		}
+		assertThat(jwtProvider.extractFamilyId(refreshToken)).isEqualTo("family");
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 캐시하지 않고, 기존처럼 memberId 는 꺼낼 수 있다")
+	void expiredTokenIsNotCached() {
+		JwtProvider jwtProvider = jwtProvider(-1_000, 10_000);
+		String accessToken = jwtProvider.generateAccessToken("member");
+
+		assertThat(jwtProvider.isTokenValid(accessToken, true)).isFalse();
+		assertThat(jwtProvider.isTokenValid(accessToken, true)).isFalse();
+		assertThat(jwtProvider.extractMemberId(accessToken, true)).isEqualTo("member");
+	}
+
+	@Test
+	@DisplayName("검증된 토큰은 만료 전까지 다시 파싱하지 않는다")
+	void verifiedTokenIsParsedOnce() {
+		JwtProvider cached = jwtProvider(60_000, 10_000);
+		JwtProvider uncached = jwtProvider(60_000, 0);
+		JwtParser cachedParser = spyAccessTokenParser(cached);
+		JwtParser uncachedParser = spyAccessTokenParser(uncached);
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			tokens.add(cached.generateAccessToken("member" + i));
+		}
+
+		// JwtAuthenticationFilter 처럼 요청마다 유효성 확인 후 memberId 를 꺼낸다
+		for (int request = 0; request < 3; request++) {
+			for (String token : tokens) {
+				assertThat(cached.isTokenValid(token, true)).isTrue();
+				assertThat(uncached.isTokenValid(token, true)).isTrue();
+				assertThat(cached.extractMemberId(token, true)).isEqualTo(uncached.extractMemberId(token, true));
+			}
+		}
+
+		verify(cachedParser, times(tokens.size())).parseClaimsJws(anyString());
+		verify(uncachedParser, times(tokens.size() * 3 * 2)).parseClaimsJws(anyString());
+	}
+
+	private JwtParser spyAccessTokenParser(JwtProvider jwtProvider) {
+		JwtParser parser = spy((JwtParser)ReflectionTestUtils.getField(jwtProvider, "accessTokenParser"));
+		ReflectionTestUtils.setField(jwtProvider, "accessTokenParser", parser);
+		return parser;
+	}
+
+	private JwtProvider jwtProvider(long accessTokenValidMillis, int cacheSize) {
+		JwtProvider jwtProvider = new JwtProvider();
+		jwtProvider.ACCESS_TOKEN_VALID_MILL_TIME = accessTokenValidMillis;
+		ReflectionTestUtils.setField(jwtProvider, "REFRESH_TOKEN_VALID_MILL_TIME", 120_000L);
+		ReflectionTestUtils.setField(jwtProvider, "ACCESS_SECRET_KEY", ACCESS_KEY);
+		ReflectionTestUtils.setField(jwtProvider, "REFRESH_SECRET_KEY", REFRESH_KEY);
+		ReflectionTestUtils.setField(jwtProvider, "VERIFIED_TOKEN_CACHE_SIZE", cacheSize);
+		jwtProvider.init();
+		return jwtProvider;
+	}
+}
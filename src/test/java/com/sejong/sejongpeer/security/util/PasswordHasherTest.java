@@ -0,0 +1,87 @@
+package com.sejong.sejongpeer.security.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.sejong.sejongpeer.global.error.exception.CustomException;
+import com.sejong.sejongpeer.global.error.exception.ErrorCode;
+import com.sejong.sejongpeer.infra.config.properties.PasswordHashingProperties;
+
+class PasswordHasherTest {
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final ThreadPoolTaskExecutor executor = executor();
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("해시 스레드와 대기열이 모두 차 있으면 기다리지 않고 바로 거절한다")
+	void rejectsWhenQueueIsFull() {
+		PasswordHasher passwordHasher = passwordHasher(5, Duration.ofSeconds(10));
+		executor.execute(this::awaitRelease);
+		executor.execute(this::awaitRelease);
+
+		assertThatThrownBy(() -> passwordHasher.encode("password"))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 차례가 오지 않으면 거절하고, 대기열의 해시는 실행하지 않는다")
+	void cancelsWhenTimedOut() {
+		PasswordHasher passwordHasher = passwordHasher(5, Duration.ofMillis(50));
+		executor.execute(this::awaitRelease);
+
+		assertThatThrownBy(() -> passwordHasher.matches("password", "$2a$05$invalid"))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode").isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+		assertThat(executor.getThreadPoolExecutor().getQueue())
+			.singleElement().matches(task -> ((Future<?>)task).isCancelled());
+	}
+
+	@Test
+	@DisplayName("설정한 cost 보다 낮은 cost 로 저장된 비밀번호만 다시 해시해야 한다")
+	void detectsWeakerCost() {
+		String weak = new BCryptPasswordEncoder(4).encode("password");
+		PasswordHasher passwordHasher = passwordHasher(5, Duration.ofSeconds(10));
+		String current = passwordHasher.encode("password");
+
+		assertThat(passwordHasher.matches("password", weak)).isTrue();
+		assertThat(passwordHasher.needsRehash(weak)).isTrue();
+		assertThat(passwordHasher.needsRehash(current)).isFalse();
+	}
+
+	private PasswordHasher passwordHasher(int strength, Duration timeout) {
+		return new PasswordHasher(new BCryptPasswordEncoder(strength), executor,
+			new PasswordHashingProperties(strength, 1, 1, timeout));
+	}
+
+	private ThreadPoolTaskExecutor executor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		return executor;
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
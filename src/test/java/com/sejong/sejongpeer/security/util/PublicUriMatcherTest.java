@@ -0,0 +1,69 @@
+package com.sejong.sejongpeer.security.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import com.sejong.sejongpeer.security.constant.WebSecurityURIs;
+
+class PublicUriMatcherTest {
+	private static final List<String> URI_PATTERNS = new ArrayList<>(WebSecurityURIs.PUBLIC_URIS);
+
+	static {
+		URI_PATTERNS.add("/api/v1/*/public");
+		URI_PATTERNS.add("/api/v?/docs/**");
+	}
+
+	private final PublicUriMatcher matcher = PublicUriMatcher.compile(URI_PATTERNS);
+
+	@Test
+	@DisplayName("AntPathRequestMatcher 와 같은 판단을 한다")
+	void sameAsAntPathRequestMatcher() {
+		List<String> paths = List.of(
+			"/api/v1/auth/sign-in", "/api/v1/auth/sign-in/", "/api/v1/auth/sign-in/extra", "/api/v1/auth",
+			"/sejongpeer-actuator", "/sejongpeer-actuator/", "/sejongpeer-actuator/health", "/sejongpeer-actuatorx",
+			"/api/v1/study/unauthenticated/post/1", "/api/v1/study/post", "/swagger-ui/index.html",
+			"/favicon.ico", "/favicon.ico/", "/v3/api-docs", "/v3/api-docs/swagger-config",
+			"/api/v1/member/sign-up", "/api/v1/member/info", "/api/v1/buddy/active-count",
+			"/api/v1/honbab/public", "/api/v1/honbab/x/public", "/api/v2/docs/a/b", "/api/v10/docs/a", "/", "");
+
+		for (String path : paths) {
+			MockHttpServletRequest request = request(path);
+			boolean expected = URI_PATTERNS.stream().anyMatch(uri -> new AntPathRequestMatcher(uri).matches(request));
+
+			assertThat(matcher.matches(request)).as(path).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("와일드카드가 없거나 /** 로 끝나는 패턴만 있으면 요청 경로를 파싱하지 않고 판단한다")
+	void publicUrisNeedNoPathParsing() {
+		PublicUriMatcher publicUriMatcher = PublicUriMatcher.compile(WebSecurityURIs.PUBLIC_URIS);
+		List<String> paths = List.of(
+			"/api/v1/auth/sign-in", "/api/v1/study/unauthenticated/post/1", "/swagger-ui/index.html",
+			"/api/v1/study/post/1", "/api/v1/member/info", "/");
+
+		try (MockedStatic<PathContainer> pathContainer = mockStatic(PathContainer.class, CALLS_REAL_METHODS)) {
+			assertThat(paths).filteredOn(publicUriMatcher::matches).hasSize(3);
+			assertThat(matcher.matches("/api/v1/honbab/public")).isTrue();
+
+			// 테스트에서 추가한 '*' 패턴을 검사할 때만 파싱한다
+			pathContainer.verify(() -> PathContainer.parsePath(anyString()), times(1));
+		}
+	}
+
+	private MockHttpServletRequest request(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setServletPath(path);
+		return request;
+	}
+}
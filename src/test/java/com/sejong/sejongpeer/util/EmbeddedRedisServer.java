@@ -0,0 +1,240 @@
+package com.sejong.sejongpeer.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용으로 RESP2 프로토콜을 말하는 Redis 대역. 임의의 포트에서 열리고,
+ * 문자열 값의 GET, SET(PX, NX), GETDEL 과 집합의 SADD, SREM, SMEMBERS, 그리고 DEL, PEXPIRE, PING, AUTH 만 지원한다.
+ * 명령은 하나씩 원자적으로 처리한다. 비밀번호를 주고 만들면 AUTH 로 인증한 연결의 명령만 처리한다.
+ */
+public class EmbeddedRedisServer implements AutoCloseable {
+	private final ServerSocket serverSocket;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Thread acceptor;
+	private final String password;
+
+	public EmbeddedRedisServer() throws IOException {
+		this(null);
+	}
+
+	public EmbeddedRedisServer(String password) throws IOException {
+		this.password = password;
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		acceptor = new Thread(this::accept, "embedded-redis");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	public String host() {
+		return serverSocket.getInetAddress().getHostAddress();
+	}
+
+	public int port() {
+		return serverSocket.getLocalPort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				Thread worker = new Thread(() -> serve(socket), "embedded-redis-client");
+				worker.setDaemon(true);
+				worker.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket) {
+			InputStream in = new BufferedInputStream(socket.getInputStream());
+			OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+			List<String> command;
+			boolean authenticated = password == null;
+			while ((command = readCommand(in)) != null) {
+				String reply;
+				if (command.get(0).equalsIgnoreCase("AUTH")) {
+					authenticated = command.get(command.size() - 1).equals(password);
+					reply = authenticated ? "+OK\r\n" : "-WRONGPASS invalid username-password pair\r\n";
+				} else if (!authenticated) {
+					reply = "-NOAUTH Authentication required.\r\n";
+				} else {
+					synchronized (entries) {
+						reply = handle(command);
+					}
+				}
+				out.write(reply.getBytes(StandardCharsets.UTF_8));
+				out.flush();
+			}
+		} catch (IOException ignored) {
+			// 클라이언트가 연결을 끊었다
+		}
+	}
+
+	private String handle(List<String> command) {
+		String name = command.get(0).toUpperCase(Locale.ROOT);
+		return switch (name) {
+			case "PING" -> "+PONG\r\n";
+			case "GET" -> bulk((String)value(command.get(1)));
+			case "GETDEL" -> {
+				String value = (String)value(command.get(1));
+				entries.remove(command.get(1));
+				yield bulk(value);
+			}
+			case "DEL" -> {
+				int deleted = 0;
+				for (String key : command.subList(1, command.size())) {
+					if (value(key) != null) {
+						entries.remove(key);
+						deleted++;
+					}
+				}
+				yield ":" + deleted + "\r\n";
+			}
+			case "SET" -> set(command);
+			case "SADD" -> {
+				Entry entry = entries.get(command.get(1));
+				Set<String> members = new HashSet<>();
+				long expiresAt = Long.MAX_VALUE;
+				if (value(command.get(1)) != null) {
+					members.addAll(set(entry));
+					expiresAt = entry.expiresAt();
+				}
+				int added = 0;
+				for (String member : command.subList(2, command.size())) {
+					added += members.add(member) ? 1 : 0;
+				}
+				entries.put(command.get(1), new Entry(members, expiresAt));
+				yield ":" + added + "\r\n";
+			}
+			case "SREM" -> {
+				Object value = value(command.get(1));
+				int removed = 0;
+				if (value != null) {
+					for (String member : command.subList(2, command.size())) {
+						removed += set(entries.get(command.get(1))).remove(member) ? 1 : 0;
+					}
+				}
+				yield ":" + removed + "\r\n";
+			}
+			case "SMEMBERS" -> {
+				Object value = value(command.get(1));
+				Set<String> members = value == null ? Set.of() : set(entries.get(command.get(1)));
+				StringBuilder reply = new StringBuilder("*" + members.size() + "\r\n");
+				members.forEach(member -> reply.append(bulk(member)));
+				yield reply.toString();
+			}
+			case "PEXPIRE" -> {
+				Object value = value(command.get(1));
+				if (value == null) {
+					yield ":0\r\n";
+				}
+				long expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(2));
+				entries.put(command.get(1), new Entry(value, expiresAt));
+				yield ":1\r\n";
+			}
+			default -> "-ERR unknown command '" + name + "'\r\n";
+		};
+	}
+
+	private String set(List<String> command) {
+		String key = command.get(1);
+		long expiresAt = Long.MAX_VALUE;
+		boolean onlyIfAbsent = false;
+		for (int i = 3; i < command.size(); i++) {
+			String option = command.get(i).toUpperCase(Locale.ROOT);
+			if (option.equals("PX")) {
+				expiresAt = System.currentTimeMillis() + Long.parseLong(command.get(++i));
+			} else if (option.equals("NX")) {
+				onlyIfAbsent = true;
+			} else {
+				return "-ERR syntax error\r\n";
+			}
+		}
+		if (onlyIfAbsent && value(key) != null) {
+			return "$-1\r\n";
+		}
+		entries.put(key, new Entry(command.get(2), expiresAt));
+		return "+OK\r\n";
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> set(Entry entry) {
+		return (Set<String>)entry.value();
+	}
+
+	private Object value(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() <= System.currentTimeMillis()) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value();
+	}
+
+	private String bulk(String value) {
+		if (value == null) {
+			return "$-1\r\n";
+		}
+		return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+	}
+
+	private List<String> readCommand(InputStream in) throws IOException {
+		int type = in.read();
+		if (type == -1) {
+			return null;
+		}
+		if (type != '*') {
+			throw new IOException("배열 형식의 명령만 지원합니다.");
+		}
+		String[] arguments = new String[Integer.parseInt(readLine(in))];
+		for (int i = 0; i < arguments.length; i++) {
+			in.read();
+			byte[] bytes = in.readNBytes(Integer.parseInt(readLine(in)));
+			readLine(in);
+			arguments[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return Arrays.asList(arguments);
+	}
+
+	private String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int current;
+		while ((current = in.read()) != '\r') {
+			if (current == -1) {
+				throw new IOException("연결이 끊어졌습니다.");
+			}
+			line.write(current);
+		}
+		in.read();
+		return line.toString(StandardCharsets.UTF_8);
+	}
+
+	private record Entry(Object value, long expiresAt) {
+	}
+}
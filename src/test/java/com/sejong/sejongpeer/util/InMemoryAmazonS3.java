@@ -0,0 +1,168 @@
+package com.sejong.sejongpeer.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * 테스트용 S3. 단일 업로드와 멀티파트 업로드를 메모리에 저장하고 읽어 준다.
+ * {@link #setLatency(Duration)} 로 요청마다 응답 지연을 주고, 동시에 처리 중이던 최대 요청 수를 기록한다.
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+	private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+	private final AtomicInteger putObjectCount = new AtomicInteger();
+	private final AtomicInteger uploadedPartCount = new AtomicInteger();
+	private final AtomicInteger abortedUploadCount = new AtomicInteger();
+	private final AtomicInteger inFlightRequests = new AtomicInteger();
+	private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+	private volatile Duration latency = Duration.ZERO;
+
+	@Override
+	public PutObjectResult putObject(String bucketName, String key, InputStream input, ObjectMetadata metadata) {
+		byte[] object = readAll(input);
+		simulateRequest();
+		objects.put(key, object);
+		putObjectCount.incrementAndGet();
+		return new PutObjectResult();
+	}
+
+	@Override
+	public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+		String uploadId = request.getKey() + "#" + multipartUploads.size();
+		multipartUploads.put(uploadId, new TreeMap<>());
+		InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+		result.setUploadId(uploadId);
+		return result;
+	}
+
+	@Override
+	public UploadPartResult uploadPart(UploadPartRequest request) {
+		byte[] part = readAll(request.getInputStream());
+		simulateRequest();
+		multipartUploads.get(request.getUploadId()).put(request.getPartNumber(), part);
+		uploadedPartCount.incrementAndGet();
+		UploadPartResult result = new UploadPartResult();
+		result.setPartNumber(request.getPartNumber());
+		result.setETag(Integer.toHexString(part.length));
+		return result;
+	}
+
+	@Override
+	public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+		Map<Integer, byte[]> parts = multipartUploads.remove(request.getUploadId());
+		ByteArrayOutputStream object = new ByteArrayOutputStream();
+		for (PartETag partETag : request.getPartETags()) {
+			object.writeBytes(parts.get(partETag.getPartNumber()));
+		}
+		objects.put(request.getKey(), object.toByteArray());
+		return new CompleteMultipartUploadResult();
+	}
+
+	@Override
+	public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+		multipartUploads.remove(request.getUploadId());
+		abortedUploadCount.incrementAndGet();
+	}
+
+	@Override
+	public S3Object getObject(String bucketName, String key) {
+		simulateRequest();
+		if (!objects.containsKey(key)) {
+			AmazonS3Exception exception = new AmazonS3Exception("The specified key does not exist.");
+			exception.setStatusCode(404);
+			exception.setErrorCode("NoSuchKey");
+			throw exception;
+		}
+		S3Object object = new S3Object();
+		object.setBucketName(bucketName);
+		object.setKey(key);
+		object.setObjectContent(new ByteArrayInputStream(objects.get(key)));
+		return object;
+	}
+
+	@Override
+	public URL getUrl(String bucketName, String key) {
+		try {
+			return new URL("https://" + bucketName + ".s3.local/" + key);
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	public void setLatency(Duration latency) {
+		this.latency = latency;
+	}
+
+	public int maxInFlightRequests() {
+		return maxInFlightRequests.get();
+	}
+
+	public byte[] getObject(String key) {
+		return objects.get(key);
+	}
+
+	public int objectCount() {
+		return objects.size();
+	}
+
+	public int putObjectCount() {
+		return putObjectCount.get();
+	}
+
+	public int uploadedPartCount() {
+		return uploadedPartCount.get();
+	}
+
+	public int abortedUploadCount() {
+		return abortedUploadCount.get();
+	}
+
+	public int pendingUploadCount() {
+		return multipartUploads.size();
+	}
+
+	private void simulateRequest() {
+		maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+		try {
+			Thread.sleep(latency.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AbortedException();
+		} finally {
+			inFlightRequests.decrementAndGet();
+		}
+	}
+
+	private static byte[] readAll(InputStream input) {
+		try {
+			return input.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}